@@ -1,11 +1,17 @@
 package com.lookbook.auth.infrastructure.adapters.services;
 
+import java.sql.SQLException;
 import java.util.Date;
+import java.util.Locale;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.lookbook.auth.application.dtos.requests.LoginRequest;
 import com.lookbook.auth.application.dtos.requests.RegisterUserRequest;
@@ -22,9 +28,12 @@ import com.lookbook.user.domain.repositories.UserRepository;
 import com.lookbook.user.domain.valueobjects.Email;
 import com.lookbook.user.domain.valueobjects.Username;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * Adapter implementation of the AuthenticationService interface.
  */
+@Slf4j
 @Service
 public class AuthenticationServiceAdapter implements AuthenticationService {
 
@@ -33,42 +42,40 @@ public class AuthenticationServiceAdapter implements AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final ProfileService profileService;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthenticationServiceAdapter(
             UserRepository userRepository,
             JwtService jwtService,
             PasswordEncoder passwordEncoder,
             AuthenticationManager authenticationManager,
-            ProfileService profileService) {
+            ProfileService profileService,
+            PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.jwtService = jwtService;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.profileService = profileService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public AuthenticationResponse register(RegisterUserRequest request) {
-        // Check if username or email already exists
-        Username username = Username.of(request.username());
-        Email email = Email.of(request.email());
-
-        if (userRepository.existsByUsername(username)) {
-            throw new ValidationException("Username already exists");
-        }
-
-        if (userRepository.existsByEmail(email)) {
-            throw new ValidationException("Email already exists");
-        }
-
         // Create new user
-        User user = User.register(request.username(), request.email(), request.password());
-
-        // Save the user
-        user = userRepository.save(user);
-
-        // Create profile for the user
-        profileService.createProfile(user.getId(), user.getUsername().getValue());
+        User newUser = User.register(request.username(), request.email(), request.password());
+
+        // Insert the user and its profile in one transaction; duplicates are
+        // rejected by the unique constraints when the inserts are flushed
+        User user;
+        try {
+            user = transactionTemplate.execute(status -> {
+                User inserted = userRepository.insert(newUser);
+                profileService.createProfile(inserted.getId(), inserted.getUsername().getValue());
+                return inserted;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw translateUniqueViolation(e);
+        }
 
         // Generate tokens
         String accessToken = jwtService.generateToken(user.getUsername().getValue());
@@ -133,4 +140,35 @@ public class AuthenticationServiceAdapter implements AuthenticationService {
         // Return refresh response
         return AuthenticationMapper.toTokenRefreshResponse(accessToken, refreshToken, expiresAt);
     }
-}
\ No newline at end of file
+
+    /**
+     * Translates a unique constraint violation on the users table into the
+     * validation error the client would have got from an up-front check.
+     *
+     * @param e The violation reported by the database
+     * @return The matching validation exception
+     */
+    private RuntimeException translateUniqueViolation(DataIntegrityViolationException e) {
+        String detail = violationDetail(e).toLowerCase(Locale.ROOT);
+        if (detail.contains("username")) {
+            return new ValidationException("Username already exists");
+        }
+        if (detail.contains("email")) {
+            return new ValidationException("Email already exists");
+        }
+        log.error("Unexpected integrity violation during registration", e);
+        return e;
+    }
+
+    private static String violationDetail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getMessage() != null) {
+                return sqlException.getMessage();
+            }
+        }
+        return String.valueOf(e.getMessage());
+    }
+}
@@ -0,0 +1,24 @@
+package com.lookbook.auth.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.refresh-tokens.partitions")
+public class RefreshTokenPartitionConfig {
+    private boolean enabled = true;
+    /**
+     * Number of future monthly partitions kept ready; must cover the longest
+     * refresh token lifetime.
+     */
+    private int monthsAhead = 6;
+    /**
+     * How long a partition is kept after its last token expired.
+     */
+    private Duration retention = Duration.ofDays(7);
+}
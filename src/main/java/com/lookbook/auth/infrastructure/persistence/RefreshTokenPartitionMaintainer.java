@@ -0,0 +1,134 @@
+package com.lookbook.auth.infrastructure.persistence;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.auth.infrastructure.config.RefreshTokenPartitionConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the monthly partitions of the refresh_tokens table in shape.
+ * Creates partitions ahead of time so inserts never miss a range, and drops
+ * partitions whose tokens have all expired instead of deleting rows.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.refresh-tokens.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPartitionMaintainer {
+
+    static final String PARENT_TABLE = "refresh_tokens";
+    static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LIST_PARTITIONS_SQL = "SELECT child.relname FROM pg_inherits i "
+            + "JOIN pg_class parent ON parent.oid = i.inhparent "
+            + "JOIN pg_class child ON child.oid = i.inhrelid "
+            + "WHERE parent.relname = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RefreshTokenPartitionConfig config;
+    private final Clock clock;
+
+    @Autowired
+    public RefreshTokenPartitionMaintainer(JdbcTemplate jdbcTemplate, RefreshTokenPartitionConfig config) {
+        this(jdbcTemplate, config, Clock.systemDefaultZone());
+    }
+
+    RefreshTokenPartitionMaintainer(JdbcTemplate jdbcTemplate, RefreshTokenPartitionConfig config, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs maintenance once the application has started, so a node that was
+     * down for a while catches up before serving logins.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    /**
+     * Creates missing future partitions and drops expired ones.
+     */
+    @Scheduled(cron = "${app.refresh-tokens.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            List<String> existing = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, PARENT_TABLE);
+            createFuturePartitions(existing);
+            dropExpiredPartitions(existing);
+        } catch (RuntimeException e) {
+            log.error("Refresh token partition maintenance failed", e);
+        }
+    }
+
+    private void createFuturePartitions(List<String> existing) {
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= config.getMonthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            if (!existing.contains(name)) {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        name, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+                log.info("Created refresh token partition {}", name);
+            }
+        }
+    }
+
+    private void dropExpiredPartitions(List<String> existing) {
+        for (String name : expiredPartitions(existing)) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+            log.info("Dropped expired refresh token partition {}", name);
+        }
+    }
+
+    /**
+     * Selects the partitions whose whole range expired longer ago than the
+     * configured retention.
+     *
+     * @param partitions The existing partition names
+     * @return The partitions that can be dropped
+     */
+    List<String> expiredPartitions(List<String> partitions) {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(config.getRetention());
+        List<String> expired = new ArrayList<>();
+        for (String name : partitions) {
+            parseMonth(name)
+                    .filter(month -> !month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff))
+                    .ifPresent(month -> expired.add(name));
+        }
+        return expired;
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    static Optional<YearMonth> parseMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
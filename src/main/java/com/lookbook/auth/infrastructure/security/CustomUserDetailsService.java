@@ -28,7 +28,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // Find the user by username
-        User user = userRepository.findByUsername(Username.of(username))
+        User user = userRepository.findByUsernameWithCredentials(Username.of(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
         // Convert domain user to Spring Security UserDetails with appropriate roles
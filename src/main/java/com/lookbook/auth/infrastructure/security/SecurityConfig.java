@@ -59,8 +59,12 @@ public class SecurityConfig {
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
 
+                        // Admin read endpoints that would otherwise match /api/v1/users/{id}
+                        .requestMatchers("/api/v1/users/counts", "/api/v1/users/export").hasRole("ADMIN")
+
                         // Read-only endpoints accessible to all authenticated users
                         .requestMatchers(
+                                "/api/v1/me",
                                 "/api/v1/users/me",
                                 "/api/v1/users/{id}",
                                 "/api/v1/users")
@@ -75,8 +79,11 @@ public class SecurityConfig {
                         // Admin endpoints
                         .requestMatchers(
                                 "/api/v1/users/{id}/activate",
-                                "/api/v1/users/{id}/deactivate")
+                                "/api/v1/users/{id}/deactivate",
+                                "/api/v1/users/bulk/activate",
+                                "/api/v1/users/bulk/deactivate")
                         .hasRole("ADMIN")
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
 
                         // All other endpoints require authentication
                         .anyRequest().authenticated())
@@ -0,0 +1,23 @@
+package com.lookbook.base.application.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a void event listener method to run on the async event dispatcher
+ * instead of the publishing thread.
+ * <p>
+ * The publisher no longer waits for the listener, sees none of its failures,
+ * and events may be handled out of order, so only mark listeners that do not
+ * depend on ordering or on running inside the publisher's transaction. For
+ * {@code @TransactionalEventListener} methods the transaction phase still
+ * applies; the listener is handed off once that phase is reached.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AsyncListener {
+}
@@ -0,0 +1,18 @@
+package com.lookbook.base.application.events;
+
+import java.util.UUID;
+
+/**
+ * An application event published while handling a domain event.
+ * Redeliveries of the domain event publish it again with the same causation
+ * ID, which lets {@link IdempotentListener}s recognize them.
+ */
+public interface CausedByDomainEvent {
+
+    /**
+     * Gets the ID of the domain event that caused this event.
+     *
+     * @return The causing event's ID, or null if unknown
+     */
+    UUID getCausationId();
+}
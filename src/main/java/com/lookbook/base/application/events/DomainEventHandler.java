@@ -0,0 +1,19 @@
+package com.lookbook.base.application.events;
+
+import com.lookbook.base.domain.events.DomainEvent;
+
+/**
+ * Handles one type of domain event.
+ *
+ * @param <E> The handled event type
+ */
+@FunctionalInterface
+public interface DomainEventHandler<E extends DomainEvent> {
+
+    /**
+     * Handles an event.
+     *
+     * @param event The event to handle
+     */
+    void handle(E event);
+}
@@ -0,0 +1,16 @@
+package com.lookbook.base.application.events;
+
+/**
+ * A component that handles relayed domain events.
+ * Subscribers register their handlers once at startup; the dispatcher then
+ * routes each event straight to the handlers for its class.
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * Registers this subscriber's handlers.
+     *
+     * @param subscriptions The subscriptions to register with
+     */
+    void subscribe(DomainEventSubscriptions subscriptions);
+}
@@ -0,0 +1,34 @@
+package com.lookbook.base.application.events;
+
+import com.lookbook.base.domain.events.DomainEvent;
+
+/**
+ * Collects the handlers of a {@link DomainEventSubscriber}.
+ */
+public interface DomainEventSubscriptions {
+
+    /**
+     * Registers a handler for an event type and all of its subtypes.
+     *
+     * @param type    The event type
+     * @param handler The handler
+     * @param <E>     The event type
+     * @return These subscriptions, for chaining
+     */
+    <E extends DomainEvent> DomainEventSubscriptions on(Class<E> type, DomainEventHandler<? super E> handler);
+
+    /**
+     * Registers a handler that only needs the latest state of each aggregate,
+     * such as a cache invalidation or a reindex. Events of the type for one
+     * aggregate arriving within the coalescing window are merged and the
+     * handler receives only the most recent one once the window closes;
+     * {@link com.lookbook.base.domain.events.CriticalEvent}s are never held
+     * back.
+     *
+     * @param type    The event type
+     * @param handler The handler
+     * @param <E>     The event type
+     * @return These subscriptions, for chaining
+     */
+    <E extends DomainEvent> DomainEventSubscriptions onLatest(Class<E> type, DomainEventHandler<? super E> handler);
+}
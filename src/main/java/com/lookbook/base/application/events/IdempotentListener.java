@@ -0,0 +1,19 @@
+package com.lookbook.base.application.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Skips calls for an event the listener has already handled successfully.
+ * Events are identified by {@link com.lookbook.base.domain.events.DomainEvent#getEventId()},
+ * or for application events by {@link CausedByDomainEvent#getCausationId()};
+ * events without an ID are always handled.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IdempotentListener {
+}
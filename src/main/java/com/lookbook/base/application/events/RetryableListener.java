@@ -0,0 +1,22 @@
+package com.lookbook.base.application.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a single-argument event listener method whose failed invocations are
+ * recorded in a durable retry queue and re-run later by a background worker.
+ * <p>
+ * The event is stored as JSON and rebuilt as the method's declared parameter
+ * type, so that type must be constructible from its own properties. Retries
+ * may run after later events were handled and may repeat work the failed
+ * invocation already did, so only mark listeners that are idempotent.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryableListener {
+}
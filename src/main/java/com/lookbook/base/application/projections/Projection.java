@@ -0,0 +1,63 @@
+package com.lookbook.base.application.projections;
+
+import java.util.Set;
+
+import com.lookbook.base.domain.events.DomainEvent;
+
+/**
+ * A read model that can be rebuilt by replaying the event store.
+ * <p>
+ * During a rebuild {@link #apply(DomainEvent)} is called from several threads
+ * at once. Events of one aggregate are always applied one at a time and in
+ * the order they were appended, but events of different aggregates are
+ * applied concurrently, so shared state must be thread-safe. Writes should be
+ * buffered and persisted in {@link #flush()}, which runs in the same
+ * transaction as the checkpoint; a projection that does so is rebuilt
+ * exactly once even when the rebuild is interrupted and resumed.
+ */
+public interface Projection {
+
+    /**
+     * Gets the unique name under which rebuild progress is checkpointed.
+     *
+     * @return The projection name
+     */
+    String name();
+
+    /**
+     * Gets the event types this projection reads. Other events are not
+     * loaded at all during a rebuild.
+     *
+     * @return The event classes, or an empty set for every event
+     */
+    default Set<Class<? extends DomainEvent>> eventTypes() {
+        return Set.of();
+    }
+
+    /**
+     * Clears the read model before it is rebuilt from the first event.
+     * Runs in the transaction that records the new rebuild.
+     */
+    void reset();
+
+    /**
+     * Applies one event to the read model.
+     *
+     * @param event The event
+     */
+    void apply(DomainEvent event);
+
+    /**
+     * Persists writes buffered by {@link #apply(DomainEvent)}.
+     * Called after each replayed batch, once no events are being applied.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Drops writes buffered since the last flush after a batch failed; the
+     * batch is replayed when the rebuild resumes.
+     */
+    default void discard() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.lookbook.base.application.tracing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records a timing span for each call of the annotated method, or of every
+ * public method of the annotated class. Spans carry the current correlation
+ * ID and, after an async hand-off, how long the call waited to start.
+ */
+@Documented
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Traced {
+}
@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.domain.identity.Ids;
 
 /**
  * Base class for all domain entities.
@@ -24,7 +25,7 @@ public abstract class BaseEntity {
      * Creates a new entity with a generated ID and current timestamps.
      */
     protected BaseEntity() {
-        this.id = UUID.randomUUID();
+        this.id = Ids.next();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = this.createdAt;
     }
@@ -7,6 +7,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.lookbook.base.domain.identity.Ids;
+
 /**
  * Base implementation for domain events.
  * Provides common functionality and enforces immutability.
@@ -26,15 +28,19 @@ public abstract class BaseDomainEvent implements DomainEvent {
 
     /**
      * Creates a new domain event with the current timestamp and the specified
-     * metadata.
+     * metadata. The current correlation ID, if any, is added to the metadata.
      *
      * @param metadata Additional contextual information about the event
      */
     protected BaseDomainEvent(Map<String, Object> metadata) {
-        this.eventId = UUID.randomUUID();
+        this.eventId = Ids.next();
         this.occurredAt = LocalDateTime.now();
-        this.metadata = Collections.unmodifiableMap(new HashMap<>(
-                Objects.requireNonNull(metadata, "Event metadata cannot be null")));
+        Map<String, Object> copy = new HashMap<>(Objects.requireNonNull(metadata, "Event metadata cannot be null"));
+        String correlationId = CorrelationContext.current();
+        if (correlationId != null) {
+            copy.putIfAbsent(CorrelationContext.METADATA_KEY, correlationId);
+        }
+        this.metadata = Collections.unmodifiableMap(copy);
     }
 
     /**
@@ -52,6 +58,43 @@ public abstract class BaseDomainEvent implements DomainEvent {
                 Objects.requireNonNull(metadata, "Event metadata cannot be null")));
     }
 
+    /**
+     * Reads a UUID stored in event metadata, whether held as a UUID or as its
+     * string form.
+     *
+     * @param metadata The event metadata
+     * @param key      The metadata key
+     * @return The UUID value
+     */
+    protected static UUID uuidFrom(Map<String, Object> metadata, String key) {
+        Object value = metadata.get(key);
+        return value instanceof UUID uuid ? uuid : UUID.fromString(String.valueOf(value));
+    }
+
+    /**
+     * Reads a string stored in event metadata.
+     *
+     * @param metadata The event metadata
+     * @param key      The metadata key
+     * @return The string value, or null if absent
+     */
+    protected static String stringFrom(Map<String, Object> metadata, String key) {
+        Object value = metadata.get(key);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Reads an integer stored in event metadata.
+     *
+     * @param metadata The event metadata
+     * @param key      The metadata key
+     * @return The integer value
+     */
+    protected static int intFrom(Map<String, Object> metadata, String key) {
+        Object value = metadata.get(key);
+        return value instanceof Number number ? number.intValue() : Integer.parseInt(String.valueOf(value));
+    }
+
     @Override
     public UUID getEventId() {
         return eventId;
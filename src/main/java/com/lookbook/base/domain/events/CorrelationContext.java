@@ -0,0 +1,45 @@
+package com.lookbook.base.domain.events;
+
+/**
+ * Holds the correlation ID of the work running on the current thread.
+ * Events created while a correlation ID is set carry it in their metadata,
+ * so every event, listener and log line caused by one request can be tied
+ * back to it.
+ */
+public final class CorrelationContext {
+
+    /**
+     * The event metadata key holding the correlation ID.
+     */
+    public static final String METADATA_KEY = "correlationId";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private CorrelationContext() {
+    }
+
+    /**
+     * Gets the correlation ID of the current thread.
+     *
+     * @return The correlation ID, or null outside correlated work
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Replaces the correlation ID of the current thread.
+     *
+     * @param correlationId The new correlation ID, or null to clear it
+     * @return The previous correlation ID, for restoring it afterwards
+     */
+    public static String swap(String correlationId) {
+        String previous = CURRENT.get();
+        if (correlationId == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(correlationId);
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,8 @@
+package com.lookbook.base.domain.events;
+
+/**
+ * Marks a domain event that must reach every handler as soon as it is relayed.
+ * Critical events are never merged or held back by event coalescing.
+ */
+public interface CriticalEvent extends DomainEvent {
+}
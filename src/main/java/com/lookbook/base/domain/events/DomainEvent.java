@@ -43,4 +43,15 @@ public interface DomainEvent {
      * @return A map of metadata key-value pairs
      */
     Map<String, Object> getMetadata();
+
+    /**
+     * Gets the correlation ID of the work that raised the event.
+     *
+     * @return The correlation ID, or null if the event was raised outside
+     *         correlated work
+     */
+    default String getCorrelationId() {
+        Object correlationId = getMetadata().get(CorrelationContext.METADATA_KEY);
+        return correlationId == null ? null : correlationId.toString();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.lookbook.base.domain.events;
+
+import java.util.Collection;
+
+import com.lookbook.base.domain.entities.BaseEntity;
+
+/**
+ * Port for handing domain events over to the rest of the system.
+ * Implementations must make the events durable in the caller's transaction,
+ * so that they are delivered if and only if the state change commits.
+ */
+public interface DomainEventPublisher {
+
+    /**
+     * Publishes and clears the pending events of an aggregate.
+     *
+     * @param aggregate The aggregate whose events should be published
+     */
+    void publish(BaseEntity aggregate);
+
+    /**
+     * Publishes events that were not raised through an aggregate instance,
+     * e.g. by a set-based update.
+     *
+     * @param events The events to publish
+     */
+    void publishAll(Collection<? extends DomainEvent> events);
+}
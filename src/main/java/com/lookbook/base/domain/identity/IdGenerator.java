@@ -0,0 +1,17 @@
+package com.lookbook.base.domain.identity;
+
+import java.util.UUID;
+
+/**
+ * Strategy for generating entity and event identifiers.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Generates a new unique identifier.
+     *
+     * @return The identifier
+     */
+    UUID nextId();
+}
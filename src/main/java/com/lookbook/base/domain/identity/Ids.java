@@ -0,0 +1,45 @@
+package com.lookbook.base.domain.identity;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Access point for the identifier strategy used by entities and events.
+ * Defaults to {@link UuidV7Generator}; the strategy can be replaced at
+ * startup or in tests.
+ */
+public final class Ids {
+
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private Ids() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Generates a new identifier with the current strategy.
+     *
+     * @return The identifier
+     */
+    public static UUID next() {
+        return generator.nextId();
+    }
+
+    /**
+     * Replaces the identifier strategy.
+     *
+     * @param idGenerator The new strategy
+     */
+    public static void use(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "Id generator cannot be null");
+    }
+
+    /**
+     * Gets the current identifier strategy.
+     *
+     * @return The strategy
+     */
+    public static IdGenerator current() {
+        return generator;
+    }
+}
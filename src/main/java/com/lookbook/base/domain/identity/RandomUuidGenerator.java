@@ -0,0 +1,14 @@
+package com.lookbook.base.domain.identity;
+
+import java.util.UUID;
+
+/**
+ * Generates random UUIDv4 identifiers using {@link UUID#randomUUID()}.
+ */
+public class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,53 @@
+package com.lookbook.base.domain.identity;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562).
+ * <p>
+ * The 48-bit millisecond timestamp is followed by a 12-bit sequence that
+ * keeps identifiers strictly increasing within this generator, even when
+ * several are created in the same millisecond. Timestamp and sequence are
+ * advanced together with a single compare-and-set, so there is no lock; if
+ * more than 4096 identifiers are requested in one millisecond the timestamp
+ * runs slightly ahead of the clock rather than going backwards. The
+ * remaining 62 bits are random and keep identifiers from different nodes
+ * apart. They come from {@link ThreadLocalRandom}, so identifiers are unique
+ * but not unguessable; do not use them as secrets.
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    private final Clock clock;
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC());
+    }
+
+    public UuidV7Generator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        long floor = clock.millis() << SEQUENCE_BITS;
+        long current;
+        long next;
+        do {
+            current = lastTimestampAndSequence.get();
+            next = Math.max(floor, current + 1);
+        } while (!lastTimestampAndSequence.compareAndSet(current, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificant = (timestamp << 16) | (0x7L << 12) | sequence;
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -14,6 +14,16 @@ import com.lookbook.base.domain.entities.BaseEntity;
  */
 public interface EntityRepository<T extends BaseEntity> extends BaseRepository<T> {
 
+    /**
+     * Inserts a new entity without first checking whether it already exists.
+     * Duplicate IDs or unique keys are reported by the store when the
+     * transaction is flushed.
+     *
+     * @param entity The new entity to insert
+     * @return The inserted entity
+     */
+    T insert(T entity);
+
     /**
      * Finds entities created within a time range.
      *
@@ -0,0 +1,14 @@
+package com.lookbook.base.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The identity and last modification time of a stored entity, read without
+ * loading the entity itself.
+ *
+ * @param id        The entity ID
+ * @param updatedAt When the entity was last updated
+ */
+public record EntityVersion(UUID id, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,41 @@
+package com.lookbook.base.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.lookbook.base.domain.events.DomainEvent;
+
+/**
+ * Append-only store of every domain event the system has published.
+ * Events are never updated or deleted once appended.
+ */
+public interface EventStore {
+
+    /**
+     * Appends events to the store. Returns once the events are durable.
+     * Appending an event that is already stored has no effect.
+     *
+     * @param events The events to append
+     */
+    void append(Collection<? extends DomainEvent> events);
+
+    /**
+     * Finds all events of an aggregate in the order they were appended.
+     *
+     * @param aggregateId The aggregate ID
+     * @return The aggregate's events
+     */
+    List<DomainEvent> findByAggregateId(UUID aggregateId);
+
+    /**
+     * Finds events that occurred within a time range, oldest first.
+     *
+     * @param start The start of the range (inclusive)
+     * @param end   The end of the range (exclusive)
+     * @param limit Maximum number of events to return
+     * @return The events in the range
+     */
+    List<DomainEvent> findByOccurredAtBetween(LocalDateTime start, LocalDateTime end, int limit);
+}
@@ -1,20 +1,34 @@
 package com.lookbook.base.infrastructure.api.controllers;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import com.lookbook.base.domain.entities.BaseEntity;
 import com.lookbook.base.domain.exceptions.DomainException;
+import com.lookbook.base.domain.exceptions.ValidationException;
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.base.infrastructure.api.response.ApiResponse;
+import com.lookbook.base.infrastructure.api.response.BatchItem;
 import com.lookbook.base.infrastructure.api.response.ErrorResponse;
+import com.lookbook.base.infrastructure.api.utils.EntityTags;
 import com.lookbook.base.infrastructure.api.utils.PaginationUtils;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +38,18 @@ import jakarta.servlet.http.HttpServletRequest;
  */
 public abstract class BaseController {
 
+    /**
+     * Cache policy for single-entity responses: clients and private caches may
+     * keep a copy but must revalidate it with If-None-Match before reuse, and
+     * shared caches must not store it since responses are per-user.
+     */
+    protected static final CacheControl ENTITY_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    /**
+     * Maximum number of IDs accepted by a multi-get request.
+     */
+    protected static final int MAX_BATCH_IDS = 100;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     /**
@@ -75,6 +101,141 @@ public abstract class BaseController {
         return PaginationUtils.createPageResponse(page);
     }
 
+    /**
+     * Creates a 200 response for a single entity, tagged with the entity's
+     * ETag so clients can revalidate it with If-None-Match.
+     *
+     * @param <T>    The body type
+     * @param entity The entity the body represents
+     * @param body   The response body
+     * @return A tagged 200 response
+     */
+    protected <T> ResponseEntity<T> createTaggedResponse(BaseEntity entity, T body) {
+        return createTaggedResponse(entity, "", body);
+    }
+
+    /**
+     * Creates a 200 response for one representation of a single entity, such
+     * as a sparse fieldset, tagged with the ETag of that representation.
+     *
+     * @param <T>     The body type
+     * @param entity  The entity the body represents
+     * @param variant The representation key, empty for the full representation
+     * @param body    The response body
+     * @return A tagged 200 response
+     */
+    protected <T> ResponseEntity<T> createTaggedResponse(BaseEntity entity, String variant, T body) {
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(entity.getId(), entity.getUpdatedAt(), variant))
+                .cacheControl(ENTITY_CACHE_CONTROL)
+                .body(body);
+    }
+
+    /**
+     * Checks a conditional request against the stored entity version.
+     * Lets controllers answer 304 before loading and mapping the entity; the
+     * version is only looked up when the request carries If-None-Match.
+     *
+     * @param <T>           The body type of the full response
+     * @param ifNoneMatch   The If-None-Match header value, may be null
+     * @param versionLookup Reads the stored entity version, empty if the
+     *                      entity does not exist
+     * @return A 304 response if the client's copy is current, otherwise empty
+     */
+    protected <T> Optional<ResponseEntity<T>> checkNotModified(String ifNoneMatch,
+            Supplier<Optional<EntityVersion>> versionLookup) {
+        return checkNotModified(ifNoneMatch, "", versionLookup);
+    }
+
+    /**
+     * Checks a conditional request for one representation of an entity, such
+     * as a sparse fieldset, against the stored entity version.
+     *
+     * @param <T>           The body type of the full response
+     * @param ifNoneMatch   The If-None-Match header value, may be null
+     * @param variant       The representation key, empty for the full
+     *                      representation
+     * @param versionLookup Reads the stored entity version, empty if the
+     *                      entity does not exist
+     * @return A 304 response if the client's copy is current, otherwise empty
+     */
+    protected <T> Optional<ResponseEntity<T>> checkNotModified(String ifNoneMatch, String variant,
+            Supplier<Optional<EntityVersion>> versionLookup) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return Optional.empty();
+        }
+        return versionLookup.get()
+                .map(version -> EntityTags.of(version.id(), version.updatedAt(), variant))
+                .filter(tag -> EntityTags.matches(ifNoneMatch, tag))
+                .map(tag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(tag)
+                        .cacheControl(ENTITY_CACHE_CONTROL)
+                        .build());
+    }
+
+    /**
+     * Validates the IDs of a multi-get request.
+     *
+     * @param ids The requested IDs
+     * @return The distinct IDs, in request order
+     * @throws ValidationException if no IDs or more than {@link #MAX_BATCH_IDS}
+     *                             distinct IDs are requested
+     */
+    protected List<UUID> requireBatchIds(List<UUID> ids) {
+        List<UUID> distinct = ids == null ? List.of() : ids.stream().distinct().toList();
+        if (distinct.isEmpty()) {
+            throw new ValidationException("At least one id is required");
+        }
+        if (distinct.size() > MAX_BATCH_IDS) {
+            throw new ValidationException("At most " + MAX_BATCH_IDS + " ids can be requested at once");
+        }
+        return distinct;
+    }
+
+    /**
+     * Creates the entries of a multi-get response, one per requested ID in
+     * request order, marking IDs without an entity as not found.
+     *
+     * @param <E>    The entity type
+     * @param <R>    The item type
+     * @param ids    The requested IDs
+     * @param found  The entities that exist, in any order
+     * @param mapper Maps an entity to its item
+     * @return The entries keyed by ID
+     */
+    protected <E extends BaseEntity, R> Map<UUID, BatchItem<R>> createBatchItems(List<UUID> ids, List<E> found,
+            Function<E, R> mapper) {
+        return createBatchItems(ids, found, BaseEntity::getId, EntityTags::of, mapper);
+    }
+
+    /**
+     * Creates the entries of a multi-get response from rows that are not
+     * domain entities, such as sparse projections.
+     *
+     * @param <E>    The row type
+     * @param <R>    The item type
+     * @param ids    The requested IDs
+     * @param found  The rows that exist, in any order
+     * @param idOf   Reads the ID of a row
+     * @param tagOf  Creates the ETag of a row
+     * @param mapper Maps a row to its item
+     * @return The entries keyed by ID
+     */
+    protected <E, R> Map<UUID, BatchItem<R>> createBatchItems(List<UUID> ids, List<E> found,
+            Function<E, UUID> idOf, Function<E, String> tagOf, Function<E, R> mapper) {
+        Map<UUID, E> byId = new HashMap<>();
+        found.forEach(row -> byId.put(idOf.apply(row), row));
+
+        Map<UUID, BatchItem<R>> items = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            E row = byId.get(id);
+            items.put(id, row == null
+                    ? BatchItem.notFound(id)
+                    : BatchItem.found(id, tagOf.apply(row), mapper.apply(row)));
+        }
+        return items;
+    }
+
     /**
      * Gets the current authenticated user, if any.
      * 
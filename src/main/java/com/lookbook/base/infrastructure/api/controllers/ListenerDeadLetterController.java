@@ -0,0 +1,66 @@
+package com.lookbook.base.infrastructure.api.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lookbook.base.domain.exceptions.EntityNotFoundException;
+import com.lookbook.base.domain.exceptions.ValidationException;
+import com.lookbook.base.infrastructure.api.response.ApiResponse;
+import com.lookbook.base.infrastructure.retry.ListenerDeadLetter;
+import com.lookbook.base.infrastructure.retry.ListenerRetryRepository;
+
+/**
+ * Admin endpoints for listener invocations that exhausted their retries.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/listener-dead-letters")
+public class ListenerDeadLetterController extends BaseController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final ListenerRetryRepository retryRepository;
+
+    public ListenerDeadLetterController(ListenerRetryRepository retryRepository) {
+        this.retryRepository = retryRepository;
+    }
+
+    /**
+     * List the most recent dead letters.
+     *
+     * @param limit maximum number of dead letters to return
+     * @return the dead letters, newest first
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ListenerDeadLetter>>> getDeadLetters(
+            @RequestParam(defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return ResponseEntity.ok(createSuccessResponse(retryRepository.findDeadLetters(limit)));
+    }
+
+    /**
+     * Move a dead letter back into the retry queue.
+     * The listener is re-run by the retry worker, not by this request.
+     *
+     * @param id the dead letter ID
+     * @return an empty response
+     */
+    @PostMapping("/{id}/replay")
+    public ResponseEntity<ApiResponse<Void>> replay(@PathVariable long id) {
+        if (!retryRepository.replay(id)) {
+            throw new EntityNotFoundException(ListenerDeadLetter.class, id);
+        }
+        logger.info("Dead letter {} requeued for retry", id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(createSuccessResponse(null, "Dead letter queued for retry"));
+    }
+}
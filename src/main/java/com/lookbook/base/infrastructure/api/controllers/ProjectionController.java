@@ -0,0 +1,57 @@
+package com.lookbook.base.infrastructure.api.controllers;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lookbook.base.infrastructure.api.response.ApiResponse;
+import com.lookbook.base.infrastructure.projections.ProjectionCheckpoint;
+import com.lookbook.base.infrastructure.projections.ProjectionReplayEngine;
+
+/**
+ * Admin endpoints for rebuilding read models from the event store.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/projections")
+public class ProjectionController extends BaseController {
+
+    private final ProjectionReplayEngine replayEngine;
+
+    public ProjectionController(ProjectionReplayEngine replayEngine) {
+        this.replayEngine = replayEngine;
+    }
+
+    /**
+     * Get the rebuild progress of every projection.
+     *
+     * @return the checkpoint of each projection, null if never rebuilt
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, ProjectionCheckpoint>>> getProjections() {
+        return ResponseEntity.ok(createSuccessResponse(replayEngine.getStatus()));
+    }
+
+    /**
+     * Start rebuilding a projection in the background.
+     * An interrupted or failed rebuild resumes from its checkpoint.
+     *
+     * @param name    the projection name
+     * @param restart whether to start from the first event regardless
+     * @return an empty response
+     */
+    @PostMapping("/{name}/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuild(@PathVariable String name,
+            @RequestParam(defaultValue = "false") boolean restart) {
+        replayEngine.startRebuild(name, restart);
+        logger.info("Rebuild of projection {} started (restart={})", name, restart);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(createSuccessResponse(null, "Projection rebuild started"));
+    }
+}
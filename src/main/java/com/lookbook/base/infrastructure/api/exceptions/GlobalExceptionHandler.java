@@ -4,9 +4,12 @@ import javax.security.sasl.AuthenticationException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -111,6 +114,30 @@ public class GlobalExceptionHandler {
                                 .body(response);
         }
 
+        /**
+         * Handles requests that timed out waiting for a database connection.
+         * Requests run on virtual threads, so the connection pool rather than
+         * the thread pool bounds database concurrency; a request that cannot
+         * get a connection in time is shed with a retryable status.
+         */
+        @ExceptionHandler({ CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class })
+        public ResponseEntity<ErrorResponse> handleConnectionUnavailable(
+                        RuntimeException ex, WebRequest request) {
+
+                log.warn("Database connection unavailable: {}", ex.getMessage());
+
+                String path = ExceptionUtils.extractPathFromRequest(request);
+                ErrorResponse response = ErrorResponse.of(
+                                "SERVICE_UNAVAILABLE",
+                                "Service temporarily unavailable",
+                                path);
+
+                return ResponseEntity
+                                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(response);
+        }
+
         /**
          * Handles all other exceptions.
          */
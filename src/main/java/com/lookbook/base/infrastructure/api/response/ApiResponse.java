@@ -1,15 +1,18 @@
 package com.lookbook.base.infrastructure.api.response;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
  * Generic wrapper for all API responses.
+ * The metadata map is only allocated once metadata is added, since most
+ * responses carry none.
  * 
  * @param <T> The type of data contained in the response
  */
@@ -20,7 +23,7 @@ public class ApiResponse<T> {
     private T data;
     private String message;
 
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    @JsonSerialize(using = ApiTimestampSerializer.class)
     private LocalDateTime timestamp;
 
     @JsonInclude(Include.NON_EMPTY)
@@ -28,7 +31,6 @@ public class ApiResponse<T> {
 
     protected ApiResponse() {
         this.timestamp = LocalDateTime.now();
-        this.meta = new HashMap<>();
     }
 
     public static <T> ApiResponse<T> success() {
@@ -55,6 +57,9 @@ public class ApiResponse<T> {
     }
 
     public ApiResponse<T> addMetadata(String key, Object value) {
+        if (this.meta == null) {
+            this.meta = new HashMap<>();
+        }
         this.meta.put(key, value);
         return this;
     }
@@ -94,7 +99,7 @@ public class ApiResponse<T> {
     }
 
     public Map<String, Object> getMeta() {
-        return meta;
+        return meta != null ? meta : Collections.emptyMap();
     }
 
     public void setMeta(Map<String, Object> meta) {
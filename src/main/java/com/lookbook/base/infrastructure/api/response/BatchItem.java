@@ -0,0 +1,33 @@
+package com.lookbook.base.infrastructure.api.response;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * One entry of a multi-get response.
+ * Each entry stands on its own: it carries its ID, whether it was found, and
+ * for found entries the same ETag a single-entity GET would send, so clients
+ * can cache and revalidate items individually.
+ *
+ * @param <T>    The type of the item
+ * @param id     The requested ID
+ * @param status {@code found} or {@code not_found}
+ * @param etag   The item's entity tag, null if not found
+ * @param data   The item, null if not found
+ */
+@JsonInclude(Include.NON_NULL)
+public record BatchItem<T>(UUID id, String status, String etag, T data) {
+
+    public static final String FOUND = "found";
+    public static final String NOT_FOUND = "not_found";
+
+    public static <T> BatchItem<T> found(UUID id, String etag, T data) {
+        return new BatchItem<>(id, FOUND, etag, data);
+    }
+
+    public static <T> BatchItem<T> notFound(UUID id) {
+        return new BatchItem<>(id, NOT_FOUND, null, null);
+    }
+}
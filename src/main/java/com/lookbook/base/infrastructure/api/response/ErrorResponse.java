@@ -2,7 +2,7 @@ package com.lookbook.base.infrastructure.api.response;
 
 import java.time.LocalDateTime;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
  * Standard error response format for API errors.
@@ -14,7 +14,7 @@ public class ErrorResponse {
     private String message;
     private String path;
 
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    @JsonSerialize(using = ApiTimestampSerializer.class)
     private LocalDateTime timestamp;
 
     protected ErrorResponse() {
@@ -0,0 +1,20 @@
+package com.lookbook.base.infrastructure.api.response;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Replaces Boot's default JSON message converter with one that reuses
+ * prebuilt writers per response type.
+ */
+@Configuration
+public class JsonResponseConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new PrebuiltWriterHttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,71 @@
+package com.lookbook.base.infrastructure.api.response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes newline-delimited JSON (one value per line) straight to a servlet
+ * response. Output goes through the generator's buffer rather than being
+ * flushed per value, and nothing is held beyond the value being written.
+ */
+public final class NdjsonWriter implements Closeable {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    private NdjsonWriter(JsonGenerator generator, ObjectWriter writer) {
+        this.generator = generator;
+        this.writer = writer;
+    }
+
+    /**
+     * Sets the NDJSON content type on a response and opens a writer on its
+     * output stream.
+     *
+     * @param objectMapper The mapper to serialize values with
+     * @param response     The response to write to
+     * @return The writer; closing it flushes but leaves the response open
+     * @throws IOException if the output stream cannot be opened
+     */
+    public static NdjsonWriter open(ObjectMapper objectMapper, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return new NdjsonWriter(generator, objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+    }
+
+    /**
+     * Writes one value as a line.
+     *
+     * @param value The value to write
+     * @throws UncheckedIOException if writing to the client fails, so this
+     *                              can be used from row callbacks
+     */
+    public void write(Object value) {
+        try {
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
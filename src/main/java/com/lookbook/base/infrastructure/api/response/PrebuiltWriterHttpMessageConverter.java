@@ -0,0 +1,75 @@
+package com.lookbook.base.infrastructure.api.response;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * JSON message converter that reuses one {@link ObjectWriter} per declared
+ * response type, e.g. {@code ApiResponse<UserResponse>}.
+ * A writer bound to the full generic type resolves its root serializer once
+ * and serializes the envelope's {@code data} with its declared type, instead
+ * of resolving both from the runtime classes on every response.
+ * <p>
+ * A writer is only bound when the value is exactly the declared class. A
+ * root type serializes the value with the declared class's serializer, so a
+ * subclass returned for a declared base class (a
+ * {@code ValidationErrorResponse} for an {@code ErrorResponse}) would lose its
+ * own fields. Writers customized per request (JSON views, filters) are left
+ * untouched.
+ */
+public class PrebuiltWriterHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    // customizeWriter only sees the declared type, so the value's class is
+    // handed over from writeInternal on the same thread
+    private static final ThreadLocal<Class<?>> VALUE_CLASS = new ThreadLocal<>();
+
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public PrebuiltWriterHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Object value = object instanceof MappingJacksonValue container ? container.getValue() : object;
+        VALUE_CLASS.set(value != null ? value.getClass() : null);
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            VALUE_CLASS.remove();
+        }
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        if (javaType == null || javaType.getRawClass() != VALUE_CLASS.get()
+                || writer.getConfig() != getObjectMapper().getSerializationConfig()
+                || (contentType != null && !contentType.isCompatibleWith(MediaType.APPLICATION_JSON))) {
+            return writer;
+        }
+        return writers.computeIfAbsent(javaType, writer::forType);
+    }
+
+    /**
+     * Gets the number of response types a writer has been built for.
+     *
+     * @return The writer count
+     */
+    int writerCount() {
+        return writers.size();
+    }
+}
@@ -0,0 +1,118 @@
+package com.lookbook.base.infrastructure.api.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import com.lookbook.base.domain.entities.BaseEntity;
+import com.lookbook.base.domain.repositories.EntityVersion;
+
+/**
+ * Utility methods for entity tags (ETags) of single-entity responses.
+ * A tag is derived from the entity ID and its last update time, so it changes
+ * whenever the stored entity does and can be computed from a lightweight
+ * version lookup without loading the entity.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Creates the strong entity tag of an entity.
+     *
+     * @param entity The entity
+     * @return The quoted entity tag
+     */
+    public static String of(BaseEntity entity) {
+        return of(entity.getId(), entity.getUpdatedAt());
+    }
+
+    /**
+     * Creates the strong entity tag of a stored entity version.
+     *
+     * @param version The entity version
+     * @return The quoted entity tag
+     */
+    public static String of(EntityVersion version) {
+        return of(version.id(), version.updatedAt());
+    }
+
+    /**
+     * Creates a strong entity tag from an ID and update time.
+     * The time is taken at microsecond precision, the precision it is stored
+     * with.
+     *
+     * @param id        The entity ID
+     * @param updatedAt The last update time
+     * @return The quoted entity tag
+     */
+    public static String of(UUID id, LocalDateTime updatedAt) {
+        return of(id, updatedAt, "");
+    }
+
+    /**
+     * Creates the strong entity tag of one representation of an entity, such
+     * as a sparse fieldset. Different representations of the same version get
+     * different tags, so a cached sparse copy never validates a full one.
+     * The variant enters the tag as a 128-bit SHA-256 prefix, so distinct
+     * variants do not collide in practice.
+     *
+     * @param id        The entity ID
+     * @param updatedAt The last update time
+     * @param variant   The representation key, empty for the full
+     *                  representation
+     * @return The quoted entity tag
+     */
+    public static String of(UUID id, LocalDateTime updatedAt, String variant) {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+        String tag = id + "-" + Long.toHexString(micros);
+        if (!variant.isEmpty()) {
+            tag += "-" + digest(variant);
+        }
+        return "\"" + tag + "\"";
+    }
+
+    private static String digest(String variant) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(variant.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Checks whether an If-None-Match header matches an entity tag.
+     * Uses the weak comparison required for If-None-Match, so a client
+     * echoing the tag with a W/ prefix still matches.
+     *
+     * @param ifNoneMatch The If-None-Match header value, may be null
+     * @param tag         The current entity tag
+     * @return true if the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,138 @@
+package com.lookbook.base.infrastructure.api.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.lookbook.base.domain.exceptions.ValidationException;
+
+/**
+ * Allow-list of the fields a client may request through a {@code fields}
+ * query parameter, together with how each field is read from the full
+ * response.
+ * The ID is always part of a selection so sparse items stay addressable.
+ *
+ * @param <T> The full response type
+ */
+public final class FieldCatalog<T> {
+
+    /**
+     * The field every selection includes.
+     */
+    public static final String ID = "id";
+
+    private final Map<String, Function<T, Object>> accessors;
+
+    private FieldCatalog(Map<String, Function<T, Object>> accessors) {
+        this.accessors = Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * Starts a new catalog.
+     *
+     * @param <T> The full response type
+     * @return A builder for the catalog
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Parses and validates a {@code fields} parameter.
+     *
+     * @param fields Comma-separated field names, may be null
+     * @return The selection; all fields when the parameter is absent or names
+     *         every field
+     * @throws ValidationException if a field is not in the catalog
+     */
+    public FieldSelection<T> select(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return FieldSelection.all();
+        }
+
+        Set<String> requested = new LinkedHashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (accessors.containsKey(name)) {
+                requested.add(name);
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new ValidationException("Unknown fields: " + String.join(", ", unknown)
+                    + ". Allowed fields: " + String.join(", ", accessors.keySet()));
+        }
+
+        requested.add(ID);
+        if (requested.size() == accessors.size()) {
+            return FieldSelection.all();
+        }
+
+        // Catalog order keeps the output, and the tag derived from it, stable
+        Map<String, Function<T, Object>> selected = new LinkedHashMap<>();
+        accessors.forEach((name, accessor) -> {
+            if (requested.contains(name)) {
+                selected.put(name, accessor);
+            }
+        });
+        return FieldSelection.of(selected);
+    }
+
+    /**
+     * Gets the names of all fields in the catalog.
+     *
+     * @return The field names, in catalog order
+     */
+    public Set<String> names() {
+        return accessors.keySet();
+    }
+
+    /**
+     * Builder for {@link FieldCatalog}.
+     *
+     * @param <T> The full response type
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, Function<T, Object>> accessors = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a field to the catalog.
+         *
+         * @param name     The field name as it appears in the response
+         * @param accessor Reads the field from the full response
+         * @return This builder
+         */
+        public Builder<T> field(String name, Function<T, Object> accessor) {
+            accessors.put(name, accessor);
+            return this;
+        }
+
+        /**
+         * Builds the catalog.
+         *
+         * @return The catalog
+         * @throws IllegalStateException if no {@value FieldCatalog#ID} field
+         *                               was added
+         */
+        public FieldCatalog<T> build() {
+            if (!accessors.containsKey(ID)) {
+                throw new IllegalStateException("A field catalog must contain the " + ID + " field");
+            }
+            return new FieldCatalog<>(new LinkedHashMap<>(accessors));
+        }
+    }
+}
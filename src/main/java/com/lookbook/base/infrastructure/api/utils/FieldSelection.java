@@ -0,0 +1,85 @@
+package com.lookbook.base.infrastructure.api.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The fields a client selected from a {@link FieldCatalog}.
+ * Sparse selections are handed down to the query layer so only the selected
+ * columns are read, and project the response to the selected fields.
+ *
+ * @param <T> The full response type
+ */
+public final class FieldSelection<T> {
+
+    private static final FieldSelection<?> ALL = new FieldSelection<>(null);
+
+    private final Map<String, Function<T, Object>> selected;
+
+    private FieldSelection(Map<String, Function<T, Object>> selected) {
+        this.selected = selected;
+    }
+
+    /**
+     * Gets the selection of every field.
+     *
+     * @param <T> The full response type
+     * @return The full selection
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FieldSelection<T> all() {
+        return (FieldSelection<T>) ALL;
+    }
+
+    static <T> FieldSelection<T> of(Map<String, Function<T, Object>> selected) {
+        return new FieldSelection<>(selected);
+    }
+
+    /**
+     * Checks whether every field is selected.
+     *
+     * @return true if the full response is requested
+     */
+    public boolean isAll() {
+        return selected == null;
+    }
+
+    /**
+     * Gets the selected field names of a sparse selection.
+     *
+     * @return The field names in catalog order, or null if every field is
+     *         selected
+     */
+    public Set<String> names() {
+        return selected == null ? null : selected.keySet();
+    }
+
+    /**
+     * Projects a full response to the selected fields.
+     *
+     * @param item The full response, which may leave unselected fields unset
+     * @return The item itself if every field is selected, otherwise a map of
+     *         the selected fields in catalog order
+     */
+    public Object project(T item) {
+        if (selected == null) {
+            return item;
+        }
+        Map<String, Object> projected = new LinkedHashMap<>();
+        selected.forEach((name, accessor) -> projected.put(name, accessor.apply(item)));
+        return projected;
+    }
+
+    /**
+     * Gets a key identifying this selection, used to keep entity tags of
+     * different representations apart.
+     *
+     * @return An empty string for the full selection, otherwise the selected
+     *         field names
+     */
+    public String variant() {
+        return selected == null ? "" : String.join(",", selected.keySet());
+    }
+}
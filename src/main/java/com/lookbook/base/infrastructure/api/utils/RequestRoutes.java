@@ -0,0 +1,33 @@
+package com.lookbook.base.infrastructure.api.utils;
+
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Utility methods for naming requests in metrics and traces.
+ */
+public final class RequestRoutes {
+
+    /**
+     * The route of a request that no handler matched.
+     */
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private RequestRoutes() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the route pattern the request was matched to, e.g.
+     * {@code /api/v1/users/{id}}. Using the pattern rather than the raw URI
+     * keeps path variables from exploding metric and span name cardinality.
+     *
+     * @param request The request, after handler mapping
+     * @return The matched pattern, or {@value #UNKNOWN} if no handler matched
+     */
+    public static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN;
+    }
+}
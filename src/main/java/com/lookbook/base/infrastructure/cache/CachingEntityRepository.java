@@ -0,0 +1,186 @@
+package com.lookbook.base.infrastructure.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.lookbook.base.domain.entities.BaseEntity;
+import com.lookbook.base.domain.repositories.EntityRepository;
+
+/**
+ * Decorator that caches single-entity lookups of an {@link EntityRepository}.
+ * Entities are cached by ID; natural keys (e.g. username) are cached as
+ * pointers to the ID so each entity is stored only once. Writes evict the
+ * affected entries, and all list/count queries go straight to the delegate.
+ *
+ * @param <T> The type of entity this repository manages
+ */
+public class CachingEntityRepository<T extends BaseEntity> implements EntityRepository<T> {
+
+    private static final String ID_KEY = "id:";
+
+    private final EntityRepository<T> delegate;
+    protected final TwoTierCache cache;
+    private final EntityCodec<T> codec;
+
+    public CachingEntityRepository(EntityRepository<T> delegate, TwoTierCache cache, EntityCodec<T> codec) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.codec = codec;
+    }
+
+    @Override
+    public T save(T entity) {
+        T saved = delegate.save(entity);
+        cache.evict(ID_KEY + saved.getId());
+        return saved;
+    }
+
+    @Override
+    public T insert(T entity) {
+        // A new ID cannot be cached yet, and absent lookups are never cached
+        return delegate.insert(entity);
+    }
+
+    @Override
+    public Optional<T> findById(UUID id) {
+        return cache.get(ID_KEY + id, () -> delegate.findById(id).map(codec::encode))
+                .map(codec::decode);
+    }
+
+    /**
+     * Finds an entity through a cached natural-key pointer.
+     * A pointer whose target no longer exists or no longer carries the key is
+     * dropped and the lookup falls back to the delegate.
+     *
+     * @param keyName   The natural key name, e.g. "username"
+     * @param value     The natural key value
+     * @param extractor Reads the natural key from an entity, or null if the key
+     *                  is not a property of the entity
+     * @param loader    Queries the delegate by natural key
+     * @return The entity if found
+     */
+    protected Optional<T> findByNaturalKey(String keyName, String value, Function<T, String> extractor,
+            Supplier<Optional<T>> loader) {
+        String pointerKey = keyName + ":" + value;
+        AtomicReference<T> loaded = new AtomicReference<>();
+        Optional<String> id = cache.get(pointerKey, () -> loader.get()
+                .map(entity -> {
+                    loaded.set(entity);
+                    return entity.getId().toString();
+                }));
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+        if (loaded.get() != null) {
+            return Optional.of(loaded.get());
+        }
+
+        Optional<T> entity = findById(UUID.fromString(id.get()))
+                .filter(e -> extractor == null || Objects.equals(extractor.apply(e), value));
+        if (entity.isPresent()) {
+            return entity;
+        }
+        cache.evict(pointerKey);
+        return loader.get();
+    }
+
+    /**
+     * Evicts a cached entity after it was modified behind the repository,
+     * e.g. by a set-based update.
+     *
+     * @param id The entity ID
+     */
+    protected void evictById(UUID id) {
+        cache.evict(ID_KEY + id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        cache.evict(ID_KEY + id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        delegate.delete(entity);
+        cache.evict(ID_KEY + entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<UUID> ids) {
+        delegate.deleteAllById(ids);
+        ids.forEach(id -> cache.evict(ID_KEY + id));
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        cache.clear();
+    }
+
+    @Override
+    public List<T> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end) {
+        return delegate.findByCreatedAtBetween(start, end);
+    }
+
+    @Override
+    public List<T> findByUpdatedAtBetween(LocalDateTime start, LocalDateTime end) {
+        return delegate.findByUpdatedAtBetween(start, end);
+    }
+
+    @Override
+    public List<T> findByCreatedAtBefore(LocalDateTime timestamp) {
+        return delegate.findByCreatedAtBefore(timestamp);
+    }
+
+    @Override
+    public List<T> findByUpdatedAtBefore(LocalDateTime timestamp) {
+        return delegate.findByUpdatedAtBefore(timestamp);
+    }
+
+    @Override
+    public List<T> findByCreatedAtAfter(LocalDateTime timestamp) {
+        return delegate.findByCreatedAtAfter(timestamp);
+    }
+
+    @Override
+    public List<T> findByUpdatedAtAfter(LocalDateTime timestamp) {
+        return delegate.findByUpdatedAtAfter(timestamp);
+    }
+
+    @Override
+    public List<T> findMostRecent(int limit) {
+        return delegate.findMostRecent(limit);
+    }
+
+    @Override
+    public List<T> findMostRecentlyUpdated(int limit) {
+        return delegate.findMostRecentlyUpdated(limit);
+    }
+}
@@ -0,0 +1,29 @@
+package com.lookbook.base.infrastructure.cache;
+
+import com.lookbook.base.domain.entities.BaseEntity;
+
+/**
+ * Converts a domain entity to and from the string form held in the cache.
+ * Both cache tiers store the encoded form, so every read hands the caller a
+ * fresh aggregate it is free to mutate.
+ *
+ * @param <T> The type of entity being encoded
+ */
+public interface EntityCodec<T extends BaseEntity> {
+
+    /**
+     * Encodes an entity.
+     *
+     * @param entity The entity to encode
+     * @return The encoded form
+     */
+    String encode(T entity);
+
+    /**
+     * Decodes an entity.
+     *
+     * @param value The encoded form
+     * @return The reconstituted entity
+     */
+    T decode(String value);
+}
@@ -0,0 +1,77 @@
+package com.lookbook.base.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for the shared cache.
+ * Used by the test profile and by unit tests instead of Redis.
+ */
+public class InMemorySharedCache implements SharedCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final Clock clock;
+
+    public InMemorySharedCache() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemorySharedCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt().isBefore(clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        entries.put(key, new Entry(value, clock.instant().plus(ttl)));
+    }
+
+    @Override
+    public void evict(String key) {
+        entries.remove(key);
+        listeners.forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void clear(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+        listeners.forEach(listener -> listener.accept(prefix));
+    }
+
+    @Override
+    public void addInvalidationListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Gets the number of live and expired entries currently held.
+     *
+     * @return The entry count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(String value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.lookbook.base.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, per-node LRU cache with a fixed time-to-live.
+ * Access is guarded by a single lock; every operation is O(1) apart from
+ * prefix removal, which only happens on bulk invalidation. The lock is a
+ * {@link ReentrantLock} rather than a monitor so that request threads waiting
+ * for it never pin their virtual thread's carrier.
+ */
+public class LocalCache {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public LocalCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    public LocalCache(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > LocalCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets a value if present and not expired.
+     *
+     * @param key The cache key
+     * @return The cached value, or empty
+     */
+    public Optional<String> get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt().isBefore(clock.instant())) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.value());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a value, evicting the least recently used entry when full.
+     *
+     * @param key   The cache key
+     * @param value The value to store
+     */
+    public void put(String key, String value) {
+        Entry entry = new Entry(value, clock.instant().plus(ttl));
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a single key.
+     *
+     * @param key The cache key
+     */
+    public void remove(String key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every key matching the predicate.
+     *
+     * @param filter The key filter
+     */
+    public void removeIf(Predicate<String> filter) {
+        lock.lock();
+        try {
+            entries.keySet().removeIf(filter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of entries currently held.
+     *
+     * @return The entry count
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(String value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.lookbook.base.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis-backed shared cache.
+ * Evictions are broadcast on a pub/sub channel so that every node drops its
+ * local copy. Redis failures are logged and treated as cache misses so that a
+ * Redis outage degrades to database reads instead of failing requests.
+ */
+@Slf4j
+public class RedisSharedCache implements SharedCache, MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisSharedCache(StringRedisTemplate redisTemplate, String invalidationChannel) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+        } catch (RuntimeException e) {
+            log.warn("Shared cache read failed for key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache write failed for key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void evict(String key) {
+        try {
+            redisTemplate.delete(key);
+            redisTemplate.convertAndSend(invalidationChannel, key);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache eviction failed for key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void clear(String prefix) {
+        try {
+            Set<String> keys = redisTemplate.keys(prefix + "*");
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+            redisTemplate.convertAndSend(invalidationChannel, prefix);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache clear failed for prefix: {}", prefix, e);
+        }
+    }
+
+    @Override
+    public void addInvalidationListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        listeners.forEach(listener -> listener.accept(key));
+    }
+}
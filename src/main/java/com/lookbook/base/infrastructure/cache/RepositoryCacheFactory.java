@@ -0,0 +1,44 @@
+package com.lookbook.base.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.infrastructure.config.RepositoryCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Creates a {@link TwoTierCache} per repository from the configured
+ * properties, all sharing the same L2 backend.
+ */
+@Component
+@RequiredArgsConstructor
+public class RepositoryCacheFactory {
+
+    private final SharedCache sharedCache;
+    private final RepositoryCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the cache for a repository.
+     *
+     * @param repositoryName The repository name, e.g. "users"
+     * @return A new two-tier cache
+     */
+    public TwoTierCache create(String repositoryName) {
+        LocalCache local = new LocalCache(
+                properties.getLocal().getMaxEntries(),
+                properties.getLocal().getTtl());
+        return new TwoTierCache(repositoryName, properties.getKeyPrefix(), local, sharedCache,
+                properties.getShared().getTtl(), meterRegistry);
+    }
+
+    /**
+     * Checks whether repository caching is enabled.
+     *
+     * @return true if repositories should be wrapped in a cache
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+}
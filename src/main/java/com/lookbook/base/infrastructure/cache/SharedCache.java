@@ -0,0 +1,51 @@
+package com.lookbook.base.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Second-level cache shared by all application nodes.
+ * Values are stored as encoded strings so that any backend (Redis, in-memory)
+ * can hold them without knowing the domain types.
+ */
+public interface SharedCache {
+
+    /**
+     * Gets the value stored under a key.
+     *
+     * @param key The full cache key
+     * @return The encoded value, or empty if absent or expired
+     */
+    Optional<String> get(String key);
+
+    /**
+     * Stores a value under a key.
+     *
+     * @param key   The full cache key
+     * @param value The encoded value
+     * @param ttl   How long the value should be kept
+     */
+    void put(String key, String value, Duration ttl);
+
+    /**
+     * Removes a key and notifies every node so they can drop their local copy.
+     *
+     * @param key The full cache key
+     */
+    void evict(String key);
+
+    /**
+     * Removes every key starting with the given prefix and notifies every node.
+     *
+     * @param prefix The key prefix to clear
+     */
+    void clear(String prefix);
+
+    /**
+     * Registers a listener that receives keys (or prefixes) evicted on any node.
+     *
+     * @param listener The invalidation listener
+     */
+    void addInvalidationListener(Consumer<String> listener);
+}
@@ -0,0 +1,228 @@
+package com.lookbook.base.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache combining a bounded per-node {@link LocalCache} (L1) with
+ * a {@link SharedCache} (L2).
+ * Concurrent misses for the same key share a single load, and a load that
+ * races with an eviction of its key is returned to its caller but not cached.
+ * Evictions only affect loads of the evicted key, so writes to some entries do
+ * not stop concurrent loads of others from being cached.
+ */
+public class TwoTierCache {
+
+    private final String name;
+    private final String namespace;
+    private final LocalCache local;
+    private final SharedCache shared;
+    private final Duration sharedTtl;
+    private final Map<String, Load> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter localHitCounter;
+    private final Counter sharedHitCounter;
+    private final Counter missCounter;
+
+    /**
+     * Creates a new two-tier cache.
+     *
+     * @param name      The repository name, used for key namespacing and metrics
+     * @param keyPrefix The global key prefix
+     * @param local     The per-node cache
+     * @param shared    The shared cache
+     * @param sharedTtl Time-to-live for shared entries
+     * @param registry  The registry receiving hit/miss metrics
+     */
+    public TwoTierCache(String name, String keyPrefix, LocalCache local, SharedCache shared,
+            Duration sharedTtl, MeterRegistry registry) {
+        this.name = name;
+        this.namespace = keyPrefix + name + ":";
+        this.local = local;
+        this.shared = shared;
+        this.sharedTtl = sharedTtl;
+        this.localHitCounter = requestCounter(registry, "l1_hit");
+        this.sharedHitCounter = requestCounter(registry, "l2_hit");
+        this.missCounter = requestCounter(registry, "miss");
+        Gauge.builder("repository.cache.hit.ratio", this, TwoTierCache::hitRatio)
+                .tag("repository", name)
+                .register(registry);
+        shared.addInvalidationListener(this::onInvalidation);
+    }
+
+    /**
+     * Gets a value, loading it from the source of truth on a miss.
+     * Empty results are not cached.
+     *
+     * @param key    The key within this cache
+     * @param loader Loads the encoded value on a miss
+     * @return The encoded value, or empty if the source has none
+     */
+    public Optional<String> get(String key, Supplier<Optional<String>> loader) {
+        String fullKey = namespace + key;
+
+        Optional<String> cached = local.get(fullKey);
+        if (cached.isPresent()) {
+            localHits.increment();
+            localHitCounter.increment();
+            return cached;
+        }
+
+        cached = shared.get(fullKey);
+        if (cached.isPresent()) {
+            local.put(fullKey, cached.get());
+            sharedHits.increment();
+            sharedHitCounter.increment();
+            return cached;
+        }
+
+        misses.increment();
+        missCounter.increment();
+
+        Load load = new Load();
+        Load existing = inFlight.putIfAbsent(fullKey, load);
+        if (existing != null) {
+            return await(existing.result);
+        }
+
+        try {
+            Optional<String> loaded = loader.get();
+            if (loaded.isPresent() && !load.stale) {
+                local.put(fullKey, loaded.get());
+                shared.put(fullKey, loaded.get(), sharedTtl);
+            }
+            load.result.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            load.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fullKey, load);
+        }
+    }
+
+    /**
+     * Evicts a key from both tiers on every node.
+     * Inside a transaction the eviction is repeated once the transaction
+     * completes, so readers cannot re-cache state that was never committed.
+     *
+     * @param key The key within this cache
+     */
+    public void evict(String key) {
+        String fullKey = namespace + key;
+        evictNow(fullKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(fullKey);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts every key of this cache on every node.
+     */
+    public void clear() {
+        markAllStale();
+        local.removeIf(key -> key.startsWith(namespace));
+        shared.clear(namespace);
+    }
+
+    /**
+     * Gets the fraction of lookups answered by either tier.
+     *
+     * @return The hit ratio between 0 and 1
+     */
+    public double hitRatio() {
+        long hits = localHits.sum() + sharedHits.sum();
+        long total = hits + misses.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the repository name this cache belongs to.
+     *
+     * @return The cache name
+     */
+    public String getName() {
+        return name;
+    }
+
+    private void evictNow(String fullKey) {
+        markStale(fullKey);
+        local.remove(fullKey);
+        shared.evict(fullKey);
+    }
+
+    private void onInvalidation(String key) {
+        if (!key.startsWith(namespace)) {
+            return;
+        }
+        if (key.equals(namespace)) {
+            markAllStale();
+            local.removeIf(k -> k.startsWith(namespace));
+        } else {
+            markStale(key);
+            local.remove(key);
+        }
+    }
+
+    /**
+     * Stops a running load of the key from being cached, since it may have
+     * read the state the eviction invalidates.
+     */
+    private void markStale(String fullKey) {
+        Load load = inFlight.get(fullKey);
+        if (load != null) {
+            load.stale = true;
+        }
+    }
+
+    private void markAllStale() {
+        inFlight.values().forEach(load -> load.stale = true);
+    }
+
+    private Counter requestCounter(MeterRegistry registry, String result) {
+        return Counter.builder("repository.cache.requests")
+                .tag("repository", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * A running load, shared by every concurrent miss of its key.
+     */
+    private static final class Load {
+        private final CompletableFuture<Optional<String>> result = new CompletableFuture<>();
+        private volatile boolean stale;
+    }
+
+    private static Optional<String> await(CompletableFuture<Optional<String>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
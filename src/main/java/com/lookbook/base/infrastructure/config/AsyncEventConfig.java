@@ -0,0 +1,30 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.lookbook.base.infrastructure.events.AsyncEventDispatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configures the dispatcher for {@code @AsyncListener} methods on virtual
+ * threads.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.events.async", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncEventConfig {
+
+    @Bean(destroyMethod = "close")
+    public AsyncEventDispatcher asyncEventDispatcher(AsyncEventProperties properties, MeterRegistry registry) {
+        return new AsyncEventDispatcher(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-", 0).factory()),
+                properties.getMaxInFlightPerListener(),
+                properties.getMaxQueuedPerListener(),
+                properties.getShutdownTimeout(),
+                registry);
+    }
+}
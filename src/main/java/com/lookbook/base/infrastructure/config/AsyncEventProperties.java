@@ -0,0 +1,28 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.events.async")
+public class AsyncEventProperties {
+    private boolean enabled = true;
+    /**
+     * Maximum handlers of one listener running at the same time.
+     */
+    private int maxInFlightPerListener = 16;
+    /**
+     * Maximum handlers of one listener waiting for a slot; beyond this the
+     * publishing thread runs the handler itself.
+     */
+    private int maxQueuedPerListener = 10_000;
+    /**
+     * How long shutdown waits for queued and running handlers.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
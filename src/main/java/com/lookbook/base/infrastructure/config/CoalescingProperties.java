@@ -0,0 +1,33 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.events.coalescing")
+public class CoalescingProperties {
+    /**
+     * Whether coalescing handlers hold events back; when disabled they receive
+     * every event immediately.
+     */
+    private boolean enabled = true;
+    /**
+     * How long after the first event of an aggregate the latest one is
+     * delivered.
+     */
+    private Duration window = Duration.ofSeconds(2);
+    /**
+     * Maximum aggregates held per handler; events of further aggregates are
+     * delivered immediately.
+     */
+    private int maxPending = 10_000;
+    /**
+     * Delivery attempts for a held event before it is dropped.
+     */
+    private int maxAttempts = 3;
+}
@@ -0,0 +1,42 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.events.dedup")
+public class EventDedupProperties {
+    private boolean enabled = true;
+    /**
+     * How long handled events are remembered in memory, and how far back the
+     * filter is seeded from processed_events at startup. Older duplicates are
+     * not caught.
+     */
+    private Duration window = Duration.ofHours(1);
+    /**
+     * Number of filters the window is split into; the oldest is dropped each
+     * time window / generations elapses.
+     */
+    private int generations = 4;
+    /**
+     * Handled events expected per generation, used to size each filter.
+     */
+    private int expectedPerGeneration = 2_000_000;
+    /**
+     * Target false positive rate of each filter.
+     */
+    private double falsePositiveRate = 0.01;
+    /**
+     * How long handled events are kept in the processed_events table.
+     */
+    private Duration retention = Duration.ofDays(7);
+    /**
+     * Maximum records per insert batch.
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,17 @@
+package com.lookbook.base.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.event-store")
+public class EventStoreProperties {
+    private boolean enabled = true;
+    /**
+     * Maximum events combined into one insert statement.
+     */
+    private int maxBatchSize = 500;
+}
@@ -0,0 +1,30 @@
+package com.lookbook.base.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.lookbook.base.domain.identity.Ids;
+import com.lookbook.base.domain.identity.RandomUuidGenerator;
+import com.lookbook.base.domain.identity.UuidV7Generator;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.ids")
+public class IdGeneratorConfig {
+    /**
+     * Identifier strategy: "uuid-v7" (time-ordered) or "uuid-v4" (random).
+     */
+    private String generator = "uuid-v7";
+
+    @PostConstruct
+    void install() {
+        switch (generator) {
+            case "uuid-v7" -> Ids.use(new UuidV7Generator());
+            case "uuid-v4" -> Ids.use(new RandomUuidGenerator());
+            default -> throw new IllegalStateException("Unknown id generator: " + generator);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.lookbook.base.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.persistence.id-lookup")
+public class IdLookupProperties {
+    /**
+     * Maximum ids bound into one array-parameter query; larger lookups are
+     * split into several queries of this size.
+     */
+    private int chunkSize = 1000;
+}
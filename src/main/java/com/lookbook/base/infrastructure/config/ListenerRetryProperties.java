@@ -0,0 +1,32 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.listener-retry")
+public class ListenerRetryProperties {
+    private boolean enabled = true;
+    private int batchSize = 50;
+    /**
+     * Maximum batches retried per poll, so a large backlog cannot monopolise
+     * the scheduler thread.
+     */
+    private int maxBatchesPerPoll = 10;
+    /**
+     * How long a claimed job stays invisible to other workers; a node that
+     * dies mid-batch releases its jobs when the lease runs out.
+     */
+    private Duration lease = Duration.ofMinutes(2);
+    /**
+     * Retries after which a job is moved to the dead-letter table.
+     */
+    private int maxAttempts = 8;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+}
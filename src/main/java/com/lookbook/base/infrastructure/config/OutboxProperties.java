@@ -0,0 +1,37 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+    private Relay relay = new Relay();
+
+    @Data
+    public static class Relay {
+        private boolean enabled = true;
+        private int batchSize = 100;
+        /**
+         * Maximum batches relayed per poll, so one node cannot monopolise the
+         * scheduler thread while a backlog drains.
+         */
+        private int maxBatchesPerPoll = 20;
+        /**
+         * How long a claimed row stays invisible to other relays; a node that
+         * dies mid-batch releases its rows when the lease runs out.
+         */
+        private Duration lease = Duration.ofSeconds(30);
+        /**
+         * Rows that failed this many times are moved to the dead-letter table.
+         */
+        private int maxAttempts = 10;
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.diagnostics.pinning")
+public class PinningDiagnosticsProperties {
+    private boolean enabled = true;
+    /**
+     * Shortest pinned block that is reported.
+     */
+    private Duration threshold = Duration.ofMillis(20);
+    /**
+     * Number of stack frames logged the first time a site pins.
+     */
+    private int stackDepth = 12;
+}
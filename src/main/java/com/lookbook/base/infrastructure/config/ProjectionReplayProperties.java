@@ -0,0 +1,26 @@
+package com.lookbook.base.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.projections.replay")
+public class ProjectionReplayProperties {
+    /**
+     * Events read, applied and checkpointed together. The next batch is
+     * read while the current one is being applied.
+     */
+    private int batchSize = 10000;
+    /**
+     * Fork-join pool parallelism; 0 uses one thread per available processor.
+     */
+    private int parallelism = 0;
+    /**
+     * Aggregate partitions per thread, so work stealing can even out
+     * partitions that happen to hold busier aggregates.
+     */
+    private int partitionsPerThread = 4;
+}
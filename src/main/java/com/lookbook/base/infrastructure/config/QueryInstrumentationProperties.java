@@ -0,0 +1,24 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.query-instrumentation")
+public class QueryInstrumentationProperties {
+    private boolean enabled = true;
+    /**
+     * Requests running more statements than this are flagged as likely N+1.
+     */
+    private int statementBudget = 25;
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+    /**
+     * Fraction of slow statements that are logged, between 0 and 1.
+     */
+    private double slowQuerySampleRate = 0.1;
+}
@@ -0,0 +1,46 @@
+package com.lookbook.base.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.lookbook.base.infrastructure.cache.InMemorySharedCache;
+import com.lookbook.base.infrastructure.cache.RedisSharedCache;
+import com.lookbook.base.infrastructure.cache.SharedCache;
+
+/**
+ * Configuration for the shared (L2) repository cache.
+ * Redis is used by default; the in-memory backend stands in for it in tests.
+ */
+@Configuration
+public class RepositoryCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.shared", name = "type", havingValue = "redis", matchIfMissing = true)
+    public RedisSharedCache redisSharedCache(StringRedisTemplate redisTemplate,
+            RepositoryCacheProperties properties) {
+        return new RedisSharedCache(redisTemplate, properties.getShared().getInvalidationChannel());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.shared", name = "type", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, RedisSharedCache redisSharedCache,
+            RepositoryCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisSharedCache,
+                new ChannelTopic(properties.getShared().getInvalidationChannel()));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.shared", name = "type", havingValue = "in-memory")
+    public SharedCache inMemorySharedCache() {
+        return new InMemorySharedCache();
+    }
+}
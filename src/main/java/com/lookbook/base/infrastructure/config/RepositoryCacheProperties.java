@@ -0,0 +1,34 @@
+package com.lookbook.base.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class RepositoryCacheProperties {
+    private boolean enabled = true;
+    private String keyPrefix = "lookbook:";
+    private Local local = new Local();
+    private Shared shared = new Shared();
+
+    @Data
+    public static class Local {
+        private int maxEntries = 10_000;
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Shared {
+        /**
+         * Shared cache backend: "redis" or "in-memory".
+         */
+        private String type = "redis";
+        private Duration ttl = Duration.ofMinutes(10);
+        private String invalidationChannel = "lookbook:cache:invalidation";
+    }
+}
@@ -0,0 +1,33 @@
+package com.lookbook.base.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.tracing")
+public class TracingProperties {
+    /**
+     * Whether spans are recorded; correlation IDs are propagated regardless.
+     */
+    private boolean enabled = true;
+    /**
+     * Request and response header carrying the correlation ID.
+     */
+    private String header = "X-Correlation-Id";
+    private MetricsSink metricsSink = new MetricsSink();
+    private InMemorySink inMemorySink = new InMemorySink();
+
+    @Data
+    public static class MetricsSink {
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class InMemorySink {
+        private boolean enabled = false;
+        private int capacity = 10000;
+    }
+}
@@ -0,0 +1,141 @@
+package com.lookbook.base.infrastructure.counters;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC access to the entity_counters table.
+ * Each counter is a single row read by primary key, so reads are O(1)
+ * regardless of the size of the table being counted.
+ * Events applied to the counters are listed in counted_events in the same
+ * transaction, so a redelivered event is counted once and reconciliation can
+ * tell which outbox events the counters already include.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterStore {
+
+    private static final String ADD_PREFIX = "INSERT INTO entity_counters (name, value) VALUES ";
+    private static final String ADD_SUFFIX = " ON CONFLICT (name) DO UPDATE "
+            + "SET value = entity_counters.value + EXCLUDED.value";
+
+    private static final String COUNTED_SQL = "INSERT INTO counted_events (event_id) VALUES (?) "
+            + "ON CONFLICT (event_id) DO NOTHING";
+
+    private static final String PRUNE_COUNTED_SQL = "DELETE FROM counted_events c "
+            + "WHERE NOT EXISTS (SELECT 1 FROM outbox_events o WHERE o.event_id = c.event_id)";
+
+    private static final String SET_SQL = "INSERT INTO entity_counters (name, value, reconciled_at) VALUES (?, ?, ?) "
+            + "ON CONFLICT (name) DO UPDATE SET value = EXCLUDED.value, reconciled_at = EXCLUDED.reconciled_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Applies an event's deltas to counters in one statement, creating
+     * missing counters. Must run in a transaction, which also records the
+     * event as counted.
+     *
+     * @param eventId The ID of the event causing the change
+     * @param deltas  The amount to add to each counter
+     * @return false if the event was already counted and nothing was applied
+     */
+    public boolean add(UUID eventId, Map<String, Long> deltas) {
+        Map<String, Long> nonZero = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (nonZero.isEmpty()) {
+            return false;
+        }
+        if (jdbcTemplate.update(COUNTED_SQL, eventId) == 0) {
+            return false;
+        }
+        // Rows are upserted in name order so concurrent writers lock in the
+        // same order and cannot deadlock
+        List<String> names = nonZero.keySet().stream().sorted().toList();
+        List<Object> args = new ArrayList<>(names.size() * 2);
+        StringBuilder sql = new StringBuilder(ADD_PREFIX);
+        for (int i = 0; i < names.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?)");
+            args.add(names.get(i));
+            args.add(nonZero.get(names.get(i)));
+        }
+        sql.append(ADD_SUFFIX);
+        jdbcTemplate.update(sql.toString(), args.toArray());
+        return true;
+    }
+
+    /**
+     * Reads counters.
+     *
+     * @param names The counter names
+     * @return The value of each counter; counters never written read as 0
+     */
+    public Map<String, Long> get(Collection<String> names) {
+        Map<String, Long> values = new HashMap<>();
+        names.forEach(name -> values.put(name, 0L));
+        if (names.isEmpty()) {
+            return values;
+        }
+        String placeholders = names.stream().map(name -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.query("SELECT name, value FROM entity_counters WHERE name IN (" + placeholders + ")",
+                rs -> {
+                    values.put(rs.getString("name"), rs.getLong("value"));
+                }, names.toArray());
+        return values;
+    }
+
+    /**
+     * Locks counters until the end of the current transaction, holding off
+     * event-driven updates while a reconciliation counts the real rows.
+     *
+     * @param names The counter names
+     */
+    public void lock(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        String placeholders = names.stream().map(name -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.queryForList("SELECT name FROM entity_counters WHERE name IN (" + placeholders
+                + ") ORDER BY name FOR UPDATE", String.class, names.toArray());
+    }
+
+    /**
+     * Overwrites counters with reconciled values.
+     *
+     * @param values The actual value of each counter
+     * @return The previous value of each counter
+     */
+    public Map<String, Long> set(Map<String, Long> values) {
+        Map<String, Long> previous = get(values.keySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = values.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[] { entry.getKey(), entry.getValue(), now })
+                .toList();
+        jdbcTemplate.batchUpdate(SET_SQL, rows);
+        return previous;
+    }
+
+    /**
+     * Forgets counted events whose outbox rows are gone. Those events can no
+     * longer be redelivered, and reconciliation only looks at events still in
+     * the outbox.
+     *
+     * @return The number of records removed
+     */
+    public int pruneCounted() {
+        return jdbcTemplate.update(PRUNE_COUNTED_SQL);
+    }
+}
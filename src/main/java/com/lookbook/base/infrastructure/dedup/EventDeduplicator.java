@@ -0,0 +1,192 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.infrastructure.config.EventDedupProperties;
+import com.lookbook.base.infrastructure.eventstore.GroupCommitBuffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tells consumers whether they have already handled an event.
+ * <p>
+ * Handled events are remembered in a {@link RotatingBloomFilter} and in the
+ * processed_events table. Only a suspected hit is confirmed against the
+ * table, so the common case costs no I/O; a filter miss is taken as proof
+ * that the event is new. At startup the filter is seeded with the records
+ * written within the window, so events handled before a restart are still
+ * caught. Records are written once the consumer succeeded, group-committed
+ * with those of concurrent consumers.
+ * <p>
+ * The filter only knows what this node handled, plus the records present at
+ * startup, and only within the window. A duplicate handled by another node
+ * since then, or older than the window, is not caught. Neither is an event
+ * whose consumer died between committing its work and writing the record.
+ * Consumers therefore keep a cheap natural check where one exists.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.events.dedup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EventDeduplicator implements SmartInitializingSingleton {
+
+    private static final int SEED_PAGE_SIZE = 10_000;
+
+    private final ProcessedEventRepository repository;
+    private final EventDedupProperties properties;
+    private final RotatingBloomFilter filter;
+    private final GroupCommitBuffer<ProcessedEvent> recorder;
+    private final Set<ProcessedEvent> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter firstSeen;
+    private final Counter falsePositives;
+    private final Counter duplicates;
+    private final Counter concurrent;
+
+    public EventDeduplicator(ProcessedEventRepository repository, EventDedupProperties properties,
+            MeterRegistry registry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.filter = new RotatingBloomFilter(properties.getExpectedPerGeneration(),
+                properties.getFalsePositiveRate(), properties.getWindow(), properties.getGenerations(),
+                Clock.systemUTC());
+        this.recorder = new GroupCommitBuffer<>(repository::insertAll, properties.getBatchSize());
+        this.firstSeen = checkCounter(registry, "new");
+        this.falsePositives = checkCounter(registry, "false_positive");
+        this.duplicates = checkCounter(registry, "duplicate");
+        this.concurrent = checkCounter(registry, "in_flight");
+        Gauge.builder("events.dedup.filter.bytes", filter, RotatingBloomFilter::capacityBytes).register(registry);
+    }
+
+    /**
+     * Seeds the filter before the scheduled relays start delivering events.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            log.info("Seeded event deduplication with {} processed event records", seed());
+        } catch (RuntimeException e) {
+            log.warn("Failed to seed event deduplication; events handled before startup will not be caught", e);
+        }
+    }
+
+    /**
+     * Adds the records written within the window to the filter.
+     *
+     * @return The number of records added
+     */
+    int seed() {
+        int seeded = 0;
+        ProcessedEvent last = null;
+        List<ProcessedEvent> page;
+        do {
+            page = repository.findRecent(properties.getWindow(), last, SEED_PAGE_SIZE);
+            for (ProcessedEvent event : page) {
+                filter.put(hi(event), lo(event));
+            }
+            seeded += page.size();
+            last = page.isEmpty() ? last : page.get(page.size() - 1);
+        } while (page.size() == SEED_PAGE_SIZE);
+        return seeded;
+    }
+
+    /**
+     * Claims an event for a consumer. Every successful claim must be followed
+     * by {@link #complete} or {@link #release}.
+     *
+     * @param consumer The consumer name
+     * @param eventId  The event ID
+     * @return false if the consumer already handled the event or is handling
+     *         it right now
+     */
+    public boolean tryBegin(String consumer, UUID eventId) {
+        ProcessedEvent key = new ProcessedEvent(consumer, eventId);
+        if (!inFlight.add(key)) {
+            concurrent.increment();
+            return false;
+        }
+        if (!filter.mightContain(hi(key), lo(key))) {
+            firstSeen.increment();
+            return true;
+        }
+
+        boolean handled;
+        try {
+            handled = repository.exists(consumer, eventId);
+        } catch (RuntimeException e) {
+            inFlight.remove(key);
+            throw e;
+        }
+        if (handled) {
+            inFlight.remove(key);
+            duplicates.increment();
+            return false;
+        }
+        falsePositives.increment();
+        return true;
+    }
+
+    /**
+     * Records that a consumer handled an event. A failed write is logged
+     * rather than thrown, since the consumer's work is already done.
+     *
+     * @param consumer The consumer name
+     * @param eventId  The event ID
+     */
+    public void complete(String consumer, UUID eventId) {
+        ProcessedEvent key = new ProcessedEvent(consumer, eventId);
+        try {
+            filter.put(hi(key), lo(key));
+            recorder.submit(List.of(key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record {} as handled by {}", eventId, consumer, e);
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * Gives up a claim after the consumer failed, so a redelivery is handled.
+     *
+     * @param consumer The consumer name
+     * @param eventId  The event ID
+     */
+    public void release(String consumer, UUID eventId) {
+        inFlight.remove(new ProcessedEvent(consumer, eventId));
+    }
+
+    /**
+     * Deletes records older than the retention period.
+     */
+    @Scheduled(cron = "${app.events.dedup.purge-cron:0 30 * * * *}")
+    public void purge() {
+        try {
+            int purged = repository.purgeOlderThan(properties.getRetention());
+            log.debug("Purged {} processed event records", purged);
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge processed event records", e);
+        }
+    }
+
+    private static long hi(ProcessedEvent key) {
+        return key.eventId().getMostSignificantBits() ^ (key.consumer().hashCode() * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long lo(ProcessedEvent key) {
+        return key.eventId().getLeastSignificantBits();
+    }
+
+    private static Counter checkCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("events.dedup.checks").tag("outcome", outcome).register(registry);
+    }
+}
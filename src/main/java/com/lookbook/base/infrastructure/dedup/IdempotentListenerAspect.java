@@ -0,0 +1,80 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import java.util.UUID;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.application.events.CausedByDomainEvent;
+import com.lookbook.base.application.events.IdempotentListener;
+import com.lookbook.base.domain.events.DomainEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Skips {@link IdempotentListener} calls for events already handled.
+ * Runs inside the async dispatcher and the retry aspect, so a retry of an
+ * event that was handled meanwhile is dropped, and outside the transaction
+ * interceptor, so an event is only recorded once the listener's transaction
+ * has committed.
+ * <p>
+ * The consumer is the listener together with the event class, since one
+ * domain event may cause several application events for the same listener.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(prefix = "app.events.dedup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotentListenerAspect {
+
+    private final EventDeduplicator deduplicator;
+
+    @Around("@annotation(com.lookbook.base.application.events.IdempotentListener)")
+    public Object deduplicate(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object event = joinPoint.getArgs().length > 0 ? joinPoint.getArgs()[0] : null;
+        UUID eventId = eventIdOf(event);
+        if (eventId == null) {
+            return joinPoint.proceed();
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String consumer = signature.getDeclaringType().getSimpleName() + "." + signature.getName()
+                + ":" + event.getClass().getSimpleName();
+        if (!deduplicator.tryBegin(consumer, eventId)) {
+            log.debug("Skipping {} for already handled event {}", consumer, eventId);
+            return null;
+        }
+
+        boolean succeeded = false;
+        try {
+            Object result = joinPoint.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            if (succeeded) {
+                deduplicator.complete(consumer, eventId);
+            } else {
+                deduplicator.release(consumer, eventId);
+            }
+        }
+    }
+
+    private static UUID eventIdOf(Object event) {
+        if (event instanceof DomainEvent domainEvent) {
+            return domainEvent.getEventId();
+        }
+        if (event instanceof CausedByDomainEvent caused) {
+            return caused.getCausationId();
+        }
+        return null;
+    }
+}
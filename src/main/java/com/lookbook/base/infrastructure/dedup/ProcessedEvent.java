@@ -0,0 +1,12 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import java.util.UUID;
+
+/**
+ * An event handled by an idempotent listener.
+ *
+ * @param consumer The listener and event type that handled it
+ * @param eventId  The event ID
+ */
+public record ProcessedEvent(String consumer, UUID eventId) {
+}
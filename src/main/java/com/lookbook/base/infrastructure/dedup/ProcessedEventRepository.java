@@ -0,0 +1,87 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC access to the processed_events table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventRepository {
+
+    private static final String EXISTS_SQL = "SELECT EXISTS ("
+            + "SELECT 1 FROM processed_events WHERE consumer = ? AND event_id = ?)";
+
+    private static final String INSERT_SQL = "INSERT INTO processed_events (consumer, event_id) VALUES (?, ?) "
+            + "ON CONFLICT DO NOTHING";
+
+    private static final String FIND_RECENT_SQL = "SELECT consumer, event_id FROM processed_events "
+            + "WHERE processed_at >= now() - (? * interval '1 millisecond') AND (consumer, event_id) > (?, ?) "
+            + "ORDER BY consumer, event_id LIMIT ?";
+
+    // Sorts before every other UUID in Postgres, which compares them as unsigned bytes
+    private static final UUID NIL_UUID = new UUID(0, 0);
+
+    private static final String PURGE_SQL = "DELETE FROM processed_events "
+            + "WHERE processed_at < now() - (? * interval '1 millisecond')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Checks whether a consumer has handled an event.
+     *
+     * @param consumer The consumer name
+     * @param eventId  The event ID
+     * @return true if a record exists
+     */
+    public boolean exists(String consumer, UUID eventId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, consumer, eventId));
+    }
+
+    /**
+     * Records handled events; records that already exist are kept.
+     *
+     * @param events The handled events
+     */
+    public void insertAll(List<ProcessedEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.consumer());
+            ps.setObject(2, event.eventId());
+        });
+    }
+
+    /**
+     * Reads the records written within a recent period, one page at a time in
+     * primary key order.
+     *
+     * @param within How far back to read
+     * @param after  The last record of the previous page, or null for the
+     *               first page
+     * @param limit  Maximum records per page
+     * @return The page; shorter than the limit once no records are left
+     */
+    public List<ProcessedEvent> findRecent(Duration within, ProcessedEvent after, int limit) {
+        String consumer = after != null ? after.consumer() : "";
+        UUID eventId = after != null ? after.eventId() : NIL_UUID;
+        return jdbcTemplate.query(FIND_RECENT_SQL,
+                (rs, rowNum) -> new ProcessedEvent(rs.getString("consumer"), rs.getObject("event_id", UUID.class)),
+                within.toMillis(), consumer, eventId, limit);
+    }
+
+    /**
+     * Deletes records older than the retention period.
+     *
+     * @param retention How long records are kept
+     * @return The number of records deleted
+     */
+    public int purgeOlderThan(Duration retention) {
+        return jdbcTemplate.update(PURGE_SQL, retention.toMillis());
+    }
+}
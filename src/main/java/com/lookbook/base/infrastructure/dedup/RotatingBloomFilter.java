@@ -0,0 +1,181 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A Bloom filter over a sliding time window, for 128-bit keys.
+ * <p>
+ * The window is split into generations, each with its own fixed-size filter.
+ * Keys are added to the current generation and looked up in all live ones;
+ * when a new generation starts, the filter of the oldest is dropped, so
+ * memory stays constant however many keys pass through. A key is remembered
+ * for between {@code (generations - 1)} and {@code generations} generation
+ * lengths. Lookups never miss a remembered key but may report one that was
+ * never added, at roughly the configured rate while a generation holds no
+ * more than the expected number of keys.
+ * <p>
+ * Safe for concurrent use; only starting a generation takes a lock.
+ */
+public class RotatingBloomFilter {
+
+    private final long bitCount;
+    private final int wordCount;
+    private final int hashCount;
+    private final int generations;
+    private final long generationMillis;
+    private final Clock clock;
+    private final AtomicReferenceArray<Generation> ring;
+    private final ReentrantLock rotation = new ReentrantLock();
+
+    /**
+     * Creates a new filter.
+     *
+     * @param expectedPerGeneration Keys expected per generation
+     * @param falsePositiveRate     Target false positive rate
+     * @param window                How long keys are remembered
+     * @param generations           Number of generations the window is split into
+     * @param clock                 The clock driving rotation
+     */
+    public RotatingBloomFilter(int expectedPerGeneration, double falsePositiveRate, Duration window,
+            int generations, Clock clock) {
+        if (expectedPerGeneration <= 0 || generations <= 0) {
+            throw new IllegalArgumentException("expectedPerGeneration and generations must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedPerGeneration * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / expectedPerGeneration * ln2));
+        this.generations = generations;
+        this.generationMillis = Math.max(1, window.toMillis() / generations);
+        this.clock = clock;
+        this.ring = new AtomicReferenceArray<>(generations);
+    }
+
+    /**
+     * Checks whether a key may have been added within the window.
+     *
+     * @param hi The high 64 bits of the key
+     * @param lo The low 64 bits of the key
+     * @return false if the key was definitely not added, true if it may have
+     *         been
+     */
+    public boolean mightContain(long hi, long lo) {
+        long epoch = clock.millis() / generationMillis;
+        long h1 = h1(hi, lo);
+        long h2 = h2(hi, lo);
+        for (int i = 0; i < generations; i++) {
+            Generation generation = ring.get(i);
+            if (generation != null && epoch - generation.epoch < generations && generation.contains(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a key to the current generation.
+     *
+     * @param hi The high 64 bits of the key
+     * @param lo The low 64 bits of the key
+     */
+    public void put(long hi, long lo) {
+        current(clock.millis() / generationMillis).add(h1(hi, lo), h2(hi, lo));
+    }
+
+    /**
+     * Gets the memory held by the filter bits once every generation is live.
+     *
+     * @return The size in bytes
+     */
+    public long capacityBytes() {
+        return (long) wordCount * Long.BYTES * generations;
+    }
+
+    /**
+     * Gets the number of hash functions per key.
+     *
+     * @return The hash count
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private Generation current(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) generations);
+        Generation generation = ring.get(slot);
+        if (generation != null && generation.epoch >= epoch) {
+            return generation;
+        }
+        rotation.lock();
+        try {
+            generation = ring.get(slot);
+            if (generation == null || generation.epoch < epoch) {
+                generation = new Generation(epoch, new AtomicLongArray(wordCount));
+                ring.set(slot, generation);
+            }
+            return generation;
+        } finally {
+            rotation.unlock();
+        }
+    }
+
+    private static long h1(long hi, long lo) {
+        return mix(hi ^ Long.rotateLeft(lo, 32));
+    }
+
+    private static long h2(long hi, long lo) {
+        // Odd, so the probe sequence never collapses onto a single bit
+        return mix(lo + 0x9E3779B97F4A7C15L * hi) | 1;
+    }
+
+    /**
+     * The MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private final class Generation {
+        private final long epoch;
+        private final AtomicLongArray words;
+
+        private Generation(long epoch, AtomicLongArray words) {
+            this.epoch = epoch;
+            this.words = words;
+        }
+
+        private boolean contains(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words.get(word) & mask) == 0) {
+                    words.accumulateAndGet(word, mask, (current, set) -> current | set);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.lookbook.base.infrastructure.diagnostics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.infrastructure.config.PinningDiagnosticsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread.
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block or a
+ * native frame keeps its carrier, so a few slow calls made that way can stall
+ * every request on the node. The JDK's {@code jdk.VirtualThreadPinned} flight
+ * recorder event is streamed in-process; each pinned block is timed under the
+ * code site responsible (the first frame of our own code, or else the first
+ * frame outside the JDK), and the first occurrence of each site is logged
+ * with its stack.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.diagnostics.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.lookbook.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final PinningDiagnosticsProperties properties;
+    private final MeterRegistry registry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(PinningDiagnosticsProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+            stream.onEvent(EVENT, this::onPinned);
+            stream.startAsync();
+        } catch (RuntimeException e) {
+            // Flight recording may be unavailable, e.g. when disabled on the command line
+            log.warn("Virtual thread pinning diagnostics unavailable", e);
+            stream = null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null
+                ? List.of()
+                : event.getStackTrace().getFrames().stream()
+                        .filter(RecordedFrame::isJavaFrame)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .toList();
+        record(event.getDuration(), frames);
+    }
+
+    /**
+     * Records one pinned block.
+     *
+     * @param duration How long the virtual thread was blocked while pinned
+     * @param frames   The blocked thread's stack, innermost first, as
+     *                 {@code Class.method:line}
+     */
+    void record(Duration duration, List<String> frames) {
+        String site = siteOf(frames);
+        Timer.builder("jvm.threads.virtual.pinned")
+                .tag("site", site)
+                .register(registry)
+                .record(duration);
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n\tat {}", duration.toMillis(), site,
+                    String.join("\n\tat ", frames.subList(0, Math.min(frames.size(), properties.getStackDepth()))));
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", duration.toMillis(), site);
+        }
+    }
+
+    static String siteOf(List<String> frames) {
+        return frames.stream().filter(frame -> frame.startsWith(APPLICATION_PACKAGE)).findFirst()
+                .or(() -> frames.stream()
+                        .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame::startsWith))
+                        .findFirst())
+                .orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+                + frame.getLineNumber();
+    }
+}
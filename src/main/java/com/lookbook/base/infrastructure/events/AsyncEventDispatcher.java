@@ -0,0 +1,216 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.lookbook.base.domain.events.CorrelationContext;
+import com.lookbook.base.infrastructure.tracing.CorrelationScope;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs event handlers off the publishing thread.
+ * <p>
+ * Each listener gets its own lane with a bounded number of handlers in flight;
+ * further handlers wait in the lane's queue, and once that queue is full the
+ * publishing thread runs the handler itself so a stuck listener slows its
+ * publishers instead of exhausting memory. Lanes are independent, so a slow
+ * or failing listener never delays another one. Handler failures are logged
+ * and counted and never reach the publisher. The publisher's correlation ID
+ * follows the handler onto the executor thread.
+ */
+@Slf4j
+public class AsyncEventDispatcher implements AutoCloseable {
+
+    /**
+     * An event handler invocation.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void handle() throws Throwable;
+    }
+
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Duration shutdownTimeout;
+    private final MeterRegistry registry;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param executor        Runs the handlers, typically one virtual thread per task
+     * @param maxInFlight     Maximum running handlers per listener
+     * @param maxQueued       Maximum waiting handlers per listener
+     * @param shutdownTimeout How long {@link #close()} waits for pending handlers
+     * @param registry        The registry receiving queue and latency metrics
+     */
+    public AsyncEventDispatcher(ExecutorService executor, int maxInFlight, int maxQueued,
+            Duration shutdownTimeout, MeterRegistry registry) {
+        if (maxInFlight <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive and maxQueued non-negative");
+        }
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.shutdownTimeout = shutdownTimeout;
+        this.registry = registry;
+    }
+
+    /**
+     * Schedules a handler on the listener's lane.
+     *
+     * @param listener The listener name, used for limits and metric tags
+     * @param handler  The handler to run
+     */
+    public void dispatch(String listener, Handler handler) {
+        lanes.computeIfAbsent(listener, Lane::new).submit(handler);
+    }
+
+    /**
+     * Gets the number of handlers waiting for a slot.
+     *
+     * @param listener The listener name
+     * @return The queue depth
+     */
+    public int queueDepth(String listener) {
+        Lane lane = lanes.get(listener);
+        return lane == null ? 0 : lane.queued.get();
+    }
+
+    /**
+     * Waits for queued and running handlers, up to the shutdown timeout, then
+     * stops the executor.
+     */
+    @Override
+    public void close() {
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        try {
+            while (!idle() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                log.warn("Async event handlers still running at shutdown");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean idle() {
+        return lanes.values().stream().allMatch(lane -> lane.queued.get() == 0 && lane.inFlight.get() == 0);
+    }
+
+    private final class Lane {
+        private final String listener;
+        private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Timer queueWait;
+        private final Timer succeeded;
+        private final Timer failed;
+        private final Counter callerRuns;
+
+        private Lane(String listener) {
+            this.listener = listener;
+            Gauge.builder("events.async.queue.depth", queued, AtomicInteger::get)
+                    .tag("listener", listener)
+                    .register(registry);
+            Gauge.builder("events.async.in.flight", inFlight, AtomicInteger::get)
+                    .tag("listener", listener)
+                    .register(registry);
+            this.queueWait = Timer.builder("events.async.queue.wait")
+                    .tag("listener", listener)
+                    .register(registry);
+            this.succeeded = handlerTimer("success");
+            this.failed = handlerTimer("error");
+            this.callerRuns = Counter.builder("events.async.caller.runs")
+                    .tag("listener", listener)
+                    .register(registry);
+        }
+
+        private void submit(Handler handler) {
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                callerRuns.increment();
+                run(handler);
+                return;
+            }
+            pending.add(new Pending(handler, CorrelationContext.current(), System.nanoTime()));
+            drain();
+        }
+
+        private void drain() {
+            while (true) {
+                int running = inFlight.get();
+                if (running >= maxInFlight || pending.isEmpty()) {
+                    return;
+                }
+                if (!inFlight.compareAndSet(running, running + 1)) {
+                    continue;
+                }
+                Pending next = pending.poll();
+                if (next == null) {
+                    // Another thread took it; re-check in case one was added meanwhile
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                queued.decrementAndGet();
+                queueWait.record(System.nanoTime() - next.enqueuedAt(), TimeUnit.NANOSECONDS);
+                try {
+                    executor.execute(() -> {
+                        try (CorrelationScope scope = CorrelationScope.resume(next.correlationId(), next.enqueuedAt())) {
+                            run(next.handler());
+                        } finally {
+                            inFlight.decrementAndGet();
+                            drain();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.decrementAndGet();
+                    callerRuns.increment();
+                    try (CorrelationScope scope = CorrelationScope.open(next.correlationId())) {
+                        run(next.handler());
+                    }
+                }
+            }
+        }
+
+        private void run(Handler handler) {
+            long start = System.nanoTime();
+            try {
+                handler.handle();
+                succeeded.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (Throwable e) {
+                failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.error("Async event listener {} failed", listener, e);
+            }
+        }
+
+        private Timer handlerTimer(String outcome) {
+            return Timer.builder("events.async.handler.duration")
+                    .tag("listener", listener)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    private record Pending(Handler handler, String correlationId, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.lookbook.base.infrastructure.events;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.application.events.AsyncListener;
+import com.lookbook.base.infrastructure.retry.ListenerRetryContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands {@link AsyncListener} methods to the {@link AsyncEventDispatcher}.
+ * Runs ahead of the transaction interceptor, so a {@code @Transactional}
+ * listener opens its transaction on the dispatcher thread.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.events.async", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncListenerAspect {
+
+    private final AsyncEventDispatcher dispatcher;
+
+    @Around("@annotation(com.lookbook.base.application.events.AsyncListener)")
+    public Object dispatch(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        if (signature.getReturnType() != void.class) {
+            // A returned value would be published as a follow-up event, which needs the caller
+            log.warn("Ignoring @AsyncListener on non-void method {}", signature.toShortString());
+            return joinPoint.proceed();
+        }
+        if (ListenerRetryContext.isRetrying()) {
+            // The retry worker needs the outcome, and is already off the request thread
+            return joinPoint.proceed();
+        }
+        String listener = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        dispatcher.dispatch(listener, joinPoint::proceed);
+        return null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.application.events.DomainEventHandler;
+import com.lookbook.base.application.events.DomainEventSubscriber;
+import com.lookbook.base.application.events.DomainEventSubscriptions;
+import com.lookbook.base.domain.events.DomainEvent;
+
+/**
+ * Routes domain events to the handlers of every {@link DomainEventSubscriber}.
+ * <p>
+ * Handlers are collected once at startup, and the handler table for each
+ * concrete event class is built the first time that class is seen (eagerly
+ * for every registered event type). Dispatching is then a single class-keyed
+ * lookup followed by direct calls, however many event types exist. Handlers
+ * run in subscription order; the first failure stops the dispatch and is
+ * rethrown so the relay retries the event. Handlers registered with
+ * {@link DomainEventSubscriptions#onLatest} go through the
+ * {@link EventCoalescer}.
+ */
+@Component
+public class DomainEventDispatcher {
+
+    private static final DomainEventHandler<?>[] NO_HANDLERS = new DomainEventHandler<?>[0];
+
+    private final List<Subscription<?>> subscriptions = new ArrayList<>();
+    private final ClassValue<DomainEventHandler<?>[]> handlersByType = new ClassValue<>() {
+        @Override
+        protected DomainEventHandler<?>[] computeValue(Class<?> eventType) {
+            List<DomainEventHandler<?>> handlers = new ArrayList<>();
+            for (Subscription<?> subscription : subscriptions) {
+                if (subscription.type().isAssignableFrom(eventType)) {
+                    handlers.add(subscription.handler());
+                }
+            }
+            return handlers.isEmpty() ? NO_HANDLERS : handlers.toArray(NO_HANDLERS);
+        }
+    };
+
+    public DomainEventDispatcher(List<DomainEventSubscriber> subscribers, DomainEventRegistry registry,
+            EventCoalescer coalescer) {
+        for (DomainEventSubscriber subscriber : subscribers) {
+            String subscriberName = subscriber.getClass().getSimpleName();
+            subscriber.subscribe(new DomainEventSubscriptions() {
+                @Override
+                public <E extends DomainEvent> DomainEventSubscriptions on(Class<E> type,
+                        DomainEventHandler<? super E> handler) {
+                    subscriptions.add(new Subscription<>(type, handler));
+                    return this;
+                }
+
+                @Override
+                public <E extends DomainEvent> DomainEventSubscriptions onLatest(Class<E> type,
+                        DomainEventHandler<? super E> handler) {
+                    String name = subscriberName + "." + type.getSimpleName();
+                    subscriptions.add(new Subscription<>(type, coalescer.<E>coalesce(name, handler)));
+                    return this;
+                }
+            });
+        }
+        registry.registeredTypes().forEach(handlersByType::get);
+    }
+
+    /**
+     * Delivers an event to every handler registered for its class or a
+     * supertype.
+     *
+     * @param event The event to deliver
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void dispatch(DomainEvent event) {
+        for (DomainEventHandler handler : handlersByType.get(event.getClass())) {
+            handler.handle(event);
+        }
+    }
+
+    /**
+     * Gets the number of handlers an event of the given class reaches.
+     *
+     * @param eventType The concrete event class
+     * @return The handler count
+     */
+    public int handlerCount(Class<? extends DomainEvent> eventType) {
+        return handlersByType.get(eventType).length;
+    }
+
+    private record Subscription<E extends DomainEvent>(Class<E> type, DomainEventHandler<? super E> handler) {
+    }
+}
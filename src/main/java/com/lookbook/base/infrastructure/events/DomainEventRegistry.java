@@ -0,0 +1,89 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.domain.events.DomainEvent;
+
+/**
+ * Maps stored event type names back to event classes so that events read from
+ * persistence can be reconstituted as their concrete types.
+ */
+@Component
+public class DomainEventRegistry {
+
+    /**
+     * Rebuilds an event from its stored identity, timestamp and metadata.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        DomainEvent create(UUID eventId, LocalDateTime occurredAt, Map<String, Object> metadata);
+    }
+
+    private final Map<String, Factory> factories = new ConcurrentHashMap<>();
+    private final Map<String, Class<? extends DomainEvent>> types = new ConcurrentHashMap<>();
+
+    public DomainEventRegistry(List<DomainEventTypeContributor> contributors) {
+        contributors.forEach(contributor -> contributor.contribute(this));
+    }
+
+    /**
+     * Registers an event type under its simple class name, which is the name
+     * reported by {@link DomainEvent#getEventType()}.
+     *
+     * @param type    The event class
+     * @param factory Rebuilds the event from its stored form
+     * @param <E>     The event type
+     */
+    public <E extends DomainEvent> void register(Class<E> type, Factory factory) {
+        String name = type.getSimpleName();
+        if (factories.putIfAbsent(name, factory) != null) {
+            throw new IllegalStateException("Event type already registered: " + name);
+        }
+        types.put(name, type);
+    }
+
+    /**
+     * Reconstitutes a stored event.
+     *
+     * @param eventType  The stored event type name
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param metadata   The stored metadata
+     * @return The reconstituted event
+     * @throws IllegalArgumentException if the event type is unknown
+     */
+    public DomainEvent reconstitute(String eventType, UUID eventId, LocalDateTime occurredAt,
+            Map<String, Object> metadata) {
+        Factory factory = factories.get(eventType);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        return factory.create(eventId, occurredAt, metadata);
+    }
+
+    /**
+     * Gets the class registered for an event type name.
+     *
+     * @param eventType The event type name
+     * @return The event class, or null if unknown
+     */
+    public Class<? extends DomainEvent> typeOf(String eventType) {
+        return types.get(eventType);
+    }
+
+    /**
+     * Gets every registered event class.
+     *
+     * @return The event classes
+     */
+    public Collection<Class<? extends DomainEvent>> registeredTypes() {
+        return types.values();
+    }
+}
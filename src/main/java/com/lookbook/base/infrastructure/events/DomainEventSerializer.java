@@ -0,0 +1,62 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lookbook.base.domain.events.DomainEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Converts domain event metadata to and from the JSON payload stored by the
+ * outbox. Every event keeps all of its fields in its metadata, so the
+ * metadata alone is enough to rebuild it.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventSerializer {
+
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DomainEventRegistry registry;
+
+    /**
+     * Serializes the metadata of an event.
+     *
+     * @param event The event to serialize
+     * @return The JSON payload
+     */
+    public String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.getMetadata());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + event.getEventId(), e);
+        }
+    }
+
+    /**
+     * Rebuilds an event from its stored form.
+     *
+     * @param eventType  The stored event type name
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param payload    The JSON payload
+     * @return The reconstituted event
+     */
+    public DomainEvent deserialize(String eventType, UUID eventId, LocalDateTime occurredAt, String payload) {
+        try {
+            Map<String, Object> metadata = objectMapper.readValue(payload, METADATA_TYPE);
+            return registry.reconstitute(eventType, eventId, occurredAt, metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize event " + eventId, e);
+        }
+    }
+}
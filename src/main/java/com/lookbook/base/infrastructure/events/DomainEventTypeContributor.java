@@ -0,0 +1,16 @@
+package com.lookbook.base.infrastructure.events;
+
+/**
+ * Contributes the event types of one module to the {@link DomainEventRegistry}.
+ * Each module that raises domain events declares one of these as a bean.
+ */
+@FunctionalInterface
+public interface DomainEventTypeContributor {
+
+    /**
+     * Registers the module's event types.
+     *
+     * @param registry The registry to add the event types to
+     */
+    void contribute(DomainEventRegistry registry);
+}
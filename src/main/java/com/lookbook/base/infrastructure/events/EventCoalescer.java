@@ -0,0 +1,207 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lookbook.base.application.events.DomainEventHandler;
+import com.lookbook.base.domain.events.CriticalEvent;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.CoalescingProperties;
+import com.lookbook.base.infrastructure.tracing.CorrelationScope;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds events back from handlers that only need the latest state of each
+ * aggregate.
+ * <p>
+ * The first event of an aggregate opens a window; later events of the same
+ * aggregate replace it, and when the window closes the handler receives the
+ * most recent one in its own transaction, under that event's correlation ID.
+ * {@link CriticalEvent}s and events without an aggregate are delivered at
+ * once. A coalescing handler only receives the event type it registered for,
+ * so it is not ordered against events of other types.
+ * <p>
+ * Held events have already left the outbox, so a node that dies loses at most
+ * one window of them; shutdown delivers everything still held. Only register
+ * coalescing handlers for derived state that the next update repairs.
+ */
+@Slf4j
+@Component
+public class EventCoalescer implements DisposableBean {
+
+    private final CoalescingProperties properties;
+    private final TransactionTemplate deliveryTransaction;
+    private final MeterRegistry registry;
+    private final List<Lane<?>> lanes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger held = new AtomicInteger();
+
+    public EventCoalescer(CoalescingProperties properties, PlatformTransactionManager transactionManager,
+            MeterRegistry registry) {
+        this.properties = properties;
+        this.deliveryTransaction = new TransactionTemplate(transactionManager);
+        this.deliveryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.registry = registry;
+        Gauge.builder("events.coalescing.held", held, AtomicInteger::get).register(registry);
+    }
+
+    /**
+     * Wraps a handler so that it only receives the latest event of each
+     * aggregate per window.
+     *
+     * @param name    The handler name, used for metric tags
+     * @param handler The handler
+     * @param <E>     The handled event type
+     * @return The coalescing handler, or the handler itself when coalescing is
+     *         disabled
+     */
+    public <E extends DomainEvent> DomainEventHandler<E> coalesce(String name, DomainEventHandler<? super E> handler) {
+        if (!properties.isEnabled()) {
+            return handler::handle;
+        }
+        Lane<E> lane = new Lane<>(name, handler);
+        lanes.add(lane);
+        return lane;
+    }
+
+    /**
+     * Delivers the events whose window has closed.
+     */
+    @Scheduled(fixedDelayString = "${app.events.coalescing.flush-interval-ms:250}")
+    public void flush() {
+        flush(System.nanoTime(), false);
+    }
+
+    /**
+     * Delivers held events.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     * @param all      Whether to deliver events whose window is still open
+     * @return The number of events delivered
+     */
+    int flush(long nowNanos, boolean all) {
+        int delivered = 0;
+        for (Lane<?> lane : lanes) {
+            delivered += lane.flush(nowNanos, all);
+        }
+        return delivered;
+    }
+
+    /**
+     * Gets the number of events currently held.
+     *
+     * @return The held event count
+     */
+    public int heldCount() {
+        return held.get();
+    }
+
+    @Override
+    public void destroy() {
+        flush(System.nanoTime(), true);
+    }
+
+    private final class Lane<E extends DomainEvent> implements DomainEventHandler<E> {
+        private final String name;
+        private final DomainEventHandler<? super E> handler;
+        private final Map<UUID, Held<E>> heldByAggregate = new ConcurrentHashMap<>();
+        private final Counter merged;
+        private final Counter delivered;
+        private final Counter failed;
+
+        private Lane(String name, DomainEventHandler<? super E> handler) {
+            this.name = name;
+            this.handler = handler;
+            this.merged = Counter.builder("events.coalescing.merged").tag("handler", name).register(registry);
+            this.delivered = deliveryCounter("success");
+            this.failed = deliveryCounter("error");
+        }
+
+        @Override
+        public void handle(E event) {
+            UUID aggregateId = event.getAggregateId();
+            if (aggregateId == null || event instanceof CriticalEvent) {
+                handler.handle(event);
+                return;
+            }
+            if (held.get() >= properties.getMaxPending() && !heldByAggregate.containsKey(aggregateId)) {
+                handler.handle(event);
+                return;
+            }
+
+            long dueAt = System.nanoTime() + properties.getWindow().toNanos();
+            heldByAggregate.compute(aggregateId, (id, existing) -> {
+                if (existing == null) {
+                    held.incrementAndGet();
+                    return new Held<>(event, dueAt, 0);
+                }
+                merged.increment();
+                // A redelivered event may arrive after a newer one of the same aggregate
+                E latest = event.getOccurredAt().isBefore(existing.event().getOccurredAt())
+                        ? existing.event()
+                        : event;
+                return new Held<>(latest, existing.dueAt(), existing.attempts());
+            });
+        }
+
+        private int flush(long nowNanos, boolean all) {
+            int count = 0;
+            for (Map.Entry<UUID, Held<E>> entry : heldByAggregate.entrySet()) {
+                Held<E> due = entry.getValue();
+                // An entry replaced meanwhile fails the removal and waits for the next flush
+                if ((all || due.dueAt() - nowNanos <= 0) && heldByAggregate.remove(entry.getKey(), due)) {
+                    held.decrementAndGet();
+                    deliver(entry.getKey(), due);
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void deliver(UUID aggregateId, Held<E> due) {
+            E event = due.event();
+            try (CorrelationScope scope = CorrelationScope.open(event.getCorrelationId())) {
+                deliveryTransaction.executeWithoutResult(status -> handler.handle(event));
+                delivered.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                int attempts = due.attempts() + 1;
+                if (attempts < properties.getMaxAttempts()) {
+                    log.warn("Coalesced delivery of {} to {} failed (attempt {}), retrying",
+                            event.getEventId(), name, attempts, e);
+                    long retryAt = System.nanoTime() + properties.getWindow().toNanos();
+                    if (heldByAggregate.putIfAbsent(aggregateId, new Held<>(event, retryAt, attempts)) == null) {
+                        held.incrementAndGet();
+                    }
+                } else {
+                    log.error("Dropping coalesced {} for {} after {} attempts",
+                            event.getEventId(), name, attempts, e);
+                }
+            }
+        }
+
+        private Counter deliveryCounter(String outcome) {
+            return Counter.builder("events.coalescing.deliveries")
+                    .tag("handler", name)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+
+    private record Held<E extends DomainEvent>(E event, long dueAt, int attempts) {
+    }
+}
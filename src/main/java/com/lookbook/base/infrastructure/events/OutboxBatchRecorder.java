@@ -0,0 +1,21 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.util.List;
+
+import com.lookbook.base.domain.events.DomainEvent;
+
+/**
+ * Receives every batch of events the {@link OutboxRelay} claims, in one call,
+ * before any of them is dispatched.
+ * Runs inside the claim transaction: a failing recorder rolls the claim back,
+ * so the whole batch is claimed and recorded again by a later poll.
+ */
+public interface OutboxBatchRecorder {
+
+    /**
+     * Records a claimed batch.
+     *
+     * @param events The claimed events, in outbox order
+     */
+    void record(List<DomainEvent> events);
+}
@@ -0,0 +1,38 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.util.Collection;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lookbook.base.domain.entities.BaseEntity;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.domain.events.DomainEventPublisher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes domain events by writing them to the outbox in the caller's
+ * transaction. Delivery to listeners happens later on the {@link OutboxRelay},
+ * so request latency no longer includes event side effects.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private final OutboxRepository outboxRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(BaseEntity aggregate) {
+        outboxRepository.append(aggregate.getDomainEvents());
+        aggregate.clearDomainEvents();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        outboxRepository.append(events);
+    }
+}
@@ -0,0 +1,25 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A row of the outbox table as claimed by the relay.
+ *
+ * @param position    The row's insertion position
+ * @param eventId     The event's unique identifier
+ * @param aggregateId The aggregate that raised the event
+ * @param eventType   The event type name
+ * @param payload     The serialized event metadata
+ * @param occurredAt  When the event occurred
+ * @param attempts    Number of failed delivery attempts so far
+ */
+public record OutboxEntry(
+        long position,
+        UUID eventId,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime occurredAt,
+        int attempts) {
+}
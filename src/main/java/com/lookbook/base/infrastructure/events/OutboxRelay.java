@@ -0,0 +1,194 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.OutboxProperties;
+import com.lookbook.base.infrastructure.retry.RetryBackoff;
+import com.lookbook.base.infrastructure.tracing.CorrelationScope;
+import com.lookbook.base.infrastructure.tracing.Tracer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers outbox rows to the domain event subscribers through the
+ * {@link DomainEventDispatcher}.
+ * Each claimed batch is first handed as a whole to the
+ * {@link OutboxBatchRecorder}s. Then each event is dispatched in its own
+ * transaction, so a failing listener only rolls back its own work and
+ * transactional listeners still see a commit.
+ * Delivery is at-least-once: a node that dies after dispatching but before
+ * deleting a row causes the row to be delivered again once its lease expires.
+ * Events of one aggregate are delivered in order: once an event fails, the
+ * aggregate's later events in the batch are released undelivered and wait
+ * for the failed one to be retried first. A failed event is retried with
+ * jittered exponential backoff. An event that exhausts its attempts, or
+ * cannot be read at all, is moved to the dead-letter table, and the
+ * aggregate's later events proceed.
+ * Each delivery runs under the correlation ID of the request that raised the
+ * event, and its span reports the time spent in the outbox as queue wait.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final DomainEventSerializer serializer;
+    private final DomainEventDispatcher dispatcher;
+    private final Tracer tracer;
+    private final List<OutboxBatchRecorder> recorders;
+    private final OutboxProperties.Relay config;
+    private final RetryBackoff backoff;
+    private final Counter deadLettered;
+    private final TransactionTemplate claimTransaction;
+    private final TransactionTemplate dispatchTransaction;
+
+    public OutboxRelay(OutboxRepository outboxRepository, DomainEventSerializer serializer,
+            DomainEventDispatcher dispatcher, PlatformTransactionManager transactionManager,
+            OutboxProperties properties, Tracer tracer, ObjectProvider<OutboxBatchRecorder> recorders,
+            MeterRegistry registry) {
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+        this.dispatcher = dispatcher;
+        this.tracer = tracer;
+        this.recorders = recorders.orderedStream().toList();
+        this.config = properties.getRelay();
+        this.backoff = new RetryBackoff(config.getInitialBackoff(), config.getMaxBackoff());
+        this.deadLettered = Counter.builder("outbox.events.dead_lettered").register(registry);
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.dispatchTransaction = new TransactionTemplate(transactionManager);
+        this.dispatchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Drains pending rows until a batch comes back short or the per-poll
+     * batch limit is reached.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            for (int batch = 0; batch < config.getMaxBatchesPerPoll(); batch++) {
+                if (relayBatch() < config.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox relay poll failed", e);
+        }
+    }
+
+    /**
+     * Claims and delivers one batch.
+     *
+     * @return The number of rows claimed
+     */
+    int relayBatch() {
+        List<ClaimedEvent> claimed = claimTransaction.execute(status -> claimAndRecord());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>(claimed.size());
+        List<Long> deferred = new ArrayList<>();
+        Set<UUID> failedAggregates = new HashSet<>();
+        for (ClaimedEvent claimedEvent : claimed) {
+            OutboxEntry entry = claimedEvent.entry();
+            if (entry.aggregateId() != null && failedAggregates.contains(entry.aggregateId())) {
+                deferred.add(entry.position());
+                continue;
+            }
+            DomainEvent event = claimedEvent.event();
+            if (event == null) {
+                RuntimeException readError = claimedEvent.error();
+                String error = readError != null ? String.valueOf(readError.getMessage()) : null;
+                log.error("Dead-lettering {} {} after {} attempts: {}",
+                        entry.eventType(), entry.eventId(), entry.attempts(), error);
+                outboxRepository.moveToDeadLetters(entry.position(), entry.attempts(), error);
+                deadLettered.increment();
+                continue;
+            }
+            try (CorrelationScope scope = CorrelationScope.open(event.getCorrelationId())) {
+                tracer.trace("outbox.relay " + event.getEventType(),
+                        Duration.between(event.getOccurredAt(), LocalDateTime.now()),
+                        () -> dispatchTransaction.executeWithoutResult(status -> dispatcher.dispatch(event)));
+                delivered.add(entry.position());
+            } catch (RuntimeException e) {
+                recordFailure(entry, e);
+                if (entry.aggregateId() != null) {
+                    failedAggregates.add(entry.aggregateId());
+                }
+            }
+        }
+        outboxRepository.delete(delivered);
+        outboxRepository.release(deferred);
+        return claimed.size();
+    }
+
+    private void recordFailure(OutboxEntry entry, RuntimeException e) {
+        int attempt = entry.attempts() + 1;
+        String error = String.valueOf(e.getMessage());
+        if (attempt >= config.getMaxAttempts()) {
+            log.error("Failed to relay {} {} (attempt {}), giving up",
+                    entry.eventType(), entry.eventId(), attempt, e);
+            outboxRepository.moveToDeadLetters(entry.position(), attempt, error);
+            deadLettered.increment();
+        } else {
+            log.warn("Failed to relay {} {} (attempt {})", entry.eventType(), entry.eventId(), attempt, e);
+            outboxRepository.recordFailure(entry.position(), attempt, error, backoff.delay(attempt));
+        }
+    }
+
+    /**
+     * Claims a batch, deserializes it and records the readable events with
+     * one call per recorder.
+     */
+    private List<ClaimedEvent> claimAndRecord() {
+        List<OutboxEntry> entries = outboxRepository.claimBatch(config.getBatchSize(), config.getLease());
+        List<ClaimedEvent> claimed = new ArrayList<>(entries.size());
+        List<DomainEvent> events = new ArrayList<>(entries.size());
+        for (OutboxEntry entry : entries) {
+            if (entry.attempts() >= config.getMaxAttempts()) {
+                // Left over from a higher max-attempts; dead-lettered unread
+                claimed.add(new ClaimedEvent(entry, null, null));
+                continue;
+            }
+            try {
+                DomainEvent event = serializer.deserialize(
+                        entry.eventType(), entry.eventId(), entry.occurredAt(), entry.payload());
+                claimed.add(new ClaimedEvent(entry, event, null));
+                events.add(event);
+            } catch (RuntimeException e) {
+                // Dead-lettered by the delivery loop
+                claimed.add(new ClaimedEvent(entry, null, e));
+            }
+        }
+        if (!events.isEmpty()) {
+            recorders.forEach(recorder -> recorder.record(events));
+        }
+        return claimed;
+    }
+
+    /**
+     * A claimed row with its deserialized event, or the error that kept it
+     * from being read. Neither is set for a row that exhausted its attempts.
+     */
+    private record ClaimedEvent(OutboxEntry entry, DomainEvent event, RuntimeException error) {
+    }
+}
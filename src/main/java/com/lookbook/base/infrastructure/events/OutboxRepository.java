@@ -0,0 +1,175 @@
+package com.lookbook.base.infrastructure.events;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.lookbook.base.domain.events.DomainEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC access to the outbox_events table.
+ * Claiming uses FOR UPDATE SKIP LOCKED together with a lease, so any number
+ * of relay nodes can poll concurrently without handing out a row twice and
+ * without holding row locks while events are dispatched. A row is not claimed
+ * while an earlier row of the same aggregate is leased to another relay, so
+ * one aggregate's events are not dispatched concurrently out of order.
+ * A failed row stays leased until its retry is due, which also holds back the
+ * aggregate's later rows; a row that will not be retried again is moved to
+ * outbox_dead_letters.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events "
+            + "(event_id, aggregate_id, event_type, payload, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String CLAIM_SQL = "UPDATE outbox_events o "
+            + "SET locked_until = now() + (? * interval '1 millisecond') "
+            + "WHERE o.position IN ("
+            + "  SELECT position FROM outbox_events "
+            + "  WHERE (locked_until IS NULL OR locked_until < now()) "
+            + "  AND NOT EXISTS (SELECT 1 FROM outbox_events earlier "
+            + "    WHERE earlier.aggregate_id = outbox_events.aggregate_id "
+            + "    AND earlier.position < outbox_events.position AND earlier.locked_until >= now()) "
+            + "  ORDER BY position LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING o.position, o.event_id, o.aggregate_id, o.event_type, o.payload, o.occurred_at, o.attempts";
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE position = ANY(?)";
+
+    private static final String RELEASE_SQL = "UPDATE outbox_events SET locked_until = NULL WHERE position = ANY(?)";
+
+    private static final String FAILURE_SQL = "UPDATE outbox_events "
+            + "SET attempts = ?, last_error = ?, locked_until = now() + (? * interval '1 millisecond') "
+            + "WHERE position = ?";
+
+    private static final String DEAD_LETTER_SQL = "WITH moved AS ("
+            + "  DELETE FROM outbox_events WHERE position = ? "
+            + "  RETURNING event_id, aggregate_id, event_type, payload, occurred_at, last_error, created_at) "
+            + "INSERT INTO outbox_dead_letters "
+            + "(event_id, aggregate_id, event_type, payload, occurred_at, attempts, last_error, created_at) "
+            + "SELECT event_id, aggregate_id, event_type, payload, occurred_at, ?, COALESCE(?, last_error), "
+            + "created_at FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventSerializer serializer;
+
+    /**
+     * Appends events to the outbox with a single batched insert.
+     * Must run in the transaction that produced the events.
+     *
+     * @param events The events to append
+     */
+    public void append(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            rows.add(new Object[] {
+                    event.getEventId(),
+                    event.getAggregateId(),
+                    event.getEventType(),
+                    serializer.serialize(event),
+                    Timestamp.valueOf(event.getOccurredAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * Claims the oldest pending rows for this relay.
+     *
+     * @param limit Maximum number of rows to claim
+     * @param lease How long the rows stay invisible to other relays
+     * @return The claimed rows in insertion order
+     */
+    public List<OutboxEntry> claimBatch(int limit, Duration lease) {
+        List<OutboxEntry> claimed = jdbcTemplate.query(CLAIM_SQL, this::mapEntry, lease.toMillis(), limit);
+        // RETURNING does not guarantee order
+        claimed.sort((a, b) -> Long.compare(a.position(), b.position()));
+        return claimed;
+    }
+
+    /**
+     * Removes delivered rows.
+     *
+     * @param positions The positions of the delivered rows
+     */
+    public void delete(Collection<Long> positions) {
+        updatePositions(DELETE_SQL, positions);
+    }
+
+    /**
+     * Releases claimed rows without counting a delivery attempt, so they are
+     * claimed again by the next poll.
+     *
+     * @param positions The positions of the rows to release
+     */
+    public void release(Collection<Long> positions) {
+        updatePositions(RELEASE_SQL, positions);
+    }
+
+    private void updatePositions(String sql, Collection<Long> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute(sql, (PreparedStatement statement) -> {
+            Array array = statement.getConnection().createArrayOf("bigint", positions.toArray());
+            try {
+                statement.setArray(1, array);
+                return statement.executeUpdate();
+            } finally {
+                array.free();
+            }
+        });
+    }
+
+    /**
+     * Records a failed delivery and keeps the row leased until its retry is
+     * due.
+     *
+     * @param position The position of the failed row
+     * @param attempts The number of failed deliveries so far
+     * @param error    A description of the failure
+     * @param delay    How long to wait before the next attempt
+     */
+    public void recordFailure(long position, int attempts, String error, Duration delay) {
+        jdbcTemplate.update(FAILURE_SQL, attempts, error, delay.toMillis(), position);
+    }
+
+    /**
+     * Moves a row that will not be delivered again to the dead-letter table.
+     *
+     * @param position The position of the row
+     * @param attempts The number of failed deliveries
+     * @param error    A description of the last failure, or null to keep the
+     *                 one recorded
+     */
+    public void moveToDeadLetters(long position, int attempts, String error) {
+        jdbcTemplate.update(DEAD_LETTER_SQL, position, attempts, error);
+    }
+
+    private OutboxEntry mapEntry(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxEntry(
+                rs.getLong("position"),
+                rs.getObject("event_id", UUID.class),
+                rs.getObject("aggregate_id", UUID.class),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("occurred_at").toLocalDateTime(),
+                rs.getInt("attempts"));
+    }
+}
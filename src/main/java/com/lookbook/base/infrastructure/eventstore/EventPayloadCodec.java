@@ -0,0 +1,183 @@
+package com.lookbook.base.infrastructure.eventstore;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Compact binary encoding of event metadata for the event store.
+ * <p>
+ * Layout: a format version byte, the entry count as a varint, then per entry
+ * the key and a tagged value. Strings are length-prefixed UTF-8, integers are
+ * zig-zag varints, and UUIDs (including UUIDs held as strings, which is how
+ * most events store them) take 16 bytes instead of 36 characters. Decoders
+ * dispatch on the version byte, so older rows stay readable when the format
+ * changes.
+ */
+public final class EventPayloadCodec {
+
+    static final byte FORMAT_V1 = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte UUID_STRING = 2;
+    private static final byte UUID_VALUE = 3;
+    private static final byte INT = 4;
+    private static final byte LONG = 5;
+    private static final byte TRUE = 6;
+    private static final byte FALSE = 7;
+    private static final byte DOUBLE = 8;
+
+    private static final Pattern CANONICAL_UUID = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private EventPayloadCodec() {
+    }
+
+    /**
+     * Encodes event metadata. Values of types without a dedicated tag are
+     * stored as their string form.
+     *
+     * @param metadata The metadata to encode
+     * @return The encoded payload
+     */
+    public static byte[] encode(Map<String, Object> metadata) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_V1);
+        writeVarint(out, metadata.size());
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes an encoded payload.
+     *
+     * @param payload The encoded payload
+     * @return The metadata, in encoding order
+     * @throws IllegalArgumentException if the format version is unknown
+     */
+    public static Map<String, Object> decode(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        byte version = in.get();
+        if (version != FORMAT_V1) {
+            throw new IllegalArgumentException("Unsupported event payload format: " + version);
+        }
+        int size = readVarint(in);
+        Map<String, Object> metadata = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            metadata.put(readString(in), readValue(in));
+        }
+        return metadata;
+    }
+
+    private static void writeValue(ByteArrayOutputStream out, Object value) {
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof UUID uuid) {
+            out.write(UUID_VALUE);
+            writeUuid(out, uuid);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.write(INT);
+            writeVarint(out, zigZag(((Number) value).longValue()));
+        } else if (value instanceof Long longValue) {
+            out.write(LONG);
+            writeVarint(out, zigZag(longValue));
+        } else if (value instanceof Boolean bool) {
+            out.write(bool ? TRUE : FALSE);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.write(DOUBLE);
+            writeLong(out, Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else {
+            String string = value.toString();
+            if (CANONICAL_UUID.matcher(string).matches()) {
+                out.write(UUID_STRING);
+                writeUuid(out, UUID.fromString(string));
+            } else {
+                out.write(STRING);
+                writeString(out, string);
+            }
+        }
+    }
+
+    private static Object readValue(ByteBuffer in) {
+        byte tag = in.get();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> readString(in);
+            case UUID_STRING -> readUuid(in).toString();
+            case UUID_VALUE -> readUuid(in);
+            case INT -> (int) unZigZag(readVarlong(in));
+            case LONG -> unZigZag(readVarlong(in));
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case DOUBLE -> Double.longBitsToDouble(in.getLong());
+            default -> throw new IllegalArgumentException("Unknown value tag: " + tag);
+        };
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readVarint(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeUuid(ByteArrayOutputStream out, UUID uuid) {
+        writeLong(out, uuid.getMostSignificantBits());
+        writeLong(out, uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        return Math.toIntExact(readVarlong(in));
+    }
+
+    private static long readVarlong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.lookbook.base.infrastructure.eventstore;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.domain.repositories.EventStore;
+import com.lookbook.base.infrastructure.events.OutboxBatchRecorder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Appends every relayed domain event to the {@link EventStore}.
+ * Each claimed outbox batch is appended with one call, so it is written as a
+ * single multi-row insert. A failed append fails the claim, so the outbox
+ * hands the batch out again; the store ignores events it already holds.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.event-store", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EventStoreRecorder implements OutboxBatchRecorder {
+
+    private final EventStore eventStore;
+
+    @Override
+    public void record(List<DomainEvent> events) {
+        eventStore.append(events);
+    }
+}
@@ -0,0 +1,107 @@
+package com.lookbook.base.infrastructure.eventstore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Combines writes submitted concurrently from many threads into shared
+ * batches.
+ * <p>
+ * The first thread to find the buffer idle becomes the leader and writes
+ * everything queued so far, up to the batch limit, in one call; threads that
+ * arrive meanwhile queue up and are picked up by the leader's next round. A
+ * single caller therefore pays no extra latency, while a burst of callers
+ * shares one round trip. Every caller returns only after its own items were
+ * written, or with the exception of the batch that contained them.
+ *
+ * @param <T> The type of item being written
+ */
+public class GroupCommitBuffer<T> {
+
+    private final Consumer<List<T>> writer;
+    private final int maxBatchSize;
+    private final Queue<Pending<T>> queue = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock leader = new ReentrantLock();
+
+    /**
+     * Creates a new buffer.
+     *
+     * @param writer       Writes one batch; must be safe to call repeatedly
+     * @param maxBatchSize Soft limit on items per batch; a single submission
+     *                     larger than this is still written in one call
+     */
+    public GroupCommitBuffer(Consumer<List<T>> writer, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.writer = writer;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Submits items and waits until they have been written.
+     *
+     * @param items The items to write
+     */
+    public void submit(Collection<? extends T> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Pending<T> pending = new Pending<>(List.copyOf(items));
+        queue.add(pending);
+
+        // Re-checking after unlock closes the window in which an item is
+        // queued while the previous leader is finishing up
+        while (!queue.isEmpty() && leader.tryLock()) {
+            try {
+                drain();
+            } finally {
+                leader.unlock();
+            }
+        }
+
+        try {
+            pending.done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void drain() {
+        Pending<T> next;
+        while ((next = queue.poll()) != null) {
+            List<Pending<T>> group = new ArrayList<>();
+            List<T> batch = new ArrayList<>(next.items);
+            group.add(next);
+            while (batch.size() < maxBatchSize && (next = queue.peek()) != null
+                    && batch.size() + next.items.size() <= maxBatchSize) {
+                queue.poll();
+                group.add(next);
+                batch.addAll(next.items);
+            }
+
+            try {
+                writer.accept(batch);
+                group.forEach(p -> p.done.complete(null));
+            } catch (RuntimeException e) {
+                group.forEach(p -> p.done.completeExceptionally(e));
+            }
+        }
+    }
+
+    private record Pending<T>(List<T> items, CompletableFuture<Void> done) {
+        Pending(List<T> items) {
+            this(items, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.lookbook.base.infrastructure.eventstore;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.domain.repositories.EventStore;
+import com.lookbook.base.infrastructure.config.EventStoreProperties;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+
+/**
+ * PostgreSQL implementation of the {@link EventStore}.
+ * Concurrent appends are group-committed through a {@link GroupCommitBuffer}
+ * into multi-row inserts, payloads use the {@link EventPayloadCodec} and
+ * event type names are interned in the event_types table.
+ */
+@Repository
+public class JdbcEventStore implements EventStore {
+
+    private static final String INSERT_PREFIX = "INSERT INTO event_store "
+            + "(event_id, aggregate_id, event_type_id, occurred_at, payload) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX = " ON CONFLICT (event_id) DO NOTHING";
+
+    private static final String SELECT_COLUMNS = "SELECT e.event_id, t.name AS event_type, e.occurred_at, e.payload "
+            + "FROM event_store e JOIN event_types t ON t.id = e.event_type_id ";
+
+    private static final String INTERN_TYPE_SQL = "INSERT INTO event_types (name) VALUES (?) "
+            + "ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventRegistry registry;
+    private final TransactionTemplate batchTransaction;
+    private final GroupCommitBuffer<DomainEvent> buffer;
+    private final Map<String, Short> typeIds = new ConcurrentHashMap<>();
+
+    public JdbcEventStore(JdbcTemplate jdbcTemplate, DomainEventRegistry registry,
+            PlatformTransactionManager transactionManager, EventStoreProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.registry = registry;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new GroupCommitBuffer<>(
+                batch -> batchTransaction.executeWithoutResult(status -> insertBatch(batch)),
+                properties.getMaxBatchSize());
+    }
+
+    @Override
+    public void append(Collection<? extends DomainEvent> events) {
+        buffer.submit(events);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateId(UUID aggregateId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE e.aggregate_id = ? ORDER BY e.position",
+                this::mapEvent, aggregateId);
+    }
+
+    @Override
+    public List<DomainEvent> findByOccurredAtBetween(LocalDateTime start, LocalDateTime end, int limit) {
+        return jdbcTemplate.query(SELECT_COLUMNS
+                + "WHERE e.occurred_at >= ? AND e.occurred_at < ? ORDER BY e.occurred_at, e.position LIMIT ?",
+                this::mapEvent, Timestamp.valueOf(start), Timestamp.valueOf(end), limit);
+    }
+
+    /**
+     * Writes one group-committed batch as a single multi-row insert.
+     * The batch carries other threads' events, so it runs in its own
+     * transaction rather than joining the leader's.
+     */
+    private void insertBatch(List<DomainEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + events.size() * 17);
+        List<Object> args = new ArrayList<>(events.size() * 5);
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < events.size(); i++) {
+            DomainEvent event = events.get(i);
+            sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+            args.add(event.getEventId());
+            args.add(event.getAggregateId());
+            args.add(typeId(event.getEventType()));
+            args.add(Timestamp.valueOf(event.getOccurredAt()));
+            args.add(EventPayloadCodec.encode(event.getMetadata()));
+        }
+        sql.append(INSERT_SUFFIX);
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private short typeId(String eventType) {
+        return typeIds.computeIfAbsent(eventType,
+                name -> jdbcTemplate.queryForObject(INTERN_TYPE_SQL, Short.class, name));
+    }
+
+    private DomainEvent mapEvent(ResultSet rs, int rowNum) throws SQLException {
+        return registry.reconstitute(
+                rs.getString("event_type"),
+                rs.getObject("event_id", UUID.class),
+                rs.getTimestamp("occurred_at").toLocalDateTime(),
+                EventPayloadCodec.decode(rs.getBytes("payload")));
+    }
+}
@@ -3,13 +3,19 @@ package com.lookbook.base.infrastructure.persistence.entities;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.springframework.data.domain.Persistable;
+
 import com.lookbook.base.domain.entities.BaseEntity;
+import com.lookbook.base.domain.identity.Ids;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
 
 /**
  * Base class for JPA entities that maps the domain BaseEntity properties.
@@ -17,7 +23,7 @@ import jakarta.persistence.PreUpdate;
  * clean.
  */
 @MappedSuperclass
-public abstract class JpaBaseEntity {
+public abstract class JpaBaseEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", updatable = false, nullable = false)
@@ -29,6 +35,9 @@ public abstract class JpaBaseEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Transient
+    private boolean newEntity;
+
     /**
      * Default constructor for JPA.
      */
@@ -53,7 +62,7 @@ public abstract class JpaBaseEntity {
     @PrePersist
     protected void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = Ids.next();
         }
         LocalDateTime now = LocalDateTime.now();
         if (createdAt == null) {
@@ -62,6 +71,35 @@ public abstract class JpaBaseEntity {
         updatedAt = now;
     }
 
+    /**
+     * Clears the new-entity flag once the entity is managed.
+     */
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        newEntity = false;
+    }
+
+    /**
+     * Marks this entity as not yet stored, so that saving it issues a plain
+     * insert instead of a merge (which first selects the row by ID).
+     */
+    public void markNew() {
+        newEntity = true;
+    }
+
+    /**
+     * Checks whether this entity has not been stored yet.
+     * Entities mapped from domain objects carry an assigned ID, so they are
+     * only treated as new when explicitly marked.
+     *
+     * @return true if the entity should be inserted
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity || id == null;
+    }
+
     /**
      * Updates the updated_at timestamp before updating.
      */
@@ -75,6 +113,7 @@ public abstract class JpaBaseEntity {
      *
      * @return The entity ID
      */
+    @Override
     public UUID getId() {
         return id;
     }
@@ -0,0 +1,71 @@
+package com.lookbook.base.infrastructure.persistence.instrumentation;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.lookbook.base.infrastructure.api.utils.RequestRoutes;
+import com.lookbook.base.infrastructure.config.QueryInstrumentationProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tallies the database work of each request and flags requests that exceed
+ * the statement budget as likely N+1 query patterns.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.query-instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final QueryInstrumentationProperties properties;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryStats stats) {
+        String uri = RequestRoutes.routeOf(request);
+        DistributionSummary.builder("http.request.db.statements")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.request.db.rows.mapped")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.getRowsMapped());
+
+        if (stats.getStatements() > properties.getStatementBudget()) {
+            Counter.builder("http.request.db.budget.exceeded")
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+            log.warn("Likely N+1: {} {} ran {} statements ({} ms in SQL, {} rows mapped), budget is {}",
+                    request.getMethod(), uri, stats.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getStatementNanos()), stats.getRowsMapped(),
+                    properties.getStatementBudget());
+        }
+    }
+}
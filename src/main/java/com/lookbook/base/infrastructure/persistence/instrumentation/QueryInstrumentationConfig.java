@@ -0,0 +1,39 @@
+package com.lookbook.base.infrastructure.persistence.instrumentation;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.lookbook.base.infrastructure.config.QueryInstrumentationProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires statement instrumentation into the application's data sources.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.query-instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInstrumentationConfig {
+
+    @Bean
+    public StatementRecorder statementRecorder(MeterRegistry registry, QueryInstrumentationProperties properties) {
+        return new StatementRecorder(registry, properties);
+    }
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<StatementRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, recorder::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+}
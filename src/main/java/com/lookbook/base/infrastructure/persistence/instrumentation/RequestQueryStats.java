@@ -0,0 +1,62 @@
+package com.lookbook.base.infrastructure.persistence.instrumentation;
+
+/**
+ * Per-request tally of database work, bound to the request thread.
+ * Work done outside a request (schedulers, startup) is not tallied.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rowsMapped;
+    private long statementNanos;
+
+    private RequestQueryStats() {
+    }
+
+    /**
+     * Starts tallying for the current thread.
+     *
+     * @return The new tally
+     */
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stops tallying for the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement(long nanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementNanos += nanos;
+        }
+    }
+
+    static void recordRowsMapped(long rows) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rowsMapped += rows;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRowsMapped() {
+        return rowsMapped;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+}
@@ -0,0 +1,70 @@
+package com.lookbook.base.infrastructure.persistence.instrumentation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.lookbook.base.infrastructure.config.QueryInstrumentationProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records executed SQL statements: a latency histogram per statement kind,
+ * the per-request statement count, and a sampled log of slow statements.
+ * The slow-query log shows the shape of bound parameters (type and length),
+ * never their values.
+ */
+@Slf4j
+public class StatementRecorder {
+
+    private final MeterRegistry registry;
+    private final Duration slowThreshold;
+    private final double sampleRate;
+
+    public StatementRecorder(MeterRegistry registry, QueryInstrumentationProperties properties) {
+        this.registry = registry;
+        this.slowThreshold = properties.getSlowQueryThreshold();
+        this.sampleRate = properties.getSlowQuerySampleRate();
+    }
+
+    /**
+     * Records one executed statement or batch.
+     *
+     * @param sql             The SQL text
+     * @param parameterShapes The shapes of the bound parameters
+     * @param nanos           The execution time
+     */
+    public void record(String sql, List<String> parameterShapes, long nanos) {
+        RequestQueryStats.recordStatement(nanos);
+        Timer.builder("db.statement.duration")
+                .tag("kind", kindOf(sql))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (nanos >= slowThreshold.toNanos() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.warn("Slow query ({} ms): {} params={}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), sql, parameterShapes);
+        }
+    }
+
+    static String kindOf(String sql) {
+        if (sql == null) {
+            return "other";
+        }
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete", "with" -> keyword;
+            default -> "other";
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.lookbook.base.infrastructure.persistence.repositories;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.infrastructure.config.IdLookupProperties;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Table;
+
+/**
+ * Loads entities by a list of ids with a single array parameter,
+ * {@code WHERE id = ANY(CAST(?1 AS uuid[]))}, instead of an {@code IN} list.
+ * The SQL text is the same for any number of ids, so one cached plan serves
+ * every call. Lookups above the configured chunk size are split into several
+ * queries. Results come back in the order the ids were given, with each id at
+ * most once and missing ids skipped.
+ */
+@Component
+public class IdArrayLookup {
+
+    private final int chunkSize;
+    private final Map<Class<?>, String> queries = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public IdArrayLookup(IdLookupProperties properties) {
+        this(null, properties.getChunkSize());
+    }
+
+    IdArrayLookup(EntityManager entityManager, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Finds the entities with the given ids.
+     *
+     * @param entityClass The JPA entity class, which must declare {@link Table}
+     * @param ids         The ids to look up
+     * @param idOf        Reads the id from a loaded entity
+     * @param <J>         The JPA entity type
+     * @return The found entities in input order
+     */
+    @SuppressWarnings("unchecked")
+    public <J> List<J> findAllById(Class<J> entityClass, Iterable<UUID> ids, Function<J, UUID> idOf) {
+        List<UUID> distinct = distinct(ids);
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = queries.computeIfAbsent(entityClass, IdArrayLookup::selectByIds);
+        List<J> found = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<UUID> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            Query query = entityManager.createNativeQuery(sql, entityClass);
+            if (query instanceof NativeQuery<?> nativeQuery) {
+                // Only flush pending changes to this table before querying
+                nativeQuery.addSynchronizedEntityClass(entityClass);
+            }
+            query.setParameter(1, arrayLiteral(chunk));
+            found.addAll(query.getResultList());
+        }
+        return inInputOrder(distinct, found, idOf);
+    }
+
+    /**
+     * Reorders loaded entities to follow the requested ids.
+     *
+     * @param ids    The requested ids
+     * @param found  The loaded entities in any order
+     * @param idOf   Reads the id from an entity
+     * @param <E>    The entity type
+     * @return The entities in input order, each at most once
+     */
+    public static <E> List<E> inInputOrder(Iterable<UUID> ids, Collection<E> found, Function<E, UUID> idOf) {
+        Map<UUID, E> byId = new HashMap<>(found.size() * 2);
+        for (E entity : found) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        List<E> ordered = new ArrayList<>(found.size());
+        for (UUID id : distinct(ids)) {
+            E entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+
+    private static List<UUID> distinct(Iterable<UUID> ids) {
+        Set<UUID> distinct = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            distinct.add(Objects.requireNonNull(id, "Ids must not contain null"));
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    private static String arrayLiteral(List<UUID> ids) {
+        return ids.stream()
+                .map(UUID::toString)
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private static String selectByIds(Class<?> entityClass) {
+        Table table = entityClass.getAnnotation(Table.class);
+        if (table == null || table.name().isBlank()) {
+            throw new IllegalStateException("No table mapped for " + entityClass.getName());
+        }
+        return "SELECT * FROM " + table.name() + " WHERE id = ANY(CAST(?1 AS uuid[]))";
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.lookbook.base.domain.repositories.BaseRepository;
@@ -12,9 +14,27 @@ import com.lookbook.base.domain.entities.BaseEntity;
 public class JpaBaseRepositoryAdapter<T extends BaseEntity> implements BaseRepository<T> {
 
     private final JpaRepository<T, UUID> jpaRepository;
+    private final Class<T> entityClass;
+    private IdArrayLookup idLookup;
 
+    @SuppressWarnings("unchecked")
     public JpaBaseRepositoryAdapter(JpaRepository<T, UUID> jpaRepository) {
         this.jpaRepository = jpaRepository;
+        // Only resolvable when a subclass binds the entity type
+        Class<?> typeArgument = GenericTypeResolver.resolveTypeArgument(getClass(), JpaBaseRepositoryAdapter.class);
+        this.entityClass = (Class<T>) typeArgument;
+    }
+
+    /**
+     * Sets the lookup used to load entities by id lists with a single array
+     * parameter. Without it, {@link #findAllById} falls back to the JPA
+     * repository.
+     *
+     * @param idLookup The id lookup
+     */
+    @Autowired(required = false)
+    public void setIdLookup(IdArrayLookup idLookup) {
+        this.idLookup = idLookup;
     }
 
     @Override
@@ -39,7 +59,9 @@ public class JpaBaseRepositoryAdapter<T extends BaseEntity> implements BaseRepos
 
     @Override
     public List<T> findAllById(Iterable<UUID> ids) {
-        return jpaRepository.findAllById(ids);
+        return idLookup != null && entityClass != null
+                ? idLookup.findAllById(entityClass, ids, BaseEntity::getId)
+                : IdArrayLookup.inInputOrder(ids, jpaRepository.findAllById(ids), BaseEntity::getId);
     }
 
     @Override
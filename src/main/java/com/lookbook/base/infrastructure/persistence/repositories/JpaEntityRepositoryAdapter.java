@@ -6,12 +6,16 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.lookbook.base.domain.repositories.EntityRepository;
 import com.lookbook.base.domain.entities.BaseEntity;
+import com.lookbook.base.domain.events.DomainEventPublisher;
 import com.lookbook.base.infrastructure.persistence.entities.JpaBaseEntity;
 
 /**
@@ -19,6 +23,8 @@ import com.lookbook.base.infrastructure.persistence.entities.JpaBaseEntity;
  * JPA.
  * This adapter bridges between the domain repository interfaces and JPA
  * repositories.
+ * Saving an entity also publishes the domain events it has raised, in the same
+ * transaction, so callers never need to drain them by hand.
  *
  * @param <T> The domain entity type
  * @param <J> The JPA entity type
@@ -27,14 +33,33 @@ public abstract class JpaEntityRepositoryAdapter<T extends BaseEntity, J extends
         implements EntityRepository<T> {
 
     private final JpaRepository<J, UUID> jpaRepository;
+    private final Class<J> jpaEntityClass;
+    private IdArrayLookup idLookup;
+    private DomainEventPublisher eventPublisher;
 
     /**
      * Creates a new JpaEntityRepositoryAdapter.
      *
      * @param jpaRepository The JPA repository to delegate to
      */
+    @SuppressWarnings("unchecked")
     protected JpaEntityRepositoryAdapter(JpaRepository<J, UUID> jpaRepository) {
         this.jpaRepository = jpaRepository;
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(),
+                JpaEntityRepositoryAdapter.class);
+        this.jpaEntityClass = typeArguments != null ? (Class<J>) typeArguments[1] : null;
+    }
+
+    /**
+     * Sets the lookup used to load entities by id lists with a single array
+     * parameter. Without it, {@link #findAllById} falls back to the JPA
+     * repository.
+     *
+     * @param idLookup The id lookup
+     */
+    @Autowired(required = false)
+    public void setIdLookup(IdArrayLookup idLookup) {
+        this.idLookup = idLookup;
     }
 
     /**
@@ -53,10 +78,34 @@ public abstract class JpaEntityRepositoryAdapter<T extends BaseEntity, J extends
      */
     protected abstract T mapToEntity(J jpaEntity);
 
+    /**
+     * Sets the publisher that receives the domain events of saved entities.
+     * Without it, events stay on the entity.
+     *
+     * @param eventPublisher The domain event publisher
+     */
+    @Autowired(required = false)
+    public void setDomainEventPublisher(DomainEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
+    @Transactional
     public T save(T entity) {
         J jpaEntity = mapToJpaEntity(entity);
-        return mapToEntity(jpaRepository.save(jpaEntity));
+        T saved = mapToEntity(jpaRepository.save(jpaEntity));
+        publishEvents(entity);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public T insert(T entity) {
+        J jpaEntity = mapToJpaEntity(entity);
+        jpaEntity.markNew();
+        T saved = mapToEntity(jpaRepository.save(jpaEntity));
+        publishEvents(entity);
+        return saved;
     }
 
     @Override
@@ -78,7 +127,10 @@ public abstract class JpaEntityRepositoryAdapter<T extends BaseEntity, J extends
 
     @Override
     public List<T> findAllById(Iterable<UUID> ids) {
-        return jpaRepository.findAllById(ids).stream()
+        List<J> found = idLookup != null && jpaEntityClass != null
+                ? idLookup.findAllById(jpaEntityClass, ids, JpaBaseEntity::getId)
+                : IdArrayLookup.inInputOrder(ids, jpaRepository.findAllById(ids), JpaBaseEntity::getId);
+        return found.stream()
                 .map(this::mapToEntity)
                 .collect(Collectors.toList());
     }
@@ -162,6 +214,16 @@ public abstract class JpaEntityRepositoryAdapter<T extends BaseEntity, J extends
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Publishes the events raised on the given instance; the saved copy is
+     * freshly mapped and carries none.
+     */
+    private void publishEvents(T entity) {
+        if (eventPublisher != null && !entity.getDomainEvents().isEmpty()) {
+            eventPublisher.publish(entity);
+        }
+    }
+
     @Override
     public List<T> findMostRecent(int limit) {
         return jpaRepository.findAll(PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt")))
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.lookbook.base.domain.repositories.ReadOnlyRepository;
@@ -22,14 +24,32 @@ public abstract class JpaReadOnlyRepositoryAdapter<T extends BaseEntity, J exten
         implements ReadOnlyRepository<T> {
 
     private final JpaRepository<J, UUID> jpaRepository;
+    private final Class<J> jpaEntityClass;
+    private IdArrayLookup idLookup;
 
     /**
      * Creates a new JpaReadOnlyRepositoryAdapter.
      *
      * @param jpaRepository The JPA repository to delegate to
      */
+    @SuppressWarnings("unchecked")
     protected JpaReadOnlyRepositoryAdapter(JpaRepository<J, UUID> jpaRepository) {
         this.jpaRepository = jpaRepository;
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(),
+                JpaReadOnlyRepositoryAdapter.class);
+        this.jpaEntityClass = typeArguments != null ? (Class<J>) typeArguments[1] : null;
+    }
+
+    /**
+     * Sets the lookup used to load entities by id lists with a single array
+     * parameter. Without it, {@link #findAllById} falls back to the JPA
+     * repository.
+     *
+     * @param idLookup The id lookup
+     */
+    @Autowired(required = false)
+    public void setIdLookup(IdArrayLookup idLookup) {
+        this.idLookup = idLookup;
     }
 
     /**
@@ -59,7 +79,10 @@ public abstract class JpaReadOnlyRepositoryAdapter<T extends BaseEntity, J exten
 
     @Override
     public List<T> findAllById(Iterable<UUID> ids) {
-        return jpaRepository.findAllById(ids).stream()
+        List<J> found = idLookup != null && jpaEntityClass != null
+                ? idLookup.findAllById(jpaEntityClass, ids, JpaBaseEntity::getId)
+                : IdArrayLookup.inInputOrder(ids, jpaRepository.findAllById(ids), JpaBaseEntity::getId);
+        return found.stream()
                 .map(this::mapToEntity)
                 .toList();
     }
@@ -0,0 +1,121 @@
+package com.lookbook.base.infrastructure.persistence.repositories;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Maps the response fields of a table to the columns backing them, so sparse
+ * reads select only the columns a client asked for.
+ * The ID and update-time columns are always selected, since callers need
+ * them to key and tag the rows. Column names only ever come from the mapping,
+ * never from request input, so the generated SQL is safe to concatenate.
+ */
+public final class SparseColumns {
+
+    /**
+     * The field of the ID column.
+     */
+    public static final String ID = "id";
+
+    /**
+     * The field of the update-time column.
+     */
+    public static final String UPDATED_AT = "updatedAt";
+
+    private final Map<String, String> columnsByField;
+
+    /**
+     * Creates a mapping.
+     *
+     * @param columnsByField The column of each field; must map {@value #ID}
+     *                       and {@value #UPDATED_AT}
+     */
+    public SparseColumns(Map<String, String> columnsByField) {
+        if (!columnsByField.containsKey(ID) || !columnsByField.containsKey(UPDATED_AT)) {
+            throw new IllegalArgumentException("The " + ID + " and " + UPDATED_AT + " fields must be mapped");
+        }
+        this.columnsByField = Map.copyOf(columnsByField);
+    }
+
+    /**
+     * Creates the select list for a set of fields.
+     * Columns are listed in a fixed order, so each selection always yields
+     * the same SQL text and can reuse its cached plan.
+     *
+     * @param fields The selected fields, or null for all fields
+     * @return The comma-separated columns
+     * @throws IllegalArgumentException if a field is not mapped
+     */
+    public String selectList(Set<String> fields) {
+        Set<String> columns = new TreeSet<>();
+        if (fields == null) {
+            columns.addAll(columnsByField.values());
+        } else {
+            fields.forEach(field -> columns.add(column(field)));
+            columns.add(column(ID));
+            columns.add(column(UPDATED_AT));
+        }
+        return String.join(", ", columns);
+    }
+
+    /**
+     * Creates an order-by list for a sort over mapped fields.
+     *
+     * @param sort The sort, which must be sorted
+     * @return The comma-separated order-by terms
+     * @throws IllegalArgumentException if a sort property is not mapped
+     */
+    public String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            throw new IllegalArgumentException("Sort must not be unsorted");
+        }
+        return sort.stream()
+                .map(order -> column(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Gets the column of a field.
+     *
+     * @param field The field
+     * @return The column name
+     * @throws IllegalArgumentException if the field is not mapped
+     */
+    public String column(String field) {
+        String column = columnsByField.get(field);
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+        return column;
+    }
+
+    /**
+     * Checks whether a field's column was selected and should be read.
+     *
+     * @param fields The selected fields, or null for all fields
+     * @param field  The field
+     * @return true if the field's column is in the select list
+     */
+    public boolean includes(Set<String> fields, String field) {
+        return fields == null || fields.contains(field) || ID.equals(field) || UPDATED_AT.equals(field);
+    }
+
+    /**
+     * Renders IDs as a Postgres array literal for a
+     * {@code id = ANY(CAST(? AS uuid[]))} parameter.
+     *
+     * @param ids The IDs
+     * @return The array literal
+     */
+    public static String idArray(Collection<UUID> ids) {
+        return ids.stream()
+                .map(UUID::toString)
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.lookbook.base.infrastructure.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rebuild progress of a projection.
+ *
+ * @param projection     The projection name
+ * @param position       The last event position applied and flushed
+ * @param targetPosition The last event position the rebuild replays
+ * @param status         The rebuild status
+ * @param lastError      Why the rebuild failed, if it did
+ * @param startedAt      When the rebuild started from the first event
+ * @param updatedAt      When the checkpoint was last written
+ */
+public record ProjectionCheckpoint(
+        String projection,
+        long position,
+        long targetPosition,
+        Status status,
+        String lastError,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt) {
+
+    public enum Status {
+        RUNNING, FAILED, COMPLETED
+    }
+}
@@ -0,0 +1,269 @@
+package com.lookbook.base.infrastructure.projections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lookbook.base.application.projections.Projection;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.domain.exceptions.EntityNotFoundException;
+import com.lookbook.base.domain.exceptions.ValidationException;
+import com.lookbook.base.infrastructure.config.ProjectionReplayProperties;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.base.infrastructure.eventstore.EventPayloadCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds {@link Projection}s by replaying the event store.
+ * <p>
+ * Events are read in position order in batches, and the next batch is read
+ * while the current one is applied. Each batch is split into partitions by
+ * aggregate ID, and the partitions are applied in parallel on a fork-join
+ * pool; a partition applies its events in order, so every aggregate sees its
+ * events in append order. After a batch the projection is flushed and the
+ * checkpoint advanced in one transaction, so an interrupted rebuild resumes
+ * after the last completed batch.
+ * <p>
+ * A rebuild replays the events appended before it started; later events
+ * reach the read model through its live subscription.
+ */
+@Slf4j
+@Component
+public class ProjectionReplayEngine implements DisposableBean {
+
+    private final Map<String, Projection> projections;
+    private final ProjectionReplayRepository repository;
+    private final DomainEventRegistry registry;
+    private final ProjectionReplayProperties config;
+    private final TransactionTemplate transaction;
+    private final ForkJoinPool pool;
+    private final int partitionCount;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("projection-rebuild").daemon().factory());
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public ProjectionReplayEngine(ObjectProvider<Projection> projections, ProjectionReplayRepository repository,
+            DomainEventRegistry registry, PlatformTransactionManager transactionManager,
+            ProjectionReplayProperties properties) {
+        this.projections = projections.orderedStream().collect(Collectors.toMap(
+                Projection::name, projection -> projection, (a, b) -> {
+                    throw new IllegalStateException("Duplicate projection name " + a.name());
+                }, LinkedHashMap::new));
+        this.repository = repository;
+        this.registry = registry;
+        this.config = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.partitionCount = parallelism * Math.max(1, properties.getPartitionsPerThread());
+    }
+
+    /**
+     * Gets the rebuild progress of every registered projection.
+     *
+     * @return The checkpoint of each projection by name, null for projections
+     *         that were never rebuilt
+     */
+    public Map<String, ProjectionCheckpoint> getStatus() {
+        Map<String, ProjectionCheckpoint> checkpoints = repository.findCheckpoints().stream()
+                .collect(Collectors.toMap(ProjectionCheckpoint::projection, checkpoint -> checkpoint));
+        Map<String, ProjectionCheckpoint> status = new LinkedHashMap<>();
+        projections.keySet().forEach(name -> status.put(name, checkpoints.get(name)));
+        return status;
+    }
+
+    /**
+     * Starts a rebuild in the background.
+     * An unfinished earlier rebuild is resumed from its checkpoint unless a
+     * restart is requested.
+     *
+     * @param name    The projection name
+     * @param restart Whether to start from the first event regardless
+     * @throws EntityNotFoundException if no such projection exists
+     * @throws ValidationException     if the projection is already rebuilding
+     */
+    public void startRebuild(String name, boolean restart) {
+        Projection projection = projections.get(name);
+        if (projection == null) {
+            throw new EntityNotFoundException(Projection.class, name);
+        }
+        if (!running.add(name)) {
+            throw new ValidationException("Projection " + name + " is already being rebuilt");
+        }
+        runner.execute(() -> {
+            try {
+                rebuild(projection, restart);
+            } catch (RuntimeException e) {
+                log.error("Rebuild of projection {} failed", name, e);
+            } finally {
+                running.remove(name);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds a projection on the calling thread.
+     *
+     * @param projection The projection
+     * @param restart    Whether to start from the first event regardless
+     * @return The number of events replayed by this run
+     */
+    public long rebuild(Projection projection, boolean restart) {
+        String name = projection.name();
+        Set<String> eventTypes = projection.eventTypes().stream()
+                .map(Class::getSimpleName)
+                .collect(Collectors.toUnmodifiableSet());
+
+        Optional<ProjectionCheckpoint> checkpoint = repository.findCheckpoint(name)
+                .filter(existing -> !restart && existing.status() != ProjectionCheckpoint.Status.COMPLETED);
+        long position;
+        long target;
+        if (checkpoint.isPresent()) {
+            position = checkpoint.get().position();
+            target = checkpoint.get().targetPosition();
+            log.info("Resuming rebuild of projection {} at position {} of {}", name, position, target);
+        } else {
+            position = 0;
+            target = repository.lastPosition();
+            transaction.executeWithoutResult(status -> {
+                projection.reset();
+                repository.startRebuild(name, target);
+            });
+            log.info("Rebuilding projection {} from the first event up to position {}", name, target);
+        }
+
+        long started = System.nanoTime();
+        long replayed = 0;
+        ExecutorService reader = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("projection-reader").daemon().factory());
+        try {
+            CompletableFuture<List<ReplayRecord>> next = read(reader, position, target, eventTypes);
+            while (true) {
+                List<ReplayRecord> batch = join(next);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                long last = batch.get(batch.size() - 1).position();
+                next = last < target && batch.size() == config.getBatchSize()
+                        ? read(reader, last, target, eventTypes)
+                        : CompletableFuture.completedFuture(List.of());
+
+                apply(projection, batch);
+                transaction.executeWithoutResult(status -> {
+                    projection.flush();
+                    repository.saveCheckpoint(name, last, ProjectionCheckpoint.Status.RUNNING, null);
+                });
+                position = last;
+                replayed += batch.size();
+            }
+            repository.saveCheckpoint(name, target, ProjectionCheckpoint.Status.COMPLETED, null);
+        } catch (RuntimeException e) {
+            projection.discard();
+            repository.saveCheckpoint(name, position, ProjectionCheckpoint.Status.FAILED,
+                    String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+            throw e;
+        } finally {
+            reader.shutdownNow();
+        }
+
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Rebuilt projection {}: {} events in {} ms ({} events/s)",
+                name, replayed, millis, replayed * 1000 / millis);
+        return replayed;
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private CompletableFuture<List<ReplayRecord>> read(ExecutorService reader, long after, long target,
+            Set<String> eventTypes) {
+        return CompletableFuture.supplyAsync(
+                () -> repository.readBatch(after, target, config.getBatchSize(), eventTypes), reader);
+    }
+
+    /**
+     * Applies a batch with one fork-join task per non-empty aggregate
+     * partition.
+     */
+    private void apply(Projection projection, List<ReplayRecord> batch) {
+        List<List<ReplayRecord>> partitions = partition(batch, partitionCount);
+        List<RecursiveAction> tasks = new ArrayList<>(partitions.size());
+        for (List<ReplayRecord> partition : partitions) {
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    for (ReplayRecord record : partition) {
+                        projection.apply(decode(record));
+                    }
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Splits a batch by aggregate ID, keeping each partition in position
+     * order.
+     *
+     * @param batch      The events in position order
+     * @param partitions The number of partitions to spread aggregates over
+     * @return The non-empty partitions
+     */
+    static List<List<ReplayRecord>> partition(List<ReplayRecord> batch, int partitions) {
+        List<List<ReplayRecord>> buckets = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            buckets.add(new ArrayList<>(batch.size() / partitions + 1));
+        }
+        for (ReplayRecord record : batch) {
+            buckets.get(Math.floorMod(record.aggregateId().hashCode(), partitions)).add(record);
+        }
+        buckets.removeIf(List::isEmpty);
+        return buckets;
+    }
+
+    private DomainEvent decode(ReplayRecord record) {
+        return registry.reconstitute(record.eventType(), record.eventId(), record.occurredAt(),
+                EventPayloadCodec.decode(record.payload()));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.lookbook.base.infrastructure.projections;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC access for projection rebuilds: keyset reads of the event_store in
+ * position order and the projection_checkpoints table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectionReplayRepository {
+
+    private static final String READ_PREFIX = "SELECT position, event_id, aggregate_id, event_type_id, "
+            + "occurred_at, payload FROM event_store WHERE position > ? AND position <= ? ";
+    private static final String READ_SUFFIX = "ORDER BY position LIMIT ?";
+    private static final String TYPE_FILTER = "AND event_type_id = ANY(?) ";
+
+    private static final String LAST_POSITION_SQL = "SELECT COALESCE(MAX(position), 0) FROM event_store";
+
+    private static final String CHECKPOINT_COLUMNS = "SELECT projection, position, target_position, status, "
+            + "last_error, started_at, updated_at FROM projection_checkpoints ";
+
+    private static final String START_SQL = "INSERT INTO projection_checkpoints "
+            + "(projection, position, target_position, status) VALUES (?, 0, ?, 'RUNNING') "
+            + "ON CONFLICT (projection) DO UPDATE SET position = 0, target_position = EXCLUDED.target_position, "
+            + "status = 'RUNNING', last_error = NULL, started_at = now(), updated_at = now()";
+
+    private static final String SAVE_SQL = "UPDATE projection_checkpoints "
+            + "SET position = ?, status = ?, last_error = ?, updated_at = now() WHERE projection = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Short, String> typeNames = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the next events in position order.
+     *
+     * @param afterPosition Events at or before this position are skipped
+     * @param upToPosition  Events after this position are not read
+     * @param limit         Maximum number of events to read
+     * @param eventTypes    Event type names to read, or empty for every type
+     * @return The events in position order
+     */
+    public List<ReplayRecord> readBatch(long afterPosition, long upToPosition, int limit,
+            Collection<String> eventTypes) {
+        if (typeNames.isEmpty()) {
+            refreshTypeNames();
+        }
+        if (eventTypes.isEmpty()) {
+            return jdbcTemplate.query(READ_PREFIX + READ_SUFFIX, this::mapRecord,
+                    afterPosition, upToPosition, limit);
+        }
+        Object[] typeIds = typeIds(eventTypes);
+        if (typeIds.length == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(READ_PREFIX + TYPE_FILTER + READ_SUFFIX);
+            Array array = connection.createArrayOf("smallint", typeIds);
+            statement.setLong(1, afterPosition);
+            statement.setLong(2, upToPosition);
+            statement.setArray(3, array);
+            statement.setInt(4, limit);
+            return statement;
+        }, this::mapRecord);
+    }
+
+    /**
+     * Gets the position of the most recently appended event.
+     *
+     * @return The last position, or 0 for an empty store
+     */
+    public long lastPosition() {
+        Long position = jdbcTemplate.queryForObject(LAST_POSITION_SQL, Long.class);
+        return position == null ? 0 : position;
+    }
+
+    /**
+     * Finds the checkpoint of a projection.
+     *
+     * @param projection The projection name
+     * @return The checkpoint, if the projection was ever rebuilt
+     */
+    public Optional<ProjectionCheckpoint> findCheckpoint(String projection) {
+        return jdbcTemplate.query(CHECKPOINT_COLUMNS + "WHERE projection = ?", this::mapCheckpoint, projection)
+                .stream().findFirst();
+    }
+
+    /**
+     * Finds every checkpoint.
+     *
+     * @return The checkpoints by projection name
+     */
+    public List<ProjectionCheckpoint> findCheckpoints() {
+        return jdbcTemplate.query(CHECKPOINT_COLUMNS + "ORDER BY projection", this::mapCheckpoint);
+    }
+
+    /**
+     * Records the start of a rebuild from the first event.
+     *
+     * @param projection     The projection name
+     * @param targetPosition The last position the rebuild replays
+     */
+    public void startRebuild(String projection, long targetPosition) {
+        jdbcTemplate.update(START_SQL, projection, targetPosition);
+    }
+
+    /**
+     * Records rebuild progress.
+     *
+     * @param projection The projection name
+     * @param position   The last position applied and flushed
+     * @param status     The rebuild status
+     * @param error      Why the rebuild failed, or null
+     */
+    public void saveCheckpoint(String projection, long position, ProjectionCheckpoint.Status status, String error) {
+        jdbcTemplate.update(SAVE_SQL, position, status.name(), error, projection);
+    }
+
+    private Object[] typeIds(Collection<String> eventTypes) {
+        if (!typeNames.values().containsAll(eventTypes)) {
+            // Types are interned on first append, so a missing name may have appeared since
+            refreshTypeNames();
+        }
+        List<Short> ids = new ArrayList<>(eventTypes.size());
+        typeNames.forEach((id, name) -> {
+            if (eventTypes.contains(name)) {
+                ids.add(id);
+            }
+        });
+        return ids.toArray();
+    }
+
+    private void refreshTypeNames() {
+        jdbcTemplate.query("SELECT id, name FROM event_types", rs -> {
+            typeNames.put(rs.getShort("id"), rs.getString("name"));
+        });
+    }
+
+    private ReplayRecord mapRecord(ResultSet rs, int rowNum) throws SQLException {
+        return new ReplayRecord(
+                rs.getLong("position"),
+                rs.getObject("event_id", UUID.class),
+                rs.getObject("aggregate_id", UUID.class),
+                typeName(rs.getShort("event_type_id")),
+                rs.getTimestamp("occurred_at").toLocalDateTime(),
+                rs.getBytes("payload"));
+    }
+
+    private String typeName(short id) {
+        return typeNames.computeIfAbsent(id,
+                key -> jdbcTemplate.queryForObject("SELECT name FROM event_types WHERE id = ?", String.class, key));
+    }
+
+    private ProjectionCheckpoint mapCheckpoint(ResultSet rs, int rowNum) throws SQLException {
+        return new ProjectionCheckpoint(
+                rs.getString("projection"),
+                rs.getLong("position"),
+                rs.getLong("target_position"),
+                ProjectionCheckpoint.Status.valueOf(rs.getString("status")),
+                rs.getString("last_error"),
+                rs.getTimestamp("started_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    }
+}
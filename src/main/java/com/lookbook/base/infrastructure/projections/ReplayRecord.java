@@ -0,0 +1,24 @@
+package com.lookbook.base.infrastructure.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An event store row read for replay, still in its stored form so that
+ * decoding happens on the replay workers rather than the reader.
+ *
+ * @param position    The event's position in the store
+ * @param eventId     The event's unique identifier
+ * @param aggregateId The aggregate the event belongs to
+ * @param eventType   The event type name
+ * @param occurredAt  When the event occurred
+ * @param payload     The encoded metadata
+ */
+public record ReplayRecord(
+        long position,
+        UUID eventId,
+        UUID aggregateId,
+        String eventType,
+        LocalDateTime occurredAt,
+        byte[] payload) {
+}
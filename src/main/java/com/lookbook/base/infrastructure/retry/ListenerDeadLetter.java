@@ -0,0 +1,26 @@
+package com.lookbook.base.infrastructure.retry;
+
+import java.time.LocalDateTime;
+
+/**
+ * A listener invocation that exhausted its retries.
+ *
+ * @param id            The dead letter identifier
+ * @param listener      The listener name
+ * @param payloadType   The class of the original event
+ * @param payload       The event as JSON
+ * @param attempts      The number of retries made
+ * @param lastError     The failure of the last retry
+ * @param firstFailedAt When the original invocation failed
+ * @param deadAt        When the job was given up on
+ */
+public record ListenerDeadLetter(
+        long id,
+        String listener,
+        String payloadType,
+        String payload,
+        int attempts,
+        String lastError,
+        LocalDateTime firstFailedAt,
+        LocalDateTime deadAt) {
+}
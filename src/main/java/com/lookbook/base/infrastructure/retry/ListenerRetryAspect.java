@@ -0,0 +1,72 @@
+package com.lookbook.base.infrastructure.retry;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lookbook.base.application.events.RetryableListener;
+import com.lookbook.base.infrastructure.config.ListenerRetryProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records failed {@link RetryableListener} invocations in the retry queue.
+ * Runs inside the async dispatcher but outside the transaction interceptor,
+ * so the listener's own transaction has rolled back before the job is
+ * written. The failure is still rethrown so the caller records it as usual.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "app.listener-retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ListenerRetryAspect {
+
+    private final ListenerRetryRepository repository;
+    private final RetryableListenerRegistry registry;
+    private final RetryBackoff backoff;
+    private final TransactionTemplate captureTransaction;
+
+    public ListenerRetryAspect(ListenerRetryRepository repository, RetryableListenerRegistry registry,
+            PlatformTransactionManager transactionManager, ListenerRetryProperties properties) {
+        this.repository = repository;
+        this.registry = registry;
+        this.backoff = new RetryBackoff(properties.getInitialBackoff(), properties.getMaxBackoff());
+        // AFTER_COMMIT listeners still see the finished transaction; the job needs its own
+        this.captureTransaction = new TransactionTemplate(transactionManager);
+        this.captureTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Around("@annotation(com.lookbook.base.application.events.RetryableListener)")
+    public Object capture(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ListenerRetryContext.isRetrying()) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            String listener = RetryableListenerRegistry.nameOf(((MethodSignature) joinPoint.getSignature()).getMethod());
+            record(listener, joinPoint.getArgs()[0], e);
+            throw e;
+        }
+    }
+
+    private void record(String listener, Object event, Throwable failure) {
+        try {
+            String payload = registry.serialize(event);
+            captureTransaction.executeWithoutResult(status -> repository.enqueue(listener,
+                    event.getClass().getName(), payload, String.valueOf(failure.getMessage()), backoff.delay(1)));
+            log.info("Queued {} for retry after failure: {}", listener, failure.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Failed to queue {} for retry, event is lost: {}", listener, event, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.lookbook.base.infrastructure.retry;
+
+/**
+ * Marks the current thread as running a listener retry.
+ * Retries run inline on the retry worker so their outcome reaches it, and a
+ * failing retry must not be recorded as a new job.
+ */
+public final class ListenerRetryContext {
+
+    private static final ThreadLocal<Boolean> RETRYING = new ThreadLocal<>();
+
+    private ListenerRetryContext() {
+    }
+
+    /**
+     * Checks whether the current thread is running a listener retry.
+     *
+     * @return true inside {@link #run(Runnable)}
+     */
+    public static boolean isRetrying() {
+        return RETRYING.get() != null;
+    }
+
+    static void run(Runnable retry) {
+        RETRYING.set(Boolean.TRUE);
+        try {
+            retry.run();
+        } finally {
+            RETRYING.remove();
+        }
+    }
+}
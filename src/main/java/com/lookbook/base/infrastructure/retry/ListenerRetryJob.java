@@ -0,0 +1,12 @@
+package com.lookbook.base.infrastructure.retry;
+
+/**
+ * A claimed listener_retry_jobs row.
+ *
+ * @param id       The job identifier
+ * @param listener The listener name, e.g. {@code EmailEventListener.handleEmailEvent}
+ * @param payload  The event as JSON
+ * @param attempts The number of retries already made
+ */
+public record ListenerRetryJob(long id, String listener, String payload, int attempts) {
+}
@@ -0,0 +1,152 @@
+package com.lookbook.base.infrastructure.retry;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC access to the listener_retry_jobs and listener_dead_letters tables.
+ * Claiming uses FOR UPDATE SKIP LOCKED together with a lease, like the outbox,
+ * so several workers can poll concurrently without running a job twice.
+ * Due times are computed by the database so node clocks do not matter.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ListenerRetryRepository {
+
+    private static final String ENQUEUE_SQL = "INSERT INTO listener_retry_jobs "
+            + "(listener, payload_type, payload, last_error, next_attempt_at) "
+            + "VALUES (?, ?, ?, ?, now() + (? * interval '1 millisecond'))";
+
+    private static final String CLAIM_SQL = "UPDATE listener_retry_jobs j "
+            + "SET locked_until = now() + (? * interval '1 millisecond') "
+            + "WHERE j.id IN ("
+            + "  SELECT id FROM listener_retry_jobs "
+            + "  WHERE next_attempt_at <= now() AND (locked_until IS NULL OR locked_until < now()) "
+            + "  ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING j.id, j.listener, j.payload, j.attempts";
+
+    private static final String DELETE_SQL = "DELETE FROM listener_retry_jobs WHERE id = ?";
+
+    private static final String RESCHEDULE_SQL = "UPDATE listener_retry_jobs "
+            + "SET attempts = ?, last_error = ?, locked_until = NULL, "
+            + "next_attempt_at = now() + (? * interval '1 millisecond') WHERE id = ?";
+
+    private static final String DEAD_LETTER_SQL = "WITH moved AS ("
+            + "  DELETE FROM listener_retry_jobs WHERE id = ? "
+            + "  RETURNING listener, payload_type, payload, created_at) "
+            + "INSERT INTO listener_dead_letters "
+            + "(listener, payload_type, payload, attempts, last_error, first_failed_at) "
+            + "SELECT listener, payload_type, payload, ?, ?, created_at FROM moved";
+
+    private static final String FIND_DEAD_LETTERS_SQL = "SELECT id, listener, payload_type, payload, attempts, "
+            + "last_error, first_failed_at, dead_at FROM listener_dead_letters ORDER BY id DESC LIMIT ?";
+
+    private static final String REPLAY_SQL = "WITH moved AS ("
+            + "  DELETE FROM listener_dead_letters WHERE id = ? "
+            + "  RETURNING listener, payload_type, payload, first_failed_at) "
+            + "INSERT INTO listener_retry_jobs (listener, payload_type, payload, next_attempt_at, created_at) "
+            + "SELECT listener, payload_type, payload, now(), first_failed_at FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records a failed invocation for a later retry.
+     *
+     * @param listener    The listener name
+     * @param payloadType The class of the event
+     * @param payload     The event as JSON
+     * @param error       A description of the failure
+     * @param delay       How long to wait before the first retry
+     */
+    public void enqueue(String listener, String payloadType, String payload, String error, Duration delay) {
+        jdbcTemplate.update(ENQUEUE_SQL, listener, payloadType, payload, error, delay.toMillis());
+    }
+
+    /**
+     * Claims due jobs for this worker.
+     *
+     * @param limit Maximum number of jobs to claim
+     * @param lease How long the jobs stay invisible to other workers
+     * @return The claimed jobs
+     */
+    public List<ListenerRetryJob> claimBatch(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ListenerRetryJob(
+                rs.getLong("id"),
+                rs.getString("listener"),
+                rs.getString("payload"),
+                rs.getInt("attempts")),
+                lease.toMillis(), limit);
+    }
+
+    /**
+     * Removes a job whose retry succeeded.
+     *
+     * @param id The job identifier
+     */
+    public void delete(long id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    /**
+     * Records a failed retry and releases the job until its next due time.
+     *
+     * @param id       The job identifier
+     * @param attempts The number of retries made so far
+     * @param error    A description of the failure
+     * @param delay    How long to wait before the next retry
+     */
+    public void reschedule(long id, int attempts, String error, Duration delay) {
+        jdbcTemplate.update(RESCHEDULE_SQL, attempts, error, delay.toMillis(), id);
+    }
+
+    /**
+     * Moves a job that will not be retried again to the dead-letter table.
+     *
+     * @param id       The job identifier
+     * @param attempts The number of retries made
+     * @param error    A description of the last failure
+     */
+    public void moveToDeadLetters(long id, int attempts, String error) {
+        jdbcTemplate.update(DEAD_LETTER_SQL, id, attempts, error);
+    }
+
+    /**
+     * Lists the most recent dead letters.
+     *
+     * @param limit Maximum number of dead letters to return
+     * @return The dead letters, newest first
+     */
+    public List<ListenerDeadLetter> findDeadLetters(int limit) {
+        return jdbcTemplate.query(FIND_DEAD_LETTERS_SQL, this::mapDeadLetter, limit);
+    }
+
+    /**
+     * Moves a dead letter back into the retry queue, due immediately and with
+     * a fresh retry budget.
+     *
+     * @param id The dead letter identifier
+     * @return false if no such dead letter exists
+     */
+    public boolean replay(long id) {
+        return jdbcTemplate.update(REPLAY_SQL, id) > 0;
+    }
+
+    private ListenerDeadLetter mapDeadLetter(ResultSet rs, int rowNum) throws SQLException {
+        return new ListenerDeadLetter(
+                rs.getLong("id"),
+                rs.getString("listener"),
+                rs.getString("payload_type"),
+                rs.getString("payload"),
+                rs.getInt("attempts"),
+                rs.getString("last_error"),
+                rs.getTimestamp("first_failed_at").toLocalDateTime(),
+                rs.getTimestamp("dead_at").toLocalDateTime());
+    }
+}
@@ -0,0 +1,120 @@
+package com.lookbook.base.infrastructure.retry;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lookbook.base.infrastructure.config.ListenerRetryProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Re-runs failed listener invocations from the retry queue on the scheduler
+ * thread, never on a request thread.
+ * A failed retry is rescheduled with jittered exponential backoff; a job that
+ * exhausts its retries, or can no longer be run at all, is moved to the
+ * dead-letter table for an admin to inspect and replay.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.listener-retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ListenerRetryWorker {
+
+    private final ListenerRetryRepository repository;
+    private final RetryableListenerRegistry registry;
+    private final ListenerRetryProperties config;
+    private final RetryBackoff backoff;
+    private final TransactionTemplate claimTransaction;
+    private final Counter succeeded;
+    private final Counter rescheduled;
+    private final Counter deadLettered;
+
+    public ListenerRetryWorker(ListenerRetryRepository repository, RetryableListenerRegistry registry,
+            PlatformTransactionManager transactionManager, ListenerRetryProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.registry = registry;
+        this.config = properties;
+        this.backoff = new RetryBackoff(properties.getInitialBackoff(), properties.getMaxBackoff());
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.succeeded = outcomeCounter(meterRegistry, "succeeded");
+        this.rescheduled = outcomeCounter(meterRegistry, "rescheduled");
+        this.deadLettered = outcomeCounter(meterRegistry, "dead_lettered");
+    }
+
+    /**
+     * Retries due jobs until a batch comes back short or the per-poll batch
+     * limit is reached.
+     */
+    @Scheduled(fixedDelayString = "${app.listener-retry.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            for (int batch = 0; batch < config.getMaxBatchesPerPoll(); batch++) {
+                if (retryBatch() < config.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Listener retry poll failed", e);
+        }
+    }
+
+    /**
+     * Claims and retries one batch.
+     *
+     * @return The number of jobs claimed
+     */
+    int retryBatch() {
+        List<ListenerRetryJob> claimed = claimTransaction.execute(
+                status -> repository.claimBatch(config.getBatchSize(), config.getLease()));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        claimed.forEach(this::retry);
+        return claimed.size();
+    }
+
+    private void retry(ListenerRetryJob job) {
+        int attempt = job.attempts() + 1;
+        Runnable invocation;
+        try {
+            invocation = registry.prepare(job.listener(), job.payload());
+        } catch (IllegalArgumentException e) {
+            log.error("Dead-lettering retry job {}: {}", job.id(), e.getMessage());
+            repository.moveToDeadLetters(job.id(), job.attempts(), e.getMessage());
+            deadLettered.increment();
+            return;
+        }
+
+        try {
+            ListenerRetryContext.run(invocation);
+        } catch (RuntimeException e) {
+            String error = String.valueOf(e.getMessage());
+            if (attempt >= config.getMaxAttempts()) {
+                log.error("Retry {} of {} (job {}) failed, giving up", attempt, job.listener(), job.id(), e);
+                repository.moveToDeadLetters(job.id(), attempt, error);
+                deadLettered.increment();
+            } else {
+                log.warn("Retry {} of {} (job {}) failed: {}", attempt, job.listener(), job.id(), error);
+                repository.reschedule(job.id(), attempt, error, backoff.delay(attempt + 1));
+                rescheduled.increment();
+            }
+            return;
+        }
+        repository.delete(job.id());
+        succeeded.increment();
+        log.info("Retry {} of {} (job {}) succeeded", attempt, job.listener(), job.id());
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("listener.retry.attempts")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.lookbook.base.infrastructure.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with equal jitter: the delay doubles with every retry up
+ * to a cap, and the upper half of each delay is randomised so that jobs which
+ * failed together (e.g. during a mail outage) do not retry in lockstep.
+ */
+public class RetryBackoff {
+
+    private final long initialMillis;
+    private final long maxMillis;
+
+    public RetryBackoff(Duration initial, Duration max) {
+        if (initial.isNegative() || initial.isZero() || max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException("Backoff needs 0 < initial <= max");
+        }
+        this.initialMillis = initial.toMillis();
+        this.maxMillis = max.toMillis();
+    }
+
+    /**
+     * Gets the delay before a retry.
+     *
+     * @param retry The 1-based number of the upcoming retry
+     * @return A delay between half and all of the capped exponential delay
+     */
+    public Duration delay(int retry) {
+        int doublings = Math.min(Math.max(retry - 1, 0), 62);
+        long ceiling = initialMillis > maxMillis >> doublings ? maxMillis : initialMillis << doublings;
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+}
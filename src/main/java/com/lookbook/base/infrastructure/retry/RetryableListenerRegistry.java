@@ -0,0 +1,140 @@
+package com.lookbook.base.infrastructure.retry;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.lookbook.base.application.events.RetryableListener;
+
+/**
+ * Finds {@link RetryableListener} methods once all singletons exist and
+ * re-invokes them by name.
+ * Retries go through the bean's proxy, so transactions and the other aspects
+ * of the listener apply exactly as on the original invocation.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.listener-retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RetryableListenerRegistry implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+    private final Map<String, Target> listeners = new ConcurrentHashMap<>();
+    // Events are rebuilt through their constructors, which compile with parameter names
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new ParameterNamesModule())
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    public RetryableListenerRegistry(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type != null) {
+                register(beanName, ClassUtils.getUserClass(type));
+            }
+        }
+    }
+
+    /**
+     * Gets the name under which a listener method's failures are recorded.
+     *
+     * @param method The listener method
+     * @return The listener name, e.g. {@code EmailEventListener.handleEmailEvent}
+     */
+    public static String nameOf(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    /**
+     * Serializes an event for storage in the retry queue.
+     *
+     * @param event The event passed to the failed listener
+     * @return The event as JSON
+     */
+    public String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + event.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Prepares the re-invocation of a listener.
+     *
+     * @param listener The listener name
+     * @param payload  The stored event
+     * @return The invocation; listener failures propagate unchanged
+     * @throws IllegalArgumentException if the listener no longer exists or the
+     *                                  payload no longer fits its parameter
+     */
+    public Runnable prepare(String listener, String payload) {
+        Target target = listeners.get(listener);
+        if (target == null) {
+            throw new IllegalArgumentException("No retryable listener named " + listener);
+        }
+        Object event;
+        try {
+            event = objectMapper.readValue(payload, target.method().getParameterTypes()[0]);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unreadable payload for " + listener + ": " + e.getOriginalMessage(), e);
+        }
+        return () -> invoke(target, event);
+    }
+
+    void register(String beanName, Class<?> type) {
+        if (!AnnotationUtils.isCandidateClass(type, RetryableListener.class)) {
+            return;
+        }
+        Map<Method, RetryableListener> methods = MethodIntrospector.selectMethods(type,
+                (MethodIntrospector.MetadataLookup<RetryableListener>) method -> AnnotatedElementUtils
+                        .findMergedAnnotation(method, RetryableListener.class));
+        methods.keySet().forEach(method -> {
+            if (method.getParameterCount() != 1) {
+                throw new IllegalStateException("@RetryableListener method must take exactly one event: " + method);
+            }
+            Target previous = listeners.putIfAbsent(nameOf(method), new Target(beanName, method));
+            if (previous != null && !previous.beanName().equals(beanName)) {
+                throw new IllegalStateException("Duplicate retryable listener name " + nameOf(method));
+            }
+        });
+    }
+
+    private void invoke(Target target, Object event) {
+        Object bean = beanFactory.getBean(target.beanName());
+        Method method = AopUtils.selectInvocableMethod(target.method(), bean.getClass());
+        ReflectionUtils.makeAccessible(method);
+        try {
+            method.invoke(bean, event);
+        } catch (InvocationTargetException e) {
+            ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot invoke " + method, e);
+        }
+    }
+
+    private record Target(String beanName, Method method) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.lookbook.base.domain.identity.Ids;
+import com.lookbook.base.infrastructure.api.utils.RequestRoutes;
+import com.lookbook.base.infrastructure.config.TracingProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Assigns each request a correlation ID at the HTTP edge and records the
+ * request's span.
+ * A well-formed ID sent by the client is reused so that calls can be traced
+ * across services; anything else is replaced. The ID is echoed in the
+ * response.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final Tracer tracer;
+    private final TracingProperties properties;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String correlationId = request.getHeader(properties.getHeader());
+        if (correlationId == null || !VALID_ID.matcher(correlationId).matches()) {
+            correlationId = Ids.next().toString();
+        }
+        response.setHeader(properties.getHeader(), correlationId);
+
+        try (CorrelationScope scope = CorrelationScope.open(correlationId)) {
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                filterChain.doFilter(request, response);
+                failed = response.getStatus() >= 500;
+            } finally {
+                tracer.record(request.getMethod() + " " + RequestRoutes.routeOf(request), startedAt,
+                        Duration.ofNanos(System.nanoTime() - start), failed);
+            }
+        }
+    }
+}
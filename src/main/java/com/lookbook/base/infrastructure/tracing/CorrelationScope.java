@@ -0,0 +1,84 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import org.slf4j.MDC;
+
+import com.lookbook.base.domain.events.CorrelationContext;
+
+/**
+ * Binds a correlation ID to the current thread, and to the logging MDC, until
+ * closed; closing restores whatever was bound before.
+ * <p>
+ * Work handed to another thread captures {@link CorrelationContext#current()}
+ * and the hand-off time, and the receiving thread calls
+ * {@link #resume(String, long)}; the first span recorded there reports the
+ * time between hand-off and start as its queue wait.
+ */
+public final class CorrelationScope implements AutoCloseable {
+
+    /**
+     * The logging MDC key holding the correlation ID.
+     */
+    public static final String MDC_KEY = "correlationId";
+
+    private static final ThreadLocal<Long> HANDED_OFF_AT = new ThreadLocal<>();
+
+    private final String previous;
+
+    private CorrelationScope(String correlationId) {
+        this.previous = CorrelationContext.swap(correlationId);
+        putMdc(correlationId);
+    }
+
+    /**
+     * Binds a correlation ID to the current thread.
+     *
+     * @param correlationId The correlation ID, or null to run uncorrelated
+     * @return The scope to close when the work is done
+     */
+    public static CorrelationScope open(String correlationId) {
+        return new CorrelationScope(correlationId);
+    }
+
+    /**
+     * Binds a correlation ID captured on another thread.
+     *
+     * @param correlationId  The captured correlation ID
+     * @param handedOffNanos The {@link System#nanoTime()} of the hand-off
+     * @return The scope to close when the work is done
+     */
+    public static CorrelationScope resume(String correlationId, long handedOffNanos) {
+        HANDED_OFF_AT.set(handedOffNanos);
+        return new CorrelationScope(correlationId);
+    }
+
+    /**
+     * Takes the pending queue wait of the current thread, if a hand-off is
+     * still unaccounted for.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     * @return The queue wait in nanoseconds, or 0
+     */
+    static long takeQueueWait(long nowNanos) {
+        Long handedOffAt = HANDED_OFF_AT.get();
+        if (handedOffAt == null) {
+            return 0;
+        }
+        HANDED_OFF_AT.remove();
+        return Math.max(0, nowNanos - handedOffAt);
+    }
+
+    @Override
+    public void close() {
+        HANDED_OFF_AT.remove();
+        CorrelationContext.swap(previous);
+        putMdc(previous);
+    }
+
+    private static void putMdc(String correlationId) {
+        if (correlationId == null) {
+            MDC.remove(MDC_KEY);
+        } else {
+            MDC.put(MDC_KEY, correlationId);
+        }
+    }
+}
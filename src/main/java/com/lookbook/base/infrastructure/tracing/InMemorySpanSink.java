@@ -0,0 +1,78 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the most recent spans in memory, for tests and local debugging.
+ */
+public class InMemorySpanSink implements SpanSink {
+
+    private final int capacity;
+    private final ArrayDeque<Span> spans;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public InMemorySpanSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public void export(Span span) {
+        lock.lock();
+        try {
+            if (spans.size() == capacity) {
+                spans.removeFirst();
+            }
+            spans.addLast(span);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the retained spans, oldest first.
+     *
+     * @return A snapshot of the spans
+     */
+    public List<Span> getSpans() {
+        lock.lock();
+        try {
+            return List.copyOf(spans);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the retained spans of one correlation ID, oldest first.
+     *
+     * @param correlationId The correlation ID
+     * @return A snapshot of the matching spans
+     */
+    public List<Span> getSpans(String correlationId) {
+        lock.lock();
+        try {
+            return spans.stream().filter(span -> Objects.equals(span.correlationId(), correlationId)).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops every retained span.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            spans.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Exports spans as Micrometer timers tagged by hop name, so per-hop latency
+ * and async queue wait show up next to the other application metrics.
+ */
+public class MetricsSpanSink implements SpanSink {
+
+    private final MeterRegistry registry;
+
+    public MetricsSpanSink(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void export(Span span) {
+        Timer.builder("trace.span.duration")
+                .tag("span", span.name())
+                .tag("outcome", span.failed() ? "error" : "success")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(span.duration().toNanos(), TimeUnit.NANOSECONDS);
+        if (!span.queueWait().isZero()) {
+            Timer.builder("trace.span.queue.wait")
+                    .tag("span", span.name())
+                    .register(registry)
+                    .record(span.queueWait().toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
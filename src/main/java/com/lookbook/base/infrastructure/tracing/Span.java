@@ -0,0 +1,24 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A timed hop of correlated work: a request, a service call, an outbox relay
+ * or a listener invocation.
+ *
+ * @param correlationId The correlation ID, or null for uncorrelated work
+ * @param name          The hop name, e.g. {@code UserApplicationService.registerUser}
+ * @param startedAt     When the hop started running
+ * @param queueWait     How long the hop waited between hand-off and start
+ * @param duration      How long the hop ran
+ * @param failed        Whether the hop ended with an exception
+ */
+public record Span(
+        String correlationId,
+        String name,
+        Instant startedAt,
+        Duration queueWait,
+        Duration duration,
+        boolean failed) {
+}
@@ -0,0 +1,15 @@
+package com.lookbook.base.infrastructure.tracing;
+
+/**
+ * Receives finished spans. Every sink bean receives every span; sinks are
+ * called on the traced thread, so they must be fast and thread-safe.
+ */
+public interface SpanSink {
+
+    /**
+     * Exports a finished span.
+     *
+     * @param span The span
+     */
+    void export(Span span);
+}
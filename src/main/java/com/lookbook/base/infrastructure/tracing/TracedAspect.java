@@ -0,0 +1,36 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.application.tracing.Traced;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records a span around {@link Traced} methods.
+ * Runs inside the async listener and retry aspects, so a listener span starts
+ * on the thread that runs it, and outside the transaction interceptor, so the
+ * span includes the commit.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class TracedAspect {
+
+    private final Tracer tracer;
+
+    @Around("execution(public * *(..)) && (@annotation(com.lookbook.base.application.tracing.Traced) "
+            + "|| @within(com.lookbook.base.application.tracing.Traced))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String name = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        return tracer.trace(name, joinPoint::proceed);
+    }
+}
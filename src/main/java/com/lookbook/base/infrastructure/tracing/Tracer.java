@@ -0,0 +1,131 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.domain.events.CorrelationContext;
+import com.lookbook.base.infrastructure.config.TracingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records spans and hands them to every {@link SpanSink}.
+ * A failing sink is logged and skipped; tracing never fails the traced work.
+ */
+@Slf4j
+@Component
+public class Tracer {
+
+    /**
+     * Traced work.
+     */
+    @FunctionalInterface
+    public interface Work {
+        Object run() throws Throwable;
+    }
+
+    private final List<SpanSink> sinks;
+    private final boolean enabled;
+
+    public Tracer(ObjectProvider<SpanSink> sinks, TracingProperties properties) {
+        this.sinks = sinks.orderedStream().toList();
+        this.enabled = properties.isEnabled() && !this.sinks.isEmpty();
+    }
+
+    /**
+     * Runs work and records a span for it. A queue wait left by an async
+     * hand-off to this thread is attributed to this span.
+     *
+     * @param name The span name
+     * @param work The work
+     * @return The work's result
+     * @throws Throwable Whatever the work throws
+     */
+    public Object trace(String name, Work work) throws Throwable {
+        if (!enabled) {
+            return work.run();
+        }
+        long start = System.nanoTime();
+        return trace(name, CorrelationScope.takeQueueWait(start), start, work);
+    }
+
+    /**
+     * Runs work and records a span for it with a known queue wait, e.g. the
+     * time an event spent in the outbox.
+     *
+     * @param name      The span name
+     * @param queueWait How long the work waited to start
+     * @param work      The work
+     * @return The work's result
+     * @throws Throwable Whatever the work throws
+     */
+    public Object trace(String name, Duration queueWait, Work work) throws Throwable {
+        if (!enabled) {
+            return work.run();
+        }
+        return trace(name, Math.max(0, queueWait.toNanos()), System.nanoTime(), work);
+    }
+
+    /**
+     * Runs work that throws no checked exceptions and records a span for it
+     * with a known queue wait.
+     *
+     * @param name      The span name
+     * @param queueWait How long the work waited to start
+     * @param work      The work
+     */
+    public void trace(String name, Duration queueWait, Runnable work) {
+        try {
+            trace(name, queueWait, () -> {
+                work.run();
+                return null;
+            });
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // A Runnable cannot throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Records a span for work that was timed by the caller.
+     *
+     * @param name      The span name
+     * @param startedAt When the work started
+     * @param duration  How long the work ran
+     * @param failed    Whether the work failed
+     */
+    public void record(String name, Instant startedAt, Duration duration, boolean failed) {
+        if (enabled) {
+            export(new Span(CorrelationContext.current(), name, startedAt, Duration.ZERO, duration, failed));
+        }
+    }
+
+    private Object trace(String name, long queueWaitNanos, long start, Work work) throws Throwable {
+        Instant startedAt = Instant.now();
+        boolean failed = true;
+        try {
+            Object result = work.run();
+            failed = false;
+            return result;
+        } finally {
+            export(new Span(CorrelationContext.current(), name, startedAt, Duration.ofNanos(queueWaitNanos),
+                    Duration.ofNanos(System.nanoTime() - start), failed));
+        }
+    }
+
+    private void export(Span span) {
+        for (SpanSink sink : sinks) {
+            try {
+                sink.export(span);
+            } catch (RuntimeException e) {
+                log.warn("Span sink {} failed", sink.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
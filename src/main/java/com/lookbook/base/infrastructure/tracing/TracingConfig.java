@@ -0,0 +1,29 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.lookbook.base.infrastructure.config.TracingProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers the built-in span sinks. Any other {@link SpanSink} bean receives
+ * spans as well.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing.metrics-sink", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MetricsSpanSink metricsSpanSink(MeterRegistry registry) {
+        return new MetricsSpanSink(registry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing.in-memory-sink", name = "enabled", havingValue = "true")
+    public InMemorySpanSink inMemorySpanSink(TracingProperties properties) {
+        return new InMemorySpanSink(properties.getInMemorySink().getCapacity());
+    }
+}
@@ -1,30 +1,92 @@
 package com.lookbook.communication.infrastructure.adapters;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import com.lookbook.communication.application.ports.services.EmailService;
+import com.lookbook.communication.infrastructure.config.MailDeliveryProperties;
+import com.lookbook.communication.infrastructure.mail.EmailTemplateCache;
+import com.lookbook.communication.infrastructure.mail.MailDeliveryQueue;
+import com.lookbook.communication.infrastructure.mail.MailMessage;
+import com.lookbook.communication.infrastructure.mail.SmtpException;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementation of the EmailService interface.
- * Handles the actual sending of emails using a template engine.
+ * Renders the message from a cached, precompiled template and queues it for
+ * batched delivery over pooled SMTP connections, then waits until the server
+ * accepted it. Transient failures, and deliveries not finished within the
+ * SMTP timeouts, are thrown, so the caller can retry them; messages the
+ * server refuses for good are logged only. When delivery is
+ * disabled the message is rendered and logged only.
  */
 @Slf4j
 @Service
 public class EmailServiceAdapter implements EmailService {
 
+    private final EmailTemplateCache templates;
+    private final MailDeliveryQueue deliveryQueue;
+    private final String from;
+    private final Duration deliveryTimeout;
+
+    public EmailServiceAdapter(EmailTemplateCache templates, ObjectProvider<MailDeliveryQueue> deliveryQueue,
+            MailDeliveryProperties properties) {
+        this.templates = templates;
+        this.deliveryQueue = deliveryQueue.getIfAvailable();
+        this.from = properties.getFrom();
+        this.deliveryTimeout = deliveryTimeout(properties);
+    }
+
     @Override
     public void sendEmail(String to, String subject, String template, Map<String, Object> templateData) {
-        log.info("Sending email to: {} with subject: {} using template: {}", to, subject, template);
-
-        // TODO: Implement actual email sending logic
-        // 1. Load template
-        // 2. Process template with data
-        // 3. Send email using configured email service
+        String body = templates.get(template).render(templateData);
+        if (deliveryQueue == null) {
+            log.info("Mail delivery disabled; not sending {} to: {}", template, to);
+            return;
+        }
+        try {
+            deliveryQueue.enqueue(new MailMessage(from, to, subject, body))
+                    .get(deliveryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.debug("Delivered email to: {} using template: {}", to, template);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SmtpException rejection && rejection.isPermanent()
+                    || cause instanceof IllegalArgumentException) {
+                // Retrying cannot change the outcome
+                log.warn("Email to: {} was refused: {}", to, cause.getMessage());
+                return;
+            }
+            throw new UncheckedIOException("Failed to deliver email to " + to,
+                    cause instanceof IOException io ? io : new IOException(cause));
+        } catch (TimeoutException e) {
+            // The message may still go out later; a retry can then send it twice
+            throw new UncheckedIOException("Timed out delivering email to " + to + " after " + deliveryTimeout,
+                    new IOException(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while delivering email to " + to, e);
+        }
+    }
 
-        log.info("Email sent successfully to: {}", to);
+    /**
+     * Bounds the wait for one message: the batch linger, waiting for a pooled
+     * connection, opening it, and one read timeout each for the server's
+     * greeting of a new conversation and its reply to this message.
+     */
+    private static Duration deliveryTimeout(MailDeliveryProperties properties) {
+        MailDeliveryProperties.Smtp smtp = properties.getSmtp();
+        return properties.getBatch().getLinger()
+                .plus(properties.getPool().getBorrowTimeout())
+                .plus(smtp.getConnectTimeout())
+                .plus(smtp.getReadTimeout().multipliedBy(2));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.lookbook.communication.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import com.lookbook.communication.infrastructure.mail.EmailTemplateCache;
+import com.lookbook.communication.infrastructure.mail.MailDeliveryQueue;
+import com.lookbook.communication.infrastructure.mail.SmtpConnection;
+import com.lookbook.communication.infrastructure.mail.SmtpConnectionPool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configures email rendering and SMTP delivery.
+ */
+@Configuration
+public class MailDeliveryConfig {
+
+    @Bean
+    public EmailTemplateCache emailTemplateCache(ResourceLoader resourceLoader, MailDeliveryProperties properties) {
+        return new EmailTemplateCache(resourceLoader, properties.getTemplateLocation());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.mail", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SmtpConnectionPool smtpConnectionPool(MailDeliveryProperties properties) {
+        MailDeliveryProperties.Smtp smtp = properties.getSmtp();
+        SmtpConnection.Settings settings = new SmtpConnection.Settings(
+                smtp.getHost(), smtp.getPort(), smtp.getUsername(), smtp.getPassword(), smtp.isStartTls(),
+                (int) smtp.getConnectTimeout().toMillis(), (int) smtp.getReadTimeout().toMillis(),
+                smtp.getHeloName());
+        MailDeliveryProperties.Pool pool = properties.getPool();
+        return new SmtpConnectionPool(() -> SmtpConnection.open(settings),
+                pool.getMaxConnections(), pool.getMaxIdle(), pool.getProbeAfter());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.mail", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MailDeliveryQueue mailDeliveryQueue(SmtpConnectionPool pool, MailDeliveryProperties properties,
+            MeterRegistry registry) {
+        MailDeliveryProperties.Batch batch = properties.getBatch();
+        return new MailDeliveryQueue(pool, batch.getCapacity(), batch.getSize(), batch.getLinger(),
+                batch.getPerDomainConcurrency(), properties.getPool().getBorrowTimeout(),
+                batch.getShutdownTimeout(), registry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.lookbook.communication.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.mail")
+public class MailDeliveryProperties {
+    /**
+     * Whether emails are delivered over SMTP; when disabled they are only
+     * rendered and logged.
+     */
+    private boolean enabled = true;
+    private String from = "Lookbook <no-reply@lookbook.local>";
+    private String templateLocation = "classpath:templates/email/";
+    private Smtp smtp = new Smtp();
+    private Pool pool = new Pool();
+    private Batch batch = new Batch();
+
+    @Data
+    public static class Smtp {
+        private String host = "localhost";
+        private int port = 25;
+        private String username;
+        private String password;
+        private boolean startTls = false;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private String heloName = "lookbook.local";
+    }
+
+    @Data
+    public static class Pool {
+        private int maxConnections = 8;
+        /**
+         * Idle connections are closed after this long, before the server
+         * drops them.
+         */
+        private Duration maxIdle = Duration.ofMinutes(2);
+        /**
+         * Idle connections are checked with a NOOP before reuse after this long.
+         */
+        private Duration probeAfter = Duration.ofSeconds(15);
+        private Duration borrowTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Batch {
+        private int capacity = 50_000;
+        private int size = 200;
+        /**
+         * How long a batch waits to fill up after its first message.
+         */
+        private Duration linger = Duration.ofMillis(100);
+        /**
+         * Maximum concurrent SMTP conversations per recipient domain.
+         */
+        private int perDomainConcurrency = 2;
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+}
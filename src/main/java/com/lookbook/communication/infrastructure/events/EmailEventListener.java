@@ -4,6 +4,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.lookbook.base.application.events.AsyncListener;
+import com.lookbook.base.application.events.RetryableListener;
+import com.lookbook.base.application.tracing.Traced;
 import com.lookbook.communication.application.events.SendEmailEvent;
 import com.lookbook.communication.application.ports.services.EmailService;
 
@@ -22,9 +25,16 @@ public class EmailEventListener {
 
     /**
      * Handles email sending events after successful transaction commit.
+     * Runs on the async dispatcher so a slow mail provider does not hold up
+     * the request that triggered the email. A failed send, including an
+     * unreachable or deferring mail server, is queued for retry, since the
+     * transaction that triggered it has already committed.
      *
      * @param event The email event to handle
      */
+    @Traced
+    @AsyncListener
+    @RetryableListener
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleEmailEvent(SendEmailEvent event) {
         log.info("Sending email to: {} using template: {}", event.getTo(), event.getTemplate());
@@ -34,10 +44,10 @@ public class EmailEventListener {
                     event.getSubject(),
                     event.getTemplate(),
                     event.getTemplateData());
-            log.info("Email sent successfully to: {}", event.getTo());
+            log.info("Finished sending email to: {}", event.getTo());
         } catch (Exception e) {
             log.error("Failed to send email to: {}", event.getTo(), e);
-            throw e; // Re-throw to trigger transaction rollback
+            throw e; // Re-throw so the failure is queued for retry and recorded
         }
     }
 }
\ No newline at end of file
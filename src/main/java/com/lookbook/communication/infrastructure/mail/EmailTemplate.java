@@ -0,0 +1,93 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An email template compiled once into literal text and placeholder
+ * segments, so rendering is a single pass over the segments.
+ * Placeholders are written {@code {{name}}}; values are HTML-escaped and
+ * missing values render as empty text.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int estimatedLength;
+
+    private EmailTemplate(String name, List<String> literals, List<String> placeholders) {
+        this.name = name;
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+        this.estimatedLength = literals.stream().mapToInt(String::length).sum() + 32 * placeholders.size();
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param name   The template name
+     * @param source The template text
+     * @return The compiled template
+     * @throws IllegalArgumentException if a placeholder is not closed
+     */
+    public static EmailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                literals.add(source.substring(position));
+                return new EmailTemplate(name, literals, placeholders);
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template " + name + " at " + open);
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param data The placeholder values
+     * @return The rendered text
+     */
+    public String render(Map<String, Object> data) {
+        StringBuilder out = new StringBuilder(estimatedLength);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            Object value = data == null ? null : data.get(placeholders[i]);
+            if (value != null) {
+                escapeHtml(String.valueOf(value), out);
+            }
+        }
+        return out.append(literals[placeholders.length]).toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static void escapeHtml(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * Loads email templates from {@code <location><name>.html} and keeps the
+ * compiled form, so each template is read and parsed once per node.
+ */
+public class EmailTemplateCache {
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final Map<String, EmailTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new template cache.
+     *
+     * @param resourceLoader Loads template resources
+     * @param location       The template location prefix, e.g. "classpath:templates/email/"
+     */
+    public EmailTemplateCache(ResourceLoader resourceLoader, String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+    }
+
+    /**
+     * Gets a compiled template.
+     *
+     * @param name The template name
+     * @return The compiled template
+     * @throws IllegalArgumentException if no such template exists
+     */
+    public EmailTemplate get(String name) {
+        return templates.computeIfAbsent(name, this::load);
+    }
+
+    /**
+     * Gets the number of compiled templates held.
+     *
+     * @return The template count
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    private EmailTemplate load(String name) {
+        if (!name.matches("[A-Za-z0-9_-]+")) {
+            throw new IllegalArgumentException("Invalid template name: " + name);
+        }
+        Resource resource = resourceLoader.getResource(location + name + ".html");
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("Unknown email template: " + name);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return EmailTemplate.compile(name, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read email template: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queues rendered messages and delivers them in batches over pooled SMTP
+ * connections.
+ * <p>
+ * A single batcher thread collects up to {@code batchSize} messages, waiting
+ * at most {@code linger} after the first one, and groups them by recipient
+ * domain. Each domain's messages are split across at most
+ * {@code perDomainConcurrency} senders, and a per-domain semaphore holds that
+ * limit across batches so a burst to one provider cannot trip its rate
+ * limits or starve other domains. A sender delivers its messages one after
+ * another on one borrowed connection. A message that fails because the
+ * connection dropped is retried once on a fresh connection.
+ * <p>
+ * Each queued message has a future that completes once the server accepted
+ * it, or fails with the reason it was not delivered. Callers that wait on it
+ * see transient failures, such as an unreachable server or a 4xx reply, and
+ * can retry them durably; the queue itself only lives in memory.
+ */
+@Slf4j
+public class MailDeliveryQueue implements AutoCloseable {
+
+    private final SmtpConnectionPool pool;
+    private final BlockingQueue<Delivery> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int perDomainConcurrency;
+    private final Duration borrowTimeout;
+    private final Duration shutdownTimeout;
+    private final Map<String, Semaphore> domainPermits = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("mail-sender-", 0).factory());
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread batcher;
+    private volatile boolean running = true;
+
+    private final Counter sent;
+    private final Counter rejected;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+
+    /**
+     * Creates and starts a delivery queue.
+     *
+     * @param pool                 The SMTP connection pool
+     * @param capacity             Maximum queued messages
+     * @param batchSize            Maximum messages per batch
+     * @param linger               How long a batch waits to fill up
+     * @param perDomainConcurrency Maximum concurrent senders per recipient domain
+     * @param borrowTimeout        How long a sender waits for a connection
+     * @param shutdownTimeout      How long {@link #close()} waits for queued messages
+     * @param registry             The registry receiving delivery metrics
+     */
+    public MailDeliveryQueue(SmtpConnectionPool pool, int capacity, int batchSize, Duration linger,
+            int perDomainConcurrency, Duration borrowTimeout, Duration shutdownTimeout, MeterRegistry registry) {
+        if (batchSize <= 0 || perDomainConcurrency <= 0) {
+            throw new IllegalArgumentException("batchSize and perDomainConcurrency must be positive");
+        }
+        this.pool = pool;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.perDomainConcurrency = perDomainConcurrency;
+        this.borrowTimeout = borrowTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.sent = outcomeCounter(registry, "sent");
+        this.rejected = outcomeCounter(registry, "rejected");
+        this.failed = outcomeCounter(registry, "failed");
+        this.batchSizes = DistributionSummary.builder("mail.batch.size").register(registry);
+        Gauge.builder("mail.queue.depth", queue, BlockingQueue::size).register(registry);
+        this.batcher = Thread.ofPlatform().name("mail-batcher").daemon().start(this::runBatcher);
+    }
+
+    /**
+     * Queues a message for delivery.
+     *
+     * @param message The message to deliver
+     * @return Completes once the server accepted the message; fails with the
+     *         {@link SmtpException} that rejected it, the
+     *         {@link IllegalArgumentException} for a malformed address, or the
+     *         {@link IOException} that kept it from being delivered
+     * @throws IllegalStateException if the queue is full or shut down
+     */
+    public CompletableFuture<Void> enqueue(MailMessage message) {
+        if (!running) {
+            throw new IllegalStateException("Mail delivery queue is shut down");
+        }
+        Delivery delivery = new Delivery(message, new CompletableFuture<>());
+        pending.incrementAndGet();
+        if (!queue.offer(delivery)) {
+            pending.decrementAndGet();
+            throw new IllegalStateException("Mail delivery queue is full");
+        }
+        return delivery.result();
+    }
+
+    /**
+     * Waits until every queued message has been delivered or given up on.
+     *
+     * @param timeout The maximum time to wait
+     * @return true if the queue drained in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting messages, delivers what is queued within the shutdown
+     * timeout and closes the pool.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            batcher.join(shutdownTimeout.toMillis());
+            if (!awaitIdle(shutdownTimeout)) {
+                log.warn("{} queued emails were not delivered before shutdown", pending.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batcher.interrupt();
+            senders.shutdownNow();
+            pool.close();
+            // Callers waiting on undelivered messages get a failure to retry
+            List<Delivery> undelivered = new ArrayList<>();
+            queue.drainTo(undelivered);
+            failRemaining(undelivered, 0, new IOException("Mail delivery queue shut down"));
+        }
+    }
+
+    private void runBatcher() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Delivery first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Delivery> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    Delivery next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Mail batcher failed", e);
+            }
+        }
+    }
+
+    private void dispatch(List<Delivery> batch) {
+        batchSizes.record(batch.size());
+        Map<String, List<Delivery>> byDomain = new LinkedHashMap<>();
+        for (Delivery delivery : batch) {
+            byDomain.computeIfAbsent(delivery.message().recipientDomain(), domain -> new ArrayList<>()).add(delivery);
+        }
+        byDomain.forEach((domain, messages) -> {
+            int lanes = Math.min(perDomainConcurrency, messages.size());
+            List<List<Delivery>> split = new ArrayList<>(lanes);
+            for (int lane = 0; lane < lanes; lane++) {
+                split.add(new ArrayList<>(messages.size() / lanes + 1));
+            }
+            for (int i = 0; i < messages.size(); i++) {
+                split.get(i % lanes).add(messages.get(i));
+            }
+            Semaphore permits = domainPermits.computeIfAbsent(domain, d -> new Semaphore(perDomainConcurrency));
+            split.forEach(lane -> senders.execute(() -> deliver(domain, permits, lane)));
+        });
+    }
+
+    private void deliver(String domain, Semaphore permits, List<Delivery> messages) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failRemaining(messages, 0, new IOException("Mail delivery interrupted", e));
+            return;
+        }
+        try {
+            sendAll(domain, messages);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Sends the messages one after another on a single borrowed connection.
+     * Every message ends up counted as sent, rejected or failed, and its
+     * future completed.
+     */
+    private void sendAll(String domain, List<Delivery> messages) {
+        SmtpConnection connection = null;
+        int index = 0;
+        boolean retried = false;
+        try {
+            while (index < messages.size()) {
+                if (connection == null) {
+                    connection = pool.borrow(borrowTimeout);
+                }
+                Delivery delivery = messages.get(index);
+                MailMessage message = delivery.message();
+                try {
+                    connection.send(message);
+                    complete(delivery, sent, null);
+                } catch (SmtpException e) {
+                    log.warn("Mail server {} email to {}: {}",
+                            e.isPermanent() ? "rejected" : "deferred", message.to(), e.getMessage());
+                    complete(delivery, e.isPermanent() ? rejected : failed, e);
+                } catch (IllegalArgumentException e) {
+                    log.warn("Skipping malformed email to {}: {}", message.to(), e.getMessage());
+                    complete(delivery, rejected, e);
+                } catch (IOException e) {
+                    pool.release(connection);
+                    connection = null;
+                    if (!retried) {
+                        // Pooled connections can go stale; try once on a fresh one
+                        retried = true;
+                        continue;
+                    }
+                    log.warn("Failed to deliver email to {}", message.to(), e);
+                    complete(delivery, failed, e);
+                }
+                index++;
+                retried = false;
+            }
+        } catch (IOException e) {
+            log.error("Could not reach the mail server for {} emails to {}", messages.size() - index, domain, e);
+            failRemaining(messages, index, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failRemaining(messages, index, new IOException("Mail delivery interrupted", e));
+        } finally {
+            if (connection != null) {
+                pool.release(connection);
+            }
+        }
+    }
+
+    private void failRemaining(List<Delivery> messages, int from, IOException cause) {
+        for (int i = from; i < messages.size(); i++) {
+            complete(messages.get(i), failed, cause);
+        }
+    }
+
+    private void complete(Delivery delivery, Counter outcome, Exception failure) {
+        outcome.increment();
+        pending.decrementAndGet();
+        if (failure == null) {
+            delivery.result().complete(null);
+        } else {
+            delivery.result().completeExceptionally(failure);
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("mail.messages")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record Delivery(MailMessage message, CompletableFuture<Void> result) {
+    }
+}
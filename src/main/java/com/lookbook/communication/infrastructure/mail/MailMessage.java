@@ -0,0 +1,24 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.util.Locale;
+
+/**
+ * A rendered email ready for delivery.
+ *
+ * @param from     The envelope and header sender
+ * @param to       The recipient
+ * @param subject  The subject line
+ * @param htmlBody The rendered HTML body
+ */
+public record MailMessage(String from, String to, String subject, String htmlBody) {
+
+    /**
+     * Gets the recipient's domain, used to group deliveries.
+     *
+     * @return The lower-cased domain part of the recipient address
+     */
+    public String recipientDomain() {
+        int at = to.lastIndexOf('@');
+        return at < 0 ? "" : to.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+}
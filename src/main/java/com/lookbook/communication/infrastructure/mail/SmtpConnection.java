@@ -0,0 +1,330 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A single persistent SMTP session that can deliver many messages.
+ * Messages are sent one after another on the same connection; the session
+ * is reset between messages only when a transaction was rejected part-way.
+ * Not thread-safe: a connection is used by one sender at a time through the
+ * {@link SmtpConnectionPool}.
+ */
+public class SmtpConnection implements AutoCloseable {
+
+    /**
+     * Connection settings.
+     *
+     * @param host           The server host
+     * @param port           The server port
+     * @param username       The AUTH PLAIN user, or null to skip authentication;
+     *                       requires STARTTLS
+     * @param password       The AUTH PLAIN password
+     * @param startTls       Whether to upgrade the session with STARTTLS,
+     *                       verifying the server's certificate against the host
+     * @param connectTimeout Connect timeout in milliseconds
+     * @param readTimeout    Reply timeout in milliseconds
+     * @param heloName       The name announced in EHLO
+     */
+    public record Settings(String host, int port, String username, String password, boolean startTls,
+            int connectTimeout, int readTimeout, String heloName) {
+
+        public Settings {
+            if (username != null && !username.isBlank() && !startTls) {
+                throw new IllegalArgumentException("SMTP credentials are only sent over STARTTLS; enable start-tls");
+            }
+        }
+    }
+
+    private static final Base64.Encoder BODY_ENCODER = Base64.getMimeEncoder(76, "\r\n".getBytes(StandardCharsets.US_ASCII));
+
+    private final Settings settings;
+    private Socket socket;
+    private BufferedReader reader;
+    private Writer writer;
+    private Set<String> extensions = new HashSet<>();
+    private boolean broken;
+    private long lastUsedNanos;
+    private int messagesSent;
+
+    private SmtpConnection(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Opens and greets a new session, upgrading and authenticating as
+     * configured.
+     *
+     * @param settings The connection settings
+     * @return The open connection
+     * @throws IOException if the server cannot be reached or refuses the session
+     */
+    public static SmtpConnection open(Settings settings) throws IOException {
+        SmtpConnection connection = new SmtpConnection(settings);
+        try {
+            connection.connect();
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            connection.closeQuietly();
+            throw e;
+        }
+    }
+
+    /**
+     * Delivers one message.
+     *
+     * @param message The message to deliver
+     * @throws SmtpException if the server rejects the message; the connection remains usable
+     * @throws IOException   if the connection fails; the connection is then broken
+     * @throws IllegalArgumentException if an address contains line breaks or brackets
+     */
+    public void send(MailMessage message) throws IOException {
+        String from = address(message.from());
+        String to = address(message.to());
+        if (isBroken()) {
+            throw new IOException("SMTP connection is broken");
+        }
+        try {
+            command("MAIL FROM:<" + from + ">", 250);
+            command("RCPT TO:<" + to + ">", 250, 251);
+            command("DATA", 354);
+            writeData(message);
+            expect(250);
+            messagesSent++;
+        } catch (SmtpException e) {
+            reset();
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            broken = true;
+            throw e;
+        } finally {
+            lastUsedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Checks that the session is still alive with a NOOP.
+     *
+     * @return true if the server answered
+     */
+    public boolean probe() {
+        if (broken) {
+            return false;
+        }
+        try {
+            command("NOOP", 250);
+            return true;
+        } catch (IOException e) {
+            broken = true;
+            return false;
+        }
+    }
+
+    public boolean isBroken() {
+        return broken || socket.isClosed();
+    }
+
+    public long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+
+    public int getMessagesSent() {
+        return messagesSent;
+    }
+
+    /**
+     * Ends the session politely and closes the socket.
+     */
+    @Override
+    public void close() {
+        if (!broken && socket != null && !socket.isClosed()) {
+            try {
+                command("QUIT", 221);
+            } catch (IOException e) {
+                // The connection is being discarded anyway
+            }
+        }
+        closeQuietly();
+    }
+
+    private void connect() throws IOException {
+        socket = new Socket();
+        socket.connect(new InetSocketAddress(settings.host(), settings.port()), settings.connectTimeout());
+        socket.setSoTimeout(settings.readTimeout());
+        bindStreams();
+        expect(220);
+        ehlo();
+
+        if (settings.startTls()) {
+            if (!extensions.contains("STARTTLS")) {
+                throw new SmtpException(0, "Server does not offer STARTTLS");
+            }
+            command("STARTTLS", 220);
+            SSLSocket tls = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                    .createSocket(socket, settings.host(), settings.port(), true);
+            // Without this the certificate is trusted for any host name
+            SSLParameters parameters = tls.getSSLParameters();
+            parameters.setEndpointIdentificationAlgorithm("HTTPS");
+            tls.setSSLParameters(parameters);
+            tls.startHandshake();
+            socket = tls;
+            bindStreams();
+            ehlo();
+        }
+
+        if (settings.username() != null && !settings.username().isBlank()) {
+            if (!(socket instanceof SSLSocket)) {
+                throw new SmtpException(0, "Refusing to authenticate without TLS");
+            }
+            String credentials = "\0" + settings.username() + "\0" + settings.password();
+            command("AUTH PLAIN " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)),
+                    235);
+        }
+        lastUsedNanos = System.nanoTime();
+    }
+
+    private void ehlo() throws IOException {
+        writeLine("EHLO " + settings.heloName());
+        Reply reply = readReply();
+        if (reply.code() != 250) {
+            throw new SmtpException(reply.code(), "EHLO rejected: " + reply.text());
+        }
+        Set<String> offered = new HashSet<>();
+        String[] lines = reply.text().split("\n");
+        for (int i = 1; i < lines.length; i++) {
+            offered.add(lines[i].split(" ", 2)[0].toUpperCase(Locale.ROOT));
+        }
+        extensions = offered;
+    }
+
+    private void reset() {
+        try {
+            command("RSET", 250);
+        } catch (IOException e) {
+            broken = true;
+        }
+    }
+
+    private void writeData(MailMessage message) throws IOException {
+        StringBuilder data = new StringBuilder(message.htmlBody().length() * 4 / 3 + 512);
+        data.append("Date: ").append(DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now())).append("\r\n");
+        data.append("From: ").append(message.from()).append("\r\n");
+        data.append("To: ").append(message.to()).append("\r\n");
+        data.append("Subject: ").append(encodeHeader(message.subject())).append("\r\n");
+        data.append("Message-ID: <").append(UUID.randomUUID()).append('@').append(settings.heloName()).append(">\r\n");
+        data.append("MIME-Version: 1.0\r\n");
+        data.append("Content-Type: text/html; charset=UTF-8\r\n");
+        data.append("Content-Transfer-Encoding: base64\r\n\r\n");
+        // Base64 lines never start with '.', so no dot-stuffing is needed
+        data.append(BODY_ENCODER.encodeToString(message.htmlBody().getBytes(StandardCharsets.UTF_8)));
+        data.append("\r\n.\r\n");
+        writer.write(data.toString());
+        writer.flush();
+    }
+
+    private void command(String line, int... expected) throws IOException {
+        writeLine(line);
+        expect(expected);
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.write("\r\n");
+        writer.flush();
+    }
+
+    private void expect(int... expected) throws IOException {
+        Reply reply = readReply();
+        for (int code : expected) {
+            if (reply.code() == code) {
+                return;
+            }
+        }
+        throw new SmtpException(reply.code(), "Unexpected SMTP reply: " + reply.code() + " " + reply.text());
+    }
+
+    private Reply readReply() throws IOException {
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new IOException("SMTP connection closed by server");
+            }
+            if (line.length() < 3) {
+                throw new IOException("Malformed SMTP reply: " + line);
+            }
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            text.append(line.length() > 4 ? line.substring(4) : "");
+            if (line.length() == 3 || line.charAt(3) != '-') {
+                try {
+                    return new Reply(Integer.parseInt(line.substring(0, 3)), text.toString());
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed SMTP reply: " + line, e);
+                }
+            }
+        }
+    }
+
+    private void bindStreams() throws IOException {
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    private void closeQuietly() {
+        broken = true;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Nothing left to release
+            }
+        }
+    }
+
+    /**
+     * Extracts the bare address from "addr" or "Name &lt;addr&gt;".
+     */
+    private static String address(String value) {
+        String address = value.trim();
+        int open = address.lastIndexOf('<');
+        if (open >= 0 && address.endsWith(">")) {
+            address = address.substring(open + 1, address.length() - 1);
+        }
+        if (address.isEmpty() || value.indexOf('\r') >= 0 || value.indexOf('\n') >= 0
+                || address.indexOf('<') >= 0 || address.indexOf('>') >= 0) {
+            throw new IllegalArgumentException("Invalid email address: " + value);
+        }
+        return address;
+    }
+
+    private static String encodeHeader(String value) {
+        boolean ascii = value.chars().allMatch(c -> c >= 0x20 && c < 0x7f);
+        if (ascii) {
+            return value;
+        }
+        return "=?UTF-8?B?" + Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)) + "?=";
+    }
+
+    private record Reply(int code, String text) {
+    }
+}
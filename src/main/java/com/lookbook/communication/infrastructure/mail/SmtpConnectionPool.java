@@ -0,0 +1,135 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of persistent SMTP connections.
+ * Idle connections are reused most-recently-used first so that rarely needed
+ * ones age out; a connection idle longer than the probe interval is checked
+ * with a NOOP before reuse, and one idle longer than the maximum idle time is
+ * closed, since servers drop quiet sessions.
+ */
+public class SmtpConnectionPool implements AutoCloseable {
+
+    /**
+     * Opens new connections for the pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        SmtpConnection open() throws IOException;
+    }
+
+    private final ConnectionFactory factory;
+    private final Semaphore permits;
+    private final long maxIdleNanos;
+    private final long probeAfterNanos;
+    private final Deque<SmtpConnection> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger opened = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param factory        Opens new connections
+     * @param maxConnections Maximum connections open at the same time
+     * @param maxIdle        Idle time after which a connection is closed
+     * @param probeAfter     Idle time after which a connection is probed before reuse
+     */
+    public SmtpConnectionPool(ConnectionFactory factory, int maxConnections, Duration maxIdle, Duration probeAfter) {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("maxConnections must be positive");
+        }
+        this.factory = factory;
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.probeAfterNanos = probeAfter.toNanos();
+    }
+
+    /**
+     * Borrows a connection, opening one if none is idle.
+     *
+     * @param timeout How long to wait for a free slot
+     * @return A usable connection that must be given back with {@link #release}
+     * @throws IOException          if no connection could be opened
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public SmtpConnection borrow(Duration timeout) throws IOException, InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("SMTP connection pool is closed");
+        }
+        if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new IOException("Timed out waiting for an SMTP connection");
+        }
+        try {
+            SmtpConnection connection;
+            while ((connection = idle.pollFirst()) != null) {
+                long idleFor = System.nanoTime() - connection.getLastUsedNanos();
+                if (idleFor > maxIdleNanos || connection.isBroken()
+                        || (idleFor > probeAfterNanos && !connection.probe())) {
+                    connection.close();
+                    continue;
+                }
+                return connection;
+            }
+            SmtpConnection fresh = factory.open();
+            opened.incrementAndGet();
+            return fresh;
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed connection; broken connections are closed.
+     *
+     * @param connection The connection to return
+     */
+    public void release(SmtpConnection connection) {
+        try {
+            if (closed || connection.isBroken()) {
+                connection.close();
+            } else {
+                idle.offerFirst(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Gets the number of connections opened since the pool was created.
+     *
+     * @return The opened connection count
+     */
+    public int getOpenedCount() {
+        return opened.get();
+    }
+
+    /**
+     * Gets the number of idle connections.
+     *
+     * @return The idle connection count
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Closes all idle connections; borrowed ones are closed when released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        SmtpConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.close();
+        }
+    }
+}
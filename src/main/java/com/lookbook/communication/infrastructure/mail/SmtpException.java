@@ -0,0 +1,31 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.io.IOException;
+
+/**
+ * Thrown when an SMTP server rejects a command.
+ * The connection stays usable after a rejection; I/O failures are reported
+ * as plain {@link IOException}s and leave it broken.
+ */
+public class SmtpException extends IOException {
+
+    private final int replyCode;
+
+    public SmtpException(int replyCode, String message) {
+        super(message);
+        this.replyCode = replyCode;
+    }
+
+    public int getReplyCode() {
+        return replyCode;
+    }
+
+    /**
+     * Whether the server reported a permanent (5xx) failure.
+     *
+     * @return true if retrying the same message cannot succeed
+     */
+    public boolean isPermanent() {
+        return replyCode >= 500;
+    }
+}
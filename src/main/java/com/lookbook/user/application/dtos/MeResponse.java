@@ -0,0 +1,24 @@
+package com.lookbook.user.application.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.lookbook.user.domain.aggregates.UserStatus;
+
+/**
+ * Flat read model combining the current user's account and profile.
+ * Profile fields are null when the user has no profile yet.
+ */
+public record MeResponse(
+        UUID id,
+        String username,
+        String email,
+        UserStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID profileId,
+        String displayName,
+        String biography,
+        String profileImageUrl,
+        LocalDateTime profileUpdatedAt) {
+}
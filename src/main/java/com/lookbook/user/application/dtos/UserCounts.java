@@ -0,0 +1,15 @@
+package com.lookbook.user.application.dtos;
+
+import java.util.Map;
+
+import com.lookbook.user.domain.aggregates.UserStatus;
+
+/**
+ * Maintained totals for users and profiles.
+ *
+ * @param total    The number of users
+ * @param byStatus The number of users in each status
+ * @param profiles The number of profiles
+ */
+public record UserCounts(long total, Map<UserStatus, Long> byStatus, long profiles) {
+}
@@ -2,6 +2,8 @@ package com.lookbook.user.application.events;
 
 import java.util.UUID;
 
+import com.lookbook.base.application.events.CausedByDomainEvent;
+
 import lombok.Getter;
 
 /**
@@ -9,12 +11,14 @@ import lombok.Getter;
  * This event is published after a user successfully registers.
  */
 @Getter
-public class CreateUserProfileEvent {
+public class CreateUserProfileEvent implements CausedByDomainEvent {
     private final UUID userId;
     private final String username;
+    private final UUID causationId;
 
-    public CreateUserProfileEvent(UUID userId, String username) {
+    public CreateUserProfileEvent(UUID userId, String username, UUID causationId) {
         this.userId = userId;
         this.username = username;
+        this.causationId = causationId;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.lookbook.user.application.events.listeners;
+
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.application.events.DomainEventSubscriber;
+import com.lookbook.base.application.events.DomainEventSubscriptions;
+import com.lookbook.communication.application.events.SendAccountActivationEmailEvent;
+import com.lookbook.communication.application.events.SendWelcomeEmailEvent;
+import com.lookbook.user.application.events.CreateUserProfileEvent;
+import com.lookbook.user.domain.events.PasswordChangedEvent;
+import com.lookbook.user.domain.events.ProfileUpdatedEvent;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
+import com.lookbook.user.domain.events.UserRegisteredEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Translates user domain events delivered by the outbox relay into
+ * application events.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDomainEventListener implements DomainEventSubscriber {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void subscribe(DomainEventSubscriptions subscriptions) {
+        subscriptions
+                .on(UserRegisteredEvent.class, this::handleUserRegistered)
+                .on(UserActivatedEvent.class, this::handleUserActivated)
+                .on(UserDeactivatedEvent.class, this::handleUserDeactivated)
+                .on(PasswordChangedEvent.class, this::handlePasswordChanged)
+                // Autosaving editors emit bursts of updates; only the latest state matters
+                .onLatest(ProfileUpdatedEvent.class, this::handleProfileUpdated);
+    }
+
+    private void handleUserRegistered(UserRegisteredEvent event) {
+        log.info("Handling user registration event for user: {}", event.getUserId());
+
+        // Publish application events
+        eventPublisher.publishEvent(new SendWelcomeEmailEvent(
+                event.getEmail(),
+                event.getUsername()));
+
+        eventPublisher.publishEvent(new SendAccountActivationEmailEvent(
+                event.getEmail(),
+                generateActivationToken()));
+
+        eventPublisher.publishEvent(new CreateUserProfileEvent(
+                event.getUserId(),
+                event.getUsername(),
+                event.getEventId()));
+    }
+
+    private void handleUserActivated(UserActivatedEvent event) {
+        log.info("Handling user activation event for user: {}", event.getUserId());
+        // Add any additional application events for user activation
+    }
+
+    private void handleUserDeactivated(UserDeactivatedEvent event) {
+        log.info("Handling user deactivation event for user: {}", event.getUserId());
+        // Add any additional application events for user deactivation
+    }
+
+    private void handlePasswordChanged(PasswordChangedEvent event) {
+        log.info("Handling password change event for user: {}", event.getUserId());
+        // Add any additional application events for password change
+    }
+
+    private void handleProfileUpdated(ProfileUpdatedEvent event) {
+        log.info("Handling profile update event for user: {}", event.getUserId());
+        // Add any application events for feed fan-out or search reindexing
+    }
+
+    private String generateActivationToken() {
+        // TODO: Implement proper token generation
+        return UUID.randomUUID().toString();
+    }
+}
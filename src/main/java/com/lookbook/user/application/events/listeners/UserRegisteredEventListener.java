@@ -4,6 +4,10 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.lookbook.base.application.events.AsyncListener;
+import com.lookbook.base.application.events.IdempotentListener;
+import com.lookbook.base.application.events.RetryableListener;
+import com.lookbook.base.application.tracing.Traced;
 import com.lookbook.user.application.events.CreateUserProfileEvent;
 import com.lookbook.user.application.ports.services.ProfileService;
 
@@ -21,13 +25,26 @@ public class UserRegisteredEventListener {
 
     /**
      * Handles the CreateUserProfileEvent by creating a new profile for the user.
+     * Registration usually creates the profile itself, and events may be
+     * delivered more than once; redeliveries are skipped by event ID, and an
+     * existing profile is left alone in case one slips through.
+     * Runs on the async dispatcher in its own transaction; failures are
+     * queued for retry.
      *
      * @param event The CreateUserProfileEvent to handle
      */
+    @Traced
+    @AsyncListener
+    @RetryableListener
+    @IdempotentListener
     @EventListener
     @Transactional
     public void handleCreateUserProfile(CreateUserProfileEvent event) {
         try {
+            if (profileService.findByUsername(event.getUsername()).isPresent()) {
+                log.debug("Profile already exists for user: {}", event.getUserId());
+                return;
+            }
             log.info("Creating profile for user: {}", event.getUserId());
             profileService.createProfile(event.getUserId(), event.getUsername());
             log.info("Profile created successfully for user: {}", event.getUserId());
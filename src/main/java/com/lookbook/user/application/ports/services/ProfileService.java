@@ -1,8 +1,11 @@
 package com.lookbook.user.application.ports.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.user.domain.aggregates.UserProfile;
 
 /**
@@ -35,4 +38,21 @@ public interface ProfileService {
      * @return The profile if found
      */
     Optional<UserProfile> findByUsername(String username);
+
+    /**
+     * Finds every listed profile that exists, in a single query.
+     *
+     * @param ids The profile IDs
+     * @return The profiles found, in the order of the IDs
+     */
+    List<UserProfile> findAllById(Collection<UUID> ids);
+
+    /**
+     * Finds the current version of a user's profile without loading it.
+     * Used to answer conditional requests cheaply.
+     *
+     * @param username The username
+     * @return The version if the profile exists
+     */
+    Optional<EntityVersion> findVersionByUsername(String username);
 }
\ No newline at end of file
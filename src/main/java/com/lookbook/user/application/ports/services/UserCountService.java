@@ -0,0 +1,34 @@
+package com.lookbook.user.application.ports.services;
+
+import com.lookbook.user.application.dtos.UserCounts;
+import com.lookbook.user.domain.aggregates.UserStatus;
+
+/**
+ * Service interface for O(1) user and profile counts.
+ * Counts are maintained from domain events and may briefly lag behind
+ * recent changes.
+ */
+public interface UserCountService {
+
+    /**
+     * Gets all maintained user and profile totals.
+     *
+     * @return The totals
+     */
+    UserCounts getCounts();
+
+    /**
+     * Gets the number of users.
+     *
+     * @return The user count
+     */
+    long countUsers();
+
+    /**
+     * Gets the number of users in a status.
+     *
+     * @param status The status
+     * @return The user count
+     */
+    long countUsers(UserStatus status);
+}
@@ -0,0 +1,84 @@
+package com.lookbook.user.application.ports.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.lookbook.auth.application.dtos.responses.UserResponse;
+import com.lookbook.user.application.dtos.MeResponse;
+import com.lookbook.user.application.dtos.ProfileResponse;
+
+/**
+ * Service interface for read-only user queries that bypass the domain model.
+ */
+public interface UserQueryService {
+
+    /**
+     * Find the combined account and profile view of a user.
+     *
+     * @param username the username
+     * @return the combined view if the user exists
+     */
+    Optional<MeResponse> findMe(String username);
+
+    /**
+     * Find one page of users.
+     * The total comes from the maintained user count rather than a count
+     * query, so it may briefly lag behind recent registrations.
+     *
+     * @param pageable the page, size and sort; unsorted pages are ordered by
+     *                 creation time
+     * @return the page of users
+     */
+    Page<UserResponse> findUsers(Pageable pageable);
+
+    /**
+     * Find one page of users, reading only the selected fields.
+     * The ID and update time are always set; other unselected fields are
+     * left null.
+     *
+     * @param pageable the page, size and sort; unsorted pages are ordered by
+     *                 creation time
+     * @param fields   the selected fields
+     * @return the page of users
+     */
+    Page<UserResponse> findUsers(Pageable pageable, Set<String> fields);
+
+    /**
+     * Find the listed users, reading only the selected fields.
+     * The ID and update time are always set; other unselected fields are
+     * left null.
+     *
+     * @param ids    the user IDs
+     * @param fields the selected fields
+     * @return the users found, in no particular order
+     */
+    List<UserResponse> findUsersById(Collection<UUID> ids, Set<String> fields);
+
+    /**
+     * Find the listed profiles, reading only the selected fields.
+     * The ID and update time are always set; other unselected fields are
+     * left null.
+     *
+     * @param ids    the profile IDs
+     * @param fields the selected fields
+     * @return the profiles found, in no particular order
+     */
+    List<ProfileResponse> findProfilesById(Collection<UUID> ids, Set<String> fields);
+
+    /**
+     * Stream every user, in creation order, from a database cursor.
+     * Rows are handed over one at a time, so memory use does not grow with
+     * the number of users.
+     *
+     * @param consumer receives each user
+     * @return the number of users streamed
+     */
+    long exportUsers(Consumer<UserResponse> consumer);
+}
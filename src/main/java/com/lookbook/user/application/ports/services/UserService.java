@@ -1,9 +1,11 @@
 package com.lookbook.user.application.ports.services;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.user.domain.aggregates.User;
 
 /**
@@ -19,6 +21,23 @@ public interface UserService {
      */
     Optional<User> findById(UUID id);
 
+    /**
+     * Find the current version of a user without loading the user.
+     * Used to answer conditional requests cheaply.
+     *
+     * @param id the user ID
+     * @return the version if the user exists
+     */
+    Optional<EntityVersion> findVersionById(UUID id);
+
+    /**
+     * Find every listed user that exists, in a single query.
+     *
+     * @param ids the user IDs
+     * @return the users found, in the order of the IDs
+     */
+    List<User> findAllById(Collection<UUID> ids);
+
     /**
      * Find a user by their username.
      *
@@ -58,6 +77,22 @@ public interface UserService {
      */
     User deactivate(UUID id);
 
+    /**
+     * Activate every listed user that is allowed to become active.
+     *
+     * @param ids the user IDs
+     * @return the IDs of the users that were activated
+     */
+    List<UUID> activateAll(Collection<UUID> ids);
+
+    /**
+     * Deactivate every listed user that is allowed to become inactive.
+     *
+     * @param ids the user IDs
+     * @return the IDs of the users that were deactivated
+     */
+    List<UUID> deactivateAll(Collection<UUID> ids);
+
     /**
      * Update a user's email.
      *
@@ -2,20 +2,12 @@ package com.lookbook.user.application.services;
 
 import java.util.UUID;
 
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.application.tracing.Traced;
 import com.lookbook.base.domain.exceptions.ValidationException;
-import com.lookbook.communication.application.events.SendAccountActivationEmailEvent;
-import com.lookbook.communication.application.events.SendWelcomeEmailEvent;
-import com.lookbook.user.application.events.CreateUserProfileEvent;
 import com.lookbook.user.domain.aggregates.User;
-import com.lookbook.user.domain.events.PasswordChangedEvent;
-import com.lookbook.user.domain.events.UserActivatedEvent;
-import com.lookbook.user.domain.events.UserDeactivatedEvent;
-import com.lookbook.user.domain.events.UserRegisteredEvent;
 import com.lookbook.user.domain.repositories.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,15 +15,16 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Application service for handling user-related operations.
- * Manages the coordination between domain events and application events.
+ * Saving an aggregate records its domain events in the outbox alongside the
+ * state change.
  */
 @Slf4j
+@Traced
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserApplicationService implements IUserApplicationService {
     private final UserRepository userRepository;
-    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Registers a new user and handles the resulting domain events.
@@ -47,13 +40,8 @@ public class UserApplicationService implements IUserApplicationService {
             // Create user (this will trigger domain events)
             User user = User.register(username, email, password);
 
-            // Save user
-            user = userRepository.save(user);
-
-            // Handle domain events
-            handleDomainEvents(user);
-
-            return user;
+            // Save user; the repository records its domain events
+            return userRepository.save(user);
         } catch (Exception e) {
             log.error("Failed to register user: {}", username, e);
             throw e;
@@ -71,10 +59,7 @@ public class UserApplicationService implements IUserApplicationService {
                 .orElseThrow(() -> new ValidationException("User not found"));
 
         user.activate();
-        user = userRepository.save(user);
-        handleDomainEvents(user);
-
-        return user;
+        return userRepository.save(user);
     }
 
     /**
@@ -88,10 +73,7 @@ public class UserApplicationService implements IUserApplicationService {
                 .orElseThrow(() -> new ValidationException("User not found"));
 
         user.deactivate();
-        user = userRepository.save(user);
-        handleDomainEvents(user);
-
-        return user;
+        return userRepository.save(user);
     }
 
     /**
@@ -103,75 +85,10 @@ public class UserApplicationService implements IUserApplicationService {
      * @return The updated user
      */
     public User changePassword(UUID userId, String currentPassword, String newPassword) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdWithCredentials(userId)
                 .orElseThrow(() -> new ValidationException("User not found"));
 
         user.changePassword(currentPassword, newPassword);
-        user = userRepository.save(user);
-        handleDomainEvents(user);
-
-        return user;
-    }
-
-    /**
-     * Handles domain events and publishes corresponding application events.
-     *
-     * @param user The user whose domain events should be handled
-     */
-    private void handleDomainEvents(User user) {
-        for (DomainEvent event : user.getDomainEvents()) {
-            try {
-                if (event instanceof UserRegisteredEvent) {
-                    handleUserRegistered((UserRegisteredEvent) event);
-                } else if (event instanceof UserActivatedEvent) {
-                    handleUserActivated((UserActivatedEvent) event);
-                } else if (event instanceof UserDeactivatedEvent) {
-                    handleUserDeactivated((UserDeactivatedEvent) event);
-                } else if (event instanceof PasswordChangedEvent) {
-                    handlePasswordChanged((PasswordChangedEvent) event);
-                }
-            } catch (Exception e) {
-                log.error("Failed to handle domain event: {}", event.getEventType(), e);
-                throw e;
-            }
-        }
-        user.clearDomainEvents();
-    }
-
-    private void handleUserRegistered(UserRegisteredEvent event) {
-        log.info("Handling user registration event for user: {}", event.getUserId());
-
-        // Publish application events
-        eventPublisher.publishEvent(new SendWelcomeEmailEvent(
-                event.getEmail(),
-                event.getUsername()));
-
-        eventPublisher.publishEvent(new SendAccountActivationEmailEvent(
-                event.getEmail(),
-                generateActivationToken()));
-
-        eventPublisher.publishEvent(new CreateUserProfileEvent(
-                event.getUserId(),
-                event.getUsername()));
-    }
-
-    private void handleUserActivated(UserActivatedEvent event) {
-        log.info("Handling user activation event for user: {}", event.getUserId());
-        // Add any additional application events for user activation
-    }
-
-    private void handleUserDeactivated(UserDeactivatedEvent event) {
-        log.info("Handling user deactivation event for user: {}", event.getUserId());
-        // Add any additional application events for user deactivation
-    }
-
-    private void handlePasswordChanged(PasswordChangedEvent event) {
-        log.info("Handling password change event for user: {}", event.getUserId());
-        // Add any additional application events for password change
-    }
-
-    private String generateActivationToken() {
-        // TODO: Implement proper token generation
-        return UUID.randomUUID().toString();
+        return userRepository.save(user);
     }
-}
\ No newline at end of file
+}
@@ -125,11 +125,12 @@ public class User extends BaseEntity {
      */
     public void activate() {
         if (status != UserStatus.ACTIVE) {
+            UserStatus previous = status;
             status = status.transitionTo(UserStatus.ACTIVE);
             markUpdated();
 
             // Add domain event
-            addDomainEvent(new UserActivatedEvent(getId(), getUsername().getValue()));
+            addDomainEvent(new UserActivatedEvent(getId(), getUsername().getValue(), previous));
         }
     }
 
@@ -139,11 +140,12 @@ public class User extends BaseEntity {
      */
     public void deactivate() {
         if (status != UserStatus.INACTIVE) {
+            UserStatus previous = status;
             status = status.transitionTo(UserStatus.INACTIVE);
             markUpdated();
 
             // Add domain event
-            addDomainEvent(new UserDeactivatedEvent(getId(), getUsername().getValue()));
+            addDomainEvent(new UserDeactivatedEvent(getId(), getUsername().getValue(), previous));
         }
     }
 
@@ -4,7 +4,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.lookbook.base.domain.entities.BaseEntity;
+import com.lookbook.base.domain.identity.Ids;
 import com.lookbook.user.domain.events.ProfileCreatedEvent;
+import com.lookbook.user.domain.events.ProfileUpdatedEvent;
 import com.lookbook.user.domain.valueobjects.Biography;
 import com.lookbook.user.domain.valueobjects.DisplayName;
 import com.lookbook.user.domain.valueobjects.ProfileImage;
@@ -44,7 +46,7 @@ public class UserProfile extends BaseEntity {
      */
     public static UserProfile create(UUID userId, DisplayName displayName, Biography biography,
             LocalDateTime createdAt) {
-        UserProfile profile = new UserProfile(UUID.randomUUID(), userId, displayName, biography, null, createdAt,
+        UserProfile profile = new UserProfile(Ids.next(), userId, displayName, biography, null, createdAt,
                 createdAt);
 
         // Add domain event
@@ -68,7 +70,7 @@ public class UserProfile extends BaseEntity {
      */
     public static UserProfile create(UUID userId, DisplayName displayName, Biography biography,
             ProfileImage profileImage, LocalDateTime createdAt) {
-        UserProfile profile = new UserProfile(UUID.randomUUID(), userId, displayName, biography, profileImage,
+        UserProfile profile = new UserProfile(Ids.next(), userId, displayName, biography, profileImage,
                 createdAt, createdAt);
 
         // Add domain event
@@ -147,6 +149,24 @@ public class UserProfile extends BaseEntity {
         updateBiography(newBiography, updatedAt);
     }
 
+    /**
+     * Updates the profile's display name and biography together and records a
+     * single {@link ProfileUpdatedEvent}.
+     *
+     * @param newDisplayName the new display name
+     * @param newBiography   the new biography
+     * @param updatedAt      the update timestamp
+     */
+    public void updateDetails(DisplayName newDisplayName, Biography newBiography, LocalDateTime updatedAt) {
+        updateDisplayName(newDisplayName, updatedAt);
+        updateBiography(newBiography, updatedAt);
+        addDomainEvent(new ProfileUpdatedEvent(
+                userId,
+                getId(),
+                newDisplayName.getValue(),
+                newBiography == null ? null : newBiography.getValue()));
+    }
+
     /**
      * Updates the profile's image.
      *
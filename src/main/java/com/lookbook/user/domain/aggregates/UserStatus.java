@@ -3,6 +3,7 @@ package com.lookbook.user.domain.aggregates;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -78,4 +79,21 @@ public enum UserStatus {
         }
         return targetStatus;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets every status that may transition into the target status.
+     * The target itself is excluded, since staying put is not a transition.
+     *
+     * @param targetStatus The status to transition to
+     * @return The allowed source statuses
+     */
+    public static Set<UserStatus> allowedSourcesFor(UserStatus targetStatus) {
+        Set<UserStatus> sources = EnumSet.noneOf(UserStatus.class);
+        for (UserStatus status : values()) {
+            if (status != targetStatus && status.canTransitionTo(targetStatus)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+}
@@ -1,15 +1,17 @@
 package com.lookbook.user.domain.events;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
 import com.lookbook.base.domain.events.BaseDomainEvent;
+import com.lookbook.base.domain.events.CriticalEvent;
 
 /**
  * Event raised when a user changes their password.
  */
-public class PasswordChangedEvent extends BaseDomainEvent {
+public class PasswordChangedEvent extends BaseDomainEvent implements CriticalEvent {
 
     private final UUID userId;
     private final String username;
@@ -20,6 +22,19 @@ public class PasswordChangedEvent extends BaseDomainEvent {
         this.username = username;
     }
 
+    /**
+     * Reconstructs the event from its stored form.
+     *
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param metadata   The stored event metadata
+     */
+    public PasswordChangedEvent(UUID eventId, LocalDateTime occurredAt, Map<String, Object> metadata) {
+        super(eventId, occurredAt, metadata);
+        this.userId = uuidFrom(metadata, "userId");
+        this.username = stringFrom(metadata, "username");
+    }
+
     private static Map<String, Object> createMetadata(UUID userId, String username) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("userId", userId.toString());
@@ -1,5 +1,6 @@
 package com.lookbook.user.domain.events;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -22,6 +23,20 @@ public class ProfileCreatedEvent extends BaseDomainEvent {
         this.displayName = displayName;
     }
 
+    /**
+     * Reconstructs the event from its stored form.
+     *
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param metadata   The stored event metadata
+     */
+    public ProfileCreatedEvent(UUID eventId, LocalDateTime occurredAt, Map<String, Object> metadata) {
+        super(eventId, occurredAt, metadata);
+        this.userId = uuidFrom(metadata, "userId");
+        this.profileId = uuidFrom(metadata, "profileId");
+        this.displayName = stringFrom(metadata, "displayName");
+    }
+
     private static Map<String, Object> createMetadata(UUID userId, UUID profileId, String displayName) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("userId", userId.toString());
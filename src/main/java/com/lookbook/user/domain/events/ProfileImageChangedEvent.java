@@ -1,6 +1,7 @@
 package com.lookbook.user.domain.events;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -30,6 +31,23 @@ public class ProfileImageChangedEvent extends BaseDomainEvent {
         this.imageHeight = imageHeight;
     }
 
+    /**
+     * Reconstructs the event from its stored form.
+     *
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param metadata   The stored event metadata
+     */
+    public ProfileImageChangedEvent(UUID eventId, LocalDateTime occurredAt, Map<String, Object> metadata) {
+        super(eventId, occurredAt, metadata);
+        this.userId = uuidFrom(metadata, "userId");
+        this.profileId = uuidFrom(metadata, "profileId");
+        this.newImageUrl = URI.create(stringFrom(metadata, "newImageUrl"));
+        this.imageFormat = stringFrom(metadata, "imageFormat");
+        this.imageWidth = intFrom(metadata, "imageWidth");
+        this.imageHeight = intFrom(metadata, "imageHeight");
+    }
+
     private static Map<String, Object> createMetadata(UUID userId, UUID profileId, URI newImageUrl,
             String imageFormat, int imageWidth, int imageHeight) {
         Map<String, Object> metadata = new HashMap<>();
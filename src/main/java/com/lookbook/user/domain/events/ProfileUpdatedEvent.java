@@ -1,5 +1,6 @@
 package com.lookbook.user.domain.events;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -24,6 +25,21 @@ public class ProfileUpdatedEvent extends BaseDomainEvent {
         this.biography = biography;
     }
 
+    /**
+     * Reconstructs the event from its stored form.
+     *
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param metadata   The stored event metadata
+     */
+    public ProfileUpdatedEvent(UUID eventId, LocalDateTime occurredAt, Map<String, Object> metadata) {
+        super(eventId, occurredAt, metadata);
+        this.userId = uuidFrom(metadata, "userId");
+        this.profileId = uuidFrom(metadata, "profileId");
+        this.displayName = stringFrom(metadata, "displayName");
+        this.biography = stringFrom(metadata, "biography");
+    }
+
     private static Map<String, Object> createMetadata(UUID userId, UUID profileId, String displayName,
             String biography) {
         Map<String, Object> metadata = new HashMap<>();
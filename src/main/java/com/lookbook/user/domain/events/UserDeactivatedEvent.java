@@ -1,29 +1,64 @@
 package com.lookbook.user.domain.events;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
 import com.lookbook.base.domain.events.BaseDomainEvent;
+import com.lookbook.base.domain.events.CriticalEvent;
+import com.lookbook.user.domain.aggregates.UserStatus;
 
 /**
  * Event raised when a user is deactivated.
  */
-public class UserDeactivatedEvent extends BaseDomainEvent {
+public class UserDeactivatedEvent extends BaseDomainEvent implements CriticalEvent {
 
     private final UUID userId;
     private final String username;
+    private final UserStatus previousStatus;
 
     public UserDeactivatedEvent(UUID userId, String username) {
-        super(createMetadata(userId, username));
+        this(userId, username, null);
+    }
+
+    /**
+     * Creates the event.
+     *
+     * @param userId         The user's ID
+     * @param username       The user's username
+     * @param previousStatus The status the user had before being deactivated, or null
+     *                       if unknown
+     */
+    public UserDeactivatedEvent(UUID userId, String username, UserStatus previousStatus) {
+        super(createMetadata(userId, username, previousStatus));
         this.userId = userId;
         this.username = username;
+        this.previousStatus = previousStatus;
+    }
+
+    /**
+     * Reconstructs the event from its stored form.
+     *
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param metadata   The stored event metadata
+     */
+    public UserDeactivatedEvent(UUID eventId, LocalDateTime occurredAt, Map<String, Object> metadata) {
+        super(eventId, occurredAt, metadata);
+        this.userId = uuidFrom(metadata, "userId");
+        this.username = stringFrom(metadata, "username");
+        String previous = stringFrom(metadata, "previousStatus");
+        this.previousStatus = previous == null ? null : UserStatus.valueOf(previous);
     }
 
-    private static Map<String, Object> createMetadata(UUID userId, String username) {
+    private static Map<String, Object> createMetadata(UUID userId, String username, UserStatus previousStatus) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("userId", userId.toString());
         metadata.put("username", username);
+        if (previousStatus != null) {
+            metadata.put("previousStatus", previousStatus.name());
+        }
         return metadata;
     }
 
@@ -35,6 +70,10 @@ public class UserDeactivatedEvent extends BaseDomainEvent {
         return username;
     }
 
+    public UserStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
     @Override
     public UUID getAggregateId() {
         return userId;
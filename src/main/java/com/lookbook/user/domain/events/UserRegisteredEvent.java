@@ -1,5 +1,6 @@
 package com.lookbook.user.domain.events;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -28,6 +29,20 @@ public class UserRegisteredEvent extends BaseDomainEvent {
         this.email = email;
     }
 
+    /**
+     * Reconstructs the event from its stored form.
+     *
+     * @param eventId    The event's unique identifier
+     * @param occurredAt When the event occurred
+     * @param metadata   The stored event metadata
+     */
+    public UserRegisteredEvent(UUID eventId, LocalDateTime occurredAt, Map<String, Object> metadata) {
+        super(eventId, occurredAt, metadata);
+        this.userId = uuidFrom(metadata, "userId");
+        this.username = stringFrom(metadata, "username");
+        this.email = stringFrom(metadata, "email");
+    }
+
     @Override
     public UUID getAggregateId() {
         return userId;
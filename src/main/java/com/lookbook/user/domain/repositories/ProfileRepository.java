@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import com.lookbook.base.domain.repositories.EntityRepository;
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.user.domain.aggregates.UserProfile;
 
 /**
@@ -26,4 +27,12 @@ public interface ProfileRepository extends EntityRepository<UserProfile> {
      * @return The profile if found
      */
     Optional<UserProfile> findByUsername(String username);
+
+    /**
+     * Reads the version of a user's profile without loading the profile.
+     *
+     * @param username The username
+     * @return The version if the profile exists
+     */
+    Optional<EntityVersion> findVersionByUsername(String username);
 }
\ No newline at end of file
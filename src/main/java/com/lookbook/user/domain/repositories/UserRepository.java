@@ -1,9 +1,15 @@
 package com.lookbook.user.domain.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import com.lookbook.base.domain.repositories.EntityRepository;
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserStatus;
 import com.lookbook.user.domain.valueobjects.Email;
 import com.lookbook.user.domain.valueobjects.Username;
 
@@ -29,6 +35,26 @@ public interface UserRepository extends EntityRepository<User> {
      */
     Optional<User> findByEmail(Email email);
 
+    /**
+     * Finds a user by ID together with their password hash.
+     * Users from the other lookups may come from a cache that never holds
+     * credentials; use this for anything that checks or changes the password.
+     *
+     * @param id The user ID
+     * @return An Optional containing the user if found, empty otherwise
+     */
+    Optional<User> findByIdWithCredentials(UUID id);
+
+    /**
+     * Finds a user by username together with their password hash.
+     * Used on the authentication path, which must always verify against the
+     * stored credentials.
+     *
+     * @param username The username to search for
+     * @return An Optional containing the user if found, empty otherwise
+     */
+    Optional<User> findByUsernameWithCredentials(Username username);
+
     /**
      * Checks if a username is already taken.
      *
@@ -44,4 +70,23 @@ public interface UserRepository extends EntityRepository<User> {
      * @return true if the email exists, false otherwise
      */
     boolean existsByEmail(Email email);
+
+    /**
+     * Reads a user's version without loading the user.
+     *
+     * @param id The user ID
+     * @return The version if the user exists
+     */
+    Optional<EntityVersion> findVersionById(UUID id);
+
+    /**
+     * Moves every listed user whose current status is one of the given sources
+     * to the target status, in a single set-based update.
+     *
+     * @param ids          The IDs of the users to update
+     * @param fromStatuses The statuses a user must currently have to be updated
+     * @param toStatus     The new status
+     * @return The users actually updated, with their previous status
+     */
+    List<UserStatusChange> updateStatus(Collection<UUID> ids, Set<UserStatus> fromStatuses, UserStatus toStatus);
 }
@@ -0,0 +1,16 @@
+package com.lookbook.user.domain.repositories;
+
+import java.util.UUID;
+
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.valueobjects.Username;
+
+/**
+ * A status change applied by a set-based update.
+ *
+ * @param userId         The ID of the updated user
+ * @param username       The user's username
+ * @param previousStatus The status the user had before the update
+ */
+public record UserStatusChange(UUID userId, Username username, UserStatus previousStatus) {
+}
@@ -1,6 +1,8 @@
 package com.lookbook.user.infrastructure.adapters.services;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.lookbook.base.domain.exceptions.ValidationException;
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.user.application.ports.services.ProfileService;
 import com.lookbook.user.domain.aggregates.UserProfile;
 import com.lookbook.user.domain.repositories.ProfileRepository;
@@ -39,11 +42,11 @@ public class ProfileServiceAdapter implements ProfileService {
 
             UserProfile profile = UserProfile.create(userId, displayName, biography, now);
 
-            // Save profile
-            profile = profileRepository.save(profile);
+            // Insert profile (it is always new, so no merge lookup is needed)
+            UserProfile inserted = profileRepository.insert(profile);
 
             log.info("Profile created successfully for user: {}", userId);
-            return profile;
+            return inserted;
         } catch (Exception e) {
             log.error("Failed to create profile for user: {}", userId, e);
             throw e;
@@ -55,8 +58,7 @@ public class ProfileServiceAdapter implements ProfileService {
         UserProfile profile = profileRepository.findByUserId(userId)
                 .orElseThrow(() -> new ValidationException("Profile not found for user: " + userId));
 
-        profile.updateDisplayName(DisplayName.of(displayName), LocalDateTime.now());
-        profile.updateBiography(Biography.of(biography), LocalDateTime.now());
+        profile.updateDetails(DisplayName.of(displayName), Biography.of(biography), LocalDateTime.now());
 
         return profileRepository.save(profile);
     }
@@ -65,4 +67,16 @@ public class ProfileServiceAdapter implements ProfileService {
     public Optional<UserProfile> findByUsername(String username) {
         return profileRepository.findByUsername(username);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserProfile> findAllById(Collection<UUID> ids) {
+        return profileRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EntityVersion> findVersionByUsername(String username) {
+        return profileRepository.findVersionByUsername(username);
+    }
 }
\ No newline at end of file
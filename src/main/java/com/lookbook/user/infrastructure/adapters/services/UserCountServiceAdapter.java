@@ -0,0 +1,61 @@
+package com.lookbook.user.infrastructure.adapters.services;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.lookbook.base.infrastructure.counters.CounterStore;
+import com.lookbook.user.application.dtos.UserCounts;
+import com.lookbook.user.application.ports.services.UserCountService;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.infrastructure.persistence.UserCounters;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of the UserCountService interface backed by maintained
+ * counters.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserCountServiceAdapter implements UserCountService {
+
+    private final CounterStore counterStore;
+
+    @Override
+    public UserCounts getCounts() {
+        Map<String, Long> values = counterStore.get(UserCounters.all());
+        Map<UserStatus, Long> byStatus = new EnumMap<>(UserStatus.class);
+        for (UserStatus status : UserStatus.values()) {
+            byStatus.put(status, nonNegative(values.get(UserCounters.status(status))));
+        }
+        return new UserCounts(
+                nonNegative(values.get(UserCounters.USERS)),
+                byStatus,
+                nonNegative(values.get(UserCounters.PROFILES)));
+    }
+
+    @Override
+    public long countUsers() {
+        return read(UserCounters.USERS);
+    }
+
+    @Override
+    public long countUsers(UserStatus status) {
+        return read(UserCounters.status(status));
+    }
+
+    private long read(String name) {
+        return nonNegative(counterStore.get(List.of(name)).get(name));
+    }
+
+    /**
+     * A counter can dip below zero between a lost increment and the next
+     * reconciliation; callers never see that.
+     */
+    private static long nonNegative(Long value) {
+        return value == null ? 0 : Math.max(0, value);
+    }
+}
@@ -0,0 +1,82 @@
+package com.lookbook.user.infrastructure.adapters.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lookbook.auth.application.dtos.responses.UserResponse;
+import com.lookbook.user.application.dtos.MeResponse;
+import com.lookbook.user.application.dtos.ProfileResponse;
+import com.lookbook.user.application.ports.services.UserCountService;
+import com.lookbook.user.application.ports.services.UserQueryService;
+import com.lookbook.user.infrastructure.persistence.repositories.JpaProfileRepository;
+import com.lookbook.user.infrastructure.persistence.repositories.UserJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of the UserQueryService using DTO projection queries.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserQueryServiceAdapter implements UserQueryService {
+
+    static final Sort DEFAULT_SORT = Sort.by("createdAt");
+    static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final UserJpaRepository userJpaRepository;
+    private final JpaProfileRepository jpaProfileRepository;
+    private final UserCountService userCountService;
+
+    @Override
+    public Optional<MeResponse> findMe(String username) {
+        return userJpaRepository.findMeByUsername(username);
+    }
+
+    @Override
+    public Page<UserResponse> findUsers(Pageable pageable) {
+        Slice<UserResponse> slice = userJpaRepository.findUserResponses(stableOrder(pageable));
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), userCountService.countUsers());
+    }
+
+    @Override
+    public Page<UserResponse> findUsers(Pageable pageable, Set<String> fields) {
+        Pageable ordered = stableOrder(pageable);
+        List<UserResponse> users = userJpaRepository.findSparseUserResponses(ordered, fields);
+        return new PageImpl<>(users, ordered, userCountService.countUsers());
+    }
+
+    @Override
+    public List<UserResponse> findUsersById(Collection<UUID> ids, Set<String> fields) {
+        return userJpaRepository.findSparseUserResponses(ids, fields);
+    }
+
+    @Override
+    public List<ProfileResponse> findProfilesById(Collection<UUID> ids, Set<String> fields) {
+        return jpaProfileRepository.findSparseProfileResponses(ids, fields);
+    }
+
+    @Override
+    public long exportUsers(Consumer<UserResponse> consumer) {
+        return userJpaRepository.streamUserResponses(EXPORT_FETCH_SIZE, consumer);
+    }
+
+    private static Pageable stableOrder(Pageable pageable) {
+        // The ID breaks ties so rows never move between pages
+        Sort sort = (pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT).and(Sort.by("id"));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
@@ -1,16 +1,26 @@
 package com.lookbook.user.infrastructure.adapters.services;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.domain.events.DomainEventPublisher;
 import com.lookbook.base.domain.exceptions.EntityNotFoundException;
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.user.application.ports.services.UserService;
 import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
 import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.domain.repositories.UserStatusChange;
 import com.lookbook.user.domain.valueobjects.Email;
 import com.lookbook.user.domain.valueobjects.Username;
 
@@ -22,14 +32,17 @@ import com.lookbook.user.domain.valueobjects.Username;
 public class UserServiceAdapter implements UserService {
 
     private final UserRepository userRepository;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Constructor injection of dependencies.
      * 
      * @param userRepository the user repository
+     * @param eventPublisher the publisher for events of set-based updates
      */
-    public UserServiceAdapter(UserRepository userRepository) {
+    public UserServiceAdapter(UserRepository userRepository, DomainEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -38,6 +51,18 @@ public class UserServiceAdapter implements UserService {
         return userRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EntityVersion> findVersionById(UUID id) {
+        return userRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllById(Collection<UUID> ids) {
+        return userRepository.findAllById(ids);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
@@ -74,6 +99,38 @@ public class UserServiceAdapter implements UserService {
         return userRepository.save(user);
     }
 
+    @Override
+    public List<UUID> activateAll(Collection<UUID> ids) {
+        return transitionAll(ids, UserStatus.ACTIVE, change -> new UserActivatedEvent(
+                change.userId(), change.username().getValue(), change.previousStatus()));
+    }
+
+    @Override
+    public List<UUID> deactivateAll(Collection<UUID> ids) {
+        return transitionAll(ids, UserStatus.INACTIVE, change -> new UserDeactivatedEvent(
+                change.userId(), change.username().getValue(), change.previousStatus()));
+    }
+
+    /**
+     * Applies a status transition to many users with one set-based update and
+     * publishes an event for each user that actually changed.
+     */
+    private List<UUID> transitionAll(Collection<UUID> ids, UserStatus target,
+            Function<UserStatusChange, DomainEvent> eventFactory) {
+        List<UserStatusChange> updated = userRepository.updateStatus(
+                ids, UserStatus.allowedSourcesFor(target), target);
+
+        List<DomainEvent> events = new ArrayList<>(updated.size());
+        List<UUID> updatedIds = new ArrayList<>(updated.size());
+        for (UserStatusChange change : updated) {
+            events.add(eventFactory.apply(change));
+            updatedIds.add(change.userId());
+        }
+        eventPublisher.publishAll(events);
+
+        return updatedIds;
+    }
+
     @Override
     public User updateEmail(UUID id, String newEmail) {
         User user = userRepository.findById(id)
@@ -85,11 +142,10 @@ public class UserServiceAdapter implements UserService {
 
     @Override
     public User changePassword(UUID id, String currentPassword, String newPassword) {
-        User user = userRepository.findById(id)
+        User user = userRepository.findByIdWithCredentials(id)
                 .orElseThrow(() -> new EntityNotFoundException(User.class, id));
 
         user.changePassword(currentPassword, newPassword);
         return userRepository.save(user);
     }
-
-}
\ No newline at end of file
+}
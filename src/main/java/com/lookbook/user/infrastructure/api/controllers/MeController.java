@@ -0,0 +1,47 @@
+package com.lookbook.user.infrastructure.api.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lookbook.base.domain.exceptions.EntityNotFoundException;
+import com.lookbook.base.domain.exceptions.ValidationException;
+import com.lookbook.base.infrastructure.api.controllers.BaseController;
+import com.lookbook.base.infrastructure.api.response.ApiResponse;
+import com.lookbook.user.application.dtos.MeResponse;
+import com.lookbook.user.application.ports.services.UserQueryService;
+import com.lookbook.user.domain.aggregates.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller serving the current user's account and profile in one call.
+ */
+@RestController
+@RequestMapping("/api/v1/me")
+@RequiredArgsConstructor
+public class MeController extends BaseController {
+
+    private final UserQueryService userQueryService;
+
+    /**
+     * Get the current user's account and profile.
+     *
+     * @return the combined user and profile view
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<MeResponse>> getMe() {
+        Authentication authentication = getCurrentUser();
+        if (authentication == null) {
+            throw new ValidationException("Not authenticated");
+        }
+
+        String username = authentication.getName();
+        MeResponse me = userQueryService.findMe(username)
+                .orElseThrow(() -> new EntityNotFoundException(User.class, username));
+
+        return ResponseEntity.ok(createSuccessResponse(me));
+    }
+}
@@ -1,22 +1,40 @@
 package com.lookbook.user.infrastructure.api.controllers;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lookbook.base.domain.exceptions.ValidationException;
 import com.lookbook.base.infrastructure.api.controllers.BaseController;
 import com.lookbook.base.infrastructure.api.response.ApiResponse;
+import com.lookbook.base.infrastructure.api.response.BatchItem;
+import com.lookbook.base.infrastructure.api.response.NdjsonWriter;
+import com.lookbook.base.infrastructure.api.utils.EntityTags;
+import com.lookbook.base.infrastructure.api.utils.FieldCatalog;
+import com.lookbook.base.infrastructure.api.utils.FieldSelection;
 import com.lookbook.user.application.dtos.ProfileResponse;
 import com.lookbook.user.application.dtos.UpdateProfileRequest;
 import com.lookbook.user.application.mappers.ProfileMapper;
 import com.lookbook.user.application.ports.services.ProfileService;
+import com.lookbook.user.application.ports.services.UserQueryService;
 import com.lookbook.user.domain.aggregates.UserProfile;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,25 +48,92 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProfileController extends BaseController {
 
+    /**
+     * Fields a client may select with {@code fields=} on profile reads.
+     */
+    private static final FieldCatalog<ProfileResponse> PROFILE_FIELDS = FieldCatalog.<ProfileResponse>builder()
+            .field("id", ProfileResponse::getId)
+            .field("userId", ProfileResponse::getUserId)
+            .field("displayName", ProfileResponse::getDisplayName)
+            .field("biography", ProfileResponse::getBiography)
+            .field("profileImageUrl", ProfileResponse::getProfileImageUrl)
+            .field("createdAt", ProfileResponse::getCreatedAt)
+            .field("updatedAt", ProfileResponse::getUpdatedAt)
+            .build();
+
     private final ProfileService profileService;
+    private final UserQueryService userQueryService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Get the current user's profile.
+     * Answers 304 when the client's ETag is still current, checked against
+     * the stored version before the profile is loaded. The profile comes from
+     * the entity cache, so a field selection only trims the response; each
+     * selection has its own ETag.
      *
+     * @param fields      the fields to return, comma-separated; all when absent
+     * @param ifNoneMatch the ETag of the client's copy, if any
      * @return the user's profile
      */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<ProfileResponse>> getMyProfile() {
+    public ResponseEntity<ApiResponse<Object>> getMyProfile(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FieldSelection<ProfileResponse> selection = PROFILE_FIELDS.select(fields);
         Authentication authentication = getCurrentUser();
         if (authentication == null) {
             throw new ValidationException("Not authenticated");
         }
 
         String username = authentication.getName();
+        Optional<ResponseEntity<ApiResponse<Object>>> notModified = checkNotModified(ifNoneMatch,
+                selection.variant(), () -> profileService.findVersionByUsername(username));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         UserProfile profile = profileService.findByUsername(username)
                 .orElseThrow(() -> new ValidationException("Profile not found for user: " + username));
 
-        return ResponseEntity.ok(createSuccessResponse(ProfileMapper.toProfileResponse(profile)));
+        return createTaggedResponse(profile, selection.variant(),
+                createSuccessResponse(selection.project(ProfileMapper.toProfileResponse(profile))));
+    }
+
+    /**
+     * Get many profiles by ID in one request, with a single query.
+     * Entries are keyed by ID in request order; IDs without a profile get a
+     * not-found entry instead of failing the request, and found entries carry
+     * their ETag so clients can cache each profile on its own.
+     *
+     * @param ids    the profile IDs, at most {@link #MAX_BATCH_IDS}
+     * @param fields the fields to return, comma-separated; all when absent.
+     *               Only the columns of the selected fields are read
+     * @return an entry per requested ID
+     */
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<Map<UUID, BatchItem<Object>>>> getProfilesById(
+            @RequestParam List<UUID> ids,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(createSuccessResponse(findProfileItems(ids, fields)));
+    }
+
+    /**
+     * Get many profiles by ID as newline-delimited JSON, one entry per line in
+     * request order.
+     *
+     * @param ids      the profile IDs, at most {@link #MAX_BATCH_IDS}
+     * @param fields   the fields to return, comma-separated; all when absent
+     * @param response the HTTP response to write to
+     * @throws IOException if writing to the client fails
+     */
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamProfilesById(@RequestParam List<UUID> ids, @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        Map<UUID, BatchItem<Object>> items = findProfileItems(ids, fields);
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            items.values().forEach(writer::write);
+        }
     }
 
     /**
@@ -74,4 +159,18 @@ public class ProfileController extends BaseController {
 
         return ResponseEntity.ok(createSuccessResponse(ProfileMapper.toProfileResponse(profile)));
     }
-}
\ No newline at end of file
+
+    private Map<UUID, BatchItem<Object>> findProfileItems(List<UUID> ids, String fields) {
+        List<UUID> distinct = requireBatchIds(ids);
+        FieldSelection<ProfileResponse> selection = PROFILE_FIELDS.select(fields);
+        if (selection.isAll()) {
+            return createBatchItems(distinct, profileService.findAllById(distinct),
+                    profile -> selection.project(ProfileMapper.toProfileResponse(profile)));
+        }
+
+        String variant = selection.variant();
+        return createBatchItems(distinct, userQueryService.findProfilesById(distinct, selection.names()),
+                ProfileResponse::getId, profile -> EntityTags.of(profile.getId(), profile.getUpdatedAt(), variant),
+                selection::project);
+    }
+}
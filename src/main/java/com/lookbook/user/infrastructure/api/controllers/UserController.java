@@ -1,8 +1,16 @@
 package com.lookbook.user.infrastructure.api.controllers;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,20 +18,33 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lookbook.auth.application.dtos.responses.UserResponse;
 import com.lookbook.auth.application.mappers.UserMapper;
 import com.lookbook.base.domain.exceptions.EntityNotFoundException;
 import com.lookbook.base.domain.exceptions.ValidationException;
 import com.lookbook.base.infrastructure.api.controllers.BaseController;
 import com.lookbook.base.infrastructure.api.response.ApiResponse;
+import com.lookbook.base.infrastructure.api.response.BatchItem;
+import com.lookbook.base.infrastructure.api.response.NdjsonWriter;
+import com.lookbook.base.infrastructure.api.utils.EntityTags;
+import com.lookbook.base.infrastructure.api.utils.FieldCatalog;
+import com.lookbook.base.infrastructure.api.utils.FieldSelection;
+import com.lookbook.user.application.dtos.UserCounts;
+import com.lookbook.user.application.ports.services.UserCountService;
+import com.lookbook.user.application.ports.services.UserQueryService;
 import com.lookbook.user.application.ports.services.UserService;
 import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.infrastructure.api.requests.BulkUserStatusRequest;
 import com.lookbook.user.infrastructure.api.requests.ChangePasswordRequest;
 import com.lookbook.user.infrastructure.api.requests.UpdateEmailRequest;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -33,19 +54,43 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/v1/users")
 public class UserController extends BaseController {
 
+    private static final Set<String> USER_SORT_FIELDS = Set.of("username", "email", "status", "createdAt",
+            "updatedAt");
+
+    /**
+     * Fields a client may select with {@code fields=} on user reads.
+     */
+    private static final FieldCatalog<UserResponse> USER_FIELDS = FieldCatalog.<UserResponse>builder()
+            .field("id", UserResponse::id)
+            .field("username", UserResponse::username)
+            .field("email", UserResponse::email)
+            .field("status", UserResponse::status)
+            .field("createdAt", UserResponse::createdAt)
+            .field("updatedAt", UserResponse::updatedAt)
+            .build();
+
     private final UserService userService;
+    private final UserCountService userCountService;
+    private final UserQueryService userQueryService;
+    private final ObjectMapper objectMapper;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserCountService userCountService,
+            UserQueryService userQueryService, ObjectMapper objectMapper) {
         this.userService = userService;
+        this.userCountService = userCountService;
+        this.userQueryService = userQueryService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Get the current authenticated user's profile.
      *
+     * @param fields the fields to return, comma-separated; all when absent
      * @return the user profile
      */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserResponse>> getMyProfile() {
+    public ResponseEntity<ApiResponse<Object>> getMyProfile(@RequestParam(required = false) String fields) {
+        FieldSelection<UserResponse> selection = USER_FIELDS.select(fields);
         Authentication authentication = super.getCurrentUser();
 
         if (authentication == null) {
@@ -57,37 +102,128 @@ public class UserController extends BaseController {
         User user = userService.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException(User.class, username));
 
-        return ResponseEntity.ok(createSuccessResponse(UserMapper.toUserResponse(user)));
+        return ResponseEntity.ok(createSuccessResponse(selection.project(UserMapper.toUserResponse(user))));
     }
 
     /**
      * Get a user by ID.
+     * Answers 304 when the client's ETag is still current, checked against
+     * the stored version before the user is loaded. The user comes from the
+     * entity cache, so a field selection only trims the response; each
+     * selection has its own ETag.
      *
-     * @param id the user ID
+     * @param id          the user ID
+     * @param fields      the fields to return, comma-separated; all when absent
+     * @param ifNoneMatch the ETag of the client's copy, if any
      * @return the user profile
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<Object>> getUserById(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FieldSelection<UserResponse> selection = USER_FIELDS.select(fields);
+        Optional<ResponseEntity<ApiResponse<Object>>> notModified =
+                checkNotModified(ifNoneMatch, selection.variant(), () -> userService.findVersionById(id));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         User user = userService.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(User.class, id));
 
-        return ResponseEntity.ok(createSuccessResponse(UserMapper.toUserResponse(user)));
+        return createTaggedResponse(user, selection.variant(),
+                createSuccessResponse(selection.project(UserMapper.toUserResponse(user))));
     }
 
     /**
-     * Get all users.
+     * Get one page of users.
      *
-     * @return a list of all users
+     * @param page      the page number (0-indexed)
+     * @param size      the page size
+     * @param sort      the sort field, one of {@link #USER_SORT_FIELDS}
+     * @param direction the sort direction
+     * @param fields    the fields to return, comma-separated; all when absent.
+     *                  Only the columns of the selected fields are read
+     * @return the users of the page, with pagination metadata
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
-        List<User> users = userService.findAll();
+    public ResponseEntity<ApiResponse<List<Object>>> getUsers(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String fields) {
+        Pageable pageable = createPageRequest(page, size, sort, direction, USER_SORT_FIELDS);
+        FieldSelection<UserResponse> selection = USER_FIELDS.select(fields);
+
+        Page<UserResponse> users = selection.isAll()
+                ? userQueryService.findUsers(pageable)
+                : userQueryService.findUsers(pageable, selection.names());
+        return ResponseEntity.ok(createPageResponse(users.map(selection::project)));
+    }
+
+    /**
+     * Get many users by ID in one request, with a single query.
+     * Entries are keyed by ID in request order; IDs without a user get a
+     * not-found entry instead of failing the request, and found entries carry
+     * the ETag of {@code GET /api/v1/users/{id}} with the same fields.
+     *
+     * @param ids    the user IDs, at most {@link #MAX_BATCH_IDS}
+     * @param fields the fields to return, comma-separated; all when absent.
+     *               Only the columns of the selected fields are read
+     * @return an entry per requested ID
+     */
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<Map<UUID, BatchItem<Object>>>> getUsersById(
+            @RequestParam List<UUID> ids,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(createSuccessResponse(findUserItems(ids, fields)));
+    }
 
-        List<UserResponse> userResponses = users.stream()
-                .map(UserMapper::toUserResponse)
-                .toList();
+    /**
+     * Get many users by ID as newline-delimited JSON, one entry per line in
+     * request order, so clients can render entries as they arrive.
+     *
+     * @param ids      the user IDs, at most {@link #MAX_BATCH_IDS}
+     * @param fields   the fields to return, comma-separated; all when absent
+     * @param response the HTTP response to write to
+     * @throws IOException if writing to the client fails
+     */
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamUsersById(@RequestParam List<UUID> ids, @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        Map<UUID, BatchItem<Object>> items = findUserItems(ids, fields);
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            items.values().forEach(writer::write);
+        }
+    }
 
-        return ResponseEntity.ok(createSuccessResponse(userResponses));
+    /**
+     * Export all users as newline-delimited JSON, one user per line.
+     * Rows are written to the response as they are read from the database
+     * cursor, so exports run in constant memory regardless of user count.
+     *
+     * @param response the HTTP response to write to
+     * @throws IOException if writing to the client fails
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            long exported = userQueryService.exportUsers(writer::write);
+            logger.debug("Exported {} users", exported);
+        }
+    }
+
+    /**
+     * Get user and profile totals for admin dashboards.
+     * Served from maintained counters rather than counting rows.
+     *
+     * @return the totals
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<ApiResponse<UserCounts>> getCounts() {
+        return ResponseEntity.ok(createSuccessResponse(userCountService.getCounts()));
     }
 
     /**
@@ -122,6 +258,38 @@ public class UserController extends BaseController {
                         "User deactivated successfully"));
     }
 
+    /**
+     * Activate many users at once.
+     * Users that cannot become active are skipped.
+     *
+     * @param request the IDs of the users to activate
+     * @return the IDs of the users that were activated
+     */
+    @PostMapping("/bulk/activate")
+    public ResponseEntity<ApiResponse<List<UUID>>> activateUsers(
+            @Valid @RequestBody BulkUserStatusRequest request) {
+        List<UUID> activated = userService.activateAll(request.ids());
+
+        return ResponseEntity.ok(
+                createSuccessResponse(activated, activated.size() + " users activated"));
+    }
+
+    /**
+     * Deactivate many users at once.
+     * Users that cannot become inactive are skipped.
+     *
+     * @param request the IDs of the users to deactivate
+     * @return the IDs of the users that were deactivated
+     */
+    @PostMapping("/bulk/deactivate")
+    public ResponseEntity<ApiResponse<List<UUID>>> deactivateUsers(
+            @Valid @RequestBody BulkUserStatusRequest request) {
+        List<UUID> deactivated = userService.deactivateAll(request.ids());
+
+        return ResponseEntity.ok(
+                createSuccessResponse(deactivated, deactivated.size() + " users deactivated"));
+    }
+
     /**
      * Update a user's email.
      *
@@ -161,4 +329,17 @@ public class UserController extends BaseController {
                         UserMapper.toUserResponse(user),
                         "Password changed successfully"));
     }
-}
\ No newline at end of file
+
+    private Map<UUID, BatchItem<Object>> findUserItems(List<UUID> ids, String fields) {
+        List<UUID> distinct = requireBatchIds(ids);
+        FieldSelection<UserResponse> selection = USER_FIELDS.select(fields);
+        if (selection.isAll()) {
+            return createBatchItems(distinct, userService.findAllById(distinct),
+                    user -> selection.project(UserMapper.toUserResponse(user)));
+        }
+
+        String variant = selection.variant();
+        return createBatchItems(distinct, userQueryService.findUsersById(distinct, selection.names()),
+                UserResponse::id, user -> EntityTags.of(user.id(), user.updatedAt(), variant), selection::project);
+    }
+}
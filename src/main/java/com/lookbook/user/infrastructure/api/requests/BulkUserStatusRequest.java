@@ -0,0 +1,14 @@
+package com.lookbook.user.infrastructure.api.requests;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for changing the status of many users at once.
+ */
+public record BulkUserStatusRequest(
+        @NotEmpty(message = "At least one user ID is required") @Size(max = 10000, message = "At most 10000 user IDs are allowed per request") List<UUID> ids) {
+}
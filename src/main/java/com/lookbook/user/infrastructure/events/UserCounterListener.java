@@ -0,0 +1,81 @@
+package com.lookbook.user.infrastructure.events;
+
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.application.events.DomainEventSubscriber;
+import com.lookbook.base.application.events.DomainEventSubscriptions;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.counters.CounterStore;
+import com.lookbook.user.domain.events.ProfileCreatedEvent;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
+import com.lookbook.user.domain.events.UserRegisteredEvent;
+import com.lookbook.user.infrastructure.persistence.UserCounters;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the user and profile counters current as relayed domain events
+ * arrive. A redelivered event is counted once; any remaining drift is
+ * corrected by the
+ * {@link com.lookbook.user.infrastructure.persistence.UserCounterReconciler}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCounterListener implements DomainEventSubscriber {
+
+    private final CounterStore counterStore;
+
+    @Override
+    public void subscribe(DomainEventSubscriptions subscriptions) {
+        subscriptions
+                .on(UserRegisteredEvent.class, this::onUserRegistered)
+                .on(UserActivatedEvent.class, this::onUserActivated)
+                .on(UserDeactivatedEvent.class, this::onUserDeactivated)
+                .on(ProfileCreatedEvent.class, this::onProfileCreated);
+    }
+
+    /**
+     * Counts a new pending user.
+     *
+     * @param event The registration event
+     */
+    public void onUserRegistered(UserRegisteredEvent event) {
+        count(event);
+    }
+
+    /**
+     * Moves a user from its previous status counter to the active one.
+     *
+     * @param event The activation event
+     */
+    public void onUserActivated(UserActivatedEvent event) {
+        count(event);
+    }
+
+    /**
+     * Moves a user from its previous status counter to the inactive one.
+     *
+     * @param event The deactivation event
+     */
+    public void onUserDeactivated(UserDeactivatedEvent event) {
+        count(event);
+    }
+
+    /**
+     * Counts a new profile.
+     *
+     * @param event The profile creation event
+     */
+    public void onProfileCreated(ProfileCreatedEvent event) {
+        count(event);
+    }
+
+    private void count(DomainEvent event) {
+        if (!counterStore.add(event.getEventId(), UserCounters.deltas(event))) {
+            log.debug("Event {} was already counted", event.getEventId());
+        }
+    }
+}
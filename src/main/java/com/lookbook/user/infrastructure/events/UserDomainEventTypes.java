@@ -0,0 +1,32 @@
+package com.lookbook.user.infrastructure.events;
+
+import org.springframework.stereotype.Component;
+
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.base.infrastructure.events.DomainEventTypeContributor;
+import com.lookbook.user.domain.events.PasswordChangedEvent;
+import com.lookbook.user.domain.events.ProfileCreatedEvent;
+import com.lookbook.user.domain.events.ProfileImageChangedEvent;
+import com.lookbook.user.domain.events.ProfileUpdatedEvent;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
+import com.lookbook.user.domain.events.UserRegisteredEvent;
+
+/**
+ * Registers the user module's domain events so they can be read back from
+ * persistence.
+ */
+@Component
+public class UserDomainEventTypes implements DomainEventTypeContributor {
+
+    @Override
+    public void contribute(DomainEventRegistry registry) {
+        registry.register(UserRegisteredEvent.class, UserRegisteredEvent::new);
+        registry.register(UserActivatedEvent.class, UserActivatedEvent::new);
+        registry.register(UserDeactivatedEvent.class, UserDeactivatedEvent::new);
+        registry.register(PasswordChangedEvent.class, PasswordChangedEvent::new);
+        registry.register(ProfileCreatedEvent.class, ProfileCreatedEvent::new);
+        registry.register(ProfileUpdatedEvent.class, ProfileUpdatedEvent::new);
+        registry.register(ProfileImageChangedEvent.class, ProfileImageChangedEvent::new);
+    }
+}
@@ -0,0 +1,118 @@
+package com.lookbook.user.infrastructure.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.OutboxProperties;
+import com.lookbook.base.infrastructure.counters.CounterStore;
+import com.lookbook.base.infrastructure.events.DomainEventSerializer;
+import com.lookbook.user.domain.aggregates.UserStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically replaces the maintained user and profile counters with the
+ * real row counts. The counters are locked while counting, so event-driven
+ * updates wait instead of being overwritten.
+ * <p>
+ * The row counts already include the effect of events still waiting in the
+ * outbox, which the counters will receive once the events are relayed. Those
+ * events are subtracted, so the relay does not count them a second time. An
+ * event is pending until the counters list it as counted; events the relay
+ * gave up on are never counted and are not subtracted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.counters.reconcile", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserCounterReconciler {
+
+    // One statement, so the row counts and the pending events are read from
+    // the same snapshot: a user and its registration event commit together
+    private static final String SNAPSHOT_SQL = "SELECT 'status' AS kind, status AS name, count(*) AS total, "
+            + "NULL AS event_type, NULL::uuid AS event_id, NULL::timestamp AS occurred_at, NULL AS payload "
+            + "FROM users GROUP BY status "
+            + "UNION ALL SELECT 'profiles', NULL, count(*), NULL, NULL, NULL, NULL FROM profiles "
+            + "UNION ALL SELECT 'pending', NULL, NULL, o.event_type, o.event_id, o.occurred_at, o.payload "
+            + "FROM outbox_events o WHERE o.event_type IN (%s) AND o.attempts < ? "
+            + "AND NOT EXISTS (SELECT 1 FROM counted_events c WHERE c.event_id = o.event_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CounterStore counterStore;
+    private final DomainEventSerializer serializer;
+    private final OutboxProperties outboxProperties;
+
+    /**
+     * Recounts users and profiles and corrects any drift.
+     */
+    @Scheduled(cron = "${app.counters.reconcile.cron:0 0 * * * *}")
+    @Transactional
+    public void reconcile() {
+        counterStore.lock(UserCounters.all());
+
+        Map<String, Long> actual = new HashMap<>();
+        for (UserStatus status : UserStatus.values()) {
+            actual.put(UserCounters.status(status), 0L);
+        }
+        actual.put(UserCounters.USERS, 0L);
+        actual.put(UserCounters.PROFILES, 0L);
+        List<DomainEvent> pending = new ArrayList<>();
+
+        String placeholders = UserCounters.EVENT_TYPES.stream().map(type -> "?").collect(Collectors.joining(", "));
+        List<Object> args = new ArrayList<>(UserCounters.EVENT_TYPES);
+        args.add(outboxProperties.getRelay().getMaxAttempts());
+        jdbcTemplate.query(SNAPSHOT_SQL.formatted(placeholders), rs -> {
+            switch (rs.getString("kind")) {
+                case "status" -> {
+                    long count = rs.getLong("total");
+                    actual.put(UserCounters.status(UserStatus.valueOf(rs.getString("name"))), count);
+                    actual.merge(UserCounters.USERS, count, Long::sum);
+                }
+                case "profiles" -> actual.put(UserCounters.PROFILES, rs.getLong("total"));
+                default -> readPending(rs).ifPresent(pending::add);
+            }
+        }, args.toArray());
+
+        for (DomainEvent event : pending) {
+            UserCounters.deltas(event).forEach((name, delta) -> actual.merge(name, -delta, Long::sum));
+        }
+
+        Map<String, Long> previous = counterStore.set(actual);
+        actual.forEach((name, value) -> {
+            long drift = value - previous.getOrDefault(name, 0L);
+            if (drift != 0) {
+                log.info("Reconciled counter {}: {} -> {} (drift {}, {} events pending)",
+                        name, previous.get(name), value, drift, pending.size());
+            }
+        });
+        counterStore.pruneCounted();
+    }
+
+    private Optional<DomainEvent> readPending(ResultSet rs) throws SQLException {
+        String eventType = rs.getString("event_type");
+        UUID eventId = rs.getObject("event_id", UUID.class);
+        try {
+            return Optional.of(serializer.deserialize(eventType, eventId,
+                    rs.getTimestamp("occurred_at").toLocalDateTime(), rs.getString("payload")));
+        } catch (RuntimeException e) {
+            // The relay cannot deliver it either, so it will never be counted
+            log.warn("Ignoring unreadable pending event {} of type {}", eventId, eventType, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.lookbook.user.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.events.ProfileCreatedEvent;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
+import com.lookbook.user.domain.events.UserRegisteredEvent;
+
+/**
+ * Names of the user module's entries in the entity_counters table.
+ */
+public final class UserCounters {
+
+    public static final String USERS = "users";
+    public static final String PROFILES = "profiles";
+    private static final String STATUS_PREFIX = "users.status.";
+
+    /**
+     * The types of the events that change the counters.
+     */
+    public static final List<String> EVENT_TYPES = List.of(
+            UserRegisteredEvent.class.getSimpleName(),
+            UserActivatedEvent.class.getSimpleName(),
+            UserDeactivatedEvent.class.getSimpleName(),
+            ProfileCreatedEvent.class.getSimpleName());
+
+    private UserCounters() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the counter name for users in a status.
+     *
+     * @param status The status
+     * @return The counter name
+     */
+    public static String status(UserStatus status) {
+        return STATUS_PREFIX + status.name();
+    }
+
+    /**
+     * Gets every counter name maintained by the user module.
+     *
+     * @return The counter names
+     */
+    public static List<String> all() {
+        List<String> names = new ArrayList<>();
+        names.add(USERS);
+        names.add(PROFILES);
+        for (UserStatus status : UserStatus.values()) {
+            names.add(status(status));
+        }
+        return names;
+    }
+
+    /**
+     * Gets the change an event makes to the counters.
+     *
+     * @param event The event
+     * @return The amount to add to each counter; empty for events of other
+     *         types
+     */
+    public static Map<String, Long> deltas(DomainEvent event) {
+        return switch (event) {
+            case UserRegisteredEvent registered -> Map.of(USERS, 1L, status(UserStatus.PENDING), 1L);
+            case UserActivatedEvent activated -> transition(activated.getPreviousStatus(), UserStatus.ACTIVE);
+            case UserDeactivatedEvent deactivated -> transition(deactivated.getPreviousStatus(), UserStatus.INACTIVE);
+            case ProfileCreatedEvent created -> Map.of(PROFILES, 1L);
+            default -> Map.of();
+        };
+    }
+
+    private static Map<String, Long> transition(UserStatus from, UserStatus to) {
+        Map<String, Long> deltas = new HashMap<>();
+        deltas.put(status(to), 1L);
+        // Events recorded before the previous status was tracked only
+        // increment; reconciliation corrects the source counter
+        if (from != null) {
+            deltas.put(status(from), -1L);
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,57 @@
+package com.lookbook.user.infrastructure.persistence.cache;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.lookbook.base.domain.exceptions.ValidationException;
+import com.lookbook.base.domain.repositories.EntityVersion;
+import com.lookbook.base.infrastructure.cache.CachingEntityRepository;
+import com.lookbook.base.infrastructure.cache.TwoTierCache;
+import com.lookbook.user.domain.aggregates.UserProfile;
+import com.lookbook.user.domain.repositories.ProfileRepository;
+import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.domain.valueobjects.Username;
+
+/**
+ * Caching decorator for {@link ProfileRepository}.
+ * Caches lookups by ID and user ID; version lookups go straight to the
+ * delegate. Lookups by username resolve the user through the user
+ * repository and then the profile by user ID, since the username lives on
+ * the user and can change without the profile being saved.
+ */
+public class CachingProfileRepository extends CachingEntityRepository<UserProfile> implements ProfileRepository {
+
+    private final ProfileRepository delegate;
+    private final UserRepository userRepository;
+
+    public CachingProfileRepository(ProfileRepository delegate, UserRepository userRepository,
+            TwoTierCache cache) {
+        super(delegate, cache, new ProfileCodec());
+        this.delegate = delegate;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Optional<UserProfile> findByUserId(UUID userId) {
+        return findByNaturalKey("userId", userId.toString(),
+                profile -> profile.getUserId().toString(),
+                () -> delegate.findByUserId(userId));
+    }
+
+    @Override
+    public Optional<UserProfile> findByUsername(String username) {
+        Username name;
+        try {
+            name = Username.of(username);
+        } catch (ValidationException e) {
+            // No user can have it
+            return Optional.empty();
+        }
+        return userRepository.findByUsername(name).flatMap(user -> findByUserId(user.getId()));
+    }
+
+    @Override
+    public Optional<EntityVersion> findVersionByUsername(String username) {
+        return delegate.findVersionByUsername(username);
+    }
+}
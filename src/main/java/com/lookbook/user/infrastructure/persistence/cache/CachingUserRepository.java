@@ -0,0 +1,81 @@
+package com.lookbook.user.infrastructure.persistence.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.lookbook.base.domain.repositories.EntityVersion;
+import com.lookbook.base.infrastructure.cache.CachingEntityRepository;
+import com.lookbook.base.infrastructure.cache.TwoTierCache;
+import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.domain.repositories.UserStatusChange;
+import com.lookbook.user.domain.valueobjects.Email;
+import com.lookbook.user.domain.valueobjects.Username;
+
+/**
+ * Caching decorator for {@link UserRepository}.
+ * Caches lookups by ID, username and email; existence checks are not cached so
+ * registration always sees the database, and version lookups are not cached so
+ * conditional requests always validate against committed state. Cached users
+ * carry no password hash, so credential lookups always go to the database.
+ */
+public class CachingUserRepository extends CachingEntityRepository<User> implements UserRepository {
+
+    private final UserRepository delegate;
+
+    public CachingUserRepository(UserRepository delegate, TwoTierCache cache) {
+        super(delegate, cache, new UserCodec());
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<User> findByUsername(Username username) {
+        return findByNaturalKey("username", username.getValue(),
+                user -> user.getUsername().getValue(),
+                () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        return findByNaturalKey("email", email.getValue(),
+                user -> user.getEmail().getValue(),
+                () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Optional<User> findByIdWithCredentials(UUID id) {
+        return delegate.findByIdWithCredentials(id);
+    }
+
+    @Override
+    public Optional<User> findByUsernameWithCredentials(Username username) {
+        return delegate.findByUsernameWithCredentials(username);
+    }
+
+    @Override
+    public boolean existsByUsername(Username username) {
+        return delegate.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Optional<EntityVersion> findVersionById(UUID id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public List<UserStatusChange> updateStatus(Collection<UUID> ids, Set<UserStatus> fromStatuses,
+            UserStatus toStatus) {
+        List<UserStatusChange> updated = delegate.updateStatus(ids, fromStatuses, toStatus);
+        updated.forEach(change -> evictById(change.userId()));
+        return updated;
+    }
+}
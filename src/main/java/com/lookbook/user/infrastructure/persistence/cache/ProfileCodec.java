@@ -0,0 +1,57 @@
+package com.lookbook.user.infrastructure.persistence.cache;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lookbook.base.infrastructure.cache.EntityCodec;
+import com.lookbook.user.domain.aggregates.UserProfile;
+import com.lookbook.user.domain.valueobjects.Biography;
+import com.lookbook.user.domain.valueobjects.DisplayName;
+
+/**
+ * Encodes profiles as compact JSON snapshots for the repository cache.
+ * The profile image is not persisted yet, so it is not cached either.
+ */
+public class ProfileCodec implements EntityCodec<UserProfile> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Override
+    public String encode(UserProfile profile) {
+        try {
+            return objectMapper.writeValueAsString(new Snapshot(
+                    profile.getId(),
+                    profile.getUserId(),
+                    profile.getDisplayName().getValue(),
+                    profile.getBiography().getValue(),
+                    profile.getCreatedAt(),
+                    profile.getUpdatedAt()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode profile " + profile.getId(), e);
+        }
+    }
+
+    @Override
+    public UserProfile decode(String value) {
+        try {
+            Snapshot snapshot = objectMapper.readValue(value, Snapshot.class);
+            return UserProfile.reconstitute(
+                    snapshot.id(),
+                    snapshot.userId(),
+                    DisplayName.of(snapshot.displayName()),
+                    Biography.of(snapshot.biography()),
+                    null,
+                    snapshot.createdAt(),
+                    snapshot.updatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to decode cached profile", e);
+        }
+    }
+
+    private record Snapshot(UUID id, UUID userId, String displayName, String biography,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+}
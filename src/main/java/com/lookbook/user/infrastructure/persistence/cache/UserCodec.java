@@ -0,0 +1,59 @@
+package com.lookbook.user.infrastructure.persistence.cache;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lookbook.base.infrastructure.cache.EntityCodec;
+import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.valueobjects.Email;
+import com.lookbook.user.domain.valueobjects.Username;
+
+/**
+ * Encodes users as compact JSON snapshots for the repository cache.
+ * The password hash is left out so credentials never reach the shared cache;
+ * decoded users carry no hash and must not be used to check passwords.
+ */
+public class UserCodec implements EntityCodec<User> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Override
+    public String encode(User user) {
+        try {
+            return objectMapper.writeValueAsString(new Snapshot(
+                    user.getId(),
+                    user.getUsername().getValue(),
+                    user.getEmail().getValue(),
+                    user.getStatus(),
+                    user.getCreatedAt(),
+                    user.getUpdatedAt()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode user " + user.getId(), e);
+        }
+    }
+
+    @Override
+    public User decode(String value) {
+        try {
+            Snapshot snapshot = objectMapper.readValue(value, Snapshot.class);
+            return User.reconstitute(
+                    snapshot.id(),
+                    Username.of(snapshot.username()),
+                    Email.of(snapshot.email()),
+                    null,
+                    snapshot.status(),
+                    snapshot.createdAt(),
+                    snapshot.updatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to decode cached user", e);
+        }
+    }
+
+    private record Snapshot(UUID id, String username, String email, UserStatus status,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+}
@@ -1,9 +1,16 @@
 package com.lookbook.user.infrastructure.persistence.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
+import com.lookbook.base.infrastructure.cache.RepositoryCacheFactory;
+import com.lookbook.user.domain.repositories.ProfileRepository;
 import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.infrastructure.persistence.cache.CachingProfileRepository;
+import com.lookbook.user.infrastructure.persistence.cache.CachingUserRepository;
+import com.lookbook.user.infrastructure.persistence.repositories.ProfileRepositoryAdapter;
 import com.lookbook.user.infrastructure.persistence.repositories.UserJpaRepository;
 import com.lookbook.user.infrastructure.persistence.repositories.UserRepositoryAdapter;
 
@@ -24,4 +31,42 @@ public class UserJpaConfig {
     public UserRepository userRepository(UserJpaRepository jpaRepository) {
         return new UserRepositoryAdapter(jpaRepository);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates the UserRepository used by the application, adding the
+     * two-tier cache in front of the JPA adapter when caching is enabled.
+     *
+     * @param userRepository The JPA-backed repository
+     * @param cacheFactory   The repository cache factory
+     * @return The primary UserRepository
+     */
+    @Bean
+    @Primary
+    public UserRepository cachingUserRepository(@Qualifier("userRepository") UserRepository userRepository,
+            RepositoryCacheFactory cacheFactory) {
+        if (!cacheFactory.isEnabled()) {
+            return userRepository;
+        }
+        return new CachingUserRepository(userRepository, cacheFactory.create("users"));
+    }
+
+    /**
+     * Creates the ProfileRepository used by the application, adding the
+     * two-tier cache in front of the JPA adapter when caching is enabled.
+     *
+     * @param profileRepository The JPA-backed repository
+     * @param userRepository    The primary UserRepository, which resolves
+     *                          usernames
+     * @param cacheFactory      The repository cache factory
+     * @return The primary ProfileRepository
+     */
+    @Bean
+    @Primary
+    public ProfileRepository cachingProfileRepository(ProfileRepositoryAdapter profileRepository,
+            @Qualifier("cachingUserRepository") UserRepository userRepository, RepositoryCacheFactory cacheFactory) {
+        if (!cacheFactory.isEnabled()) {
+            return profileRepository;
+        }
+        return new CachingProfileRepository(profileRepository, userRepository, cacheFactory.create("profiles"));
+    }
+}
@@ -3,11 +3,14 @@ package com.lookbook.user.infrastructure.persistence.entities;
 import java.util.UUID;
 
 import com.lookbook.base.infrastructure.persistence.entities.JpaBaseEntity;
+import com.lookbook.user.domain.aggregates.UserProfile;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
@@ -15,13 +18,26 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "profiles", indexes = {
-        @Index(name = "idx_profiles_user_id", columnList = "userId")
+        @Index(name = "idx_profiles_user_id", columnList = "userId", unique = true)
 })
 @Getter
 @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class JpaProfile extends JpaBaseEntity {
     private UUID userId;
     private String displayName;
     private String biography;
     private String profileImageUrl; // TODO: Add proper profile image handling
+
+    /**
+     * Creates a new JpaProfile from a UserProfile domain entity.
+     *
+     * @param profile The domain entity to map
+     */
+    public JpaProfile(UserProfile profile) {
+        super(profile);
+        this.userId = profile.getUserId();
+        this.displayName = profile.getDisplayName().getValue();
+        this.biography = profile.getBiography().getValue();
+    }
 }
\ No newline at end of file
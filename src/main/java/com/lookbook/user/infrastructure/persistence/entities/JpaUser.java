@@ -24,7 +24,8 @@ import jakarta.persistence.Table;
 @Table(name = "users", indexes = {
         @Index(name = "idx_users_username", columnList = "username"),
         @Index(name = "idx_users_email", columnList = "email"),
-        @Index(name = "idx_users_status", columnList = "status")
+        @Index(name = "idx_users_status", columnList = "status"),
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
 })
 public class JpaUser extends JpaBaseEntity {
 
@@ -55,10 +56,21 @@ public class JpaUser extends JpaBaseEntity {
      * @param user The domain entity to map
      */
     public JpaUser(User user) {
+        this(user, user.getHashedPassword());
+    }
+
+    /**
+     * Creates a new JpaUser from a User domain entity whose credentials were
+     * not loaded.
+     *
+     * @param user         The domain entity to map
+     * @param passwordHash The stored password hash to keep
+     */
+    public JpaUser(User user, String passwordHash) {
         super(user);
         this.username = user.getUsername().getValue();
         this.email = user.getEmail().getValue();
-        this.passwordHash = user.getHashedPassword();
+        this.passwordHash = passwordHash;
         this.status = user.getStatus();
     }
 
@@ -8,13 +8,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.user.infrastructure.persistence.entities.JpaProfile;
 
 /**
  * Spring Data JPA repository for Profile entities.
  */
 @Repository
-public interface JpaProfileRepository extends JpaRepository<JpaProfile, UUID> {
+public interface JpaProfileRepository extends JpaRepository<JpaProfile, UUID>, JpaProfileRepositoryCustom {
     /**
      * Finds a profile by user ID.
      *
@@ -31,4 +32,15 @@ public interface JpaProfileRepository extends JpaRepository<JpaProfile, UUID> {
      */
     @Query("SELECT p FROM JpaProfile p JOIN JpaUser u ON p.userId = u.id WHERE u.username = :username")
     Optional<JpaProfile> findByUsername(@Param("username") String username);
+
+    /**
+     * Reads the ID and last update time of a user's profile without
+     * materializing the entity.
+     *
+     * @param username The username
+     * @return The version if the profile exists
+     */
+    @Query("SELECT new com.lookbook.base.domain.repositories.EntityVersion(p.id, p.updatedAt) "
+            + "FROM JpaProfile p JOIN JpaUser u ON p.userId = u.id WHERE u.username = :username")
+    Optional<EntityVersion> findVersionByUsername(@Param("username") String username);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.lookbook.user.infrastructure.persistence.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.lookbook.user.application.dtos.ProfileResponse;
+
+/**
+ * Custom reads for the profiles table that bypass entity loading.
+ */
+public interface JpaProfileRepositoryCustom {
+
+    /**
+     * Loads the listed profiles, reading only the columns of the selected
+     * fields, so large unselected columns such as the biography are never
+     * read. The ID and update time are always read; other unselected fields
+     * are left null.
+     *
+     * @param ids    The profile IDs
+     * @param fields The selected fields, or null for all fields
+     * @return The profiles found, in no particular order
+     */
+    List<ProfileResponse> findSparseProfileResponses(Collection<UUID> ids, Set<String> fields);
+}
@@ -0,0 +1,61 @@
+package com.lookbook.user.infrastructure.persistence.repositories;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.lookbook.base.infrastructure.persistence.repositories.SparseColumns;
+import com.lookbook.user.application.dtos.ProfileResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC implementation of the custom profile repository operations.
+ * Picked up by Spring Data as the fragment for {@link JpaProfileRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class JpaProfileRepositoryImpl implements JpaProfileRepositoryCustom {
+
+    static final SparseColumns PROFILE_COLUMNS = new SparseColumns(Map.of(
+            "id", "id",
+            "userId", "user_id",
+            "displayName", "display_name",
+            "biography", "biography",
+            "profileImageUrl", "profile_image_url",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProfileResponse> findSparseProfileResponses(Collection<UUID> ids, Set<String> fields) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "SELECT " + PROFILE_COLUMNS.selectList(fields) + " FROM profiles "
+                + "WHERE id = ANY(CAST(? AS uuid[]))";
+        return jdbcTemplate.query(sql, sparseProfileMapper(fields), SparseColumns.idArray(ids));
+    }
+
+    private static RowMapper<ProfileResponse> sparseProfileMapper(Set<String> fields) {
+        boolean userId = PROFILE_COLUMNS.includes(fields, "userId");
+        boolean displayName = PROFILE_COLUMNS.includes(fields, "displayName");
+        boolean biography = PROFILE_COLUMNS.includes(fields, "biography");
+        boolean profileImageUrl = PROFILE_COLUMNS.includes(fields, "profileImageUrl");
+        boolean createdAt = PROFILE_COLUMNS.includes(fields, "createdAt");
+        return (rs, rowNum) -> new ProfileResponse(
+                rs.getObject("id", UUID.class),
+                userId ? rs.getObject("user_id", UUID.class) : null,
+                displayName ? rs.getString("display_name") : null,
+                biography ? rs.getString("biography") : null,
+                profileImageUrl ? rs.getString("profile_image_url") : null,
+                createdAt ? rs.getTimestamp("created_at").toLocalDateTime() : null,
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    }
+}
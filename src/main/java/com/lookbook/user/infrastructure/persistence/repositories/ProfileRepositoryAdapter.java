@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.base.infrastructure.persistence.repositories.JpaEntityRepositoryAdapter;
 import com.lookbook.user.domain.aggregates.UserProfile;
 import com.lookbook.user.domain.repositories.ProfileRepository;
@@ -40,6 +41,11 @@ public class ProfileRepositoryAdapter extends JpaEntityRepositoryAdapter<UserPro
                 .map(this::mapToEntity);
     }
 
+    @Override
+    public Optional<EntityVersion> findVersionByUsername(String username) {
+        return profileRepository.findVersionByUsername(username);
+    }
+
     @Override
     protected UserProfile mapToEntity(JpaProfile jpaEntity) {
         return UserProfile.reconstitute(
@@ -54,10 +60,6 @@ public class ProfileRepositoryAdapter extends JpaEntityRepositoryAdapter<UserPro
 
     @Override
     protected JpaProfile mapToJpaEntity(UserProfile domainEntity) {
-        JpaProfile jpaEntity = new JpaProfile();
-        jpaEntity.setUserId(domainEntity.getUserId());
-        jpaEntity.setDisplayName(domainEntity.getDisplayName().getValue());
-        jpaEntity.setBiography(domainEntity.getBiography().getValue());
-        return jpaEntity;
+        return new JpaProfile(domainEntity);
     }
 }
\ No newline at end of file
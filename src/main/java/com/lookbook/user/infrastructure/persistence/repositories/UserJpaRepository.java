@@ -3,16 +3,23 @@ package com.lookbook.user.infrastructure.persistence.repositories;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lookbook.auth.application.dtos.responses.UserResponse;
+import com.lookbook.base.domain.repositories.EntityVersion;
+import com.lookbook.user.application.dtos.MeResponse;
 import com.lookbook.user.infrastructure.persistence.entities.JpaUser;
 
 /**
  * Spring Data JPA repository for User entities.
  */
 @Repository
-public interface UserJpaRepository extends JpaRepository<JpaUser, UUID> {
+public interface UserJpaRepository extends JpaRepository<JpaUser, UUID>, UserJpaRepositoryCustom {
 
     /**
      * Finds a user by their username.
@@ -45,4 +52,41 @@ public interface UserJpaRepository extends JpaRepository<JpaUser, UUID> {
      * @return true if the email exists, false otherwise
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Loads the combined user and profile view in a single query,
+     * projecting straight into the DTO without materializing entities.
+     * The unique index on profiles.user_id keeps the join to one row.
+     *
+     * @param username The username to search for
+     * @return The combined view if the user exists
+     */
+    @Query("SELECT new com.lookbook.user.application.dtos.MeResponse("
+            + "u.id, u.username, u.email, u.status, u.createdAt, u.updatedAt, "
+            + "p.id, p.displayName, p.biography, p.profileImageUrl, p.updatedAt) "
+            + "FROM JpaUser u LEFT JOIN JpaProfile p ON p.userId = u.id "
+            + "WHERE u.username = :username")
+    Optional<MeResponse> findMeByUsername(@Param("username") String username);
+
+    /**
+     * Reads a user's ID and last update time from the primary key index
+     * row, without materializing the entity.
+     *
+     * @param id The user ID
+     * @return The version if the user exists
+     */
+    @Query("SELECT new com.lookbook.base.domain.repositories.EntityVersion(u.id, u.updatedAt) "
+            + "FROM JpaUser u WHERE u.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Loads one page of users projected straight into the response DTO.
+     * Returned as a slice so no count query is issued.
+     *
+     * @param pageable The page, size and sort
+     * @return The users of the page
+     */
+    @Query("SELECT new com.lookbook.auth.application.dtos.responses.UserResponse("
+            + "u.id, u.username, u.email, u.status, u.createdAt, u.updatedAt) FROM JpaUser u")
+    Slice<UserResponse> findUserResponses(Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.lookbook.user.infrastructure.persistence.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Pageable;
+
+import com.lookbook.auth.application.dtos.responses.UserResponse;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.repositories.UserStatusChange;
+
+/**
+ * Custom bulk operations and reads for the users table that bypass entity
+ * loading.
+ */
+public interface UserJpaRepositoryCustom {
+
+    /**
+     * Updates the status of the listed users in one statement.
+     *
+     * @param ids          The IDs of the users to update
+     * @param fromStatuses The statuses a user must currently have to be updated
+     * @param toStatus     The new status
+     * @return The updated users, with their previous status
+     */
+    List<UserStatusChange> updateStatus(Collection<UUID> ids, Set<UserStatus> fromStatuses, UserStatus toStatus);
+
+    /**
+     * Streams every user in creation order through a server-side cursor.
+     * Must run inside a transaction, otherwise the driver reads the whole
+     * result into memory before returning the first row.
+     *
+     * @param fetchSize The number of rows fetched per round trip
+     * @param consumer  Receives each user
+     * @return The number of users streamed
+     */
+    long streamUserResponses(int fetchSize, Consumer<UserResponse> consumer);
+
+    /**
+     * Loads one page of users, reading only the columns of the selected
+     * fields. The ID and update time are always read; other unselected
+     * fields are left null.
+     *
+     * @param pageable The page, size and sort; the sort must be set
+     * @param fields   The selected fields, or null for all fields
+     * @return The users of the page
+     */
+    List<UserResponse> findSparseUserResponses(Pageable pageable, Set<String> fields);
+
+    /**
+     * Loads the listed users, reading only the columns of the selected
+     * fields. The ID and update time are always read; other unselected
+     * fields are left null.
+     *
+     * @param ids    The user IDs
+     * @param fields The selected fields, or null for all fields
+     * @return The users found, in no particular order
+     */
+    List<UserResponse> findSparseUserResponses(Collection<UUID> ids, Set<String> fields);
+}
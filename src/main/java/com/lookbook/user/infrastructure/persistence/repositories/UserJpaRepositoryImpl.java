@@ -0,0 +1,147 @@
+package com.lookbook.user.infrastructure.persistence.repositories;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.lookbook.auth.application.dtos.responses.UserResponse;
+import com.lookbook.base.infrastructure.persistence.repositories.SparseColumns;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.repositories.UserStatusChange;
+import com.lookbook.user.domain.valueobjects.Username;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC implementation of the custom user repository operations.
+ * Picked up by Spring Data as the fragment for {@link UserJpaRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class UserJpaRepositoryImpl implements UserJpaRepositoryCustom {
+
+    static final SparseColumns USER_COLUMNS = new SparseColumns(Map.of(
+            "id", "id",
+            "username", "username",
+            "email", "email",
+            "status", "status",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UserStatusChange> updateStatus(Collection<UUID> ids, Set<UserStatus> fromStatuses,
+            UserStatus toStatus) {
+        if (ids.isEmpty() || fromStatuses.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String sourcePlaceholders = fromStatuses.stream()
+                .map(status -> "?")
+                .collect(Collectors.joining(", "));
+        // RETURNING only sees new values, so the previous status is read
+        // from a locked subselect joined into the update
+        String sql = "UPDATE users u SET status = ?, updated_at = ? "
+                + "FROM (SELECT id, status FROM users WHERE id = ANY(?) AND status IN (" + sourcePlaceholders + ") "
+                + "FOR UPDATE) previous "
+                + "WHERE u.id = previous.id "
+                + "RETURNING u.id, u.username, previous.status AS previous_status";
+
+        return jdbcTemplate.execute(sql, (PreparedStatement statement) -> {
+            Array idArray = statement.getConnection().createArrayOf("uuid", ids.toArray());
+            try {
+                int index = 1;
+                statement.setString(index++, toStatus.name());
+                statement.setTimestamp(index++, Timestamp.valueOf(LocalDateTime.now()));
+                statement.setArray(index++, idArray);
+                for (UserStatus status : fromStatuses) {
+                    statement.setString(index++, status.name());
+                }
+
+                List<UserStatusChange> updated = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        updated.add(new UserStatusChange(
+                                rs.getObject("id", UUID.class),
+                                Username.of(rs.getString("username")),
+                                UserStatus.valueOf(rs.getString("previous_status"))));
+                    }
+                }
+                return updated;
+            } finally {
+                idArray.free();
+            }
+        });
+    }
+
+    @Override
+    public long streamUserResponses(int fetchSize, Consumer<UserResponse> consumer) {
+        String sql = "SELECT id, username, email, status, created_at, updated_at "
+                + "FROM users ORDER BY created_at, id";
+
+        long[] streamed = { 0 };
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            consumer.accept(new UserResponse(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("username"),
+                    rs.getString("email"),
+                    UserStatus.valueOf(rs.getString("status")),
+                    rs.getTimestamp("created_at").toLocalDateTime(),
+                    rs.getTimestamp("updated_at").toLocalDateTime()));
+            streamed[0]++;
+        });
+        return streamed[0];
+    }
+
+    @Override
+    public List<UserResponse> findSparseUserResponses(Pageable pageable, Set<String> fields) {
+        String sql = "SELECT " + USER_COLUMNS.selectList(fields) + " FROM users "
+                + "ORDER BY " + USER_COLUMNS.orderBy(pageable.getSort()) + " LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, sparseUserMapper(fields), pageable.getPageSize(), pageable.getOffset());
+    }
+
+    @Override
+    public List<UserResponse> findSparseUserResponses(Collection<UUID> ids, Set<String> fields) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "SELECT " + USER_COLUMNS.selectList(fields) + " FROM users "
+                + "WHERE id = ANY(CAST(? AS uuid[]))";
+        return jdbcTemplate.query(sql, sparseUserMapper(fields), SparseColumns.idArray(ids));
+    }
+
+    private static RowMapper<UserResponse> sparseUserMapper(Set<String> fields) {
+        boolean username = USER_COLUMNS.includes(fields, "username");
+        boolean email = USER_COLUMNS.includes(fields, "email");
+        boolean status = USER_COLUMNS.includes(fields, "status");
+        boolean createdAt = USER_COLUMNS.includes(fields, "createdAt");
+        return (rs, rowNum) -> new UserResponse(
+                rs.getObject("id", UUID.class),
+                username ? rs.getString("username") : null,
+                email ? rs.getString("email") : null,
+                status ? UserStatus.valueOf(rs.getString("status")) : null,
+                createdAt ? rs.getTimestamp("created_at").toLocalDateTime() : null,
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    }
+}
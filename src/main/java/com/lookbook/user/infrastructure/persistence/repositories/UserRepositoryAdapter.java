@@ -1,12 +1,19 @@
 package com.lookbook.user.infrastructure.persistence.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.base.infrastructure.persistence.repositories.JpaEntityRepositoryAdapter;
 import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserStatus;
 import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.domain.repositories.UserStatusChange;
 import com.lookbook.user.domain.valueobjects.Email;
 import com.lookbook.user.domain.valueobjects.Username;
 import com.lookbook.user.infrastructure.persistence.entities.JpaUser;
@@ -43,6 +50,16 @@ public class UserRepositoryAdapter extends JpaEntityRepositoryAdapter<User, JpaU
                 .map(this::mapToEntity);
     }
 
+    @Override
+    public Optional<User> findByIdWithCredentials(UUID id) {
+        return findById(id);
+    }
+
+    @Override
+    public Optional<User> findByUsernameWithCredentials(Username username) {
+        return findByUsername(username);
+    }
+
     @Override
     public boolean existsByUsername(Username username) {
         return jpaRepository.existsByUsername(username.getValue());
@@ -53,8 +70,29 @@ public class UserRepositoryAdapter extends JpaEntityRepositoryAdapter<User, JpaU
         return jpaRepository.existsByEmail(email.getValue());
     }
 
+    @Override
+    public Optional<EntityVersion> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public List<UserStatusChange> updateStatus(Collection<UUID> ids, Set<UserStatus> fromStatuses,
+            UserStatus toStatus) {
+        return jpaRepository.updateStatus(ids, fromStatuses, toStatus);
+    }
+
     @Override
     protected JpaUser mapToJpaEntity(User entity) {
+        if (entity.getHashedPassword() == null) {
+            // Users read from the cache carry no credentials; keep the stored
+            // hash. The lookup also brings the row into the persistence
+            // context, so the following merge does not read it again.
+            String storedHash = jpaRepository.findById(entity.getId())
+                    .map(JpaUser::getPasswordHash)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Cannot save user " + entity.getId() + " without a password hash"));
+            return new JpaUser(entity, storedHash);
+        }
         return new JpaUser(entity);
     }
 
@@ -0,0 +1,29 @@
+-- Append-only store of published domain events.
+-- Event type names are interned so each row carries a 2-byte type id.
+CREATE TABLE event_types (
+    id SMALLINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    name VARCHAR(150) NOT NULL UNIQUE
+);
+
+CREATE TABLE event_store (
+    position BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id UUID NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type_id SMALLINT NOT NULL REFERENCES event_types (id),
+    occurred_at TIMESTAMP NOT NULL,
+    payload BYTEA NOT NULL
+);
+
+-- Makes re-delivered events a no-op
+CREATE UNIQUE INDEX ux_event_store_event_id ON event_store (event_id);
+
+-- Per-aggregate reads in append order
+CREATE INDEX idx_event_store_aggregate ON event_store (aggregate_id, position);
+
+-- Rows arrive roughly in occurred_at order, so a BRIN index serves time
+-- range scans at a fraction of a B-tree's size and insert cost
+CREATE INDEX idx_event_store_occurred_at ON event_store USING BRIN (occurred_at);
+
+-- The store is append-only
+CREATE RULE event_store_no_update AS ON UPDATE TO event_store DO INSTEAD NOTHING;
+CREATE RULE event_store_no_delete AS ON DELETE TO event_store DO INSTEAD NOTHING;
@@ -0,0 +1,14 @@
+-- Incrementally maintained row counts, kept current by domain events and
+-- periodically reconciled against the real tables.
+CREATE TABLE entity_counters (
+    name VARCHAR(100) PRIMARY KEY,
+    value BIGINT NOT NULL DEFAULT 0,
+    reconciled_at TIMESTAMP
+);
+
+INSERT INTO entity_counters (name, value, reconciled_at)
+SELECT 'users', count(*), CURRENT_TIMESTAMP FROM users
+UNION ALL
+SELECT 'users.status.' || status, count(*), CURRENT_TIMESTAMP FROM users GROUP BY status
+UNION ALL
+SELECT 'profiles', count(*), CURRENT_TIMESTAMP FROM profiles;
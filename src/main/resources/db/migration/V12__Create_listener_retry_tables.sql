@@ -0,0 +1,27 @@
+-- Failed listener invocations waiting to be re-run by the retry worker
+CREATE TABLE listener_retry_jobs (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    listener VARCHAR(200) NOT NULL,
+    payload_type VARCHAR(300) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The worker claims due jobs in the order they became due
+CREATE INDEX idx_listener_retry_jobs_due ON listener_retry_jobs (next_attempt_at);
+
+-- Jobs that exhausted their retries, kept until an admin replays them
+CREATE TABLE listener_dead_letters (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    listener VARCHAR(200) NOT NULL,
+    payload_type VARCHAR(300) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL,
+    last_error TEXT,
+    first_failed_at TIMESTAMP NOT NULL,
+    dead_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,11 @@
+-- Progress of projection rebuilds over the event store, so an interrupted
+-- rebuild resumes from its last checkpoint instead of starting over
+CREATE TABLE projection_checkpoints (
+    projection VARCHAR(100) PRIMARY KEY,
+    position BIGINT NOT NULL,
+    target_position BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_error TEXT,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,10 @@
+-- Events each idempotent listener has handled, checked when the in-memory filter suspects a duplicate
+CREATE TABLE processed_events (
+    consumer VARCHAR(200) NOT NULL,
+    event_id UUID NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (consumer, event_id)
+);
+
+-- Expired records are purged by age
+CREATE INDEX idx_processed_events_processed_at ON processed_events (processed_at);
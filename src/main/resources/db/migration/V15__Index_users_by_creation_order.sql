@@ -0,0 +1,3 @@
+-- Default order of the paginated users listing and the NDJSON export, so
+-- pages and the export cursor walk the index instead of sorting the table
+CREATE INDEX idx_users_created_at_id ON users(created_at, id);
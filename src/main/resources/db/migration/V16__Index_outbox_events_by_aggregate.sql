@@ -0,0 +1,3 @@
+-- The relay checks for earlier leased rows of the same aggregate before
+-- claiming a row, so per-aggregate order holds across relay nodes
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events (aggregate_id, position);
@@ -0,0 +1,7 @@
+-- Events already applied to entity_counters, written in the same transaction
+-- as the counter update. Redeliveries are counted once, and reconciliation
+-- subtracts only the outbox events not yet listed here.
+CREATE TABLE counted_events (
+    event_id UUID PRIMARY KEY,
+    counted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
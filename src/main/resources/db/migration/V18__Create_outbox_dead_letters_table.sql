@@ -0,0 +1,13 @@
+-- Outbox rows the relay gave up on, kept for inspection. Moving them out of
+-- outbox_events lets the aggregate's later events proceed.
+CREATE TABLE outbox_dead_letters (
+    event_id UUID PRIMARY KEY,
+    aggregate_id UUID,
+    event_type VARCHAR(150) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    dead_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
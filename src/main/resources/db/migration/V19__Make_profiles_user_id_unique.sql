@@ -0,0 +1,9 @@
+-- A user has at most one profile; the /me query joins on user_id and
+-- expects a single row. Duplicates keep the most recently updated profile.
+DELETE FROM profiles p
+USING profiles newer
+WHERE newer.user_id = p.user_id
+  AND (newer.updated_at, newer.id) > (p.updated_at, p.id);
+
+DROP INDEX idx_profiles_user_id;
+CREATE UNIQUE INDEX idx_profiles_user_id ON profiles(user_id);
@@ -0,0 +1,69 @@
+-- Convert refresh_tokens into a table range-partitioned by expires_at.
+-- Each partition holds one calendar month of expiry times, so retention is
+-- enforced by dropping whole partitions (see RefreshTokenPartitionMaintainer)
+-- instead of row-level DELETEs.
+--
+-- Partition pruning: the primary key and the token uniqueness constraint must
+-- include the partition key, and every lookup should bound expires_at
+-- (e.g. "WHERE token = ? AND expires_at > now()") so that only live
+-- partitions are scanned.
+
+CREATE TABLE refresh_tokens_partitioned (
+    -- Base entity fields
+    id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+
+    -- Token-specific fields
+    token VARCHAR(255) NOT NULL,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked BOOLEAN NOT NULL DEFAULT FALSE,
+
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id, expires_at),
+    CONSTRAINT uq_refresh_tokens_token UNIQUE (token, expires_at),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) PARTITION BY RANGE (expires_at);
+
+-- Create monthly partitions from the current month up to six months ahead,
+-- widened if existing tokens expire later than that.
+DO $$
+DECLARE
+    first_month DATE := date_trunc('month', now());
+    last_month DATE := date_trunc('month', GREATEST(
+            now() + INTERVAL '6 months',
+            COALESCE((SELECT MAX(expires_at) FROM refresh_tokens), now())));
+    partition_month DATE;
+BEGIN
+    partition_month := first_month;
+    WHILE partition_month <= last_month LOOP
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF refresh_tokens_partitioned FOR VALUES FROM (%L) TO (%L)',
+                'refresh_tokens_p' || to_char(partition_month, 'YYYYMM'),
+                partition_month,
+                partition_month + INTERVAL '1 month');
+        partition_month := partition_month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+-- Carry over tokens that can still be used; already expired tokens are dropped
+INSERT INTO refresh_tokens_partitioned (id, created_at, updated_at, token, user_id, expires_at, revoked)
+SELECT id, created_at, updated_at, token, user_id, expires_at, revoked
+FROM refresh_tokens
+WHERE expires_at > now();
+
+DROP TABLE refresh_tokens;
+ALTER TABLE refresh_tokens_partitioned RENAME TO refresh_tokens;
+
+-- Partitioned indexes, created on every current and future partition
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens(user_id, expires_at);
+
+-- Add comments for documentation
+COMMENT ON TABLE refresh_tokens IS 'Stores JWT refresh tokens for users, range-partitioned by month of expires_at';
+COMMENT ON COLUMN refresh_tokens.id IS 'Unique identifier for the refresh token';
+COMMENT ON COLUMN refresh_tokens.created_at IS 'Timestamp when the token was created';
+COMMENT ON COLUMN refresh_tokens.updated_at IS 'Timestamp when the token was last updated';
+COMMENT ON COLUMN refresh_tokens.token IS 'The actual refresh token value';
+COMMENT ON COLUMN refresh_tokens.user_id IS 'ID of the user that owns this token';
+COMMENT ON COLUMN refresh_tokens.expires_at IS 'Timestamp when this token expires (partition key)';
+COMMENT ON COLUMN refresh_tokens.revoked IS 'Whether this token has been revoked';
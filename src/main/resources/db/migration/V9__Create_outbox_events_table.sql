@@ -0,0 +1,17 @@
+-- Transactional outbox: domain events are written here in the same
+-- transaction as the state change and delivered by a background relay.
+CREATE TABLE outbox_events (
+    position BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id UUID NOT NULL UNIQUE,
+    aggregate_id UUID,
+    event_type VARCHAR(150) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    locked_until TIMESTAMP,
+    last_error TEXT
+);
+
+-- The relay scans pending rows in insertion order
+CREATE INDEX idx_outbox_events_pending ON outbox_events (position) WHERE locked_until IS NULL;
@@ -0,0 +1,140 @@
+package com.integration.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lookbook.auth.application.dtos.responses.UserResponse;
+import com.lookbook.base.infrastructure.api.response.ApiResponse;
+import com.lookbook.user.application.dtos.ProfileResponse;
+import com.lookbook.user.domain.aggregates.UserStatus;
+
+/**
+ * Measures building and serializing {@code UserResponse} and
+ * {@code ProfileResponse} envelopes the way the web tier writes them.
+ * The legacy path models the previous setup: indented output, an eagerly
+ * allocated metadata map, a pattern-formatted timestamp and a writer resolved
+ * from the runtime class. The current path writes compact output through a
+ * writer prebuilt for the declared envelope type.
+ * Timings depend on the machine and its load, so they are printed rather than
+ * asserted; only the output sizes are checked.
+ */
+class ApiResponseSerializationBenchmarkIntegrationTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int WRITES_PER_ROUND = 200_000;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final UserResponse user = new UserResponse(UUID.randomUUID(), "alice", "alice@example.com",
+            UserStatus.ACTIVE, LocalDateTime.now().minusDays(30), LocalDateTime.now());
+    private final ProfileResponse profile = new ProfileResponse(UUID.randomUUID(), user.id(), "Alice",
+            "Collects vintage denim and writes about it.", "https://cdn.example.com/alice.png",
+            LocalDateTime.now().minusDays(30), LocalDateTime.now());
+
+    private long sink;
+
+    @Test
+    void compactPrebuiltWriters_ReportEnvelopeSerializationCost() throws Exception {
+        ObjectWriter indented = mapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writer();
+        ObjectWriter userWriter = mapper.writerFor(new TypeReference<ApiResponse<UserResponse>>() {
+        });
+        ObjectWriter profileWriter = mapper.writerFor(new TypeReference<ApiResponse<ProfileResponse>>() {
+        });
+
+        double legacyUser = measure(() -> write(indented, LegacyApiResponse.success(user)));
+        double legacyProfile = measure(() -> write(indented, LegacyApiResponse.success(profile)));
+        double currentUser = measure(() -> write(userWriter, ApiResponse.success(user)));
+        double currentProfile = measure(() -> write(profileWriter, ApiResponse.success(profile)));
+
+        int legacyUserBytes = write(indented, LegacyApiResponse.success(user));
+        int currentUserBytes = write(userWriter, ApiResponse.success(user));
+        int legacyProfileBytes = write(indented, LegacyApiResponse.success(profile));
+        int currentProfileBytes = write(profileWriter, ApiResponse.success(profile));
+
+        System.out.printf("UserResponse envelope:    legacy %.0f ns, current %.0f ns (%d -> %d bytes)%n",
+                legacyUser, currentUser, legacyUserBytes, currentUserBytes);
+        System.out.printf("ProfileResponse envelope: legacy %.0f ns, current %.0f ns (%d -> %d bytes)%n",
+                legacyProfile, currentProfile, legacyProfileBytes, currentProfileBytes);
+
+        assertTrue(currentUserBytes < legacyUserBytes, "Expected compact UserResponse output");
+        assertTrue(currentProfileBytes < legacyProfileBytes, "Expected compact ProfileResponse output");
+    }
+
+    private int write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value).length;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double measure(Supplier<Integer> write) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < WRITES_PER_ROUND; i++) {
+                sink += write.get();
+            }
+            double perWrite = (double) (System.nanoTime() - start) / WRITES_PER_ROUND;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, perWrite);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The envelope as it was before: metadata map allocated up front and the
+     * timestamp formatted through a pattern.
+     */
+    @JsonInclude(Include.NON_NULL)
+    public static class LegacyApiResponse<T> {
+        private final String status = "success";
+        private T data;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+        private final LocalDateTime timestamp = LocalDateTime.now();
+
+        @JsonInclude(Include.NON_EMPTY)
+        private final Map<String, Object> meta = new HashMap<>();
+
+        static <T> LegacyApiResponse<T> success(T data) {
+            LegacyApiResponse<T> response = new LegacyApiResponse<>();
+            response.data = data;
+            return response;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public T getData() {
+            return data;
+        }
+
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+
+        public Map<String, Object> getMeta() {
+            return meta;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.integration.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.application.events.DomainEventSubscriber;
+import com.lookbook.base.domain.events.BaseDomainEvent;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.CoalescingProperties;
+import com.lookbook.base.infrastructure.events.DomainEventDispatcher;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.base.infrastructure.events.EventCoalescer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures dispatch cost of the {@link DomainEventDispatcher} with one and
+ * with fifty registered event types, next to a linear type check that models
+ * an instanceof chain. The dispatcher's cost should stay flat as event types
+ * are added, while the chain grows with its length.
+ */
+class DomainEventDispatchBenchmarkIntegrationTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int DISPATCHES_PER_ROUND = 2_000_000;
+
+    private static final List<Class<? extends DomainEvent>> TYPES = List.of(Event00.class, Event01.class, Event02.class, Event03.class, Event04.class, Event05.class, Event06.class, Event07.class, Event08.class, Event09.class, Event10.class, Event11.class, Event12.class, Event13.class, Event14.class, Event15.class, Event16.class, Event17.class, Event18.class, Event19.class, Event20.class, Event21.class, Event22.class, Event23.class, Event24.class, Event25.class, Event26.class, Event27.class, Event28.class, Event29.class, Event30.class, Event31.class, Event32.class, Event33.class, Event34.class, Event35.class, Event36.class, Event37.class, Event38.class, Event39.class, Event40.class, Event41.class, Event42.class, Event43.class, Event44.class, Event45.class, Event46.class, Event47.class, Event48.class, Event49.class);
+
+    private long sink;
+
+    @Test
+    void dispatchCost_ShouldStayFlatWithFiftyEventTypes() {
+        DomainEvent[] events = {
+            new Event00(),
+            new Event01(),
+            new Event02(),
+            new Event03(),
+            new Event04(),
+            new Event05(),
+            new Event06(),
+            new Event07(),
+            new Event08(),
+            new Event09(),
+            new Event10(),
+            new Event11(),
+            new Event12(),
+            new Event13(),
+            new Event14(),
+            new Event15(),
+            new Event16(),
+            new Event17(),
+            new Event18(),
+            new Event19(),
+            new Event20(),
+            new Event21(),
+            new Event22(),
+            new Event23(),
+            new Event24(),
+            new Event25(),
+            new Event26(),
+            new Event27(),
+            new Event28(),
+            new Event29(),
+            new Event30(),
+            new Event31(),
+            new Event32(),
+            new Event33(),
+            new Event34(),
+            new Event35(),
+            new Event36(),
+            new Event37(),
+            new Event38(),
+            new Event39(),
+            new Event40(),
+            new Event41(),
+            new Event42(),
+            new Event43(),
+            new Event44(),
+            new Event45(),
+            new Event46(),
+            new Event47(),
+            new Event48(),
+            new Event49()
+        };
+
+        DomainEventDispatcher singleType = dispatcher(TYPES.subList(0, 1));
+        DomainEventDispatcher fiftyTypes = dispatcher(TYPES);
+        DomainEvent[] firstOnly = new DomainEvent[] { events[0] };
+
+        double single = measure(firstOnly, singleType::dispatch);
+        double fifty = measure(events, fiftyTypes::dispatch);
+        double chain = measure(events, this::instanceofChain);
+
+        System.out.printf("dispatcher, 1 type:   %.1f ns/event%n", single);
+        System.out.printf("dispatcher, 50 types: %.1f ns/event%n", fifty);
+        System.out.printf("instanceof chain, 50: %.1f ns/event%n", chain);
+
+        assertTrue(fifty < single * 4, "Dispatch cost grew from " + single + " to " + fifty + " ns/event");
+    }
+
+    private DomainEventDispatcher dispatcher(List<Class<? extends DomainEvent>> types) {
+        DomainEventSubscriber subscriber = subscriptions -> types.forEach(
+                type -> subscriptions.on(type, event -> sink++));
+        return new DomainEventDispatcher(List.of(subscriber), new DomainEventRegistry(List.of()),
+                new EventCoalescer(new CoalescingProperties(), mock(PlatformTransactionManager.class),
+                        new SimpleMeterRegistry()));
+    }
+
+    private void instanceofChain(DomainEvent event) {
+        for (Class<? extends DomainEvent> type : TYPES) {
+            if (type.isInstance(event)) {
+                sink++;
+                return;
+            }
+        }
+    }
+
+    private double measure(DomainEvent[] events, Consumer<DomainEvent> dispatch) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < DISPATCHES_PER_ROUND; i++) {
+                dispatch.accept(events[i % events.length]);
+            }
+            double perEvent = (double) (System.nanoTime() - start) / DISPATCHES_PER_ROUND;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, perEvent);
+            }
+        }
+        return best;
+    }
+
+    abstract static class BenchmarkEvent extends BaseDomainEvent {
+        private static final UUID AGGREGATE_ID = UUID.randomUUID();
+
+        @Override
+        public UUID getAggregateId() {
+            return AGGREGATE_ID;
+        }
+    }
+
+    static final class Event00 extends BenchmarkEvent {
+    }
+
+    static final class Event01 extends BenchmarkEvent {
+    }
+
+    static final class Event02 extends BenchmarkEvent {
+    }
+
+    static final class Event03 extends BenchmarkEvent {
+    }
+
+    static final class Event04 extends BenchmarkEvent {
+    }
+
+    static final class Event05 extends BenchmarkEvent {
+    }
+
+    static final class Event06 extends BenchmarkEvent {
+    }
+
+    static final class Event07 extends BenchmarkEvent {
+    }
+
+    static final class Event08 extends BenchmarkEvent {
+    }
+
+    static final class Event09 extends BenchmarkEvent {
+    }
+
+    static final class Event10 extends BenchmarkEvent {
+    }
+
+    static final class Event11 extends BenchmarkEvent {
+    }
+
+    static final class Event12 extends BenchmarkEvent {
+    }
+
+    static final class Event13 extends BenchmarkEvent {
+    }
+
+    static final class Event14 extends BenchmarkEvent {
+    }
+
+    static final class Event15 extends BenchmarkEvent {
+    }
+
+    static final class Event16 extends BenchmarkEvent {
+    }
+
+    static final class Event17 extends BenchmarkEvent {
+    }
+
+    static final class Event18 extends BenchmarkEvent {
+    }
+
+    static final class Event19 extends BenchmarkEvent {
+    }
+
+    static final class Event20 extends BenchmarkEvent {
+    }
+
+    static final class Event21 extends BenchmarkEvent {
+    }
+
+    static final class Event22 extends BenchmarkEvent {
+    }
+
+    static final class Event23 extends BenchmarkEvent {
+    }
+
+    static final class Event24 extends BenchmarkEvent {
+    }
+
+    static final class Event25 extends BenchmarkEvent {
+    }
+
+    static final class Event26 extends BenchmarkEvent {
+    }
+
+    static final class Event27 extends BenchmarkEvent {
+    }
+
+    static final class Event28 extends BenchmarkEvent {
+    }
+
+    static final class Event29 extends BenchmarkEvent {
+    }
+
+    static final class Event30 extends BenchmarkEvent {
+    }
+
+    static final class Event31 extends BenchmarkEvent {
+    }
+
+    static final class Event32 extends BenchmarkEvent {
+    }
+
+    static final class Event33 extends BenchmarkEvent {
+    }
+
+    static final class Event34 extends BenchmarkEvent {
+    }
+
+    static final class Event35 extends BenchmarkEvent {
+    }
+
+    static final class Event36 extends BenchmarkEvent {
+    }
+
+    static final class Event37 extends BenchmarkEvent {
+    }
+
+    static final class Event38 extends BenchmarkEvent {
+    }
+
+    static final class Event39 extends BenchmarkEvent {
+    }
+
+    static final class Event40 extends BenchmarkEvent {
+    }
+
+    static final class Event41 extends BenchmarkEvent {
+    }
+
+    static final class Event42 extends BenchmarkEvent {
+    }
+
+    static final class Event43 extends BenchmarkEvent {
+    }
+
+    static final class Event44 extends BenchmarkEvent {
+    }
+
+    static final class Event45 extends BenchmarkEvent {
+    }
+
+    static final class Event46 extends BenchmarkEvent {
+    }
+
+    static final class Event47 extends BenchmarkEvent {
+    }
+
+    static final class Event48 extends BenchmarkEvent {
+    }
+
+    static final class Event49 extends BenchmarkEvent {
+    }
+}
@@ -0,0 +1,114 @@
+package com.integration.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.lookbook.base.domain.identity.IdGenerator;
+import com.lookbook.base.domain.identity.RandomUuidGenerator;
+import com.lookbook.base.domain.identity.UuidV7Generator;
+
+/**
+ * Compares insert throughput and primary-key index size of time-ordered
+ * UUIDv7 ids against random UUIDv4 ids on PostgreSQL.
+ * Random keys scatter inserts across the whole B-tree and split pages that
+ * are only half full; time-ordered keys append to the right-most leaf.
+ */
+@Testcontainers
+class IdGeneratorBenchmarkIntegrationTest {
+
+    private static final int ROWS = 500_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgres:16-alpine"))
+            .withDatabaseName("lookbook_bench")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Test
+    void uuidV7_ShouldInsertWithSmallerPrimaryKeyIndexThanUuidV4() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            Result v4 = run(connection, "ids_v4", new RandomUuidGenerator());
+            Result v7 = run(connection, "ids_v7", new UuidV7Generator());
+
+            System.out.printf("uuid-v4: %,.0f rows/s, pk index %,d bytes%n", v4.rowsPerSecond(), v4.indexBytes());
+            System.out.printf("uuid-v7: %,.0f rows/s, pk index %,d bytes%n", v7.rowsPerSecond(), v7.indexBytes());
+
+            assertTrue(v7.indexBytes() < v4.indexBytes(),
+                    "Expected the v7 index (" + v7.indexBytes() + ") to be smaller than v4 (" + v4.indexBytes() + ")");
+        }
+    }
+
+    @Test
+    void uuidV7_ShouldGenerateConcurrentlyWithoutLocking() throws InterruptedException {
+        UuidV7Generator generator = new UuidV7Generator();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int perThread = 1_000_000;
+        Thread[] workers = new Thread[threads];
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            workers[t] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    generator.nextId();
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("uuid-v7 generation: %,.0f ids/s on %d threads%n", threads * perThread / seconds, threads);
+    }
+
+    private Result run(Connection connection, String table, IdGenerator generator) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, payload TEXT NOT NULL)");
+        }
+
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setObject(1, generator.nextId());
+                insert.setString(2, "row-" + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        connection.setAutoCommit(true);
+
+        try (PreparedStatement size = connection.prepareStatement(
+                "SELECT pg_relation_size(?::regclass)")) {
+            size.setString(1, table + "_pkey");
+            try (ResultSet rs = size.executeQuery()) {
+                rs.next();
+                return new Result(ROWS / seconds, rs.getLong(1));
+            }
+        }
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes) {
+    }
+}
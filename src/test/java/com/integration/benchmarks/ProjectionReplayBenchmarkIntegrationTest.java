@@ -0,0 +1,129 @@
+package com.integration.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.application.projections.Projection;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.ProjectionReplayProperties;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.base.infrastructure.eventstore.EventPayloadCodec;
+import com.lookbook.base.infrastructure.projections.ProjectionReplayEngine;
+import com.lookbook.base.infrastructure.projections.ProjectionReplayRepository;
+import com.lookbook.base.infrastructure.projections.ReplayRecord;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.infrastructure.events.UserDomainEventTypes;
+
+/**
+ * Measures replay throughput of the {@link ProjectionReplayEngine} over
+ * pre-encoded events held in memory, single-threaded and with one thread per
+ * processor. Reading from PostgreSQL is left out so that the numbers show
+ * the cost of decoding, partitioning and applying events.
+ */
+class ProjectionReplayBenchmarkIntegrationTest {
+
+    private static final int EVENTS = 2_000_000;
+    private static final int AGGREGATES = 100_000;
+
+    @Test
+    void replayThroughput_ShouldScaleWithParallelism() {
+        ReplayRecord[] records = records();
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        rebuild(records, 1);
+        rebuild(records, processors);
+        double single = rebuild(records, 1);
+        double parallel = rebuild(records, processors);
+
+        System.out.printf("Replay: %,.0f events/s on 1 thread, %,.0f events/s on %d threads%n",
+                single, parallel, processors);
+        if (processors > 1) {
+            assertTrue(parallel > single, "parallel replay should beat a single thread");
+        }
+    }
+
+    private double rebuild(ReplayRecord[] records, int parallelism) {
+        ProjectionReplayRepository repository = mock(ProjectionReplayRepository.class);
+        when(repository.findCheckpoint(any())).thenReturn(Optional.empty());
+        when(repository.lastPosition()).thenReturn((long) records.length);
+        when(repository.readBatch(anyLong(), anyLong(), anyInt(), any())).thenAnswer(invocation -> {
+            int from = (int) (long) invocation.getArgument(0);
+            int to = Math.min(records.length, from + (int) invocation.getArgument(2));
+            return Arrays.asList(records).subList(from, to);
+        });
+
+        CountingProjection projection = new CountingProjection();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<Projection> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenReturn(Stream.of(projection));
+        ProjectionReplayProperties properties = new ProjectionReplayProperties();
+        properties.setParallelism(parallelism);
+        ProjectionReplayEngine engine = new ProjectionReplayEngine(provider, repository,
+                new DomainEventRegistry(List.of(new UserDomainEventTypes())),
+                mock(PlatformTransactionManager.class), properties);
+        try {
+            long started = System.nanoTime();
+            long replayed = engine.rebuild(projection, false);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            assertEquals(records.length, replayed);
+            assertEquals(records.length, projection.applied.sum());
+            return replayed / seconds;
+        } finally {
+            engine.destroy();
+        }
+    }
+
+    private static ReplayRecord[] records() {
+        List<UUID> aggregates = new ArrayList<>(AGGREGATES);
+        for (int i = 0; i < AGGREGATES; i++) {
+            aggregates.add(UUID.randomUUID());
+        }
+        ReplayRecord[] records = new ReplayRecord[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            DomainEvent event = new UserActivatedEvent(aggregates.get(i % AGGREGATES), "user" + (i % AGGREGATES));
+            records[i] = new ReplayRecord(i + 1, event.getEventId(), event.getAggregateId(), event.getEventType(),
+                    event.getOccurredAt(), EventPayloadCodec.encode(event.getMetadata()));
+        }
+        return records;
+    }
+
+    private static class CountingProjection implements Projection {
+        final LongAdder applied = new LongAdder();
+        final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+        @Override
+        public String name() {
+            return "counting";
+        }
+
+        @Override
+        public void reset() {
+            versions.clear();
+        }
+
+        @Override
+        public void apply(DomainEvent event) {
+            versions.merge(event.getAggregateId(), 1L, Long::sum);
+            applied.increment();
+        }
+    }
+}
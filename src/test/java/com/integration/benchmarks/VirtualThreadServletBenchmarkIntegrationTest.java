@@ -0,0 +1,156 @@
+package com.integration.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compares Tomcat's bounded platform-thread pool with virtual-thread request
+ * execution when every request waits on slow I/O, such as a storage call in
+ * the profile image service or a stalled query.
+ * Both servers run the same servlet, which blocks for a fixed latency; the
+ * platform pool is sized like a typical worker pool, so once all its threads
+ * are blocked further requests queue and throughput is capped at
+ * threads / latency, while virtual threads release their carrier while they
+ * wait.
+ * The throughput and latency figures are printed for comparison rather than
+ * asserted, since wall-clock ratios are unreliable on shared CI machines.
+ */
+class VirtualThreadServletBenchmarkIntegrationTest {
+
+    private static final Duration IO_LATENCY = Duration.ofMillis(50);
+    private static final int PLATFORM_THREADS = 20;
+    private static final int CLIENTS = 200;
+    private static final Duration RUN_TIME = Duration.ofSeconds(5);
+
+    @Test
+    void virtualThreads_ReportThroughputUnderIoLatency() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("platform (%d threads): %,.0f req/s, p50 %d ms, p99 %d ms%n",
+                PLATFORM_THREADS, platform.requestsPerSecond(), platform.p50(), platform.p99());
+        System.out.printf("virtual threads:       %,.0f req/s, p50 %d ms, p99 %d ms%n",
+                virtual.requestsPerSecond(), virtual.p50(), virtual.p99());
+
+        // Every request succeeded, or runClients would have thrown
+        for (Result result : List.of(platform, virtual)) {
+            assertTrue(result.requestsPerSecond() > 0, "No requests completed: " + result);
+            assertTrue(result.p50() >= IO_LATENCY.toMillis(), "Requests did not wait on the I/O: " + result);
+        }
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        Tomcat tomcat = start(virtualThreads);
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+                ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            URI uri = URI.create("http://localhost:" + tomcat.getConnector().getLocalPort() + "/io");
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+
+            // Warm up connections and JIT
+            runClients(client, request, clients, Duration.ofSeconds(1));
+            return runClients(client, request, clients, RUN_TIME);
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    private Result runClients(HttpClient client, HttpRequest request, ExecutorService clients, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<List<Long>>> futures = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(clients.submit(() -> {
+                List<Long> latencies = new ArrayList<>();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("Unexpected status " + response.statusCode());
+                    }
+                    latencies.add((System.nanoTime() - start) / 1_000_000);
+                }
+                return latencies;
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            latencies.addAll(future.get());
+        }
+        Collections.sort(latencies);
+        double seconds = duration.toNanos() / 1e9;
+        return new Result(latencies.size() / seconds, percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private Tomcat start(boolean virtualThreads) throws LifecycleException, IOException {
+        File baseDir = Files.createTempDirectory("tomcat-bench").toFile();
+        baseDir.deleteOnExit();
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(baseDir.getAbsolutePath());
+
+        Connector connector = new Connector();
+        connector.setPort(0);
+        connector.setProperty("maxConnections", "8192");
+        if (virtualThreads) {
+            connector.getProtocolHandler().setExecutor(new VirtualThreadExecutor("bench-"));
+        } else {
+            connector.setProperty("maxThreads", String.valueOf(PLATFORM_THREADS));
+            connector.setProperty("acceptCount", "1000");
+        }
+        tomcat.setConnector(connector);
+
+        Context context = tomcat.addContext("", baseDir.getAbsolutePath());
+        Tomcat.addServlet(context, "io", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                try {
+                    Thread.sleep(IO_LATENCY);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                resp.setContentType("text/plain");
+                resp.getWriter().write("ok");
+            }
+        });
+        context.addServletMappingDecoded("/io", "io");
+        tomcat.start();
+        return tomcat;
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(quantile * sorted.size()) - 1));
+    }
+
+    private record Result(double requestsPerSecond, long p50, long p99) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.integration.implementations.counters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.integration.base.infrastructure.persistence.repositories.BaseTestContainersTest;
+import com.lookbook.base.infrastructure.counters.CounterStore;
+
+/**
+ * Runs the counter SQL against Postgres. Flyway is disabled for container
+ * tests, so the tables are created from the migrations' definitions.
+ */
+class CounterStoreTest extends BaseTestContainersTest {
+
+    @Autowired
+    private CounterStore counterStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate newTransaction;
+
+    @BeforeEach
+    void createTables() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        newTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS entity_counters (name VARCHAR(100) PRIMARY KEY, "
+                    + "value BIGINT NOT NULL DEFAULT 0, reconciled_at TIMESTAMP)");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS counted_events (event_id UUID PRIMARY KEY, "
+                    + "counted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS outbox_events ("
+                    + "position BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY, event_id UUID NOT NULL UNIQUE, "
+                    + "aggregate_id UUID, event_type VARCHAR(150) NOT NULL, payload TEXT NOT NULL, "
+                    + "occurred_at TIMESTAMP NOT NULL, created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+                    + "attempts INT NOT NULL DEFAULT 0, locked_until TIMESTAMP, last_error TEXT)");
+            jdbcTemplate.update("DELETE FROM entity_counters");
+            jdbcTemplate.update("DELETE FROM counted_events");
+            jdbcTemplate.update("DELETE FROM outbox_events");
+        });
+    }
+
+    @Test
+    void add_ShouldCreateAndIncrementCounters() {
+        assertTrue(counterStore.add(UUID.randomUUID(), Map.of("users", 1L, "users.status.PENDING", 1L)));
+        assertTrue(counterStore.add(UUID.randomUUID(), Map.of("users", 1L, "users.status.PENDING", -1L)));
+
+        Map<String, Long> values = counterStore.get(List.of("users", "users.status.PENDING", "profiles"));
+
+        assertEquals(2L, values.get("users"));
+        assertEquals(0L, values.get("users.status.PENDING"));
+        assertEquals(0L, values.get("profiles"));
+    }
+
+    @Test
+    void add_ShouldCountRedeliveredEventOnce() {
+        UUID eventId = UUID.randomUUID();
+
+        assertTrue(counterStore.add(eventId, Map.of("users", 1L)));
+        assertFalse(counterStore.add(eventId, Map.of("users", 1L)));
+
+        assertEquals(1L, counterStore.get(List.of("users")).get("users"));
+    }
+
+    @Test
+    void set_ShouldOverwriteCountersAndReturnPreviousValues() {
+        counterStore.add(UUID.randomUUID(), Map.of("users", 5L));
+
+        Map<String, Long> previous = counterStore.set(Map.of("users", 3L, "profiles", 2L));
+
+        assertEquals(5L, previous.get("users"));
+        assertEquals(0L, previous.get("profiles"));
+        assertEquals(Map.of("users", 3L, "profiles", 2L), counterStore.get(List.of("users", "profiles")));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM entity_counters WHERE reconciled_at IS NOT NULL", Integer.class));
+    }
+
+    @Test
+    void pruneCounted_ShouldKeepOnlyEventsStillInOutbox() {
+        UUID relayed = UUID.randomUUID();
+        UUID pending = UUID.randomUUID();
+        counterStore.add(relayed, Map.of("users", 1L));
+        counterStore.add(pending, Map.of("users", 1L));
+        jdbcTemplate.update("INSERT INTO outbox_events (event_id, event_type, payload, occurred_at) "
+                + "VALUES (?, 'UserRegisteredEvent', '{}', now())", pending);
+
+        assertEquals(1, counterStore.pruneCounted());
+
+        assertEquals(List.of(pending), jdbcTemplate.queryForList("SELECT event_id FROM counted_events", UUID.class));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void lock_ShouldHoldOffAddsUntilCommit() throws Exception {
+        newTransaction.executeWithoutResult(status -> counterStore.set(Map.of("users", 1L)));
+
+        newTransaction.executeWithoutResult(status -> {
+            counterStore.lock(List.of("users"));
+
+            CompletableFuture<Boolean> add = CompletableFuture.supplyAsync(() -> newTransaction.execute(inner -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '200ms'");
+                return counterStore.add(UUID.randomUUID(), Map.of("users", 1L));
+            }));
+            ExecutionException blocked = assertThrows(ExecutionException.class, add::get);
+            assertTrue(blocked.getCause() instanceof PessimisticLockingFailureException, blocked.getCause()::toString);
+        });
+
+        assertEquals(Boolean.TRUE,
+                newTransaction.execute(status -> counterStore.add(UUID.randomUUID(), Map.of("users", 1L))));
+        assertEquals(2L, counterStore.get(List.of("users")).get("users"));
+    }
+}
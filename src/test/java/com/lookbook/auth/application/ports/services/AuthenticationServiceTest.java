@@ -5,20 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.lookbook.auth.application.dtos.requests.LoginRequest;
 import com.lookbook.auth.application.dtos.requests.RegisterUserRequest;
@@ -52,13 +58,17 @@ class AuthenticationServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private AuthenticationService authenticationService;
 
     @BeforeEach
     void setUp() {
         // The implementation class now exists, so we can initialize it
         authenticationService = new AuthenticationServiceAdapter(
-                userRepository, jwtService, passwordEncoder, authenticationManager, profileService);
+                userRepository, jwtService, passwordEncoder, authenticationManager, profileService,
+                transactionManager);
     }
 
     @Test
@@ -67,13 +77,11 @@ class AuthenticationServiceTest {
         RegisterUserRequest request = new RegisterUserRequest(
                 "testuser", "test@example.com", "Password1!");
 
-        when(userRepository.existsByUsername(any(Username.class))).thenReturn(false);
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
         when(jwtService.generateToken(anyString())).thenReturn("access-token");
         when(jwtService.generateRefreshToken(anyString())).thenReturn("refresh-token");
 
         User mockUser = User.register("testuser", "test@example.com", "Password1!");
-        when(userRepository.save(any(User.class))).thenReturn(mockUser);
+        when(userRepository.insert(any(User.class))).thenReturn(mockUser);
 
         // Act
         AuthenticationResponse response = authenticationService.register(request);
@@ -85,6 +93,10 @@ class AuthenticationServiceTest {
         assertEquals("Bearer", response.tokenType());
         assertNotNull(response.expiresAt());
         assertEquals("testuser", response.user().username());
+        verify(profileService).createProfile(mockUser.getId(), "testuser");
+        verify(transactionManager).commit(any());
+        verify(userRepository, never()).existsByUsername(any(Username.class));
+        verify(userRepository, never()).existsByEmail(any(Email.class));
     }
 
     @Test
@@ -93,10 +105,33 @@ class AuthenticationServiceTest {
         RegisterUserRequest request = new RegisterUserRequest(
                 "existinguser", "test@example.com", "Password1!");
 
-        when(userRepository.existsByUsername(any(Username.class))).thenReturn(true);
+        doThrow(uniqueViolation("users_username_key")).when(transactionManager).commit(any());
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> authenticationService.register(request));
+        assertEquals("Username already exists", exception.getMessage());
+    }
+
+    @Test
+    void register_WithExistingEmail_ShouldThrowException() {
+        // Arrange
+        RegisterUserRequest request = new RegisterUserRequest(
+                "newuser", "existing@example.com", "Password1!");
+
+        when(userRepository.insert(any(User.class))).thenThrow(uniqueViolation("users_email_key"));
 
         // Act & Assert
-        assertThrows(ValidationException.class, () -> authenticationService.register(request));
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> authenticationService.register(request));
+        assertEquals("Email already exists", exception.getMessage());
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key value violates unique constraint",
+                        new SQLException("duplicate key", "23505"), constraintName));
     }
 
     @Test
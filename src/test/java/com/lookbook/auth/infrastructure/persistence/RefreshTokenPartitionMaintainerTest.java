@@ -0,0 +1,83 @@
+package com.lookbook.auth.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.lookbook.auth.infrastructure.config.RefreshTokenPartitionConfig;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPartitionMaintainerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RefreshTokenPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        RefreshTokenPartitionConfig config = new RefreshTokenPartitionConfig();
+        config.setMonthsAhead(2);
+        config.setRetention(Duration.ofDays(14));
+        Clock clock = Clock.fixed(Instant.parse("2025-03-10T12:00:00Z"), ZoneOffset.UTC);
+        maintainer = new RefreshTokenPartitionMaintainer(jdbcTemplate, config, clock);
+    }
+
+    @Test
+    void partitionName_ShouldRoundTrip() {
+        String name = RefreshTokenPartitionMaintainer.partitionName(YearMonth.of(2025, 1));
+
+        assertEquals("refresh_tokens_p202501", name);
+        assertEquals(Optional.of(YearMonth.of(2025, 1)), RefreshTokenPartitionMaintainer.parseMonth(name));
+        assertTrue(RefreshTokenPartitionMaintainer.parseMonth("refresh_tokens_default").isEmpty());
+    }
+
+    @Test
+    void expiredPartitions_ShouldKeepPartitionsWithinRetention() {
+        List<String> expired = maintainer.expiredPartitions(List.of(
+                "refresh_tokens_p202501", "refresh_tokens_p202502", "refresh_tokens_p202503", "other_table"));
+
+        // February ended on 2025-03-01, 9 days ago, so it is still within retention
+        assertEquals(List.of("refresh_tokens_p202501"), expired);
+    }
+
+    @Test
+    void maintain_ShouldCreateMissingPartitionsAndDropExpiredOnes() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("refresh_tokens")))
+                .thenReturn(List.of("refresh_tokens_p202412", "refresh_tokens_p202503"));
+
+        maintainer.maintain();
+
+        verify(jdbcTemplate, never()).execute(
+                "CREATE TABLE IF NOT EXISTS refresh_tokens_p202503 PARTITION OF refresh_tokens "
+                        + "FOR VALUES FROM ('2025-03-01') TO ('2025-04-01')");
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS refresh_tokens_p202504 PARTITION OF refresh_tokens "
+                        + "FOR VALUES FROM ('2025-04-01') TO ('2025-05-01')");
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS refresh_tokens_p202505 PARTITION OF refresh_tokens "
+                        + "FOR VALUES FROM ('2025-05-01') TO ('2025-06-01')");
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS refresh_tokens_p202412");
+        verify(jdbcTemplate, times(3)).execute(anyString());
+    }
+}
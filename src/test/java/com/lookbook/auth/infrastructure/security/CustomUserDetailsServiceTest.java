@@ -86,7 +86,7 @@ class CustomUserDetailsServiceTest {
     @Test
     void loadUserByUsername_ShouldReturnUserDetails_WhenUserIsActive() {
         // Mock repository to return the active user
-        when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(activeUser));
+        when(userRepository.findByUsernameWithCredentials(any(Username.class))).thenReturn(Optional.of(activeUser));
 
         // Call the service method
         UserDetails userDetails = userDetailsService.loadUserByUsername(ACTIVE_USERNAME);
@@ -102,7 +102,7 @@ class CustomUserDetailsServiceTest {
     @Test
     void loadUserByUsername_ShouldThrowException_WhenUserNotFound() {
         // Mock repository to return an empty optional
-        when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.empty());
+        when(userRepository.findByUsernameWithCredentials(any(Username.class))).thenReturn(Optional.empty());
 
         // Verify that the service throws the expected exception
         assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("nonexistentuser"));
@@ -111,7 +111,7 @@ class CustomUserDetailsServiceTest {
     @Test
     void loadUserByUsername_ShouldReturnPendingUserDetails_WhenUserIsNotActive() {
         // Mock repository to return the inactive user
-        when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(inactiveUser));
+        when(userRepository.findByUsernameWithCredentials(any(Username.class))).thenReturn(Optional.of(inactiveUser));
 
         // Call the service method
         UserDetails userDetails = userDetailsService.loadUserByUsername(INACTIVE_USERNAME);
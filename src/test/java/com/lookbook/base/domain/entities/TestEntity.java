@@ -3,6 +3,8 @@ package com.lookbook.base.domain.entities;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.lookbook.base.domain.events.DomainEvent;
+
 public class TestEntity extends BaseEntity {
     private final String name;
 
@@ -19,4 +21,8 @@ public class TestEntity extends BaseEntity {
     public String getName() {
         return name;
     }
+
+    public void raise(DomainEvent event) {
+        addDomainEvent(event);
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.lookbook.base.domain.events;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -197,4 +198,19 @@ class BaseDomainEventTest {
         assertEquals("TestEvent", testEvent.getEventType());
         assertEquals("OtherTestEvent", otherEvent.getEventType());
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_ShouldRecordCurrentCorrelationId() {
+        String previous = CorrelationContext.swap("request-1");
+        TestEvent event;
+        try {
+            event = new TestEvent("data");
+        } finally {
+            CorrelationContext.swap(previous);
+        }
+
+        assertEquals("request-1", event.getCorrelationId());
+        assertEquals("request-1", event.getMetadata().get(CorrelationContext.METADATA_KEY));
+        assertNull(new TestEvent("data").getCorrelationId());
+    }
+}
@@ -0,0 +1,108 @@
+package com.lookbook.base.domain.identity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void nextId_ShouldSetVersionVariantAndTimestamp() {
+        Instant now = Instant.parse("2024-05-01T12:00:00Z");
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(now, ZoneOffset.UTC));
+
+        UUID id = generator.nextId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(now.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void nextId_ShouldBeStrictlyIncreasingWithinSameMillisecond() {
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(Instant.now(), ZoneOffset.UTC));
+
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.nextId();
+            assertTrue(next.toString().compareTo(previous.toString()) > 0,
+                    "Expected " + next + " to sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void nextId_ShouldNotGoBackwardsWhenClockDoes() {
+        Instant now = Instant.now();
+        UuidV7Generator generator = new UuidV7Generator(new Clock() {
+            private int calls;
+
+            @Override
+            public Instant instant() {
+                return calls++ == 0 ? now : now.minusSeconds(5);
+            }
+
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+        });
+
+        UUID first = generator.nextId();
+        UUID second = generator.nextId();
+
+        assertTrue(second.toString().compareTo(first.toString()) > 0);
+    }
+
+    @Test
+    void nextId_ShouldBeUniqueAndOrderedPerThreadUnderContention() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator();
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Callable<List<UUID>> task = () -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return ids;
+                };
+                futures.add(executor.submit(task));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> ids = future.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    assertTrue(ids.get(i).toString().compareTo(ids.get(i - 1).toString()) > 0);
+                }
+                all.addAll(ids);
+            }
+            assertEquals(threads * perThread, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
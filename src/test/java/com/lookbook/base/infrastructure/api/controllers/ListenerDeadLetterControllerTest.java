@@ -0,0 +1,85 @@
+package com.lookbook.base.infrastructure.api.controllers;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.lookbook.base.infrastructure.api.exceptions.GlobalExceptionHandler;
+import com.lookbook.base.infrastructure.retry.ListenerDeadLetter;
+import com.lookbook.base.infrastructure.retry.ListenerRetryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ListenerDeadLetterControllerTest {
+
+    @Mock
+    private ListenerRetryRepository retryRepository;
+
+    @InjectMocks
+    private ListenerDeadLetterController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getDeadLetters_ShouldReturnNewestDeadLetters() throws Exception {
+        LocalDateTime failedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(retryRepository.findDeadLetters(20)).thenReturn(List.of(new ListenerDeadLetter(
+                7, "EmailEventListener.handleEmailEvent", "SendWelcomeEmailEvent", "{}", 8,
+                "smtp down", failedAt, failedAt.plusHours(2))));
+
+        mockMvc.perform(get("/api/v1/admin/listener-dead-letters").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data[0].id").value(7))
+                .andExpect(jsonPath("$.data[0].listener").value("EmailEventListener.handleEmailEvent"))
+                .andExpect(jsonPath("$.data[0].lastError").value("smtp down"));
+    }
+
+    @Test
+    void getDeadLetters_ShouldRejectLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/listener-dead-letters").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(retryRepository, never()).findDeadLetters(anyInt());
+    }
+
+    @Test
+    void replay_ShouldRequeueDeadLetter() throws Exception {
+        when(retryRepository.replay(7)).thenReturn(true);
+
+        mockMvc.perform(post("/api/v1/admin/listener-dead-letters/7/replay"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("success"));
+    }
+
+    @Test
+    void replay_ShouldReturnNotFoundForUnknownDeadLetter() throws Exception {
+        when(retryRepository.replay(8)).thenReturn(false);
+
+        mockMvc.perform(post("/api/v1/admin/listener-dead-letters/8/replay"))
+                .andExpect(status().isNotFound());
+    }
+}
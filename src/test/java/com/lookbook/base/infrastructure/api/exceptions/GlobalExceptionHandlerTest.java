@@ -13,8 +13,10 @@ import javax.security.sasl.AuthenticationException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -144,6 +146,23 @@ class GlobalExceptionHandlerTest {
         assertEquals("/api/test", response.getBody().getPath());
     }
 
+    @SuppressWarnings("null")
+    @Test
+    void handleConnectionUnavailable_shouldReturnServiceUnavailableResponse() {
+        // Given
+        CannotGetJdbcConnectionException ex = new CannotGetJdbcConnectionException("Connection is not available");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleConnectionUnavailable(ex, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals("SERVICE_UNAVAILABLE", response.getBody().getCode());
+        assertEquals("/api/test", response.getBody().getPath());
+    }
+
     @SuppressWarnings("null")
     @Test
     void handleGeneralExceptions_shouldReturnServerErrorResponse() {
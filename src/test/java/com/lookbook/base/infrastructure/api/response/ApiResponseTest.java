@@ -3,6 +3,7 @@ package com.lookbook.base.infrastructure.api.response;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -111,6 +112,22 @@ class ApiResponseTest {
                 json.replace(" ", "").replace("\n", "").replace("\r", ""));
     }
 
+    @Test
+    void serialization_withoutMetadata_shouldOmitMetaAndKeepTimestampFormat() throws JsonProcessingException {
+        // Given
+        ApiResponse<String> response = ApiResponse.success("test-data");
+        response.setTimestamp(LocalDateTime.of(987, 12, 31, 23, 5, 9, 42_999_999));
+
+        // When
+        String json = objectMapper.writeValueAsString(response);
+
+        // Then
+        assertEquals(
+                "{\"status\":\"success\",\"data\":\"test-data\",\"timestamp\":\"0987-12-31T23:05:09.042\"}",
+                json);
+        assertTrue(response.getMeta().isEmpty());
+    }
+
     @Test
     void deserialization_shouldRecreateObject() throws JsonProcessingException {
         // Given
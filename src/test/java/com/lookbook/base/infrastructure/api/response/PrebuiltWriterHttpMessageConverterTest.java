@@ -0,0 +1,115 @@
+package com.lookbook.base.infrastructure.api.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class PrebuiltWriterHttpMessageConverterTest {
+
+    private static final Type ITEM_RESPONSE = new ParameterizedTypeReference<ApiResponse<Item>>() {
+    }.getType();
+
+    private final PrebuiltWriterHttpMessageConverter converter = new PrebuiltWriterHttpMessageConverter(
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    void write_shouldReuseOneWriterPerDeclaredType() throws IOException {
+        UUID id = UUID.randomUUID();
+
+        String first = write(ApiResponse.success(new Item(id, "first")), ITEM_RESPONSE);
+        String second = write(ApiResponse.success(new Item(id, "second")), ITEM_RESPONSE);
+
+        assertEquals(1, converter.writerCount());
+        assertTrue(first.contains("\"data\":{\"id\":\"" + id + "\",\"name\":\"first\"}"));
+        assertTrue(second.contains("\"name\":\"second\""));
+        assertFalse(first.contains("\n"), "Expected compact output");
+    }
+
+    @Test
+    void write_shouldSerializeRuntimeSubtypeOfDeclaredData() throws IOException {
+        ApiResponse<Item> response = ApiResponse.success(new DetailedItem(UUID.randomUUID(), "item", "extra"));
+
+        String json = write(response, ITEM_RESPONSE);
+
+        assertTrue(json.contains("\"detail\":\"extra\""));
+    }
+
+    @Test
+    void write_shouldKeepSubclassFields_WhenDeclaredTypeIsBaseClass() throws IOException {
+        ValidationErrorResponse response = ValidationErrorResponse.of("Validation failed", "/api/items");
+        response.addFieldError("name", "must not be blank");
+
+        String json = write(response, ErrorResponse.class);
+
+        assertTrue(json.contains("\"errors\":{\"name\":\"must not be blank\"}"), json);
+        assertEquals(0, converter.writerCount());
+    }
+
+    @Test
+    void write_shouldNotCacheWritersCustomizedPerRequest() throws IOException {
+        MappingJacksonValue value = new MappingJacksonValue(
+                ApiResponse.success(List.of(new Item(UUID.randomUUID(), "item"))));
+        value.setSerializationView(Summary.class);
+
+        write(value, value.getClass());
+
+        assertEquals(0, converter.writerCount());
+    }
+
+    private String write(Object value, Type type) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(value, type, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    interface Summary {
+    }
+
+    static class Item {
+        private final UUID id;
+        private final String name;
+
+        Item(UUID id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @JsonView(Summary.class)
+        public UUID getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    static class DetailedItem extends Item {
+        private final String detail;
+
+        DetailedItem(UUID id, String name, String detail) {
+            super(id, name);
+            this.detail = detail;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+    }
+}
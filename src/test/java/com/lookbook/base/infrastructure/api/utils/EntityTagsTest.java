@@ -0,0 +1,79 @@
+package com.lookbook.base.infrastructure.api.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.lookbook.base.domain.repositories.EntityVersion;
+
+class EntityTagsTest {
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+
+    @Test
+    void of_shouldBeQuotedStrongTag() {
+        String tag = EntityTags.of(id, updatedAt);
+
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+        assertFalse(tag.startsWith("W/"));
+    }
+
+    @Test
+    void of_shouldChangeWithUpdateTimeAndId() {
+        String tag = EntityTags.of(id, updatedAt);
+
+        assertNotEquals(tag, EntityTags.of(id, updatedAt.plusNanos(1_000)));
+        assertNotEquals(tag, EntityTags.of(UUID.randomUUID(), updatedAt));
+    }
+
+    @Test
+    void of_shouldIgnoreSubMicrosecondPrecision() {
+        // The database keeps microseconds, so a version read back must tag
+        // the same as the entity it was stored from
+        assertEquals(EntityTags.of(id, updatedAt), EntityTags.of(id, updatedAt.plusNanos(999)));
+        assertEquals(EntityTags.of(id, updatedAt), EntityTags.of(new EntityVersion(id, updatedAt)));
+    }
+
+    @Test
+    void of_shouldKeepRepresentationsApart() {
+        String full = EntityTags.of(id, updatedAt);
+
+        assertEquals(full, EntityTags.of(id, updatedAt, ""));
+        assertNotEquals(full, EntityTags.of(id, updatedAt, "id,username"));
+        assertNotEquals(EntityTags.of(id, updatedAt, "id,email"), EntityTags.of(id, updatedAt, "id,username"));
+    }
+
+    @Test
+    void of_shouldKeepVariantsWithEqualStringHashesApart() {
+        // "Aa" and "BB" share a String hash code
+        assertEquals("id,Aa".hashCode(), "id,BB".hashCode());
+
+        assertNotEquals(EntityTags.of(id, updatedAt, "id,Aa"), EntityTags.of(id, updatedAt, "id,BB"));
+    }
+
+    @Test
+    void matches_shouldAcceptListsWildcardAndWeakForm() {
+        String tag = EntityTags.of(id, updatedAt);
+
+        assertTrue(EntityTags.matches(tag, tag));
+        assertTrue(EntityTags.matches("\"other\", " + tag, tag));
+        assertTrue(EntityTags.matches("W/" + tag, tag));
+        assertTrue(EntityTags.matches("*", tag));
+    }
+
+    @Test
+    void matches_shouldRejectMissingOrDifferentTags() {
+        String tag = EntityTags.of(id, updatedAt);
+
+        assertFalse(EntityTags.matches(null, tag));
+        assertFalse(EntityTags.matches("", tag));
+        assertFalse(EntityTags.matches(EntityTags.of(id, updatedAt.minusSeconds(1)), tag));
+    }
+}
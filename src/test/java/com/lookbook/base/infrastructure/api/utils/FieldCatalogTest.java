@@ -0,0 +1,67 @@
+package com.lookbook.base.infrastructure.api.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.lookbook.base.domain.exceptions.ValidationException;
+
+class FieldCatalogTest {
+
+    private record Item(String id, String name, String bio) {
+    }
+
+    private final FieldCatalog<Item> catalog = FieldCatalog.<Item>builder()
+            .field("id", Item::id)
+            .field("name", Item::name)
+            .field("bio", Item::bio)
+            .build();
+
+    private final Item item = new Item("1", "Ada", "Long biography");
+
+    @Test
+    void select_shouldReturnAllFields_WhenParameterAbsentOrCoversCatalog() {
+        assertTrue(catalog.select(null).isAll());
+        assertTrue(catalog.select(" ").isAll());
+        assertTrue(catalog.select("bio,name").isAll());
+        assertSame(item, catalog.select(null).project(item));
+        assertEquals("", catalog.select(null).variant());
+    }
+
+    @Test
+    void select_shouldAddIdAndKeepCatalogOrder() {
+        FieldSelection<Item> selection = catalog.select(" name , ,name");
+
+        assertFalse(selection.isAll());
+        assertEquals(List.of("id", "name"), List.copyOf(selection.names()));
+        assertEquals("id,name", selection.variant());
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", "1");
+        expected.put("name", "Ada");
+        assertEquals(expected, selection.project(item));
+    }
+
+    @Test
+    void select_shouldRejectFieldsOutsideAllowList() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> catalog.select("name,password"));
+
+        assertTrue(exception.getMessage().contains("password"));
+    }
+
+    @Test
+    void build_shouldRequireIdField() {
+        FieldCatalog.Builder<Item> builder = FieldCatalog.<Item>builder().field("name", Item::name);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
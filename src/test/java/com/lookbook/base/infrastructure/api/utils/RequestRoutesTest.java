@@ -0,0 +1,23 @@
+package com.lookbook.base.infrastructure.api.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestRoutesTest {
+
+    @Test
+    void routeOf_ShouldReturnMatchedPattern() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/{id}");
+
+        assertEquals("/api/v1/users/{id}", RequestRoutes.routeOf(request));
+    }
+
+    @Test
+    void routeOf_ShouldReturnUnknown_WhenNoHandlerMatched() {
+        assertEquals(RequestRoutes.UNKNOWN, RequestRoutes.routeOf(new MockHttpServletRequest("GET", "/missing")));
+    }
+}
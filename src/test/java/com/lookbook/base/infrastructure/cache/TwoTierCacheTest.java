@@ -0,0 +1,179 @@
+package com.lookbook.base.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TwoTierCacheTest {
+
+    private InMemorySharedCache shared;
+    private SimpleMeterRegistry registry;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        shared = new InMemorySharedCache();
+        registry = new SimpleMeterRegistry();
+        cache = newCache();
+    }
+
+    private TwoTierCache newCache() {
+        return new TwoTierCache("users", "test:", new LocalCache(100, Duration.ofMinutes(1)), shared,
+                Duration.ofMinutes(5), registry);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromLocalTier() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("id:1", () -> Optional.of("v" + loads.incrementAndGet()));
+        Optional<String> result = cache.get("id:1", () -> Optional.of("v" + loads.incrementAndGet()));
+
+        assertEquals(Optional.of("v1"), result);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.counter("repository.cache.requests", "repository", "users", "result", "l1_hit")
+                .count());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    void get_ShouldServeFromSharedTier_WhenLocalTierIsCold() {
+        cache.get("id:1", () -> Optional.of("value"));
+        TwoTierCache otherNode = newCache();
+
+        Optional<String> result = otherNode.get("id:1", () -> Optional.of("reloaded"));
+
+        assertEquals(Optional.of("value"), result);
+        assertEquals(1.0, registry.counter("repository.cache.requests", "repository", "users", "result", "l2_hit")
+                .count());
+    }
+
+    @Test
+    void get_ShouldNotCacheEmptyResults() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("id:1", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get("id:1", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evict_ShouldDropEntryOnEveryNode() {
+        TwoTierCache otherNode = newCache();
+        cache.get("id:1", () -> Optional.of("old"));
+        otherNode.get("id:1", () -> Optional.of("old"));
+
+        cache.evict("id:1");
+
+        assertEquals(Optional.of("new"), otherNode.get("id:1", () -> Optional.of("new")));
+        assertEquals(Optional.of("new"), cache.get("id:1", () -> Optional.of("unused")));
+    }
+
+    @Test
+    void get_ShouldNotPopulate_WhenEvictedDuringLoad() {
+        Optional<String> result = cache.get("id:1", () -> {
+            cache.evict("id:1");
+            return Optional.of("stale");
+        });
+
+        assertEquals(Optional.of("stale"), result);
+        assertEquals(Optional.of("fresh"), cache.get("id:1", () -> Optional.of("fresh")));
+    }
+
+    @Test
+    void get_ShouldPopulate_WhenOtherKeyEvictedDuringLoad() {
+        Optional<String> result = cache.get("id:1", () -> {
+            cache.evict("id:2");
+            return Optional.of("value");
+        });
+
+        assertEquals(Optional.of("value"), result);
+        assertEquals(Optional.of("value"), cache.get("id:1", () -> Optional.of("reloaded")));
+    }
+
+    @Test
+    void get_ShouldNotPopulate_WhenClearedDuringLoad() {
+        cache.get("id:1", () -> {
+            cache.clear();
+            return Optional.of("stale");
+        });
+
+        assertEquals(Optional.of("fresh"), cache.get("id:1", () -> Optional.of("fresh")));
+    }
+
+    @Test
+    void clear_ShouldDropAllEntries() {
+        cache.get("id:1", () -> Optional.of("a"));
+        cache.get("id:2", () -> Optional.of("b"));
+
+        cache.clear();
+
+        assertEquals(0, shared.size());
+        assertEquals(Optional.of("c"), cache.get("id:1", () -> Optional.of("c")));
+    }
+
+    @Test
+    void get_ShouldCoalesceConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<Optional<String>> first = executor.submit(() -> cache.get("id:1", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return Optional.of("value");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            List<Future<Optional<String>>> waiters = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                waiters.add(executor.submit(() -> cache.get("id:1", () -> {
+                    loads.incrementAndGet();
+                    return Optional.of("duplicate");
+                })));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals(Optional.of("value"), first.get(5, TimeUnit.SECONDS));
+            for (Future<Optional<String>> waiter : waiters) {
+                assertEquals(Optional.of("value"), waiter.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lookbook.base.infrastructure.config.EventDedupProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class EventDeduplicatorTest {
+
+    private static final String CONSUMER = "Listener.handle:Event";
+
+    @Mock
+    private ProcessedEventRepository repository;
+
+    private SimpleMeterRegistry registry;
+    private EventDedupProperties properties;
+    private EventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EventDedupProperties();
+        properties.setExpectedPerGeneration(1000);
+        registry = new SimpleMeterRegistry();
+        deduplicator = new EventDeduplicator(repository, properties, registry);
+    }
+
+    @Test
+    void tryBegin_ShouldAcceptNewEventWithoutQueryingTheDatabase() {
+        UUID eventId = UUID.randomUUID();
+
+        assertTrue(deduplicator.tryBegin(CONSUMER, eventId));
+
+        verify(repository, never()).exists(anyString(), any());
+        assertEquals(1.0, registry.get("events.dedup.checks").tag("outcome", "new").counter().count());
+    }
+
+    @Test
+    void tryBegin_ShouldConfirmSuspectedDuplicateAgainstTheDatabase() {
+        UUID eventId = UUID.randomUUID();
+        deduplicator.tryBegin(CONSUMER, eventId);
+        deduplicator.complete(CONSUMER, eventId);
+        when(repository.exists(CONSUMER, eventId)).thenReturn(true);
+
+        assertFalse(deduplicator.tryBegin(CONSUMER, eventId));
+
+        verify(repository).insertAll(List.of(new ProcessedEvent(CONSUMER, eventId)));
+        assertEquals(1.0, registry.get("events.dedup.checks").tag("outcome", "duplicate").counter().count());
+    }
+
+    @Test
+    void tryBegin_ShouldAccept_WhenSuspectedDuplicateIsNotRecorded() {
+        UUID eventId = UUID.randomUUID();
+        deduplicator.tryBegin(CONSUMER, eventId);
+        deduplicator.complete(CONSUMER, eventId);
+        when(repository.exists(CONSUMER, eventId)).thenReturn(false);
+
+        assertTrue(deduplicator.tryBegin(CONSUMER, eventId));
+        assertEquals(1.0, registry.get("events.dedup.checks").tag("outcome", "false_positive").counter().count());
+    }
+
+    @Test
+    void tryBegin_ShouldRejectEventStillBeingHandled() {
+        UUID eventId = UUID.randomUUID();
+        deduplicator.tryBegin(CONSUMER, eventId);
+
+        assertFalse(deduplicator.tryBegin(CONSUMER, eventId));
+
+        deduplicator.release(CONSUMER, eventId);
+        assertTrue(deduplicator.tryBegin(CONSUMER, eventId));
+    }
+
+    @Test
+    void tryBegin_ShouldTreatConsumersSeparately() {
+        UUID eventId = UUID.randomUUID();
+        deduplicator.tryBegin(CONSUMER, eventId);
+        deduplicator.complete(CONSUMER, eventId);
+
+        assertTrue(deduplicator.tryBegin("Other.handle:Event", eventId));
+    }
+
+    @Test
+    void tryBegin_ShouldRejectEventRecordedBeforeStartup() {
+        UUID eventId = UUID.randomUUID();
+        when(repository.findRecent(properties.getWindow(), null, 10_000))
+                .thenReturn(List.of(new ProcessedEvent(CONSUMER, eventId)));
+        deduplicator.afterSingletonsInstantiated();
+        when(repository.exists(CONSUMER, eventId)).thenReturn(true);
+
+        assertFalse(deduplicator.tryBegin(CONSUMER, eventId));
+        assertTrue(deduplicator.tryBegin(CONSUMER, UUID.randomUUID()));
+    }
+
+    @Test
+    void seed_ShouldReadRecordsPageByPage() {
+        List<ProcessedEvent> firstPage = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            firstPage.add(new ProcessedEvent(CONSUMER, UUID.randomUUID()));
+        }
+        ProcessedEvent last = firstPage.get(firstPage.size() - 1);
+        when(repository.findRecent(any(), isNull(), anyInt())).thenReturn(firstPage);
+        when(repository.findRecent(any(), eq(last), anyInt()))
+                .thenReturn(List.of(new ProcessedEvent(CONSUMER, UUID.randomUUID())));
+
+        assertEquals(10_001, deduplicator.seed());
+    }
+
+    @Test
+    void complete_ShouldStillRememberEventLocally_WhenRecordingFails() {
+        UUID eventId = UUID.randomUUID();
+        doThrow(new IllegalStateException("db down")).when(repository).insertAll(any());
+        deduplicator.tryBegin(CONSUMER, eventId);
+
+        deduplicator.complete(CONSUMER, eventId);
+
+        when(repository.exists(CONSUMER, eventId)).thenReturn(false);
+        assertTrue(deduplicator.tryBegin(CONSUMER, eventId));
+        verify(repository).exists(CONSUMER, eventId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.lookbook.base.application.events.IdempotentListener;
+import com.lookbook.user.application.events.CreateUserProfileEvent;
+
+class IdempotentListenerAspectTest {
+
+    static class ProfileListener {
+        final List<String> handled = new ArrayList<>();
+
+        @IdempotentListener
+        public void handle(CreateUserProfileEvent event) {
+            if (event.getUsername().equals("fail")) {
+                throw new IllegalStateException("boom");
+            }
+            handled.add(event.getUsername());
+        }
+    }
+
+    private static final String CONSUMER = "ProfileListener.handle:CreateUserProfileEvent";
+
+    private EventDeduplicator deduplicator;
+    private ProfileListener target;
+    private ProfileListener listener;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = mock(EventDeduplicator.class);
+        target = new ProfileListener();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new IdempotentListenerAspect(deduplicator));
+        listener = factory.getProxy();
+    }
+
+    @Test
+    void deduplicate_ShouldRecordEventAfterSuccess() {
+        UUID causationId = UUID.randomUUID();
+        when(deduplicator.tryBegin(CONSUMER, causationId)).thenReturn(true);
+
+        listener.handle(new CreateUserProfileEvent(UUID.randomUUID(), "jane", causationId));
+
+        assertEquals(List.of("jane"), target.handled);
+        verify(deduplicator).complete(CONSUMER, causationId);
+    }
+
+    @Test
+    void deduplicate_ShouldSkipHandledEvent() {
+        UUID causationId = UUID.randomUUID();
+        when(deduplicator.tryBegin(CONSUMER, causationId)).thenReturn(false);
+
+        listener.handle(new CreateUserProfileEvent(UUID.randomUUID(), "jane", causationId));
+
+        assertEquals(List.of(), target.handled);
+        verify(deduplicator, never()).complete(anyString(), any());
+    }
+
+    @Test
+    void deduplicate_ShouldReleaseClaimOnFailure() {
+        UUID causationId = UUID.randomUUID();
+        when(deduplicator.tryBegin(CONSUMER, causationId)).thenReturn(true);
+
+        assertThrows(IllegalStateException.class,
+                () -> listener.handle(new CreateUserProfileEvent(UUID.randomUUID(), "fail", causationId)));
+
+        verify(deduplicator).release(CONSUMER, causationId);
+        verify(deduplicator, never()).complete(anyString(), any());
+    }
+
+    @Test
+    void deduplicate_ShouldAlwaysHandleEventsWithoutId() {
+        listener.handle(new CreateUserProfileEvent(UUID.randomUUID(), "jane", null));
+
+        assertEquals(List.of("jane"), target.handled);
+        verify(deduplicator, never()).tryBegin(anyString(), any());
+    }
+}
@@ -0,0 +1,94 @@
+package com.lookbook.base.infrastructure.dedup;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RotatingBloomFilterTest {
+
+    private static final long GENERATION_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    private Clock clock;
+    private RotatingBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(GENERATION_MILLIS * 100);
+        filter = new RotatingBloomFilter(10_000, 0.01, Duration.ofHours(1), 4, clock);
+    }
+
+    @Test
+    void mightContain_ShouldNeverMissAddedKeys() {
+        List<UUID> added = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            added.add(id);
+            filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+
+        for (UUID id : added) {
+            assertTrue(filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+        }
+    }
+
+    @Test
+    void mightContain_ShouldStayNearTargetFalsePositiveRate() {
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            UUID id = UUID.randomUUID();
+            if (filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "False positive rate too high: " + falsePositives / 100_000.0);
+    }
+
+    @Test
+    void mightContain_ShouldForgetKeysOnceTheirGenerationExpires() {
+        UUID id = UUID.randomUUID();
+        filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits());
+
+        when(clock.millis()).thenReturn(GENERATION_MILLIS * 103);
+        assertTrue(filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+
+        when(clock.millis()).thenReturn(GENERATION_MILLIS * 104);
+        assertFalse(filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+    }
+
+    @Test
+    void put_ShouldReuseTheSlotOfTheExpiredGeneration() {
+        UUID old = UUID.randomUUID();
+        filter.put(old.getMostSignificantBits(), old.getLeastSignificantBits());
+        when(clock.millis()).thenReturn(GENERATION_MILLIS * 104);
+
+        UUID fresh = UUID.randomUUID();
+        filter.put(fresh.getMostSignificantBits(), fresh.getLeastSignificantBits());
+
+        assertTrue(filter.mightContain(fresh.getMostSignificantBits(), fresh.getLeastSignificantBits()));
+        assertFalse(filter.mightContain(old.getMostSignificantBits(), old.getLeastSignificantBits()));
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidFalsePositiveRate() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RotatingBloomFilter(1000, 1.0, Duration.ofHours(1), 4, clock));
+    }
+}
@@ -0,0 +1,91 @@
+package com.lookbook.base.infrastructure.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.lookbook.base.infrastructure.config.PinningDiagnosticsProperties;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        PinningDiagnosticsProperties properties = new PinningDiagnosticsProperties();
+        properties.setThreshold(Duration.ofMillis(10));
+        monitor = new VirtualThreadPinningMonitor(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.destroy();
+    }
+
+    @Test
+    void siteOf_ShouldPreferApplicationFrames() {
+        List<String> frames = List.of(
+                "java.lang.Thread.sleep:500",
+                "org.example.Driver.read:42",
+                "com.lookbook.user.Storage.load:17");
+
+        assertEquals("com.lookbook.user.Storage.load:17", VirtualThreadPinningMonitor.siteOf(frames));
+    }
+
+    @Test
+    void siteOf_ShouldFallBackToFirstDependencyFrame() {
+        List<String> frames = List.of("java.lang.Object.wait0:-1", "org.example.Pool.borrow:88",
+                "org.example.Pool.get:12");
+
+        assertEquals("org.example.Pool.borrow:88", VirtualThreadPinningMonitor.siteOf(frames));
+    }
+
+    @Test
+    void record_ShouldTimePinnedBlocksPerSite() {
+        List<String> frames = List.of("org.example.Pool.borrow:88");
+
+        monitor.record(Duration.ofMillis(30), frames);
+        monitor.record(Duration.ofMillis(50), frames);
+
+        Timer timer = registry.get("jvm.threads.virtual.pinned").tag("site", "org.example.Pool.borrow:88").timer();
+        assertEquals(2, timer.count());
+        assertEquals(80, (long) timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void monitor_ShouldReportSleepInsideSynchronizedBlock() throws Exception {
+        monitor.afterPropertiesSet();
+        Object lock = new Object();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (registry.find("jvm.threads.virtual.pinned").timer() == null && System.nanoTime() < deadline) {
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(30);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+            Thread.sleep(200);
+        }
+
+        Timer timer = registry.find("jvm.threads.virtual.pinned").timer();
+        assertNotNull(timer, "No pinned event was reported");
+        assertTrue(timer.getId().getTag("site").startsWith(VirtualThreadPinningMonitorTest.class.getName()));
+    }
+}
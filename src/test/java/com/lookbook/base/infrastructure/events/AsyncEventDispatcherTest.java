@@ -0,0 +1,152 @@
+package com.lookbook.base.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.lookbook.base.domain.events.CorrelationContext;
+import com.lookbook.base.infrastructure.tracing.CorrelationScope;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncEventDispatcherTest {
+
+    private SimpleMeterRegistry registry;
+    private AsyncEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        dispatcher = new AsyncEventDispatcher(Executors.newVirtualThreadPerTaskExecutor(), 2, 100,
+                Duration.ofSeconds(5), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.close();
+    }
+
+    @Test
+    void dispatch_ShouldNotRunMoreThanMaxInFlightPerListener() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(10);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatch("slow", () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                release.await();
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertEquals(8, dispatcher.queueDepth("slow"));
+        assertEquals(8.0, registry.get("events.async.queue.depth").tag("listener", "slow").gauge().value());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, peak.get());
+        assertEquals(0, dispatcher.queueDepth("slow"));
+    }
+
+    @Test
+    void dispatch_ShouldIsolateListenersFromEachOther() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch("slow", blocked::await);
+        }
+
+        dispatcher.dispatch("fast", fastDone::countDown);
+
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+        blocked.countDown();
+    }
+
+    @Test
+    void dispatch_ShouldContainAndCountHandlerFailures() throws Exception {
+        CountDownLatch after = new CountDownLatch(1);
+
+        dispatcher.dispatch("failing", () -> {
+            throw new IllegalStateException("boom");
+        });
+        dispatcher.dispatch("failing", after::countDown);
+
+        assertTrue(after.await(5, TimeUnit.SECONDS));
+        dispatcher.close();
+        assertEquals(1, registry.get("events.async.handler.duration")
+                .tag("listener", "failing").tag("outcome", "error").timer().count());
+        assertEquals(1, registry.get("events.async.handler.duration")
+                .tag("listener", "failing").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void dispatch_ShouldRunOnCallerWhenQueueIsFull() throws Exception {
+        AsyncEventDispatcher bounded = new AsyncEventDispatcher(Executors.newVirtualThreadPerTaskExecutor(), 1, 1,
+                Duration.ofSeconds(5), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+        try {
+            bounded.dispatch("bounded", release::await);
+            bounded.dispatch("bounded", release::await);
+
+            bounded.dispatch("bounded", () -> {
+                if (Thread.currentThread() == caller) {
+                    ranOnCaller.incrementAndGet();
+                }
+            });
+
+            assertEquals(1, ranOnCaller.get());
+            assertEquals(1.0, registry.get("events.async.caller.runs").tag("listener", "bounded").counter().count());
+        } finally {
+            release.countDown();
+            bounded.close();
+        }
+    }
+
+    @Test
+    void close_ShouldWaitForQueuedHandlers() {
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch("queued", () -> {
+                Thread.sleep(5);
+                completed.incrementAndGet();
+            });
+        }
+
+        dispatcher.close();
+
+        assertEquals(20, completed.get());
+    }
+
+    @Test
+    void dispatch_ShouldCarryTheCorrelationIdToTheHandlerThread() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        try (CorrelationScope scope = CorrelationScope.open("request-1")) {
+            dispatcher.dispatch("listener", () -> {
+                seen.set(CorrelationContext.current());
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("request-1", seen.get());
+    }
+}
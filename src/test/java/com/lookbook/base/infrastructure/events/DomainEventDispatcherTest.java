@@ -0,0 +1,98 @@
+package com.lookbook.base.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.application.events.DomainEventSubscriber;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.CoalescingProperties;
+import com.lookbook.user.domain.events.ProfileUpdatedEvent;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
+import com.lookbook.user.infrastructure.events.UserDomainEventTypes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DomainEventDispatcherTest {
+
+    private final DomainEventRegistry registry = new DomainEventRegistry(List.of(new UserDomainEventTypes()));
+    private final EventCoalescer coalescer = new EventCoalescer(new CoalescingProperties(),
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @Test
+    void dispatch_ShouldRouteEventsByConcreteClass() {
+        List<String> calls = new ArrayList<>();
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(subscriptions -> subscriptions
+                .on(UserActivatedEvent.class, event -> calls.add("activated"))
+                .on(UserDeactivatedEvent.class, event -> calls.add("deactivated"))), registry, coalescer);
+
+        dispatcher.dispatch(new UserDeactivatedEvent(UUID.randomUUID(), "tester"));
+        dispatcher.dispatch(new UserActivatedEvent(UUID.randomUUID(), "tester"));
+
+        assertEquals(List.of("deactivated", "activated"), calls);
+    }
+
+    @Test
+    void dispatch_ShouldIncludeSupertypeHandlersInSubscriptionOrder() {
+        List<String> calls = new ArrayList<>();
+        DomainEventSubscriber first = subscriptions -> subscriptions
+                .on(DomainEvent.class, event -> calls.add("any"));
+        DomainEventSubscriber second = subscriptions -> subscriptions
+                .on(UserActivatedEvent.class, event -> calls.add("activated"));
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(first, second), registry, coalescer);
+
+        dispatcher.dispatch(new UserActivatedEvent(UUID.randomUUID(), "tester"));
+        dispatcher.dispatch(new UserDeactivatedEvent(UUID.randomUUID(), "tester"));
+
+        assertEquals(List.of("any", "activated", "any"), calls);
+        assertEquals(2, dispatcher.handlerCount(UserActivatedEvent.class));
+        assertEquals(1, dispatcher.handlerCount(UserDeactivatedEvent.class));
+    }
+
+    @Test
+    void dispatch_ShouldIgnoreEventsWithoutHandlers() {
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(), registry, coalescer);
+
+        dispatcher.dispatch(new UserActivatedEvent(UUID.randomUUID(), "tester"));
+
+        assertEquals(0, dispatcher.handlerCount(UserActivatedEvent.class));
+    }
+
+    @Test
+    void dispatch_ShouldStopAndRethrowOnHandlerFailure() {
+        List<String> calls = new ArrayList<>();
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(subscriptions -> subscriptions
+                .on(UserActivatedEvent.class, event -> {
+                    throw new IllegalStateException("boom");
+                })
+                .on(UserActivatedEvent.class, event -> calls.add("second"))), registry, coalescer);
+
+        assertThrows(IllegalStateException.class,
+                () -> dispatcher.dispatch(new UserActivatedEvent(UUID.randomUUID(), "tester")));
+        assertEquals(List.of(), calls);
+    }
+
+    @Test
+    void dispatch_ShouldHoldBackLatestHandlersUntilFlush() {
+        List<String> calls = new ArrayList<>();
+        UUID userId = UUID.randomUUID();
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(subscriptions -> subscriptions
+                .on(ProfileUpdatedEvent.class, event -> calls.add("every " + event.getDisplayName()))
+                .onLatest(ProfileUpdatedEvent.class, event -> calls.add("latest " + event.getDisplayName()))),
+                registry, coalescer);
+
+        dispatcher.dispatch(new ProfileUpdatedEvent(userId, UUID.randomUUID(), "first", null));
+        dispatcher.dispatch(new ProfileUpdatedEvent(userId, UUID.randomUUID(), "second", null));
+        coalescer.destroy();
+
+        assertEquals(List.of("every first", "every second", "latest second"), calls);
+    }
+}
@@ -0,0 +1,142 @@
+package com.lookbook.base.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.application.events.DomainEventHandler;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.CoalescingProperties;
+import com.lookbook.user.domain.events.PasswordChangedEvent;
+import com.lookbook.user.domain.events.ProfileUpdatedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventCoalescerTest {
+
+    private static final long WINDOW = Duration.ofSeconds(2).toNanos();
+
+    private CoalescingProperties properties;
+    private SimpleMeterRegistry registry;
+    private EventCoalescer coalescer;
+    private List<DomainEvent> delivered;
+    private DomainEventHandler<DomainEvent> handler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CoalescingProperties();
+        properties.setWindow(Duration.ofSeconds(2));
+        registry = new SimpleMeterRegistry();
+        coalescer = new EventCoalescer(properties, mock(PlatformTransactionManager.class), registry);
+        delivered = new ArrayList<>();
+        handler = coalescer.coalesce("test", delivered::add);
+    }
+
+    @Test
+    void handle_ShouldDeliverOnlyLatestEventPerAggregateOnceWindowCloses() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        handler.handle(update(alice, "alice-1"));
+        handler.handle(update(bob, "bob-1"));
+        handler.handle(update(alice, "alice-2"));
+        ProfileUpdatedEvent aliceLatest = update(alice, "alice-3");
+        handler.handle(aliceLatest);
+
+        assertEquals(0, coalescer.flush(System.nanoTime(), false));
+        assertEquals(2, coalescer.heldCount());
+
+        assertEquals(2, coalescer.flush(System.nanoTime() + WINDOW, false));
+        assertEquals(2, delivered.size());
+        assertEquals(aliceLatest, delivered.stream().filter(e -> e.getAggregateId().equals(alice)).findFirst().get());
+        assertEquals(0, coalescer.heldCount());
+        assertEquals(2.0, registry.get("events.coalescing.merged").counter().count());
+    }
+
+    @Test
+    void handle_ShouldKeepNewerEvent_WhenOlderOneIsRedelivered() {
+        UUID alice = UUID.randomUUID();
+        ProfileUpdatedEvent older = update(alice, "older");
+        ProfileUpdatedEvent newer = new ProfileUpdatedEvent(UUID.randomUUID(), older.getOccurredAt().plusSeconds(1),
+                Map.of("userId", alice.toString(), "profileId", UUID.randomUUID().toString(),
+                        "displayName", "newer"));
+
+        handler.handle(newer);
+        handler.handle(older);
+        coalescer.destroy();
+
+        assertEquals(List.of(newer), delivered);
+    }
+
+    @Test
+    void handle_ShouldDeliverCriticalEventAtOnce() {
+        PasswordChangedEvent passwordChanged = new PasswordChangedEvent(UUID.randomUUID(), "alice");
+
+        handler.handle(passwordChanged);
+
+        assertEquals(List.of(passwordChanged), delivered);
+        assertEquals(0, coalescer.heldCount());
+    }
+
+    @Test
+    void handle_ShouldDeliverImmediately_WhenHoldingLimitIsReached() {
+        properties.setMaxPending(1);
+        handler.handle(update(UUID.randomUUID(), "held"));
+        ProfileUpdatedEvent overflow = update(UUID.randomUUID(), "overflow");
+
+        handler.handle(overflow);
+
+        assertEquals(List.of(overflow), delivered);
+        assertEquals(1, coalescer.heldCount());
+    }
+
+    @Test
+    void flush_ShouldRetryFailedDeliveryUpToMaxAttempts() {
+        properties.setMaxAttempts(2);
+        List<String> attempts = new ArrayList<>();
+        DomainEventHandler<DomainEvent> failing = coalescer.coalesce("failing", event -> {
+            attempts.add(event.getEventType());
+            throw new IllegalStateException("down");
+        });
+        failing.handle(update(UUID.randomUUID(), "alice"));
+
+        coalescer.flush(System.nanoTime() + WINDOW, false);
+        assertEquals(1, coalescer.heldCount());
+        coalescer.flush(System.nanoTime() + 2 * WINDOW, false);
+
+        assertEquals(2, attempts.size());
+        assertEquals(0, coalescer.heldCount());
+    }
+
+    @Test
+    void coalesce_ShouldPassEventsThrough_WhenDisabled() {
+        properties.setEnabled(false);
+        List<DomainEvent> received = new ArrayList<>();
+        DomainEventHandler<DomainEvent> passThrough = coalescer.coalesce("disabled", received::add);
+        ProfileUpdatedEvent first = update(UUID.randomUUID(), "first");
+        ProfileUpdatedEvent second = update(first.getAggregateId(), "second");
+
+        passThrough.handle(first);
+        passThrough.handle(second);
+
+        assertEquals(List.of(first, second), received);
+    }
+
+    private static ProfileUpdatedEvent update(UUID userId, String displayName) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("userId", userId.toString());
+        metadata.put("profileId", UUID.randomUUID().toString());
+        metadata.put("displayName", displayName);
+        return new ProfileUpdatedEvent(UUID.randomUUID(), LocalDateTime.now(), metadata);
+    }
+}
@@ -0,0 +1,257 @@
+package com.lookbook.base.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.domain.events.CorrelationContext;
+import com.lookbook.base.infrastructure.config.OutboxProperties;
+import com.lookbook.base.infrastructure.config.TracingProperties;
+import com.lookbook.base.infrastructure.tracing.CorrelationScope;
+import com.lookbook.base.infrastructure.tracing.InMemorySpanSink;
+import com.lookbook.base.infrastructure.tracing.Span;
+import com.lookbook.base.infrastructure.tracing.SpanSink;
+import com.lookbook.base.infrastructure.tracing.Tracer;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.infrastructure.events.UserDomainEventTypes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+    @Mock
+    private DomainEventDispatcher dispatcher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ObjectProvider<SpanSink> spanSinks;
+    @Mock
+    private ObjectProvider<OutboxBatchRecorder> recorders;
+    @Mock
+    private OutboxBatchRecorder recorder;
+
+    private DomainEventSerializer serializer;
+    private OutboxProperties properties;
+    private InMemorySpanSink spanSink;
+    private SimpleMeterRegistry registry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new DomainEventSerializer(new DomainEventRegistry(List.of(new UserDomainEventTypes())));
+        properties = new OutboxProperties();
+        properties.getRelay().setBatchSize(2);
+        properties.getRelay().setMaxBatchesPerPoll(3);
+        spanSink = new InMemorySpanSink(100);
+        when(spanSinks.orderedStream()).thenReturn(Stream.of(spanSink));
+        when(recorders.orderedStream()).thenReturn(Stream.of(recorder));
+        registry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepository, serializer, dispatcher, transactionManager, properties,
+                new Tracer(spanSinks, new TracingProperties()), recorders, registry);
+    }
+
+    @Test
+    void relayBatch_ShouldDispatchAndDeleteClaimedRows() {
+        UserActivatedEvent first = new UserActivatedEvent(UUID.randomUUID(), "first");
+        UserActivatedEvent second = new UserActivatedEvent(UUID.randomUUID(), "second");
+        when(outboxRepository.claimBatch(2, Duration.ofSeconds(30)))
+                .thenReturn(List.of(entry(1, first), entry(2, second)));
+
+        int claimed = relay.relayBatch();
+
+        assertEquals(2, claimed);
+        verify(dispatcher).dispatch(first);
+        verify(dispatcher).dispatch(second);
+        verify(outboxRepository).delete(List.of(1L, 2L));
+        verify(outboxRepository, never()).recordFailure(anyLong(), anyInt(), anyString(), any());
+    }
+
+    @Test
+    void relayBatch_ShouldRecordWholeBatchInOneCallBeforeDispatching() {
+        UserActivatedEvent first = new UserActivatedEvent(UUID.randomUUID(), "first");
+        UserActivatedEvent second = new UserActivatedEvent(UUID.randomUUID(), "second");
+        when(outboxRepository.claimBatch(anyInt(), any()))
+                .thenReturn(List.of(entry(1, first), entry(2, second)));
+
+        relay.relayBatch();
+
+        InOrder inOrder = inOrder(recorder, dispatcher);
+        inOrder.verify(recorder).record(List.of(first, second));
+        inOrder.verify(dispatcher).dispatch(first);
+        verify(recorder, times(1)).record(any());
+    }
+
+    @Test
+    void relayBatch_ShouldKeepFailedRowAndDeliverTheRest() {
+        UserActivatedEvent failing = new UserActivatedEvent(UUID.randomUUID(), "failing");
+        UserActivatedEvent healthy = new UserActivatedEvent(UUID.randomUUID(), "healthy");
+        when(outboxRepository.claimBatch(anyInt(), any()))
+                .thenReturn(List.of(entry(1, failing), entry(2, healthy)));
+        doThrow(new IllegalStateException("listener failed")).when(dispatcher).dispatch(failing);
+
+        relay.relayBatch();
+
+        verify(outboxRepository).recordFailure(eq(1L), eq(1), eq("listener failed"), any());
+        verify(outboxRepository).delete(List.of(2L));
+        verify(dispatcher).dispatch(healthy);
+    }
+
+    @Test
+    void relayBatch_ShouldKeepFailedRowLeasedUntilBackoffElapses() {
+        UserActivatedEvent failing = new UserActivatedEvent(UUID.randomUUID(), "failing");
+        when(outboxRepository.claimBatch(anyInt(), any())).thenReturn(List.of(entry(1, failing, 3)));
+        doThrow(new IllegalStateException("listener failed")).when(dispatcher).dispatch(failing);
+        ArgumentCaptor<Duration> delay = ArgumentCaptor.forClass(Duration.class);
+
+        relay.relayBatch();
+
+        // Fourth attempt: 1s doubled three times, with the upper half jittered
+        verify(outboxRepository).recordFailure(eq(1L), eq(4), eq("listener failed"), delay.capture());
+        assertTrue(delay.getValue().compareTo(Duration.ofSeconds(4)) >= 0, delay.getValue()::toString);
+        assertTrue(delay.getValue().compareTo(Duration.ofSeconds(8)) <= 0, delay.getValue()::toString);
+    }
+
+    @Test
+    void relayBatch_ShouldDeadLetterRow_WhenAttemptsAreExhausted() {
+        UserActivatedEvent failing = new UserActivatedEvent(UUID.randomUUID(), "failing");
+        when(outboxRepository.claimBatch(anyInt(), any())).thenReturn(List.of(entry(1, failing, 9)));
+        doThrow(new IllegalStateException("listener failed")).when(dispatcher).dispatch(failing);
+
+        relay.relayBatch();
+
+        verify(outboxRepository).moveToDeadLetters(1L, 10, "listener failed");
+        verify(outboxRepository, never()).recordFailure(anyLong(), anyInt(), anyString(), any());
+        assertEquals(1.0, registry.counter("outbox.events.dead_lettered").count());
+    }
+
+    @Test
+    void relayBatch_ShouldDeadLetterWithoutDispatching_WhenRowIsUnreadableOrAlreadyExhausted() {
+        UserActivatedEvent exhausted = new UserActivatedEvent(UUID.randomUUID(), "exhausted");
+        OutboxEntry unreadable = new OutboxEntry(2, UUID.randomUUID(), UUID.randomUUID(), "UnknownEvent", "{}",
+                LocalDateTime.now(), 0);
+        when(outboxRepository.claimBatch(anyInt(), any())).thenReturn(List.of(entry(1, exhausted, 12), unreadable));
+
+        relay.relayBatch();
+
+        verify(dispatcher, never()).dispatch(any());
+        verify(recorder, never()).record(any());
+        verify(outboxRepository).moveToDeadLetters(1L, 12, null);
+        verify(outboxRepository).moveToDeadLetters(eq(2L), eq(0), anyString());
+        assertEquals(2.0, registry.counter("outbox.events.dead_lettered").count());
+    }
+
+    @Test
+    void relayBatch_ShouldHoldBackLaterEventsOfAggregateWhoseEventFailed() {
+        UUID aggregateId = UUID.randomUUID();
+        UserActivatedEvent failing = new UserActivatedEvent(aggregateId, "user");
+        UserActivatedEvent later = new UserActivatedEvent(aggregateId, "user");
+        UserActivatedEvent other = new UserActivatedEvent(UUID.randomUUID(), "other");
+        when(outboxRepository.claimBatch(anyInt(), any()))
+                .thenReturn(List.of(entry(1, failing), entry(2, other), entry(3, later)));
+        doThrow(new IllegalStateException("listener failed")).when(dispatcher).dispatch(failing);
+
+        relay.relayBatch();
+
+        verify(dispatcher, never()).dispatch(later);
+        verify(outboxRepository).recordFailure(eq(1L), eq(1), eq("listener failed"), any());
+        verify(outboxRepository).delete(List.of(2L));
+        verify(outboxRepository).release(List.of(3L));
+    }
+
+    @Test
+    void relayBatch_ShouldDispatchUnderTheEventsCorrelationId() {
+        UserActivatedEvent event;
+        try (CorrelationScope scope = CorrelationScope.open("request-1")) {
+            event = new UserActivatedEvent(UUID.randomUUID(), "user");
+        }
+        when(outboxRepository.claimBatch(anyInt(), any())).thenReturn(List.of(entry(1, event)));
+        AtomicReference<String> seen = new AtomicReference<>();
+        doAnswer(invocation -> {
+            seen.set(CorrelationContext.current());
+            return null;
+        }).when(dispatcher).dispatch(any());
+
+        relay.relayBatch();
+
+        assertEquals("request-1", seen.get());
+        assertNull(CorrelationContext.current());
+        List<Span> spans = spanSink.getSpans("request-1");
+        assertEquals(1, spans.size());
+        assertEquals("outbox.relay UserActivatedEvent", spans.get(0).name());
+    }
+
+    @Test
+    void poll_ShouldDrainFullBatchesUntilShortBatch() {
+        UserActivatedEvent event = new UserActivatedEvent(UUID.randomUUID(), "user");
+        when(outboxRepository.claimBatch(anyInt(), any()))
+                .thenReturn(List.of(entry(1, event), entry(2, event)))
+                .thenReturn(List.of(entry(3, event)));
+
+        relay.poll();
+
+        verify(outboxRepository, times(2)).claimBatch(anyInt(), any());
+    }
+
+    @Test
+    void poll_ShouldStopAtBatchLimit() {
+        UserActivatedEvent event = new UserActivatedEvent(UUID.randomUUID(), "user");
+        when(outboxRepository.claimBatch(anyInt(), any()))
+                .thenReturn(List.of(entry(1, event), entry(2, event)));
+
+        relay.poll();
+
+        verify(outboxRepository, times(3)).claimBatch(anyInt(), any());
+    }
+
+    @Test
+    void poll_ShouldDoNothing_WhenOutboxIsEmpty() {
+        when(outboxRepository.claimBatch(anyInt(), any())).thenReturn(Collections.emptyList());
+
+        relay.poll();
+
+        verify(dispatcher, never()).dispatch(any());
+        verify(outboxRepository, never()).delete(eq(List.of()));
+    }
+
+    private OutboxEntry entry(long position, UserActivatedEvent event) {
+        return entry(position, event, 0);
+    }
+
+    private OutboxEntry entry(long position, UserActivatedEvent event, int attempts) {
+        return new OutboxEntry(position, event.getEventId(), event.getAggregateId(), event.getEventType(),
+                serializer.serialize(event), event.getOccurredAt(), attempts);
+    }
+}
@@ -0,0 +1,66 @@
+package com.lookbook.base.infrastructure.eventstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class EventPayloadCodecTest {
+
+    @Test
+    void shouldRoundTripSupportedValueTypes() {
+        UUID uuid = UUID.randomUUID();
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("uuid", uuid);
+        metadata.put("uuidString", uuid.toString());
+        metadata.put("string", "héllo");
+        metadata.put("int", -42);
+        metadata.put("long", Long.MAX_VALUE);
+        metadata.put("bool", true);
+        metadata.put("double", 1.5d);
+        metadata.put("missing", null);
+
+        Map<String, Object> decoded = EventPayloadCodec.decode(EventPayloadCodec.encode(metadata));
+
+        assertEquals(metadata, decoded);
+    }
+
+    @Test
+    void shouldStoreUnknownTypesAsStrings() {
+        Map<String, Object> metadata = Map.of("url", URI.create("https://example.com/a.png"));
+
+        Map<String, Object> decoded = EventPayloadCodec.decode(EventPayloadCodec.encode(metadata));
+
+        assertEquals("https://example.com/a.png", decoded.get("url"));
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() throws Exception {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("userId", UUID.randomUUID().toString());
+        metadata.put("profileId", UUID.randomUUID().toString());
+        metadata.put("imageWidth", 640);
+
+        int encoded = EventPayloadCodec.encode(metadata).length;
+        int json = new ObjectMapper().writeValueAsString(metadata).getBytes(StandardCharsets.UTF_8).length;
+
+        assertTrue(encoded < json * 0.6, "encoded " + encoded + " bytes vs json " + json);
+    }
+
+    @Test
+    void shouldRejectUnknownFormatVersion() {
+        byte[] payload = EventPayloadCodec.encode(Map.of());
+        payload[0] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> EventPayloadCodec.decode(payload));
+    }
+}
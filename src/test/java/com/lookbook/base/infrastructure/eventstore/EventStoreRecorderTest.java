@@ -0,0 +1,56 @@
+package com.lookbook.base.infrastructure.eventstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.EventStoreProperties;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.infrastructure.events.UserDomainEventTypes;
+
+@ExtendWith(MockitoExtension.class)
+class EventStoreRecorderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void record_ShouldWriteClaimedBatchAsOneMultiRowInsert() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Short.class), any())).thenReturn((short) 1);
+        JdbcEventStore eventStore = new JdbcEventStore(jdbcTemplate,
+                new DomainEventRegistry(List.of(new UserDomainEventTypes())), transactionManager,
+                new EventStoreProperties());
+        EventStoreRecorder recorder = new EventStoreRecorder(eventStore);
+
+        List<DomainEvent> batch = List.of(
+                new UserActivatedEvent(UUID.randomUUID(), "first"),
+                new UserActivatedEvent(UUID.randomUUID(), "second"),
+                new UserActivatedEvent(UUID.randomUUID(), "third"));
+        recorder.record(batch);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), args.capture());
+        assertEquals(3, sql.getValue().split("\\(\\?, \\?, \\?, \\?, \\?\\)", -1).length - 1);
+        assertEquals(15, args.getValue().length);
+    }
+}
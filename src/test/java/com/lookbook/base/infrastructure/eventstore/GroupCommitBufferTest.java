@@ -0,0 +1,94 @@
+package com.lookbook.base.infrastructure.eventstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GroupCommitBufferTest {
+
+    @Test
+    void submit_ShouldWriteSingleCallerImmediately() {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        GroupCommitBuffer<Integer> buffer = new GroupCommitBuffer<>(batches::add, 10);
+
+        buffer.submit(List.of(1, 2));
+
+        assertEquals(List.of(List.of(1, 2)), batches);
+    }
+
+    @Test
+    void submit_ShouldCombineConcurrentCallersIntoFewerBatches() throws Exception {
+        int callers = 64;
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        GroupCommitBuffer<Integer> buffer = new GroupCommitBuffer<>(batch -> {
+            if (batches.isEmpty()) {
+                firstWriteStarted.countDown();
+                await(releaseFirstWrite);
+            }
+            batches.add(batch);
+        }, 1_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> buffer.submit(List.of(0))));
+            assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                int item = i;
+                futures.add(executor.submit(() -> buffer.submit(List.of(item))));
+            }
+            // Let the followers queue up behind the blocked leader
+            Thread.sleep(200);
+            releaseFirstWrite.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int written = batches.stream().mapToInt(List::size).sum();
+        assertEquals(callers, written);
+        assertTrue(batches.size() < callers, "expected grouping, got " + batches.size() + " batches");
+    }
+
+    @Test
+    void submit_ShouldRespectBatchLimit() {
+        List<List<Integer>> batches = new ArrayList<>();
+        GroupCommitBuffer<Integer> buffer = new GroupCommitBuffer<>(batches::add, 2);
+
+        buffer.submit(List.of(1, 2, 3));
+
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void submit_ShouldPropagateWriterFailure() {
+        GroupCommitBuffer<Integer> buffer = new GroupCommitBuffer<>(batch -> {
+            throw new IllegalStateException("write failed");
+        }, 10);
+
+        assertThrows(IllegalStateException.class, () -> buffer.submit(List.of(1)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
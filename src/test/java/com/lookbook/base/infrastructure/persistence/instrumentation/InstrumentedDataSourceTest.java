@@ -0,0 +1,91 @@
+package com.lookbook.base.infrastructure.persistence.instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement preparedStatement;
+    @Mock
+    private Statement statement;
+    @Mock
+    private StatementRecorder recorder;
+
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(target.getConnection()).thenReturn(connection);
+        dataSource = new InstrumentedDataSource(target, () -> recorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.end();
+    }
+
+    @Test
+    void preparedStatement_ShouldReportSqlAndParameterShapes() throws Exception {
+        String sql = "SELECT * FROM users WHERE id = ? AND username = ?";
+        when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+        PreparedStatement ps = dataSource.getConnection().prepareStatement(sql);
+        ps.setObject(1, UUID.randomUUID());
+        ps.setString(2, "alice");
+        ps.executeQuery();
+
+        verify(preparedStatement).setString(2, "alice");
+        verify(preparedStatement).executeQuery();
+        verify(recorder).record(eq(sql), eq(List.of("UUID", "String(5)")), anyLong());
+    }
+
+    @Test
+    void plainStatement_ShouldReportExecutedSql() throws Exception {
+        when(connection.createStatement()).thenReturn(statement);
+
+        dataSource.getConnection().createStatement().execute("DELETE FROM outbox_events");
+
+        verify(recorder).record(eq("DELETE FROM outbox_events"), eq(List.of()), anyLong());
+    }
+
+    @Test
+    void shapeOf_ShouldNeverExposeValues() {
+        assertEquals("String(6)", InstrumentedDataSource.shapeOf("setString", "secret"));
+        assertEquals("bytes(3)", InstrumentedDataSource.shapeOf("setBytes", new byte[3]));
+        assertEquals("null", InstrumentedDataSource.shapeOf("setNull", 12));
+        assertEquals("Integer", InstrumentedDataSource.shapeOf("setInt", 42));
+    }
+
+    @Test
+    void connection_ShouldUseIdentityEquality() throws Exception {
+        Connection wrapped = dataSource.getConnection();
+
+        assertEquals(wrapped, wrapped);
+        assertEquals(System.identityHashCode(wrapped), wrapped.hashCode());
+    }
+}
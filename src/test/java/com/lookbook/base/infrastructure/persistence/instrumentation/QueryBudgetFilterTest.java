@@ -0,0 +1,82 @@
+package com.lookbook.base.infrastructure.persistence.instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.lookbook.base.infrastructure.config.QueryInstrumentationProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QueryBudgetFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private QueryBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        QueryInstrumentationProperties properties = new QueryInstrumentationProperties();
+        properties.setStatementBudget(3);
+        filter = new QueryBudgetFilter(registry, properties);
+    }
+
+    @Test
+    void shouldRecordStatementsPerRequest() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/users/{id}");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestQueryStats.recordStatement(1_000);
+            RequestQueryStats.recordStatement(1_000);
+            RequestQueryStats.recordRowsMapped(5);
+        });
+
+        assertEquals(2.0, registry.get("http.request.db.statements").tag("uri", "/api/v1/users/{id}")
+                .summary().totalAmount());
+        assertEquals(5.0, registry.get("http.request.db.rows.mapped").summary().totalAmount());
+        assertNull(registry.find("http.request.db.budget.exceeded").counter());
+    }
+
+    @Test
+    void shouldFlagRequestsOverBudget() throws Exception {
+        filter.doFilter(request("/api/v1/users"), new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 4; i++) {
+                RequestQueryStats.recordStatement(1_000);
+            }
+        });
+
+        assertEquals(1.0, registry.get("http.request.db.budget.exceeded").tag("uri", "/api/v1/users")
+                .counter().count());
+    }
+
+    @Test
+    void shouldStopTallyingAfterRequest() throws Exception {
+        filter.doFilter(request("/api/v1/users"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // Outside a request, statements are not attributed to anyone
+        RequestQueryStats.recordStatement(1_000);
+        assertEquals(0.0, registry.get("http.request.db.statements").summary().totalAmount());
+    }
+
+    @Test
+    void rowsIn_ShouldCountMappedEntities() {
+        assertEquals(2, RepositoryMetricsAspect.rowsIn(List.of("a", "b")));
+        assertEquals(0, RepositoryMetricsAspect.rowsIn(Optional.empty()));
+        assertEquals(0, RepositoryMetricsAspect.rowsIn(Boolean.TRUE));
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+package com.lookbook.base.infrastructure.persistence.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Table;
+
+class IdArrayLookupTest {
+
+    private EntityManager entityManager;
+    private Map<UUID, Row> rows;
+    private List<String> boundLiterals;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        rows = new HashMap<>();
+        boundLiterals = new ArrayList<>();
+        when(entityManager.createNativeQuery(anyString(), eq(Row.class))).thenAnswer(invocation -> {
+            Query query = mock(Query.class);
+            ArgumentCaptor<Object> literal = ArgumentCaptor.forClass(Object.class);
+            when(query.setParameter(eq(1), literal.capture())).thenReturn(query);
+            when(query.getResultList()).thenAnswer(call -> {
+                String value = (String) literal.getValue();
+                boundLiterals.add(value);
+                // Return matches in reverse to prove the lookup reorders them
+                List<Row> found = Arrays.stream(value.substring(1, value.length() - 1).split(","))
+                        .map(UUID::fromString)
+                        .map(rows::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toCollection(ArrayList::new));
+                Collections.reverse(found);
+                return found;
+            });
+            return query;
+        });
+    }
+
+    @Test
+    void findAllById_ShouldUseSingleArrayParameterAndPreserveInputOrder() {
+        List<UUID> ids = store(5);
+        IdArrayLookup lookup = new IdArrayLookup(entityManager, 100);
+
+        List<Row> result = lookup.findAllById(Row.class, ids, Row::id);
+
+        assertEquals(ids, result.stream().map(Row::id).toList());
+        verify(entityManager).createNativeQuery(
+                "SELECT * FROM rows WHERE id = ANY(CAST(?1 AS uuid[]))", Row.class);
+        assertEquals(1, boundLiterals.size());
+    }
+
+    @Test
+    void findAllById_ShouldSplitLookupsAboveChunkSize() {
+        List<UUID> ids = store(25);
+        IdArrayLookup lookup = new IdArrayLookup(entityManager, 10);
+
+        List<Row> result = lookup.findAllById(Row.class, ids, Row::id);
+
+        assertEquals(ids, result.stream().map(Row::id).toList());
+        verify(entityManager, times(3)).createNativeQuery(anyString(), eq(Row.class));
+        assertEquals(List.of(10, 10, 5), boundLiterals.stream().map(l -> l.split(",").length).toList());
+    }
+
+    @Test
+    void findAllById_ShouldSkipMissingAndDuplicateIds() {
+        List<UUID> ids = store(2);
+        UUID missing = UUID.randomUUID();
+        IdArrayLookup lookup = new IdArrayLookup(entityManager, 100);
+
+        List<Row> result = lookup.findAllById(Row.class,
+                List.of(ids.get(1), missing, ids.get(0), ids.get(1)), Row::id);
+
+        assertEquals(List.of(ids.get(1), ids.get(0)), result.stream().map(Row::id).toList());
+        assertEquals(3, boundLiterals.get(0).split(",").length);
+    }
+
+    @Test
+    void findAllById_ShouldNotQueryForEmptyInput() {
+        IdArrayLookup lookup = new IdArrayLookup(entityManager, 100);
+
+        assertTrue(lookup.findAllById(Row.class, List.of(), Row::id).isEmpty());
+        verify(entityManager, never()).createNativeQuery(anyString(), any(Class.class));
+    }
+
+    @Test
+    void findAllById_ShouldRejectUnmappedEntities() {
+        IdArrayLookup lookup = new IdArrayLookup(entityManager, 100);
+
+        assertThrows(IllegalStateException.class,
+                () -> lookup.findAllById(String.class, List.of(UUID.randomUUID()), s -> null));
+    }
+
+    @Test
+    void inInputOrder_ShouldFollowRequestedIds() {
+        List<UUID> ids = store(3);
+        List<Row> shuffled = List.of(rows.get(ids.get(2)), rows.get(ids.get(0)), rows.get(ids.get(1)));
+
+        List<Row> ordered = IdArrayLookup.inInputOrder(ids, shuffled, Row::id);
+
+        assertEquals(ids, ordered.stream().map(Row::id).toList());
+    }
+
+    private List<UUID> store(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Row row = new Row(UUID.randomUUID());
+            rows.put(row.id(), row);
+            ids.add(row.id());
+        }
+        return ids;
+    }
+
+    @Table(name = "rows")
+    record Row(UUID id) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.lookbook.base.infrastructure.persistence.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lookbook.base.domain.entities.TestEntity;
+import com.lookbook.base.domain.events.DomainEventPublisher;
+import com.lookbook.base.infrastructure.persistence.entities.JpaTestEntity;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class JpaEntityRepositoryAdapterTest {
+
+    @Mock
+    private TestEntityRepository jpaRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private TestEntityRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new TestEntityRepositoryAdapter(jpaRepository);
+        when(jpaRepository.save(any(JpaTestEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void save_ShouldPublishEventsRaisedOnTheOriginalEntity() {
+        adapter.setDomainEventPublisher(eventPublisher);
+        TestEntity entity = new TestEntity("test");
+        entity.raise(new UserActivatedEvent(UUID.randomUUID(), "tester"));
+
+        adapter.save(entity);
+
+        verify(eventPublisher).publish(entity);
+    }
+
+    @Test
+    void insert_ShouldPublishEventsRaisedOnTheOriginalEntity() {
+        adapter.setDomainEventPublisher(eventPublisher);
+        TestEntity entity = new TestEntity("test");
+        entity.raise(new UserActivatedEvent(UUID.randomUUID(), "tester"));
+
+        adapter.insert(entity);
+
+        verify(eventPublisher).publish(entity);
+    }
+
+    @Test
+    void save_ShouldNotPublishWhenNoEventsWereRaised() {
+        adapter.setDomainEventPublisher(eventPublisher);
+
+        adapter.save(new TestEntity("test"));
+
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void save_ShouldKeepEventsWhenNoPublisherIsConfigured() {
+        TestEntity entity = new TestEntity("test");
+        entity.raise(new UserActivatedEvent(UUID.randomUUID(), "tester"));
+
+        adapter.save(entity);
+
+        assertEquals(1, entity.getDomainEvents().size());
+    }
+}
@@ -0,0 +1,61 @@
+package com.lookbook.base.infrastructure.persistence.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+class SparseColumnsTest {
+
+    private final SparseColumns columns = new SparseColumns(Map.of(
+            "id", "id",
+            "displayName", "display_name",
+            "biography", "biography",
+            "updatedAt", "updated_at"));
+
+    @Test
+    void selectList_shouldAlwaysReadIdAndUpdateTime() {
+        assertEquals("display_name, id, updated_at", columns.selectList(Set.of("displayName")));
+        assertEquals("biography, display_name, id, updated_at", columns.selectList(null));
+    }
+
+    @Test
+    void selectList_shouldRejectUnmappedFields() {
+        assertThrows(IllegalArgumentException.class, () -> columns.selectList(Set.of("id; DROP TABLE users")));
+    }
+
+    @Test
+    void includes_shouldReportOnlyReadColumns() {
+        Set<String> fields = Set.of("displayName");
+
+        assertTrue(columns.includes(fields, "displayName"));
+        assertTrue(columns.includes(fields, "updatedAt"));
+        assertFalse(columns.includes(fields, "biography"));
+        assertTrue(columns.includes(null, "biography"));
+    }
+
+    @Test
+    void orderBy_shouldMapSortPropertiesToColumns() {
+        Sort sort = Sort.by(Direction.DESC, "displayName").and(Sort.by("id"));
+
+        assertEquals("display_name DESC, id ASC", columns.orderBy(sort));
+        assertThrows(IllegalArgumentException.class, () -> columns.orderBy(Sort.unsorted()));
+    }
+
+    @Test
+    void idArray_shouldRenderPostgresArrayLiteral() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        assertEquals("{" + first + "," + second + "}", SparseColumns.idArray(List.of(first, second)));
+    }
+}
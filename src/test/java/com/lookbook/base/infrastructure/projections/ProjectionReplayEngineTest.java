@@ -0,0 +1,243 @@
+package com.lookbook.base.infrastructure.projections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.application.projections.Projection;
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.ProjectionReplayProperties;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.base.infrastructure.eventstore.EventPayloadCodec;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
+import com.lookbook.user.infrastructure.events.UserDomainEventTypes;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionReplayEngineTest {
+
+    private static final int AGGREGATES = 25;
+    private static final int EVENTS_PER_AGGREGATE = 40;
+
+    @Mock
+    private ProjectionReplayRepository repository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ObjectProvider<Projection> projectionProvider;
+
+    private RecordingProjection projection;
+    private ProjectionReplayEngine engine;
+    private List<ReplayRecord> store;
+    private Map<UUID, List<UUID>> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        projection = new RecordingProjection();
+        when(projectionProvider.orderedStream()).thenReturn(Stream.of(projection));
+
+        ProjectionReplayProperties properties = new ProjectionReplayProperties();
+        properties.setBatchSize(64);
+        properties.setParallelism(4);
+        engine = new ProjectionReplayEngine(projectionProvider, repository,
+                new DomainEventRegistry(List.of(new UserDomainEventTypes())), transactionManager, properties);
+
+        store = new ArrayList<>();
+        expectedOrder = new ConcurrentHashMap<>();
+        List<UUID> aggregates = Stream.generate(UUID::randomUUID).limit(AGGREGATES).toList();
+        long position = 0;
+        for (int i = 0; i < EVENTS_PER_AGGREGATE; i++) {
+            for (UUID aggregateId : aggregates) {
+                DomainEvent event = i % 2 == 0
+                        ? new UserActivatedEvent(aggregateId, "user")
+                        : new UserDeactivatedEvent(aggregateId, "user");
+                // Gaps in positions, as left behind by rolled-back appends
+                position += 1 + (i % 3);
+                store.add(record(position, event));
+                expectedOrder.computeIfAbsent(aggregateId, id -> new ArrayList<>()).add(event.getEventId());
+            }
+        }
+
+        lenient().when(repository.lastPosition()).thenReturn(position);
+        lenient().when(repository.readBatch(anyLong(), anyLong(), anyInt(), any())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            long upTo = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            Collection<String> types = invocation.getArgument(3);
+            return store.stream()
+                    .filter(r -> r.position() > after && r.position() <= upTo)
+                    .filter(r -> types.isEmpty() || types.contains(r.eventType()))
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+    }
+
+    @Test
+    void rebuild_ShouldApplyEveryEventInPerAggregateOrder() {
+        long replayed = engine.rebuild(projection, false);
+
+        assertEquals(AGGREGATES * EVENTS_PER_AGGREGATE, replayed);
+        assertEquals(expectedOrder, projection.applied);
+        assertEquals(1, projection.resets.get());
+        long lastPosition = store.get(store.size() - 1).position();
+        verify(repository).startRebuild("recording", lastPosition);
+        verify(repository).saveCheckpoint("recording", lastPosition, ProjectionCheckpoint.Status.COMPLETED, null);
+        // One flush per batch of 64
+        assertEquals((store.size() + 63) / 64, projection.flushes.get());
+    }
+
+    @Test
+    void rebuild_ShouldResumeFromUnfinishedCheckpointWithoutReset() {
+        ReplayRecord resumeAfter = store.get(store.size() / 2 - 1);
+        long target = store.get(store.size() - 1).position();
+        when(repository.findCheckpoint("recording")).thenReturn(Optional.of(checkpoint(
+                resumeAfter.position(), target, ProjectionCheckpoint.Status.FAILED)));
+
+        long replayed = engine.rebuild(projection, false);
+
+        assertEquals(store.size() / 2, replayed);
+        assertEquals(0, projection.resets.get());
+        verify(repository).readBatch(eq(resumeAfter.position()), eq(target), eq(64), any());
+        verify(repository, never()).startRebuild(any(), anyLong());
+    }
+
+    @Test
+    void rebuild_ShouldStartOverWhenRestartIsRequested() {
+        when(repository.findCheckpoint("recording")).thenReturn(Optional.of(checkpoint(
+                10, 20, ProjectionCheckpoint.Status.RUNNING)));
+
+        long replayed = engine.rebuild(projection, true);
+
+        assertEquals(store.size(), replayed);
+        assertEquals(1, projection.resets.get());
+    }
+
+    @Test
+    void rebuild_ShouldCheckpointLastFlushedBatchAndDiscardOnFailure() {
+        projection.failOn = store.get(100).eventId();
+
+        assertThrows(IllegalStateException.class, () -> engine.rebuild(projection, false));
+
+        // Batch 2 (records 64..127) failed, so the checkpoint stays at the end of batch 1
+        verify(repository).saveCheckpoint("recording", store.get(63).position(),
+                ProjectionCheckpoint.Status.FAILED, "projection failed");
+        assertEquals(1, projection.discards.get());
+        assertEquals(1, projection.flushes.get());
+    }
+
+    @Test
+    void rebuild_ShouldReadOnlyTheProjectionsEventTypes() {
+        projection.types = Set.of(UserDeactivatedEvent.class);
+
+        long replayed = engine.rebuild(projection, false);
+
+        assertEquals(store.size() / 2, replayed);
+        verify(repository).readBatch(eq(0L), anyLong(), eq(64), eq(Set.of("UserDeactivatedEvent")));
+    }
+
+    @Test
+    void partition_ShouldKeepEachAggregateInOnePartitionInPositionOrder() {
+        List<List<ReplayRecord>> partitions = ProjectionReplayEngine.partition(store, 16);
+
+        assertEquals(store.size(), partitions.stream().mapToInt(List::size).sum());
+        Map<UUID, Integer> owner = new ConcurrentHashMap<>();
+        for (int p = 0; p < partitions.size(); p++) {
+            int partition = p;
+            long previous = 0;
+            for (ReplayRecord record : partitions.get(p)) {
+                assertEquals(partition, owner.computeIfAbsent(record.aggregateId(), id -> partition));
+                assertTrue(record.position() > previous);
+                previous = record.position();
+            }
+        }
+    }
+
+    private static ProjectionCheckpoint checkpoint(long position, long target, ProjectionCheckpoint.Status status) {
+        return new ProjectionCheckpoint("recording", position, target, status, null,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static ReplayRecord record(long position, DomainEvent event) {
+        return new ReplayRecord(position, event.getEventId(), event.getAggregateId(), event.getEventType(),
+                event.getOccurredAt(), EventPayloadCodec.encode(event.getMetadata()));
+    }
+
+    private static class RecordingProjection implements Projection {
+        final Map<UUID, List<UUID>> applied = new ConcurrentHashMap<>();
+        final AtomicInteger resets = new AtomicInteger();
+        final AtomicInteger flushes = new AtomicInteger();
+        final AtomicInteger discards = new AtomicInteger();
+        volatile UUID failOn;
+        volatile Set<Class<? extends DomainEvent>> types = Set.of();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public Set<Class<? extends DomainEvent>> eventTypes() {
+            return types;
+        }
+
+        @Override
+        public void reset() {
+            resets.incrementAndGet();
+            applied.clear();
+        }
+
+        @Override
+        public void apply(DomainEvent event) {
+            if (event.getEventId().equals(failOn)) {
+                throw new IllegalStateException("projection failed");
+            }
+            applied.computeIfAbsent(event.getAggregateId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.getEventId());
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+        @Override
+        public void discard() {
+            discards.incrementAndGet();
+        }
+    }
+}
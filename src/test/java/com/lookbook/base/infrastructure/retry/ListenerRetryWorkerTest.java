@@ -0,0 +1,148 @@
+package com.lookbook.base.infrastructure.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.lookbook.base.infrastructure.config.ListenerRetryProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ListenerRetryWorkerTest {
+
+    @Mock
+    private ListenerRetryRepository repository;
+    @Mock
+    private RetryableListenerRegistry registry;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ListenerRetryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ListenerRetryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ListenerRetryProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerPoll(3);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxBackoff(Duration.ofMinutes(5));
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new ListenerRetryWorker(repository, registry, transactionManager, properties, meterRegistry);
+    }
+
+    @Test
+    void retryBatch_ShouldRunJobInRetryContextAndDeleteIt() {
+        AtomicBoolean retrying = new AtomicBoolean();
+        when(repository.claimBatch(2, Duration.ofMinutes(2))).thenReturn(List.of(job(1, 0)));
+        when(registry.prepare("Listener.handle", "{}"))
+                .thenReturn(() -> retrying.set(ListenerRetryContext.isRetrying()));
+
+        int claimed = worker.retryBatch();
+
+        assertEquals(1, claimed);
+        assertTrue(retrying.get());
+        assertFalse(ListenerRetryContext.isRetrying());
+        verify(repository).delete(1L);
+        assertEquals(1.0, outcome("succeeded"));
+    }
+
+    @Test
+    void retryBatch_ShouldRescheduleFailedJobWithBackoff() {
+        when(repository.claimBatch(anyInt(), any())).thenReturn(List.of(job(1, 1)));
+        when(registry.prepare(anyString(), anyString())).thenReturn(() -> {
+            throw new IllegalStateException("smtp down");
+        });
+
+        worker.retryBatch();
+
+        ArgumentCaptor<Duration> delay = ArgumentCaptor.forClass(Duration.class);
+        verify(repository).reschedule(eq(1L), eq(2), eq("smtp down"), delay.capture());
+        // Third retry: 10s doubled twice, upper half jittered
+        assertTrue(delay.getValue().compareTo(Duration.ofSeconds(20)) >= 0);
+        assertTrue(delay.getValue().compareTo(Duration.ofSeconds(40)) <= 0);
+        verify(repository, never()).delete(anyLong());
+        verify(repository, never()).moveToDeadLetters(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void retryBatch_ShouldDeadLetterJobThatExhaustedItsRetries() {
+        when(repository.claimBatch(anyInt(), any())).thenReturn(List.of(job(1, 2)));
+        when(registry.prepare(anyString(), anyString())).thenReturn(() -> {
+            throw new IllegalStateException("still down");
+        });
+
+        worker.retryBatch();
+
+        verify(repository).moveToDeadLetters(1L, 3, "still down");
+        verify(repository, never()).reschedule(anyLong(), anyInt(), any(), any());
+        assertEquals(1.0, outcome("dead_lettered"));
+    }
+
+    @Test
+    void retryBatch_ShouldDeadLetterJobThatCannotBePrepared() {
+        when(repository.claimBatch(anyInt(), any())).thenReturn(List.of(job(1, 0), job(2, 0)));
+        when(registry.prepare("Listener.handle", "{}"))
+                .thenThrow(new IllegalArgumentException("No retryable listener named Listener.handle"))
+                .thenReturn(() -> {
+                });
+
+        worker.retryBatch();
+
+        verify(repository).moveToDeadLetters(1L, 0, "No retryable listener named Listener.handle");
+        verify(repository).delete(2L);
+    }
+
+    @Test
+    void poll_ShouldDrainFullBatchesUpToTheLimit() {
+        when(repository.claimBatch(anyInt(), any())).thenReturn(List.of(job(1, 0), job(2, 0)));
+        when(registry.prepare(anyString(), anyString())).thenReturn(() -> {
+        });
+
+        worker.poll();
+
+        verify(repository, times(3)).claimBatch(anyInt(), any());
+    }
+
+    @Test
+    void poll_ShouldStopOnShortBatch() {
+        when(repository.claimBatch(anyInt(), any())).thenReturn(Collections.emptyList());
+
+        worker.poll();
+
+        verify(repository, times(1)).claimBatch(anyInt(), any());
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("listener.retry.attempts").tag("outcome", outcome).counter().count();
+    }
+
+    private static ListenerRetryJob job(long id, int attempts) {
+        return new ListenerRetryJob(id, "Listener.handle", "{}", attempts);
+    }
+}
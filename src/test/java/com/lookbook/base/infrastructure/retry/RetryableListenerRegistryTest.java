@@ -0,0 +1,122 @@
+package com.lookbook.base.infrastructure.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import com.lookbook.base.application.events.RetryableListener;
+import com.lookbook.communication.application.events.SendEmailEvent;
+import com.lookbook.communication.application.events.SendWelcomeEmailEvent;
+import com.lookbook.user.application.events.CreateUserProfileEvent;
+
+class RetryableListenerRegistryTest {
+
+    private DefaultListableBeanFactory beanFactory;
+    private RetryableListenerRegistry registry;
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        listener = new RecordingListener();
+        beanFactory.registerSingleton("recordingListener", listener);
+        beanFactory.registerSingleton("unrelated", "not a listener");
+        registry = new RetryableListenerRegistry(beanFactory);
+        registry.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void prepare_ShouldRebuildEmailEventAsDeclaredParameterType() {
+        String payload = registry.serialize(new SendWelcomeEmailEvent("jane@example.com", "jane"));
+
+        registry.prepare("RecordingListener.onEmail", payload).run();
+
+        SendEmailEvent event = (SendEmailEvent) listener.received.get(0);
+        assertEquals("jane@example.com", event.getTo());
+        assertEquals("Welcome to Lookbook!", event.getSubject());
+        assertEquals("welcome-email", event.getTemplate());
+        assertEquals(Map.of("username", "jane"), event.getTemplateData());
+    }
+
+    @Test
+    void prepare_ShouldRebuildEventWithUuidProperty() {
+        UUID userId = UUID.randomUUID();
+        String payload = registry.serialize(new CreateUserProfileEvent(userId, "jane", UUID.randomUUID()));
+
+        registry.prepare("RecordingListener.onProfile", payload).run();
+
+        CreateUserProfileEvent event = (CreateUserProfileEvent) listener.received.get(0);
+        assertEquals(userId, event.getUserId());
+        assertEquals("jane", event.getUsername());
+    }
+
+    @Test
+    void prepare_ShouldRejectUnknownListenerAndUnreadablePayload() {
+        assertThrows(IllegalArgumentException.class, () -> registry.prepare("Gone.handle", "{}"));
+        assertThrows(IllegalArgumentException.class, () -> registry.prepare("RecordingListener.onEmail", "not json"));
+    }
+
+    @Test
+    void invocation_ShouldPropagateListenerFailureUnwrapped() {
+        String payload = registry.serialize(new CreateUserProfileEvent(UUID.randomUUID(), "fail", UUID.randomUUID()));
+
+        Runnable invocation = registry.prepare("RecordingListener.onProfile", payload);
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, invocation::run);
+        assertEquals("profile store down", failure.getMessage());
+    }
+
+    @Test
+    void register_ShouldRejectListenerWithoutSingleEventParameter() {
+        assertThrows(IllegalStateException.class,
+                () -> registry.register("invalid", InvalidListener.class));
+    }
+
+    @Test
+    void backoff_ShouldDoubleUpToTheCapWithJitterInTheUpperHalf() {
+        RetryBackoff backoff = new RetryBackoff(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        for (int i = 0; i < 100; i++) {
+            assertBetween(backoff.delay(1), 500, 1000);
+            assertBetween(backoff.delay(3), 2000, 4000);
+            assertBetween(backoff.delay(5), 5000, 10000);
+            assertBetween(backoff.delay(200), 5000, 10000);
+        }
+    }
+
+    private static void assertBetween(Duration delay, long minMillis, long maxMillis) {
+        assertTrue(delay.toMillis() >= minMillis && delay.toMillis() <= maxMillis, delay.toString());
+    }
+
+    static class RecordingListener {
+        final List<Object> received = new ArrayList<>();
+
+        @RetryableListener
+        public void onEmail(SendEmailEvent event) {
+            received.add(event);
+        }
+
+        @RetryableListener
+        public void onProfile(CreateUserProfileEvent event) {
+            if ("fail".equals(event.getUsername())) {
+                throw new IllegalStateException("profile store down");
+            }
+            received.add(event);
+        }
+    }
+
+    static class InvalidListener {
+        @RetryableListener
+        public void handle(Object first, Object second) {
+        }
+    }
+}
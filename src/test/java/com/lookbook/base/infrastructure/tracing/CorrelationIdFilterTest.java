@@ -0,0 +1,88 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.lookbook.base.domain.events.CorrelationContext;
+import com.lookbook.base.infrastructure.config.TracingProperties;
+
+import jakarta.servlet.FilterChain;
+
+class CorrelationIdFilterTest {
+
+    private InMemorySpanSink sink;
+    private CorrelationIdFilter filter;
+    private AtomicReference<String> seen;
+    private FilterChain chain;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sink = new InMemorySpanSink(10);
+        ObjectProvider<SpanSink> sinks = mock(ObjectProvider.class);
+        when(sinks.orderedStream()).thenReturn(Stream.of(sink));
+        TracingProperties properties = new TracingProperties();
+        filter = new CorrelationIdFilter(new Tracer(sinks, properties), properties);
+        seen = new AtomicReference<>();
+        chain = (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/{id}");
+            seen.set(CorrelationContext.current());
+            assertEquals(seen.get(), MDC.get(CorrelationScope.MDC_KEY));
+        };
+    }
+
+    @Test
+    void doFilter_ShouldReuseValidIncomingId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/42");
+        request.addHeader("X-Correlation-Id", "client-id.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals("client-id.1", seen.get());
+        assertEquals("client-id.1", response.getHeader("X-Correlation-Id"));
+        assertNull(CorrelationContext.current());
+        assertNull(MDC.get(CorrelationScope.MDC_KEY));
+        List<Span> spans = sink.getSpans("client-id.1");
+        assertEquals(1, spans.size());
+        assertEquals("GET /api/v1/users/{id}", spans.get(0).name());
+    }
+
+    @Test
+    void doFilter_ShouldGenerateId_WhenHeaderIsMissing() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/42"), response, chain);
+
+        assertNotNull(seen.get());
+        assertEquals(seen.get(), response.getHeader("X-Correlation-Id"));
+    }
+
+    @Test
+    void doFilter_ShouldReplaceMalformedId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/42");
+        request.addHeader("X-Correlation-Id", "bad id\r\nInjected: yes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        assertNotEquals("bad id\r\nInjected: yes", seen.get());
+        assertEquals(seen.get(), response.getHeader("X-Correlation-Id"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.lookbook.base.infrastructure.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.lookbook.base.application.tracing.Traced;
+import com.lookbook.base.infrastructure.config.TracingProperties;
+
+class TracedAspectTest {
+
+    @Traced
+    static class TracedService {
+        public String work() {
+            return "done";
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private InMemorySpanSink sink;
+    private TracedService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sink = new InMemorySpanSink(10);
+        ObjectProvider<SpanSink> sinks = mock(ObjectProvider.class);
+        when(sinks.orderedStream()).thenReturn(Stream.of(sink));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TracedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TracedAspect(new Tracer(sinks, new TracingProperties())));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void trace_ShouldRecordSpanUnderCurrentCorrelationId() {
+        try (CorrelationScope scope = CorrelationScope.open("request-1")) {
+            assertEquals("done", service.work());
+        }
+
+        List<Span> spans = sink.getSpans("request-1");
+        assertEquals(1, spans.size());
+        assertEquals("TracedService.work", spans.get(0).name());
+        assertFalse(spans.get(0).failed());
+        assertEquals(Duration.ZERO, spans.get(0).queueWait());
+    }
+
+    @Test
+    void trace_ShouldMarkFailedSpanAndRethrow() {
+        assertThrows(IllegalStateException.class, service::fail);
+
+        Span span = sink.getSpans().get(0);
+        assertEquals("TracedService.fail", span.name());
+        assertTrue(span.failed());
+    }
+
+    @Test
+    void trace_ShouldAttributeHandOffDelayToFirstSpanOnly() {
+        long handedOff = System.nanoTime() - Duration.ofMillis(50).toNanos();
+        try (CorrelationScope scope = CorrelationScope.resume("request-1", handedOff)) {
+            service.work();
+            service.work();
+        }
+
+        List<Span> spans = sink.getSpans("request-1");
+        assertTrue(spans.get(0).queueWait().compareTo(Duration.ofMillis(50)) >= 0);
+        assertEquals(Duration.ZERO, spans.get(1).queueWait());
+    }
+
+    @Test
+    void trace_ShouldSkipFailingSink() {
+        SpanSink failing = span -> {
+            throw new IllegalStateException("sink down");
+        };
+        @SuppressWarnings("unchecked")
+        ObjectProvider<SpanSink> sinks = mock(ObjectProvider.class);
+        when(sinks.orderedStream()).thenReturn(Stream.of(failing, sink));
+        Tracer tracer = new Tracer(sinks, new TracingProperties());
+
+        tracer.record("hop", Instant.now(), Duration.ofMillis(1), false);
+
+        assertEquals(1, sink.getSpans().size());
+    }
+}
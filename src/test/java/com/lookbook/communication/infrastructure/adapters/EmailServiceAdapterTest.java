@@ -0,0 +1,136 @@
+package com.lookbook.communication.infrastructure.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import com.lookbook.communication.infrastructure.config.MailDeliveryProperties;
+import com.lookbook.communication.infrastructure.mail.EmailTemplateCache;
+import com.lookbook.communication.infrastructure.mail.MailDeliveryQueue;
+import com.lookbook.communication.infrastructure.mail.MailMessage;
+import com.lookbook.communication.infrastructure.mail.SmtpException;
+
+@ExtendWith(MockitoExtension.class)
+class EmailServiceAdapterTest {
+
+    @Mock
+    private MailDeliveryQueue deliveryQueue;
+
+    @Mock
+    private ObjectProvider<MailDeliveryQueue> deliveryQueueProvider;
+
+    private final EmailTemplateCache templates = new EmailTemplateCache(new DefaultResourceLoader(),
+            "classpath:templates/email/");
+
+    @Test
+    void sendEmail_ShouldQueueRenderedMessage() {
+        when(deliveryQueueProvider.getIfAvailable()).thenReturn(deliveryQueue);
+        when(deliveryQueue.enqueue(any())).thenReturn(CompletableFuture.completedFuture(null));
+        EmailServiceAdapter adapter = new EmailServiceAdapter(templates, deliveryQueueProvider,
+                new MailDeliveryProperties());
+
+        adapter.sendEmail("alice@example.com", "Welcome to Lookbook!", "welcome-email",
+                Map.of("username", "alice"));
+
+        ArgumentCaptor<MailMessage> message = ArgumentCaptor.forClass(MailMessage.class);
+        verify(deliveryQueue).enqueue(message.capture());
+        assertEquals("alice@example.com", message.getValue().to());
+        assertEquals("Welcome to Lookbook!", message.getValue().subject());
+        assertTrue(message.getValue().htmlBody().contains("Hi alice,"));
+    }
+
+    @Test
+    void sendEmail_ShouldThrow_WhenDeliveryFailsTransiently() {
+        when(deliveryQueueProvider.getIfAvailable()).thenReturn(deliveryQueue);
+        when(deliveryQueue.enqueue(any())).thenReturn(
+                CompletableFuture.failedFuture(new IOException("Connection refused")));
+        EmailServiceAdapter adapter = new EmailServiceAdapter(templates, deliveryQueueProvider,
+                new MailDeliveryProperties());
+
+        assertThrows(UncheckedIOException.class, () -> adapter.sendEmail("alice@example.com",
+                "Welcome to Lookbook!", "welcome-email", Map.of("username", "alice")));
+    }
+
+    @Test
+    void sendEmail_ShouldThrow_WhenServerDefersMessage() {
+        when(deliveryQueueProvider.getIfAvailable()).thenReturn(deliveryQueue);
+        when(deliveryQueue.enqueue(any())).thenReturn(
+                CompletableFuture.failedFuture(new SmtpException(451, "Try again later")));
+        EmailServiceAdapter adapter = new EmailServiceAdapter(templates, deliveryQueueProvider,
+                new MailDeliveryProperties());
+
+        assertThrows(UncheckedIOException.class, () -> adapter.sendEmail("alice@example.com",
+                "Welcome to Lookbook!", "welcome-email", Map.of("username", "alice")));
+    }
+
+    @Test
+    void sendEmail_ShouldThrow_WhenDeliveryDoesNotFinishWithinSmtpTimeouts() {
+        when(deliveryQueueProvider.getIfAvailable()).thenReturn(deliveryQueue);
+        when(deliveryQueue.enqueue(any())).thenReturn(new CompletableFuture<>());
+        MailDeliveryProperties properties = new MailDeliveryProperties();
+        properties.getBatch().setLinger(Duration.ofMillis(10));
+        properties.getPool().setBorrowTimeout(Duration.ofMillis(10));
+        properties.getSmtp().setConnectTimeout(Duration.ofMillis(10));
+        properties.getSmtp().setReadTimeout(Duration.ofMillis(10));
+        EmailServiceAdapter adapter = new EmailServiceAdapter(templates, deliveryQueueProvider, properties);
+
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, () -> adapter.sendEmail(
+                "alice@example.com", "Welcome to Lookbook!", "welcome-email", Map.of("username", "alice")));
+
+        assertTrue(error.getCause().getCause() instanceof TimeoutException, error::toString);
+    }
+
+    @Test
+    void sendEmail_ShouldNotThrow_WhenServerRejectsMessageForGood() {
+        when(deliveryQueueProvider.getIfAvailable()).thenReturn(deliveryQueue);
+        when(deliveryQueue.enqueue(any())).thenReturn(
+                CompletableFuture.failedFuture(new SmtpException(550, "No such user")));
+        EmailServiceAdapter adapter = new EmailServiceAdapter(templates, deliveryQueueProvider,
+                new MailDeliveryProperties());
+
+        adapter.sendEmail("alice@example.com", "Welcome to Lookbook!", "welcome-email", Map.of("username", "alice"));
+
+        verify(deliveryQueue).enqueue(any());
+    }
+
+    @Test
+    void sendEmail_ShouldOnlyRenderWhenDeliveryIsDisabled() {
+        when(deliveryQueueProvider.getIfAvailable()).thenReturn(null);
+        EmailServiceAdapter adapter = new EmailServiceAdapter(templates, deliveryQueueProvider,
+                new MailDeliveryProperties());
+
+        adapter.sendEmail("alice@example.com", "Activate Your Account", "account-activation-email",
+                Map.of("activationToken", "token"));
+
+        verify(deliveryQueue, never()).enqueue(any());
+    }
+
+    @Test
+    void sendEmail_ShouldRejectUnknownTemplate() {
+        when(deliveryQueueProvider.getIfAvailable()).thenReturn(deliveryQueue);
+        EmailServiceAdapter adapter = new EmailServiceAdapter(templates, deliveryQueueProvider,
+                new MailDeliveryProperties());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> adapter.sendEmail("alice@example.com", "Subject", "missing-template", Map.of()));
+    }
+}
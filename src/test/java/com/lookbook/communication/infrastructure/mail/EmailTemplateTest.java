@@ -0,0 +1,60 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+class EmailTemplateTest {
+
+    @Test
+    void render_ShouldSubstitutePlaceholders() {
+        EmailTemplate template = EmailTemplate.compile("test", "Hi {{ username }}, code {{code}}.");
+
+        assertEquals("Hi alice, code 42.", template.render(Map.of("username", "alice", "code", 42)));
+    }
+
+    @Test
+    void render_ShouldEscapeHtmlInValues() {
+        EmailTemplate template = EmailTemplate.compile("test", "<p>{{name}}</p>");
+
+        assertEquals("<p>&lt;script&gt;&amp;&quot;</p>", template.render(Map.of("name", "<script>&\"")));
+    }
+
+    @Test
+    void render_ShouldLeaveMissingValuesEmpty() {
+        EmailTemplate template = EmailTemplate.compile("test", "[{{missing}}]");
+
+        assertEquals("[]", template.render(Map.of()));
+    }
+
+    @Test
+    void compile_ShouldRejectUnclosedPlaceholder() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("test", "Hi {{name"));
+    }
+
+    @Test
+    void cache_ShouldCompileEachTemplateOnce() {
+        EmailTemplateCache cache = new EmailTemplateCache(new DefaultResourceLoader(), "classpath:templates/email");
+
+        EmailTemplate first = cache.get("welcome-email");
+        EmailTemplate second = cache.get("welcome-email");
+
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+        assertTrue(first.render(Map.of("username", "alice")).contains("Hi alice,"));
+    }
+
+    @Test
+    void cache_ShouldRejectUnknownAndInvalidNames() {
+        EmailTemplateCache cache = new EmailTemplateCache(new DefaultResourceLoader(), "classpath:templates/email/");
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("no-such-template"));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("../application"));
+    }
+}
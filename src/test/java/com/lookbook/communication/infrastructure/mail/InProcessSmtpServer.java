@@ -0,0 +1,186 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal SMTP server running inside the test JVM.
+ * Records every accepted message and tracks how many DATA transfers run
+ * concurrently per recipient domain.
+ */
+class InProcessSmtpServer implements AutoCloseable {
+
+    record Received(String from, String to, String data) {
+    }
+
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+    private final List<Received> messages = new CopyOnWriteArrayList<>();
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Map<String, AtomicInteger> activeByDomain = new ConcurrentHashMap<>();
+    private final Map<String, Integer> maxActiveByDomain = new ConcurrentHashMap<>();
+    private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+    private final Set<String> deferredRecipients = ConcurrentHashMap.newKeySet();
+    private volatile Duration dataDelay = Duration.ZERO;
+    private volatile int dropAfterMessages = Integer.MAX_VALUE;
+
+    InProcessSmtpServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptor = Thread.ofPlatform().daemon().start(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    List<Received> messages() {
+        return messages;
+    }
+
+    List<String> commands() {
+        return commands;
+    }
+
+    int connections() {
+        return connections.get();
+    }
+
+    int maxConcurrentTransfers(String domain) {
+        return maxActiveByDomain.getOrDefault(domain, 0);
+    }
+
+    void reject(String recipient) {
+        rejectedRecipients.add(recipient);
+    }
+
+    /**
+     * Makes the server answer a recipient with a transient 4xx reply, like a
+     * greylisting or overloaded server.
+     */
+    void defer(String recipient) {
+        deferredRecipients.add(recipient);
+    }
+
+    void delayData(Duration delay) {
+        this.dataDelay = delay;
+    }
+
+    /**
+     * Makes the server hang up after a connection has carried this many
+     * messages, like a server enforcing a per-session limit.
+     */
+    void dropAfterMessages(int count) {
+        this.dropAfterMessages = count;
+    }
+
+    SmtpConnection.Settings settings() {
+        return new SmtpConnection.Settings("127.0.0.1", port(), null, null, false, 2000, 5000, "test.local");
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        acceptor.interrupt();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread.ofVirtual().start(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 localhost ESMTP test");
+            String from = null;
+            String to = null;
+            int delivered = 0;
+            String line;
+            while ((line = in.readLine()) != null) {
+                commands.add(line);
+                String command = line.toUpperCase(Locale.ROOT);
+                if (command.startsWith("EHLO")) {
+                    reply(out, "250-localhost\r\n250-PIPELINING\r\n250 8BITMIME");
+                } else if (command.startsWith("MAIL FROM:")) {
+                    from = between(line);
+                    reply(out, "250 OK");
+                } else if (command.startsWith("RCPT TO:")) {
+                    to = between(line);
+                    if (rejectedRecipients.contains(to)) {
+                        reply(out, "550 No such user");
+                    } else if (deferredRecipients.contains(to)) {
+                        reply(out, "451 Try again later");
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    String data = readData(in);
+                    String domain = to.substring(to.indexOf('@') + 1);
+                    int active = activeByDomain.computeIfAbsent(domain, d -> new AtomicInteger()).incrementAndGet();
+                    maxActiveByDomain.merge(domain, active, Math::max);
+                    try {
+                        Thread.sleep(dataDelay.toMillis());
+                    } finally {
+                        activeByDomain.get(domain).decrementAndGet();
+                    }
+                    messages.add(new Received(from, to, data));
+                    reply(out, "250 OK queued");
+                    if (++delivered >= dropAfterMessages) {
+                        return;
+                    }
+                } else if (command.equals("RSET") || command.equals("NOOP")) {
+                    reply(out, "250 OK");
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 Bye");
+                    return;
+                } else {
+                    reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // Client went away
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+        }
+        return data.toString();
+    }
+
+    private static String between(String line) {
+        return line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+    }
+
+    private static void reply(OutputStream out, String text) throws IOException {
+        out.write((text + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -0,0 +1,184 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MailDeliveryQueueTest {
+
+    private static final String FROM = "Lookbook <no-reply@lookbook.local>";
+
+    private InProcessSmtpServer server;
+    private SmtpConnectionPool pool;
+    private MailDeliveryQueue queue;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new InProcessSmtpServer();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (queue != null) {
+            queue.close();
+        }
+        server.close();
+    }
+
+    @Test
+    void enqueue_ShouldDeliverAllMessagesOverFewPooledConnections() throws Exception {
+        start(4, 2);
+
+        for (int i = 0; i < 60; i++) {
+            queue.enqueue(message("user" + i + "@" + domain(i)));
+        }
+
+        assertTrue(queue.awaitIdle(Duration.ofSeconds(10)));
+        assertEquals(60, server.messages().size());
+        assertTrue(server.connections() <= 4, "Opened " + server.connections() + " connections");
+        assertEquals(60.0, registry.get("mail.messages").tag("outcome", "sent").counter().count());
+    }
+
+    @Test
+    void enqueue_ShouldLimitConcurrentTransfersPerDomain() throws Exception {
+        server.delayData(Duration.ofMillis(20));
+        start(8, 2);
+
+        for (int i = 0; i < 20; i++) {
+            queue.enqueue(message("user" + i + "@busy.example"));
+        }
+        queue.enqueue(message("someone@quiet.example"));
+
+        assertTrue(queue.awaitIdle(Duration.ofSeconds(10)));
+        assertEquals(21, server.messages().size());
+        assertTrue(server.maxConcurrentTransfers("busy.example") <= 2);
+    }
+
+    @Test
+    void enqueue_ShouldContinueAfterRejectedRecipient() throws Exception {
+        server.reject("missing@example.com");
+        start(1, 1);
+
+        queue.enqueue(message("first@example.com"));
+        queue.enqueue(message("missing@example.com"));
+        queue.enqueue(message("last@example.com"));
+
+        assertTrue(queue.awaitIdle(Duration.ofSeconds(10)));
+        Set<String> delivered = new HashSet<>();
+        server.messages().forEach(received -> delivered.add(received.to()));
+        assertEquals(Set.of("first@example.com", "last@example.com"), delivered);
+        assertEquals(1.0, registry.get("mail.messages").tag("outcome", "rejected").counter().count());
+        assertEquals(1, server.connections());
+    }
+
+    @Test
+    void enqueue_ShouldReportOutcomeOfEachMessage() throws Exception {
+        server.reject("missing@example.com");
+        server.defer("busy@example.com");
+        start(1, 1);
+
+        CompletableFuture<Void> accepted = queue.enqueue(message("first@example.com"));
+        CompletableFuture<Void> refused = queue.enqueue(message("missing@example.com"));
+        CompletableFuture<Void> deferred = queue.enqueue(message("busy@example.com"));
+
+        assertNull(accepted.get(10, TimeUnit.SECONDS));
+        SmtpException permanent = (SmtpException) assertThrows(ExecutionException.class,
+                () -> refused.get(10, TimeUnit.SECONDS)).getCause();
+        assertTrue(permanent.isPermanent());
+        SmtpException temporary = (SmtpException) assertThrows(ExecutionException.class,
+                () -> deferred.get(10, TimeUnit.SECONDS)).getCause();
+        assertFalse(temporary.isPermanent());
+        assertEquals(1.0, registry.get("mail.messages").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    void enqueue_ShouldFailMessages_WhenServerIsUnreachable() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        SmtpConnection.Settings settings = new SmtpConnection.Settings("127.0.0.1", closedPort, null, null, false,
+                2000, 5000, "test.local");
+        pool = new SmtpConnectionPool(() -> SmtpConnection.open(settings), 1,
+                Duration.ofMinutes(1), Duration.ofSeconds(15));
+        queue = new MailDeliveryQueue(pool, 1000, 50, Duration.ofMillis(20), 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), registry);
+
+        CompletableFuture<Void> delivery = queue.enqueue(message("user@example.com"));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> delivery.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, error.getCause());
+        assertEquals(1.0, registry.get("mail.messages").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    void enqueue_ShouldRetryOnFreshConnectionWhenServerHangsUp() throws Exception {
+        server.dropAfterMessages(3);
+        start(1, 1);
+
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(message("user" + i + "@example.com"));
+        }
+
+        assertTrue(queue.awaitIdle(Duration.ofSeconds(10)));
+        assertEquals(10, server.messages().size());
+        assertEquals(0.0, registry.get("mail.messages").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    void enqueue_ShouldSendEncodedHtmlWithHeaders() throws Exception {
+        start(1, 1);
+
+        queue.enqueue(new MailMessage(FROM, "to@example.com", "Willkommen bei Lookbook", "<p>Hällo</p>"));
+
+        assertTrue(queue.awaitIdle(Duration.ofSeconds(10)));
+        String data = server.messages().get(0).data();
+        assertTrue(data.contains("Subject: Willkommen bei Lookbook\r\n"));
+        assertTrue(data.contains("Content-Type: text/html; charset=UTF-8\r\n"));
+        String body = data.substring(data.indexOf("\r\n\r\n") + 4).replace("\r\n", "");
+        assertEquals("<p>Hällo</p>", new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8));
+        assertEquals("no-reply@lookbook.local", server.messages().get(0).from());
+    }
+
+    private void start(int maxConnections, int perDomainConcurrency) {
+        SmtpConnection.Settings settings = server.settings();
+        pool = new SmtpConnectionPool(() -> SmtpConnection.open(settings), maxConnections,
+                Duration.ofMinutes(1), Duration.ofSeconds(15));
+        queue = new MailDeliveryQueue(pool, 1000, 50, Duration.ofMillis(20), perDomainConcurrency,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), registry);
+    }
+
+    private static MailMessage message(String to) {
+        return new MailMessage(FROM, to, "Welcome to Lookbook!", "<p>Hi</p>");
+    }
+
+    private static String domain(int i) {
+        return switch (i % 3) {
+            case 0 -> "gmail.example";
+            case 1 -> "outlook.example";
+            default -> "yahoo.example";
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.lookbook.communication.infrastructure.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SmtpConnectionTest {
+
+    private InProcessSmtpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new InProcessSmtpServer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    void settings_ShouldRejectCredentials_WithoutStartTls() {
+        assertThrows(IllegalArgumentException.class, () -> new SmtpConnection.Settings(
+                "127.0.0.1", server.port(), "user", "secret", false, 2000, 5000, "test.local"));
+    }
+
+    @Test
+    void open_ShouldNotSendCredentials_WhenServerDoesNotOfferStartTls() {
+        SmtpConnection.Settings settings = new SmtpConnection.Settings(
+                "127.0.0.1", server.port(), "user", "secret", true, 2000, 5000, "test.local");
+
+        SmtpException error = assertThrows(SmtpException.class, () -> SmtpConnection.open(settings));
+
+        assertEquals("Server does not offer STARTTLS", error.getMessage());
+        assertTrue(server.commands().stream().noneMatch(command -> command.startsWith("AUTH")),
+                server.commands()::toString);
+    }
+}
@@ -13,6 +13,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.lookbook.user.domain.events.ProfileUpdatedEvent;
 import com.lookbook.user.domain.valueobjects.Biography;
 import com.lookbook.user.domain.valueobjects.DisplayName;
 import com.lookbook.user.domain.valueobjects.ProfileImage;
@@ -98,6 +99,29 @@ class UserProfileTest {
         assertEquals(updateTime, profile.getUpdatedAt());
     }
 
+    @Test
+    @org.junit.jupiter.api.DisplayName("should record one event when updating details")
+    void shouldRecordOneEventWhenUpdatingDetails() {
+        // Given
+        UserProfile profile = UserProfile.create(userId, displayName, biography, now);
+        profile.clearDomainEvents();
+        DisplayName newDisplayName = DisplayName.of("Jane Doe");
+        Biography newBiography = Biography.of("Updated biography with more details about my fashion journey");
+        LocalDateTime updateTime = LocalDateTime.now();
+
+        // When
+        profile.updateDetails(newDisplayName, newBiography, updateTime);
+
+        // Then
+        assertEquals(newDisplayName, profile.getDisplayName());
+        assertEquals(newBiography, profile.getBiography());
+        assertEquals(updateTime, profile.getUpdatedAt());
+        assertEquals(1, profile.getDomainEvents().size());
+        ProfileUpdatedEvent event = (ProfileUpdatedEvent) profile.getDomainEvents().get(0);
+        assertEquals(userId, event.getAggregateId());
+        assertEquals("Jane Doe", event.getDisplayName());
+    }
+
     @Test
     @org.junit.jupiter.api.DisplayName("should update profile image")
     void shouldUpdateProfileImage() {
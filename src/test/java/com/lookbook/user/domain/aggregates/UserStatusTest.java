@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.EnumSet;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -110,4 +112,13 @@ class UserStatusTest {
         assertThrows(ValidationException.class,
                 () -> inactiveStatus.transitionTo(UserStatus.PENDING));
     }
-}
\ No newline at end of file
+
+    @Test
+    void allowedSourcesFor_ShouldListStatusesThatCanTransitionToTarget() {
+        assertEquals(EnumSet.of(UserStatus.PENDING, UserStatus.INACTIVE),
+                UserStatus.allowedSourcesFor(UserStatus.ACTIVE));
+        assertEquals(EnumSet.of(UserStatus.PENDING, UserStatus.ACTIVE),
+                UserStatus.allowedSourcesFor(UserStatus.INACTIVE));
+        assertTrue(UserStatus.allowedSourcesFor(UserStatus.PENDING).isEmpty());
+    }
+}
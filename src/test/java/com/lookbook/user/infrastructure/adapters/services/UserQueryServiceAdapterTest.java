@@ -0,0 +1,94 @@
+package com.lookbook.user.infrastructure.adapters.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.lookbook.auth.application.dtos.responses.UserResponse;
+import com.lookbook.user.application.ports.services.UserCountService;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.infrastructure.persistence.repositories.JpaProfileRepository;
+import com.lookbook.user.infrastructure.persistence.repositories.UserJpaRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserQueryServiceAdapterTest {
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+
+    @Mock
+    private JpaProfileRepository jpaProfileRepository;
+
+    @Mock
+    private UserCountService userCountService;
+
+    private UserQueryServiceAdapter queryService;
+
+    @BeforeEach
+    void setUp() {
+        queryService = new UserQueryServiceAdapter(userJpaRepository, jpaProfileRepository, userCountService);
+    }
+
+    @Test
+    void findUsers_ShouldOrderUnsortedPagesByCreationAndTakeTotalFromCounter() {
+        UserResponse user = new UserResponse(UUID.randomUUID(), "testuser", "test@example.com",
+                UserStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now());
+        when(userJpaRepository.findUserResponses(any(Pageable.class)))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(user), invocation.getArgument(0), true));
+        when(userCountService.countUsers()).thenReturn(41L);
+
+        Page<UserResponse> page = queryService.findUsers(PageRequest.of(2, 20));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userJpaRepository).findUserResponses(pageable.capture());
+        assertEquals(PageRequest.of(2, 20, Sort.by("createdAt", "id")), pageable.getValue());
+        assertEquals(41, page.getTotalElements());
+        assertEquals(List.of(user), page.getContent());
+    }
+
+    @Test
+    void findUsers_ShouldBreakTiesOfRequestedSortById() {
+        when(userJpaRepository.findUserResponses(any(Pageable.class)))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(), invocation.getArgument(0), false));
+
+        queryService.findUsers(PageRequest.of(0, 10, Sort.by(Direction.DESC, "username")));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userJpaRepository).findUserResponses(pageable.capture());
+        assertEquals(Sort.by(Direction.DESC, "username").and(Sort.by("id")), pageable.getValue().getSort());
+    }
+
+    @Test
+    void findUsers_ShouldPassSelectedFieldsAndStableOrderToSparseQuery() {
+        Set<String> fields = Set.of("id", "username");
+        when(userJpaRepository.findSparseUserResponses(any(Pageable.class), eq(fields))).thenReturn(List.of());
+        when(userCountService.countUsers()).thenReturn(7L);
+
+        Page<UserResponse> page = queryService.findUsers(PageRequest.of(1, 5), fields);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userJpaRepository).findSparseUserResponses(pageable.capture(), eq(fields));
+        assertEquals(PageRequest.of(1, 5, Sort.by("createdAt", "id")), pageable.getValue());
+        assertEquals(7, page.getTotalElements());
+    }
+}
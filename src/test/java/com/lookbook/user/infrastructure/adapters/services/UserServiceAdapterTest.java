@@ -4,11 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,11 +23,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.lookbook.base.domain.events.DomainEventPublisher;
 import com.lookbook.base.domain.exceptions.EntityNotFoundException;
 import com.lookbook.base.domain.exceptions.ValidationException;
 import com.lookbook.user.domain.aggregates.User;
 import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.events.UserActivatedEvent;
 import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.domain.repositories.UserStatusChange;
 import com.lookbook.user.domain.valueobjects.Email;
 import com.lookbook.user.domain.valueobjects.Username;
 
@@ -33,6 +40,9 @@ class UserServiceAdapterTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     private UserServiceAdapter userService;
 
     private User testUser;
@@ -40,7 +50,7 @@ class UserServiceAdapterTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceAdapter(userRepository);
+        userService = new UserServiceAdapter(userRepository, eventPublisher);
 
         // Create a test user
         userId = UUID.randomUUID();
@@ -175,33 +185,65 @@ class UserServiceAdapterTest {
 
     @Test
     void changePassword_ShouldChangePassword_WhenUserExistsAndPasswordIsCorrect() {
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(userRepository.findByIdWithCredentials(userId)).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         User result = userService.changePassword(userId, "Password1!", "NewPassword1!");
 
         // We can't directly check the password, but we can verify the method calls
-        verify(userRepository).findById(userId);
+        verify(userRepository).findByIdWithCredentials(userId);
         verify(userRepository).save(testUser);
     }
 
     @Test
     void changePassword_ShouldThrowException_WhenUserNotFound() {
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findByIdWithCredentials(userId)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
                 () -> userService.changePassword(userId, "Password1!", "NewPassword1!"));
-        verify(userRepository).findById(userId);
+        verify(userRepository).findByIdWithCredentials(userId);
         verifyNoMoreInteractions(userRepository);
     }
 
     @Test
     void changePassword_ShouldThrowException_WhenCurrentPasswordIsIncorrect() {
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(userRepository.findByIdWithCredentials(userId)).thenReturn(Optional.of(testUser));
 
         assertThrows(ValidationException.class,
                 () -> userService.changePassword(userId, "WrongPassword!", "NewPassword1!"));
-        verify(userRepository).findById(userId);
+        verify(userRepository).findByIdWithCredentials(userId);
         verifyNoMoreInteractions(userRepository);
     }
-}
\ No newline at end of file
+
+    @Test
+    void activateAll_ShouldUpdateAllowedSourcesAndPublishEvents() {
+        UUID otherId = UUID.randomUUID();
+        List<UUID> ids = List.of(userId, otherId, UUID.randomUUID());
+        List<UserStatusChange> updated = List.of(
+                new UserStatusChange(userId, Username.of("testuser"), UserStatus.PENDING),
+                new UserStatusChange(otherId, Username.of("otheruser"), UserStatus.INACTIVE));
+        when(userRepository.updateStatus(ids, EnumSet.of(UserStatus.PENDING, UserStatus.INACTIVE),
+                UserStatus.ACTIVE)).thenReturn(updated);
+
+        List<UUID> result = userService.activateAll(ids);
+
+        assertEquals(List.of(userId, otherId), result);
+        verify(eventPublisher).publishAll(argThat(events -> events.size() == 2
+                && events.stream().allMatch(UserActivatedEvent.class::isInstance)
+                && events.stream().anyMatch(event -> event instanceof UserActivatedEvent e
+                        && e.getUserId().equals(otherId) && e.getUsername().equals("otheruser")
+                        && e.getPreviousStatus() == UserStatus.INACTIVE)));
+    }
+
+    @Test
+    void deactivateAll_ShouldPublishNothing_WhenNoUserChanged() {
+        List<UUID> ids = List.of(userId);
+        when(userRepository.updateStatus(eq(ids), eq(EnumSet.of(UserStatus.PENDING, UserStatus.ACTIVE)),
+                eq(UserStatus.INACTIVE))).thenReturn(List.of());
+
+        List<UUID> result = userService.deactivateAll(ids);
+
+        assertTrue(result.isEmpty());
+        verify(eventPublisher).publishAll(argThat(Collection::isEmpty));
+    }
+}
@@ -0,0 +1,77 @@
+package com.lookbook.user.infrastructure.api.controllers;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.lookbook.base.infrastructure.api.exceptions.GlobalExceptionHandler;
+import com.lookbook.user.application.dtos.MeResponse;
+import com.lookbook.user.application.ports.services.UserQueryService;
+import com.lookbook.user.domain.aggregates.UserStatus;
+
+@ExtendWith(MockitoExtension.class)
+class MeControllerTest {
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @InjectMocks
+    private MeController meController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(meController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken("testuser", null, "ROLE_USER"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getMe_ShouldReturnUserAndProfileFields() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        MeResponse me = new MeResponse(UUID.randomUUID(), "testuser", "test@example.com", UserStatus.ACTIVE,
+                now, now, UUID.randomUUID(), "Test User", "Hello", null, now);
+        when(userQueryService.findMe("testuser")).thenReturn(Optional.of(me));
+
+        mockMvc.perform(get("/api/v1/me").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.username").value("testuser"))
+                .andExpect(jsonPath("$.data.status").value("ACTIVE"))
+                .andExpect(jsonPath("$.data.displayName").value("Test User"))
+                .andExpect(jsonPath("$.data.biography").value("Hello"));
+    }
+
+    @Test
+    void getMe_ShouldReturnNotFound_WhenUserIsMissing() throws Exception {
+        when(userQueryService.findMe("testuser")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/me").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+}
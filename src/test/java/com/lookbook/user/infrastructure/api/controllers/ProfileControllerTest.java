@@ -0,0 +1,220 @@
+package com.lookbook.user.infrastructure.api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lookbook.base.domain.repositories.EntityVersion;
+import com.lookbook.base.infrastructure.api.exceptions.GlobalExceptionHandler;
+import com.lookbook.base.infrastructure.api.utils.EntityTags;
+import com.lookbook.user.application.dtos.ProfileResponse;
+import com.lookbook.user.application.ports.services.ProfileService;
+import com.lookbook.user.application.ports.services.UserQueryService;
+import com.lookbook.user.domain.aggregates.UserProfile;
+import com.lookbook.user.domain.valueobjects.Biography;
+import com.lookbook.user.domain.valueobjects.DisplayName;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileControllerTest {
+
+    @Mock
+    private ProfileService profileService;
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @Spy
+    private ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private ProfileController profileController;
+
+    private MockMvc mockMvc;
+    private UserProfile profile;
+    private UUID profileId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(profileController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken("testuser", null, "ROLE_USER"));
+
+        profile = UserProfile.create(UUID.randomUUID(), DisplayName.of("Test User"),
+                Biography.of("Collects vintage denim"), LocalDateTime.of(2024, 3, 1, 12, 0));
+        profileId = profile.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getProfilesById_ShouldKeyEntriesByIdWithNotFoundEntries() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        when(profileService.findAllById(List.of(missingId, profileId))).thenReturn(List.of(profile));
+
+        mockMvc.perform(get("/api/v1/profiles")
+                .param("ids", missingId + "," + profileId + "," + missingId)
+                .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data['" + profileId + "'].status").value("found"))
+                .andExpect(jsonPath("$.data['" + profileId + "'].etag").value(EntityTags.of(profile)))
+                .andExpect(jsonPath("$.data['" + profileId + "'].data.displayName").value("Test User"))
+                .andExpect(jsonPath("$.data['" + missingId + "'].status").value("not_found"))
+                .andExpect(jsonPath("$.data['" + missingId + "'].data").doesNotExist());
+
+        verify(userQueryService, never()).findProfilesById(any(), any());
+    }
+
+    @Test
+    void getProfilesById_ShouldStreamEntriesInRequestOrder_WhenNdjsonAccepted() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        when(profileService.findAllById(List.of(profileId, missingId))).thenReturn(List.of(profile));
+
+        String body = mockMvc.perform(get("/api/v1/profiles")
+                .param("ids", profileId.toString(), missingId.toString())
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(profileId.toString(), jsonMapper.readTree(lines[0]).get("id").asText());
+        assertEquals(EntityTags.of(profile), jsonMapper.readTree(lines[0]).get("etag").asText());
+        assertEquals("not_found", jsonMapper.readTree(lines[1]).get("status").asText());
+    }
+
+    @Test
+    void getProfilesById_ShouldRejectTooManyIds() throws Exception {
+        String[] ids = new String[101];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+        }
+
+        mockMvc.perform(get("/api/v1/profiles").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        verify(profileService, never()).findAllById(any());
+    }
+
+    @Test
+    void getProfilesById_ShouldQuerySelectedFieldsAndTagEntriesPerSelection() throws Exception {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        ProfileResponse sparse = new ProfileResponse(profileId, null, "Test User", null, null, null, updatedAt);
+        when(userQueryService.findProfilesById(List.of(profileId), Set.of("id", "displayName")))
+                .thenReturn(List.of(sparse));
+
+        String etag = EntityTags.of(profileId, updatedAt, "id,displayName");
+        mockMvc.perform(get("/api/v1/profiles")
+                .param("ids", profileId.toString())
+                .param("fields", "displayName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data['" + profileId + "'].etag").value(etag))
+                .andExpect(jsonPath("$.data['" + profileId + "'].data.displayName").value("Test User"))
+                .andExpect(jsonPath("$.data['" + profileId + "'].data.biography").doesNotExist());
+
+        assertNotEquals(EntityTags.of(profileId, updatedAt), etag);
+        verify(profileService, never()).findAllById(any());
+    }
+
+    @Test
+    void getMyProfile_ShouldTrimProfileToSelectedFields() throws Exception {
+        when(profileService.findByUsername("testuser")).thenReturn(Optional.of(profile));
+
+        mockMvc.perform(get("/api/v1/profiles/me").param("fields", "displayName"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        EntityTags.of(profileId, profile.getUpdatedAt(), "id,displayName")))
+                .andExpect(jsonPath("$.data.id").value(profileId.toString()))
+                .andExpect(jsonPath("$.data.displayName").value("Test User"))
+                .andExpect(jsonPath("$.data.biography").doesNotExist());
+    }
+
+    @Test
+    void getMyProfile_ShouldRejectUnknownFields() throws Exception {
+        mockMvc.perform(get("/api/v1/profiles/me").param("fields", "displayName,email"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(profileService);
+    }
+
+    @Test
+    void getProfilesById_ShouldRejectUnknownFields() throws Exception {
+        mockMvc.perform(get("/api/v1/profiles")
+                .param("ids", profileId.toString())
+                .param("fields", "displayName,email"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(profileService, userQueryService);
+    }
+
+    @Test
+    void getMyProfile_ShouldReturnNotModified_WithoutLoadingProfile_WhenTagMatches() throws Exception {
+        String tag = EntityTags.of(profile);
+        when(profileService.findVersionByUsername("testuser"))
+                .thenReturn(Optional.of(new EntityVersion(profileId, profile.getUpdatedAt())));
+
+        mockMvc.perform(get("/api/v1/profiles/me")
+                .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, tag))
+                .andExpect(content().string(""));
+
+        verify(profileService, never()).findByUsername(any());
+    }
+
+    @Test
+    void getMyProfile_ShouldNotValidateSelection_WithTagOfFullProfile() throws Exception {
+        when(profileService.findVersionByUsername("testuser"))
+                .thenReturn(Optional.of(new EntityVersion(profileId, profile.getUpdatedAt())));
+        when(profileService.findByUsername("testuser")).thenReturn(Optional.of(profile));
+
+        mockMvc.perform(get("/api/v1/profiles/me")
+                .param("fields", "displayName")
+                .header(HttpHeaders.IF_NONE_MATCH, EntityTags.of(profile)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        EntityTags.of(profileId, profile.getUpdatedAt(), "id,displayName")))
+                .andExpect(jsonPath("$.data.displayName").value("Test User"));
+    }
+}
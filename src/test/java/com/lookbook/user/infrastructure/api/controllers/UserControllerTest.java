@@ -1,39 +1,64 @@
 package com.lookbook.user.infrastructure.api.controllers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.lookbook.auth.application.dtos.responses.UserResponse;
 import com.lookbook.auth.application.mappers.UserMapper;
+import com.lookbook.base.domain.repositories.EntityVersion;
 import com.lookbook.base.infrastructure.api.exceptions.GlobalExceptionHandler;
+import com.lookbook.base.infrastructure.api.utils.EntityTags;
+import com.lookbook.user.application.dtos.UserCounts;
+import com.lookbook.user.application.ports.services.UserCountService;
+import com.lookbook.user.application.ports.services.UserQueryService;
 import com.lookbook.user.application.ports.services.UserService;
 import com.lookbook.user.domain.aggregates.User;
 import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.infrastructure.api.requests.BulkUserStatusRequest;
 import com.lookbook.user.infrastructure.api.requests.ChangePasswordRequest;
 import com.lookbook.user.infrastructure.api.requests.UpdateEmailRequest;
 
@@ -43,6 +68,16 @@ class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserCountService userCountService;
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @Spy
+    private ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
     @InjectMocks
     private UserController userController;
 
@@ -122,44 +157,222 @@ class UserControllerTest {
     }
 
     @Test
-    void getAllUsers_ShouldReturnListOfUsers() throws Exception {
-        User anotherUser = User.register("anotheruser", "another@example.com", "Password1!");
-        List<User> users = Arrays.asList(testUser, anotherUser);
+    void getUserById_ShouldTagResponse() throws Exception {
+        when(userService.findById(userId)).thenReturn(Optional.of(testUser));
 
-        when(userService.findAll()).thenReturn(users);
+        mockMvc.perform(get("/api/v1/users/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, EntityTags.of(testUser)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
 
-        // Setup a static mock for UserMapper
-        try (var mockStatic = mockStatic(UserMapper.class)) {
-            LocalDateTime now = LocalDateTime.now();
+        verify(userService, never()).findVersionById(any());
+    }
 
-            UserResponse response1 = new UserResponse(
-                    userId,
-                    "testuser",
-                    "test@example.com",
-                    UserStatus.ACTIVE,
-                    now,
-                    now);
+    @Test
+    void getUserById_ShouldReturnNotModified_WithoutLoadingUser_WhenTagMatches() throws Exception {
+        String tag = EntityTags.of(testUser);
+        when(userService.findVersionById(userId))
+                .thenReturn(Optional.of(new EntityVersion(userId, testUser.getUpdatedAt())));
 
-            UserResponse response2 = new UserResponse(
-                    UUID.randomUUID(),
-                    "anotheruser",
-                    "another@example.com",
-                    UserStatus.PENDING,
-                    now,
-                    now);
+        mockMvc.perform(get("/api/v1/users/{id}", userId)
+                .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, tag))
+                .andExpect(content().string(""));
 
-            mockStatic.when(() -> UserMapper.toUserResponse(eq(testUser))).thenReturn(response1);
-            mockStatic.when(() -> UserMapper.toUserResponse(eq(anotherUser))).thenReturn(response2);
+        verify(userService, never()).findById(any());
+    }
 
-            mockMvc.perform(get("/api/v1/users")
-                    .contentType(MediaType.APPLICATION_JSON))
-                    .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.status").value("success"))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(2))
-                    .andExpect(jsonPath("$.data[0].username").value("testuser"))
-                    .andExpect(jsonPath("$.data[1].username").value("anotheruser"));
+    @Test
+    void getUserById_ShouldReturnUser_WhenTagIsStale() throws Exception {
+        when(userService.findVersionById(userId))
+                .thenReturn(Optional.of(new EntityVersion(userId, testUser.getUpdatedAt())));
+        when(userService.findById(userId)).thenReturn(Optional.of(testUser));
+
+        mockMvc.perform(get("/api/v1/users/{id}", userId)
+                .header(HttpHeaders.IF_NONE_MATCH,
+                        EntityTags.of(userId, testUser.getUpdatedAt().minusSeconds(1))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, EntityTags.of(testUser)))
+                .andExpect(jsonPath("$.data.id").value(userId.toString()));
+    }
+
+    @Test
+    void getCounts_ShouldReturnMaintainedCounts() throws Exception {
+        when(userCountService.getCounts()).thenReturn(new UserCounts(5,
+                Map.of(UserStatus.ACTIVE, 3L, UserStatus.PENDING, 2L, UserStatus.INACTIVE, 0L), 4));
+
+        mockMvc.perform(get("/api/v1/users/counts")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total").value(5))
+                .andExpect(jsonPath("$.data.byStatus.ACTIVE").value(3))
+                .andExpect(jsonPath("$.data.profiles").value(4));
+    }
+
+    @Test
+    void getUsers_ShouldReturnPageWithMaintainedTotal() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<UserResponse> users = List.of(
+                new UserResponse(userId, "testuser", "test@example.com", UserStatus.ACTIVE, now, now),
+                new UserResponse(UUID.randomUUID(), "anotheruser", "another@example.com", UserStatus.PENDING,
+                        now, now));
+        when(userQueryService.findUsers(any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(users, invocation.getArgument(0), 12));
+
+        mockMvc.perform(get("/api/v1/users")
+                .param("page", "1")
+                .param("size", "2")
+                .param("sort", "username")
+                .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].username").value("testuser"))
+                .andExpect(jsonPath("$.data[1].username").value("anotheruser"))
+                .andExpect(jsonPath("$.meta.pagination.page").value(1))
+                .andExpect(jsonPath("$.meta.pagination.totalElements").value(12))
+                .andExpect(jsonPath("$.meta.pagination.totalPages").value(6))
+                .andExpect(jsonPath("$.meta.pagination.sort").value("username"))
+                .andExpect(jsonPath("$.meta.pagination.direction").value("DESC"));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userQueryService).findUsers(pageable.capture());
+        assertEquals(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "username")), pageable.getValue());
+        verify(userService, never()).findAll();
+    }
+
+    @Test
+    void getUsersById_ShouldKeyEntriesByIdWithNotFoundEntries() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        when(userService.findAllById(List.of(missingId, userId))).thenReturn(List.of(testUser));
+
+        mockMvc.perform(get("/api/v1/users")
+                .param("ids", missingId + "," + userId + "," + missingId)
+                .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data['" + userId + "'].status").value("found"))
+                .andExpect(jsonPath("$.data['" + userId + "'].etag").value(EntityTags.of(testUser)))
+                .andExpect(jsonPath("$.data['" + userId + "'].data.username").value("testuser"))
+                .andExpect(jsonPath("$.data['" + missingId + "'].status").value("not_found"))
+                .andExpect(jsonPath("$.data['" + missingId + "'].data").doesNotExist());
+
+        verify(userService, never()).findById(any());
+    }
+
+    @Test
+    void getUsersById_ShouldStreamEntriesInRequestOrder_WhenNdjsonAccepted() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        when(userService.findAllById(List.of(missingId, userId))).thenReturn(List.of(testUser));
+
+        String body = mockMvc.perform(get("/api/v1/users")
+                .param("ids", missingId.toString(), userId.toString())
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("not_found", jsonMapper.readTree(lines[0]).get("status").asText());
+        assertEquals(userId.toString(), jsonMapper.readTree(lines[1]).get("id").asText());
+    }
+
+    @Test
+    void getUsersById_ShouldRejectTooManyIds() throws Exception {
+        String[] ids = new String[101];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
         }
+
+        mockMvc.perform(get("/api/v1/users").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).findAllById(any());
+    }
+
+    @Test
+    void getUsers_ShouldQueryAndReturnOnlySelectedFields() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        UserResponse sparse = new UserResponse(userId, "testuser", null, null, null, now);
+        when(userQueryService.findUsers(any(Pageable.class), eq(Set.of("id", "username"))))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(sparse), invocation.getArgument(0), 1));
+
+        mockMvc.perform(get("/api/v1/users").param("fields", "username"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(userId.toString()))
+                .andExpect(jsonPath("$.data[0].username").value("testuser"))
+                .andExpect(jsonPath("$.data[0].email").doesNotExist())
+                .andExpect(jsonPath("$.data[0].updatedAt").doesNotExist());
+
+        verify(userQueryService, never()).findUsers(any(Pageable.class));
+    }
+
+    @Test
+    void getUsers_ShouldRejectUnknownFields() throws Exception {
+        mockMvc.perform(get("/api/v1/users").param("fields", "username,passwordHash"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userQueryService);
+    }
+
+    @Test
+    void getUsersById_ShouldTagSparseEntriesPerSelection() throws Exception {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        UserResponse sparse = new UserResponse(userId, "testuser", null, null, null, updatedAt);
+        when(userQueryService.findUsersById(List.of(userId), Set.of("id", "username")))
+                .thenReturn(List.of(sparse));
+
+        String etag = EntityTags.of(userId, updatedAt, "id,username");
+        mockMvc.perform(get("/api/v1/users")
+                .param("ids", userId.toString())
+                .param("fields", "username"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data['" + userId + "'].etag").value(etag))
+                .andExpect(jsonPath("$.data['" + userId + "'].data.username").value("testuser"))
+                .andExpect(jsonPath("$.data['" + userId + "'].data.email").doesNotExist());
+
+        assertNotEquals(EntityTags.of(userId, updatedAt), etag);
+        verify(userService, never()).findAllById(any());
+    }
+
+    @Test
+    void getUserById_ShouldTrimCachedUserToSelectedFields() throws Exception {
+        when(userService.findById(userId)).thenReturn(Optional.of(testUser));
+
+        mockMvc.perform(get("/api/v1/users/{id}", userId).param("fields", "status"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        EntityTags.of(userId, testUser.getUpdatedAt(), "id,status")))
+                .andExpect(jsonPath("$.data.id").value(userId.toString()))
+                .andExpect(jsonPath("$.data.status").value("ACTIVE"))
+                .andExpect(jsonPath("$.data.username").doesNotExist());
+    }
+
+    @Test
+    void exportUsers_ShouldWriteOneJsonLinePerUser() throws Exception {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        doAnswer(invocation -> {
+            Consumer<UserResponse> consumer = invocation.getArgument(0);
+            consumer.accept(new UserResponse(userId, "testuser", "test@example.com", UserStatus.ACTIVE, now, now));
+            consumer.accept(new UserResponse(userId, "anotheruser", "another@example.com", UserStatus.PENDING,
+                    now, now));
+            return 2L;
+        }).when(userQueryService).exportUsers(any());
+
+        String body = mockMvc.perform(get("/api/v1/users/export")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(body.endsWith("\n"));
+        assertEquals("testuser", jsonMapper.readTree(lines[0]).get("username").asText());
+        assertEquals("2024-03-01T12:00:00", jsonMapper.readTree(lines[1]).get("createdAt").asText());
     }
 
     @Test
@@ -294,4 +507,19 @@ class UserControllerTest {
                     .andExpect(jsonPath("$.message").value("Password changed successfully"));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void deactivateUsers_ShouldReturnAffectedIds() throws Exception {
+        UUID otherId = UUID.randomUUID();
+        List<UUID> ids = List.of(userId, otherId);
+        when(userService.deactivateAll(ids)).thenReturn(List.of(otherId));
+
+        mockMvc.perform(post("/api/v1/users/bulk/deactivate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkUserStatusRequest(ids))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.message").value("1 users deactivated"))
+                .andExpect(jsonPath("$.data[0]").value(otherId.toString()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.lookbook.user.infrastructure.events;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lookbook.base.infrastructure.counters.CounterStore;
+import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.events.UserActivatedEvent;
+import com.lookbook.user.domain.events.UserDeactivatedEvent;
+import com.lookbook.user.domain.events.UserRegisteredEvent;
+
+@ExtendWith(MockitoExtension.class)
+class UserCounterListenerTest {
+
+    @Mock
+    private CounterStore counterStore;
+
+    private UserCounterListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new UserCounterListener(counterStore);
+    }
+
+    @Test
+    void onUserRegistered_ShouldCountPendingUser() {
+        UserRegisteredEvent event = new UserRegisteredEvent(UUID.randomUUID(), "testuser", "test@example.com");
+
+        listener.onUserRegistered(event);
+
+        verify(counterStore).add(event.getEventId(), Map.of("users", 1L, "users.status.PENDING", 1L));
+    }
+
+    @Test
+    void onUserActivated_ShouldMoveUserBetweenStatusCounters() {
+        User user = User.register("testuser", "test@example.com", "Password1!");
+        user.clearDomainEvents();
+        user.activate();
+        UserActivatedEvent event = (UserActivatedEvent) user.getDomainEvents().get(0);
+
+        listener.onUserActivated(event);
+
+        verify(counterStore).add(event.getEventId(), Map.of("users.status.ACTIVE", 1L, "users.status.PENDING", -1L));
+    }
+
+    @Test
+    void onUserDeactivated_ShouldOnlyIncrement_WhenPreviousStatusUnknown() {
+        UserDeactivatedEvent event = new UserDeactivatedEvent(UUID.randomUUID(), "testuser");
+
+        listener.onUserDeactivated(event);
+
+        verify(counterStore).add(event.getEventId(), Map.of("users.status.INACTIVE", 1L));
+    }
+
+    @Test
+    void onUserDeactivated_ShouldDecrementPreviousStatus() {
+        UserDeactivatedEvent event = new UserDeactivatedEvent(UUID.randomUUID(), "testuser", UserStatus.ACTIVE);
+
+        listener.onUserDeactivated(event);
+
+        verify(counterStore).add(event.getEventId(), Map.of("users.status.INACTIVE", 1L, "users.status.ACTIVE", -1L));
+    }
+}
@@ -0,0 +1,67 @@
+package com.lookbook.user.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.base.infrastructure.events.DomainEventSerializer;
+import com.lookbook.user.domain.events.ProfileImageChangedEvent;
+import com.lookbook.user.domain.events.UserRegisteredEvent;
+
+class UserDomainEventTypesTest {
+
+    private DomainEventSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new DomainEventSerializer(new DomainEventRegistry(List.of(new UserDomainEventTypes())));
+    }
+
+    @Test
+    void userRegisteredEvent_ShouldRoundTrip() {
+        UserRegisteredEvent event = new UserRegisteredEvent(UUID.randomUUID(), "testuser", "test@example.com");
+
+        DomainEvent restored = roundTrip(event);
+
+        UserRegisteredEvent copy = assertInstanceOf(UserRegisteredEvent.class, restored);
+        assertEquals(event.getEventId(), copy.getEventId());
+        assertEquals(event.getOccurredAt(), copy.getOccurredAt());
+        assertEquals(event.getUserId(), copy.getUserId());
+        assertEquals("testuser", copy.getUsername());
+        assertEquals("test@example.com", copy.getEmail());
+    }
+
+    @Test
+    void profileImageChangedEvent_ShouldRoundTrip() {
+        ProfileImageChangedEvent event = new ProfileImageChangedEvent(UUID.randomUUID(), UUID.randomUUID(),
+                URI.create("https://cdn.example.com/a.png"), "image/png", 640, 480);
+
+        ProfileImageChangedEvent copy = assertInstanceOf(ProfileImageChangedEvent.class, roundTrip(event));
+
+        assertEquals(event.getUserId(), copy.getUserId());
+        assertEquals(event.getProfileId(), copy.getProfileId());
+        assertEquals(event.getNewImageUrl(), copy.getNewImageUrl());
+        assertEquals(640, copy.getImageWidth());
+        assertEquals(480, copy.getImageHeight());
+    }
+
+    @Test
+    void deserialize_ShouldRejectUnknownType() {
+        assertThrows(IllegalArgumentException.class,
+                () -> serializer.deserialize("UnknownEvent", UUID.randomUUID(), null, "{}"));
+    }
+
+    private DomainEvent roundTrip(DomainEvent event) {
+        return serializer.deserialize(event.getEventType(), event.getEventId(), event.getOccurredAt(),
+                serializer.serialize(event));
+    }
+}
@@ -0,0 +1,113 @@
+package com.lookbook.user.infrastructure.persistence;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.lookbook.base.domain.events.DomainEvent;
+import com.lookbook.base.infrastructure.config.OutboxProperties;
+import com.lookbook.base.infrastructure.counters.CounterStore;
+import com.lookbook.base.infrastructure.events.DomainEventRegistry;
+import com.lookbook.base.infrastructure.events.DomainEventSerializer;
+import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.events.UserRegisteredEvent;
+import com.lookbook.user.infrastructure.events.UserDomainEventTypes;
+
+@ExtendWith(MockitoExtension.class)
+class UserCounterReconcilerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CounterStore counterStore;
+
+    private DomainEventSerializer serializer;
+    private UserCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new DomainEventSerializer(new DomainEventRegistry(List.of(new UserDomainEventTypes())));
+        reconciler = new UserCounterReconciler(jdbcTemplate, counterStore, serializer, new OutboxProperties());
+    }
+
+    @Test
+    void reconcile_ShouldSubtractEventsStillPendingInOutbox() throws SQLException {
+        // One user registered and still pending, one activated; both events
+        // are committed but not yet relayed
+        UserRegisteredEvent registered = new UserRegisteredEvent(UUID.randomUUID(), "pending", "p@example.com");
+        User activatedUser = User.register("active", "a@example.com", "Password1!");
+        activatedUser.clearDomainEvents();
+        activatedUser.activate();
+        DomainEvent activated = activatedUser.getDomainEvents().get(0);
+
+        List<ResultSet> rows = List.of(
+                statusRow("ACTIVE", 1),
+                statusRow("PENDING", 1),
+                profilesRow(0),
+                pendingRow(registered),
+                pendingRow(activated));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        when(counterStore.set(any())).thenReturn(Map.of());
+
+        reconciler.reconcile();
+
+        // Relaying the two events brings the counters to the row counts
+        verify(counterStore).lock(UserCounters.all());
+        verify(counterStore).set(Map.of(
+                "users", 1L,
+                "users.status.ACTIVE", 0L,
+                "users.status.PENDING", 1L,
+                "users.status.INACTIVE", 0L,
+                "profiles", 0L));
+        verify(counterStore).pruneCounted();
+    }
+
+    private static ResultSet statusRow(String status, long total) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("kind")).thenReturn("status");
+        when(rs.getString("name")).thenReturn(status);
+        when(rs.getLong("total")).thenReturn(total);
+        return rs;
+    }
+
+    private static ResultSet profilesRow(long total) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("kind")).thenReturn("profiles");
+        when(rs.getLong("total")).thenReturn(total);
+        return rs;
+    }
+
+    private ResultSet pendingRow(DomainEvent event) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("kind")).thenReturn("pending");
+        when(rs.getString("event_type")).thenReturn(event.getEventType());
+        when(rs.getObject("event_id", UUID.class)).thenReturn(event.getEventId());
+        when(rs.getTimestamp("occurred_at")).thenReturn(Timestamp.valueOf(event.getOccurredAt()));
+        when(rs.getString("payload")).thenReturn(serializer.serialize(event));
+        return rs;
+    }
+}
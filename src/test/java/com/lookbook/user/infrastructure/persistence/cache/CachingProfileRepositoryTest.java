@@ -0,0 +1,99 @@
+package com.lookbook.user.infrastructure.persistence.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lookbook.base.infrastructure.cache.InMemorySharedCache;
+import com.lookbook.base.infrastructure.cache.LocalCache;
+import com.lookbook.base.infrastructure.cache.TwoTierCache;
+import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserProfile;
+import com.lookbook.user.domain.repositories.ProfileRepository;
+import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.domain.valueobjects.Biography;
+import com.lookbook.user.domain.valueobjects.DisplayName;
+import com.lookbook.user.domain.valueobjects.Username;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProfileRepositoryTest {
+
+    @Mock
+    private ProfileRepository delegate;
+    @Mock
+    private UserRepository userDelegate;
+
+    private CachingUserRepository userRepository;
+    private CachingProfileRepository repository;
+    private User user;
+    private UserProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = new CachingUserRepository(userDelegate, cache("users"));
+        repository = new CachingProfileRepository(delegate, userRepository, cache("profiles"));
+        user = User.register("alice", "alice@example.com", "Password1!");
+        profile = UserProfile.create(user.getId(), DisplayName.of("Alice"), Biography.empty(), LocalDateTime.now());
+    }
+
+    @Test
+    void findByUsername_ShouldResolveThroughCachedUserAndProfile() {
+        Username username = Username.of("alice");
+        when(userDelegate.findByUsername(username)).thenReturn(Optional.of(user));
+        when(userDelegate.findById(user.getId())).thenReturn(Optional.of(user));
+        when(delegate.findByUserId(user.getId())).thenReturn(Optional.of(profile));
+        when(delegate.findById(profile.getId())).thenReturn(Optional.of(profile));
+
+        repository.findByUsername("alice");
+        repository.findByUsername("alice");
+        Optional<UserProfile> cached = repository.findByUsername("alice");
+
+        assertEquals(profile.getId(), cached.orElseThrow().getId());
+        verify(userDelegate, times(1)).findByUsername(username);
+        verify(delegate, times(1)).findByUserId(user.getId());
+    }
+
+    @Test
+    void findByUsername_ShouldFollowRename() {
+        Username oldName = Username.of("alice");
+        Username newName = Username.of("alice_renamed");
+        User renamed = User.reconstitute(user.getId(), newName, user.getEmail(), user.getHashedPassword(),
+                user.getStatus(), user.getCreatedAt(), LocalDateTime.now());
+        when(userDelegate.findByUsername(oldName)).thenReturn(Optional.of(user), Optional.empty());
+        when(userDelegate.findByUsername(newName)).thenReturn(Optional.of(renamed));
+        when(userDelegate.findById(user.getId())).thenReturn(Optional.of(renamed));
+        when(userDelegate.save(renamed)).thenReturn(renamed);
+        when(delegate.findByUserId(user.getId())).thenReturn(Optional.of(profile));
+        when(delegate.findById(profile.getId())).thenReturn(Optional.of(profile));
+
+        repository.findByUsername("alice");
+        userRepository.save(renamed);
+
+        assertTrue(repository.findByUsername("alice").isEmpty());
+        assertEquals(profile.getId(), repository.findByUsername("alice_renamed").orElseThrow().getId());
+    }
+
+    @Test
+    void findByUsername_ShouldReturnEmpty_WhenUsernameIsInvalid() {
+        assertTrue(repository.findByUsername("not a username").isEmpty());
+    }
+
+    private static TwoTierCache cache(String name) {
+        return new TwoTierCache(name, "test:", new LocalCache(100, Duration.ofMinutes(1)),
+                new InMemorySharedCache(), Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,141 @@
+package com.lookbook.user.infrastructure.persistence.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lookbook.base.infrastructure.cache.InMemorySharedCache;
+import com.lookbook.base.infrastructure.cache.LocalCache;
+import com.lookbook.base.infrastructure.cache.TwoTierCache;
+import com.lookbook.user.domain.aggregates.User;
+import com.lookbook.user.domain.aggregates.UserStatus;
+import com.lookbook.user.domain.repositories.UserRepository;
+import com.lookbook.user.domain.repositories.UserStatusChange;
+import com.lookbook.user.domain.valueobjects.Email;
+import com.lookbook.user.domain.valueobjects.Username;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private CachingUserRepository repository;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        TwoTierCache cache = new TwoTierCache("users", "test:", new LocalCache(100, Duration.ofMinutes(1)),
+                new InMemorySharedCache(), Duration.ofMinutes(5), new SimpleMeterRegistry());
+        repository = new CachingUserRepository(delegate, cache);
+        user = User.register("testuser", "test@example.com", "Password1!");
+    }
+
+    @Test
+    void findById_ShouldHitDelegateOnce() {
+        when(delegate.findById(user.getId())).thenReturn(Optional.of(user));
+
+        Optional<User> first = repository.findById(user.getId());
+        Optional<User> second = repository.findById(user.getId());
+
+        assertEquals(user, first.orElseThrow());
+        assertEquals("testuser", second.orElseThrow().getUsername().getValue());
+        assertNull(second.get().getHashedPassword());
+        assertNotSame(first.get(), second.get());
+        verify(delegate, times(1)).findById(user.getId());
+    }
+
+    @Test
+    void findByUsernameWithCredentials_ShouldAlwaysReadDelegate() {
+        Username username = Username.of("testuser");
+        when(delegate.findByUsernameWithCredentials(username)).thenReturn(Optional.of(user));
+
+        repository.findByUsernameWithCredentials(username);
+        Optional<User> second = repository.findByUsernameWithCredentials(username);
+
+        assertEquals(user.getHashedPassword(), second.orElseThrow().getHashedPassword());
+        verify(delegate, times(2)).findByUsernameWithCredentials(username);
+    }
+
+    @Test
+    void findByUsername_ShouldResolveThroughIdPointer() {
+        Username username = Username.of("testuser");
+        when(delegate.findByUsername(username)).thenReturn(Optional.of(user));
+        when(delegate.findById(user.getId())).thenReturn(Optional.of(user));
+
+        repository.findByUsername(username);
+        Optional<User> cached = repository.findByUsername(username);
+        repository.findByUsername(username);
+
+        assertEquals(user.getId(), cached.orElseThrow().getId());
+        verify(delegate, times(1)).findByUsername(username);
+        verify(delegate, times(1)).findById(user.getId());
+    }
+
+    @Test
+    void findByEmail_ShouldFallBack_WhenPointerTargetIsGone() {
+        Email email = Email.of("test@example.com");
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(user), Optional.empty());
+        when(delegate.findById(user.getId())).thenReturn(Optional.empty());
+
+        repository.findByEmail(email);
+        Optional<User> result = repository.findByEmail(email);
+
+        assertTrue(result.isEmpty());
+        verify(delegate, times(2)).findByEmail(email);
+    }
+
+    @Test
+    void save_ShouldEvictCachedEntity() {
+        when(delegate.findById(user.getId())).thenReturn(Optional.of(user));
+        when(delegate.save(user)).thenReturn(user);
+
+        repository.findById(user.getId());
+        user.activate();
+        repository.save(user);
+        repository.findById(user.getId());
+
+        verify(delegate, times(2)).findById(user.getId());
+    }
+
+    @Test
+    void existsByUsername_ShouldNotBeCached() {
+        Username username = Username.of("testuser");
+        when(delegate.existsByUsername(username)).thenReturn(true);
+
+        repository.existsByUsername(username);
+        repository.existsByUsername(username);
+
+        verify(delegate, times(2)).existsByUsername(username);
+    }
+
+    @Test
+    void updateStatus_ShouldEvictUpdatedUsers() {
+        when(delegate.findById(user.getId())).thenReturn(Optional.of(user));
+        when(delegate.updateStatus(List.of(user.getId()), Set.of(UserStatus.PENDING), UserStatus.ACTIVE))
+                .thenReturn(List.of(new UserStatusChange(user.getId(), user.getUsername(), UserStatus.PENDING)));
+
+        repository.findById(user.getId());
+        repository.updateStatus(List.of(user.getId()), Set.of(UserStatus.PENDING), UserStatus.ACTIVE);
+        repository.findById(user.getId());
+
+        verify(delegate, times(2)).findById(user.getId());
+    }
+}